@@ -0,0 +1,39 @@
+package oxforddictionaries.benchmark;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+import oxforddictionaries.model.EntryFilter;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies a lexical category and register filter to a parsed entry, as done for a filtered search
+ * answered from the cached unfiltered entry
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntryFilterBenchmark {
+    @Param({"1", "10", "100"})
+    private int senses;
+    private RetrieveEntry retrieveEntry;
+    private EntryFilter entryFilter;
+    private QueryKey queryKey;
+
+    @Setup
+    public void setup() {
+        this.retrieveEntry = new Gson().fromJson(Fixtures.createEntryJson(senses), RetrieveEntry.class);
+        this.entryFilter = new EntryFilter();
+        this.queryKey = QueryKey.entries("en-gb", "noun", null, null, "noun", null, "informal", null);
+    }
+
+    @Benchmark
+    public RetrieveEntry apply() {
+        return entryFilter.apply(retrieveEntry, queryKey);
+    }
+}
@@ -0,0 +1,60 @@
+package oxforddictionaries.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import oxforddictionaries.model.request.DummyAPI;
+
+/**
+ * Creates larger entries by repeating parts of the DummyAPI responses. The copies get their own ids
+ * so the results only depend on the size, which keeps them comparable across commits.
+ */
+public class Fixtures {
+    private static final Gson gson = new Gson();
+
+    /**
+     * Creates the entry search json with the sense repeated
+     * @param senses number of senses
+     * @return json
+     */
+    public static String createEntryJson(int senses) {
+        JsonObject json = gson.fromJson(new DummyAPI().getEntrySearchJSON(), JsonObject.class);
+        JsonObject entry = json.getAsJsonArray("results").get(0).getAsJsonObject()
+                .getAsJsonArray("lexicalEntries").get(0).getAsJsonObject()
+                .getAsJsonArray("entries").get(0).getAsJsonObject();
+        entry.add("senses", repeat(entry.getAsJsonArray("senses").get(0).getAsJsonObject(), senses, "id"));
+        return gson.toJson(json);
+    }
+
+    /**
+     * Creates the lemma search json with the lexical entries repeated
+     * @param lexicalEntries number of lexical entries
+     * @return json
+     */
+    public static String createLemmaJson(int lexicalEntries) {
+        JsonObject json = gson.fromJson(new DummyAPI().getLemmaSearchJSON(), JsonObject.class);
+        JsonObject result = json.getAsJsonArray("results").get(0).getAsJsonObject();
+        result.add("lexicalEntries", repeat(result.getAsJsonArray("lexicalEntries").get(0).getAsJsonObject(), lexicalEntries, "text"));
+        return gson.toJson(json);
+    }
+
+    /**
+     * Copies the object the given number of times and numbers the key of each copy
+     * @param object object to copy
+     * @param copies number of copies
+     * @param key key to number
+     * @return array of copies
+     */
+    public static JsonArray repeat(JsonObject object, int copies, String key) {
+        JsonArray array = new JsonArray();
+        for (int i = 0; i < copies; i++) {
+            JsonObject copy = object.deepCopy();
+            JsonElement value = copy.get(key);
+            String prefix = value == null ? key : value.getAsString();
+            copy.addProperty(key, prefix + "." + i);
+            array.add(copy);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,42 @@
+package oxforddictionaries.benchmark;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+import oxforddictionaries.model.request.VocabularyInterner;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the entry json into the POJO with a new Gson each time, as the input engine used to,
+ * and with the shared Gson that interns the vocabulary
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GsonBenchmark {
+    @Param({"1", "10", "100"})
+    private int senses;
+    private String json;
+    private Gson internedGson;
+
+    @Setup
+    public void setup() {
+        this.json = Fixtures.createEntryJson(senses);
+        this.internedGson = new VocabularyInterner().createGson();
+    }
+
+    @Benchmark
+    public RetrieveEntry parseNewGson() {
+        Gson gson = new Gson();
+        return gson.fromJson(json, RetrieveEntry.class);
+    }
+
+    @Benchmark
+    public RetrieveEntry parseInterned() {
+        return internedGson.fromJson(json, RetrieveEntry.class);
+    }
+}
@@ -0,0 +1,67 @@
+package oxforddictionaries.benchmark;
+
+import com.google.gson.Gson;
+import oxforddictionaries.model.request.VocabularyInterner;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports the heap held by a few hundred parsed entries, like the entries held by the history and the cache tiers,
+ * with and without interning the vocabulary. Run it with the heapReport gradle task.
+ */
+public class InterningHeapReport {
+    private static final int entries = 300;
+    private static final int maxSenses = 20;
+
+    /**
+     * Parses the entries with each Gson and prints the retained heap
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        List<String> jsons = new ArrayList<>();
+        for (int i = 0; i < entries; i++) {
+            jsons.add(Fixtures.createEntryJson(1 + i % maxSenses));
+        }
+
+        long plain = measure(new Gson(), jsons);
+        VocabularyInterner interner = new VocabularyInterner();
+        long interned = measure(interner.createGson(), jsons);
+
+        System.out.printf("%d entries, 1-%d senses each%n", entries, maxSenses);
+        System.out.printf("%-10s %12s%n", "gson", "retained KB");
+        System.out.printf("%-10s %12.1f%n", "plain", plain / 1024.0);
+        System.out.printf("%-10s %12.1f%n", "interned", interned / 1024.0);
+        System.out.printf("saved %.1f%% with %d shared instances%n", 100.0 * (plain - interned) / plain, interner.size());
+    }
+
+    /**
+     * Parses the entries and measures the heap they hold after a full gc
+     * @param gson gson
+     * @param jsons entry jsons
+     * @return retained bytes
+     */
+    private static long measure(Gson gson, List<String> jsons) {
+        long before = usedHeap();
+        List<RetrieveEntry> parsed = new ArrayList<>();
+        for (String json : jsons) {
+            parsed.add(gson.fromJson(json, RetrieveEntry.class));
+        }
+        long after = usedHeap();
+        if (parsed.size() != jsons.size()) {
+            throw new IllegalStateException();
+        }
+        return after - before;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
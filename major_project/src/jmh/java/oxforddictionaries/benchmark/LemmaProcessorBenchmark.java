@@ -0,0 +1,36 @@
+package oxforddictionaries.benchmark;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+import oxforddictionaries.model.LemmaProcessor;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds the lemmas of the lemma search POJO
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LemmaProcessorBenchmark {
+    @Param({"2", "20", "200"})
+    private int lexicalEntries;
+    private RetrieveEntry retrieveEntry;
+    private LemmaProcessor lemmaProcessor;
+
+    @Setup
+    public void setup() {
+        this.retrieveEntry = new Gson().fromJson(Fixtures.createLemmaJson(lexicalEntries), RetrieveEntry.class);
+        this.lemmaProcessor = new LemmaProcessor();
+    }
+
+    @Benchmark
+    public List<List<String>> createData() {
+        return lemmaProcessor.createData(retrieveEntry);
+    }
+}
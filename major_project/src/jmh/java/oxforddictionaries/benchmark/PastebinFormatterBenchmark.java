@@ -0,0 +1,35 @@
+package oxforddictionaries.benchmark;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+import oxforddictionaries.model.request.PastebinFormatter;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formats the entry POJO into the pastebin report
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PastebinFormatterBenchmark {
+    @Param({"1", "10", "100"})
+    private int senses;
+    private RetrieveEntry retrieveEntry;
+    private PastebinFormatter pastebinFormatter;
+
+    @Setup
+    public void setup() {
+        this.retrieveEntry = new Gson().fromJson(Fixtures.createEntryJson(senses), RetrieveEntry.class);
+        this.pastebinFormatter = new PastebinFormatter();
+    }
+
+    @Benchmark
+    public String format() {
+        return pastebinFormatter.format(retrieveEntry);
+    }
+}
@@ -0,0 +1,35 @@
+package oxforddictionaries.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import oxforddictionaries.model.request.QueryKey;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the query key and the escaped uri of an entry search with all the filters set
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryKeyBenchmark {
+    private QueryKey queryKey;
+
+    @Setup
+    public void setup() {
+        this.queryKey = createKey();
+    }
+
+    @Benchmark
+    public QueryKey createKey() {
+        return QueryKey.entries("en-gb", "ace of spades", "definitions,pronunciations", "singular, plural", "noun",
+                "sport$ cards", "50% informal", "false");
+    }
+
+    @Benchmark
+    public String toUri() {
+        return queryKey.toUri();
+    }
+}
@@ -0,0 +1,82 @@
+package oxforddictionaries.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import oxforddictionaries.model.AboutData;
+import oxforddictionaries.model.EntryFilter;
+import oxforddictionaries.model.LemmaProcessor;
+import oxforddictionaries.model.OnlineInputEngine;
+import oxforddictionaries.model.PronunciationProcessor;
+import oxforddictionaries.model.request.AudioCache;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.RecordingRequest;
+import oxforddictionaries.model.request.ReplayLatency;
+import oxforddictionaries.model.request.ReplayRequest;
+import oxforddictionaries.model.request.SqlDatabase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searches words with the online input engine against a replayed recording, so the database cache is measured
+ * with api responses instead of a network. The words are searched with a skewed distribution, like real searches,
+ * so most of them are found in the cache after the first search. Each trial starts with an empty database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayBenchmark {
+    private static final int searches = 10000;
+    @Param({"1000"})
+    private int words;
+    @Param({"none", "fixed:1"})
+    private String latency;
+    private Path dir;
+    private OnlineInputEngine engine;
+    private String[] sequence;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.dir = Files.createTempDirectory("benchmark");
+        Path recording = dir.resolve("benchmark.recording");
+        RecordingRequest recordingRequest = new RecordingRequest(null, null, recording);
+        String json = Fixtures.createEntryJson(3);
+        for (int i = 0; i < words; i++) {
+            String word = "word" + i;
+            QueryKey queryKey = QueryKey.entries("en-gb", word, null, null, null, null, null, null);
+            recordingRequest.record(queryKey.toUri(), List.of("200", json.replace("\"ace\"", "\"" + word + "\"")), 100);
+        }
+
+        ReplayRequest request = new ReplayRequest(recording, ReplayLatency.parse(latency));
+        this.engine = new OnlineInputEngine(request, new LemmaProcessor(), new SqlDatabase(dir.resolve("benchmark.db").toString()),
+                new AboutData(), new AudioCache(request, dir.resolve("audio"), 0), new PronunciationProcessor(), new EntryFilter());
+
+        this.sequence = new String[searches];
+        Random random = new Random(42);
+        for (int i = 0; i < searches; i++) {
+            int rank = (int) Math.floor(Math.pow(words, random.nextDouble())) - 1;
+            sequence[i] = "word" + rank;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.walk(dir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach((path) -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<String> entrySearch() {
+        next = (next + 1) % sequence.length;
+        return engine.entrySearch("en-gb", sequence[next], null, null, null, null, null, null, true, true, false,
+                true, true);
+    }
+}
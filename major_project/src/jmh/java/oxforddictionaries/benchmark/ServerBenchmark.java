@@ -0,0 +1,103 @@
+package oxforddictionaries.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import oxforddictionaries.model.AboutData;
+import oxforddictionaries.model.DictionaryLookup;
+import oxforddictionaries.model.EntryFilter;
+import oxforddictionaries.model.LemmaProcessor;
+import oxforddictionaries.model.PronunciationProcessor;
+import oxforddictionaries.model.RemoteInputEngine;
+import oxforddictionaries.model.request.AudioCache;
+import oxforddictionaries.model.request.Request;
+import oxforddictionaries.model.request.SqlDatabase;
+import oxforddictionaries.server.DictionaryServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of cached lookups through the dictionary server, with many clients searching at once.
+ * Each thread is a client with its own remote input engine, and every word is in the server's database, so the
+ * api is never requested. A cache size of 0 reads every search from the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class ServerBenchmark {
+    @Param({"1000"})
+    private int words;
+    @Param({"64"})
+    private int serverThreads;
+    @Param({"0", "10000"})
+    private int cacheSize;
+    private Path dir;
+    private DictionaryServer server;
+
+    @State(Scope.Thread)
+    public static class Client {
+        private RemoteInputEngine engine;
+        private Random random;
+
+        @Setup(Level.Trial)
+        public void setup(ServerBenchmark benchmark) {
+            this.engine = new RemoteInputEngine(new Request(null, null), "http://localhost:" + benchmark.server.getPort(),
+                    new LemmaProcessor(), new AboutData());
+            this.random = new Random();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, SQLException {
+        this.dir = Files.createTempDirectory("benchmark");
+        Path dbFile = dir.resolve("benchmark.db");
+        SqlDatabase db = new SqlDatabase(dbFile.toString());
+        db.setupDB();
+
+        String json = Fixtures.createEntryJson(1);
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + dbFile);
+             PreparedStatement statement = conn.prepareStatement("INSERT INTO entries(uri, json, code) VALUES (?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < words; i++) {
+                statement.setString(1, "entries/en-gb/word" + i);
+                statement.setString(2, json.replace("\"ace\"", "\"word" + i + "\""));
+                statement.setInt(3, 200);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            conn.commit();
+        }
+
+        DictionaryLookup lookup = new DictionaryLookup(new Request(null, null), db, new AudioCache(null, dir.resolve("audio"), 0),
+                new PronunciationProcessor(), new EntryFilter(), null);
+        this.server = new DictionaryServer(lookup, new InetSocketAddress("localhost", 0), serverThreads, cacheSize);
+        server.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.stop();
+        try (var files = Files.walk(dir)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach((path) -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<String> cachedEntrySearch(Client client) {
+        String word = "word" + client.random.nextInt(words);
+        return client.engine.entrySearch("en-gb", word, null, null, null, null, null, null, true, true, false,
+                true, true);
+    }
+}
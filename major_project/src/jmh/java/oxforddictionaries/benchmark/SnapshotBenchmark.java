@@ -0,0 +1,112 @@
+package oxforddictionaries.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import oxforddictionaries.model.request.SnapshotExporter;
+import oxforddictionaries.model.request.SnapshotReader;
+import oxforddictionaries.model.request.SqlDatabase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the startup and lookup latency of the snapshot with the SQLite database for the same words.
+ * Each trial creates a database of the words and exports it into a snapshot. Startup opens the snapshot
+ * or database and looks up one word. The lookups are in a random order so they aren't all in the cpu cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+    @Param({"100000"})
+    private int words;
+    private Path dir;
+    private Path dbFile;
+    private Path snapshotFile;
+    private SqlDatabase db;
+    private SnapshotReader snapshot;
+    private String[] keys;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, SQLException {
+        this.dir = Files.createTempDirectory("benchmark");
+        this.dbFile = dir.resolve("benchmark.db");
+        this.snapshotFile = dir.resolve("benchmark.snapshot");
+        this.db = new SqlDatabase(dbFile.toString());
+        db.setupDB();
+
+        String json = Fixtures.createEntryJson(1);
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + dbFile);
+             PreparedStatement statement = conn.prepareStatement("INSERT INTO entries(uri, json, code) VALUES (?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (int i = 0; i < words; i++) {
+                statement.setString(1, "entries/en-gb/word" + i);
+                statement.setString(2, json.replace("\"ace\"", "\"word" + i + "\""));
+                statement.setInt(3, 200);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            conn.commit();
+        }
+
+        String error = SnapshotExporter.export(db, snapshotFile);
+        if (error != null) {
+            throw new IOException(error);
+        }
+        this.snapshot = SnapshotReader.open(snapshotFile);
+
+        this.keys = new String[words];
+        Random random = new Random(42);
+        for (int i = 0; i < words; i++) {
+            keys[i] = "entries/en-gb/word" + random.nextInt(words);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(dbFile);
+        Files.deleteIfExists(dir);
+    }
+
+    private String nextKey() {
+        next = (next + 1) % keys.length;
+        return keys[next];
+    }
+
+    @Benchmark
+    public List<String> snapshotStartup() throws IOException {
+        return SnapshotReader.open(snapshotFile).getEntry(nextKey());
+    }
+
+    @Benchmark
+    public List<String> databaseStartup() {
+        return new SqlDatabase(dbFile.toString(), true).getEntry(nextKey());
+    }
+
+    @Benchmark
+    public List<String> snapshotGetEntry() {
+        return snapshot.getEntry(nextKey());
+    }
+
+    @Benchmark
+    public List<String> snapshotGetMissing() {
+        return snapshot.getEntry(nextKey() + "x");
+    }
+
+    @Benchmark
+    public List<String> databaseGetEntry() {
+        return db.getEntry(nextKey());
+    }
+}
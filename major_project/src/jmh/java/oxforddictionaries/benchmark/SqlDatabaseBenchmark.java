@@ -0,0 +1,55 @@
+package oxforddictionaries.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import oxforddictionaries.model.request.SqlDatabase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes entries in a temporary database. Each trial starts with a new database
+ * holding one cached entry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlDatabaseBenchmark {
+    private static final String cachedUri = "https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/ace";
+    @Param({"1", "10", "100"})
+    private int senses;
+    private Path dbFile;
+    private SqlDatabase db;
+    private String json;
+    private long added;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        this.dbFile = Files.createTempFile("benchmark", ".db");
+        this.db = new SqlDatabase(dbFile.toString());
+        this.json = Fixtures.createEntryJson(senses);
+        db.setupDB();
+        db.addEntry(cachedUri, json, 200);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dbFile);
+    }
+
+    @Benchmark
+    public List<String> getEntry() {
+        return db.getEntry(cachedUri);
+    }
+
+    @Benchmark
+    public String addEntry() {
+        added++;
+        return db.addEntry(cachedUri + added, json, 200);
+    }
+}
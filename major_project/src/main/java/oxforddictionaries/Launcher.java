@@ -0,0 +1,16 @@
+package oxforddictionaries;
+
+/**
+ * Starts the application from a class which isn't a JavaFx application, so it can be run with JavaFx on the classpath,
+ * e.g. to create and use the class data sharing archive of the application.
+ */
+public class Launcher {
+
+    /**
+     * Runs the application, see Main
+     * @param args arguments
+     */
+    public static void main(String[] args) {
+        Main.main(args);
+    }
+}
@@ -2,21 +2,34 @@ package oxforddictionaries;
 
 import oxforddictionaries.model.*;
 import oxforddictionaries.model.request.*;
+import oxforddictionaries.server.DictionaryServer;
 import oxforddictionaries.view.GameWindow;
 import javafx.application.Application;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Main class of the application
  */
 public class Main extends Application {
+    private static final int defaultServerPort = 8765;
+    private static final String defaultDbName = "OxfordDictionary.db";
+    private static final String startupExitProperty = "oxforddictionaries.startup.exit";
     private String inputApiAppId;
     private String inputAppKey;
 
     /**
-     * Checks if the arguments exist, exit if it doesn't. Start the JavaFx stage.
+     * Checks if the arguments exist, exit if it doesn't. Start the JavaFx stage. The engines are only created here,
+     * the database and media are loaded in the background once the window has been drawn.
      * @param primaryStage stage
      */
     @Override
@@ -49,11 +62,36 @@ public class Main extends Application {
         primaryStage.show();
 
         gameWindow.draw();
+        if (Boolean.getBoolean(startupExitProperty)) {
+            exitAfterFirstFrame(gameWindow);
+        }
     }
 
     /**
-     * Decides which input engine to use. If it is neither online or offline, return null. If it is online, it gets the environment variables.
-     *      * If the environment variables do not exist, exit the program.
+     * Prints the time from the start of the JVM to the first frame, then exits once the background start has finished.
+     * It is used to measure the startup and to create the class data sharing archive.
+     * @param gameWindow game window
+     */
+    private void exitAfterFirstFrame(GameWindow gameWindow) {
+        Scene scene = gameWindow.getScene();
+        AtomicBoolean drawn = new AtomicBoolean();
+        scene.addPostLayoutPulseListener(() -> {
+            if (drawn.getAndSet(true)) {
+                return;
+            }
+            long millis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+            System.out.println("Time to first frame: " + millis + " ms");
+            gameWindow.getBackgroundStart().whenComplete((result, e) -> System.exit(0));
+        });
+    }
+
+    /**
+     * Decides which input engine to use. If it is not online, offline, cached, record, replay or remote, return null. If it is online, it gets the environment variables.
+     * If the environment variables do not exist, exit the program. The online and cached engines use the snapshot if there is one.
+     * If it is cached, the database is opened read only from the INPUT_CACHE_DB environment variable or the default database file.
+     * The record engine is the online engine which also records the requests. The replay engine is the online engine which
+     * serves the requests from the recording with the INPUT_REPLAY_LATENCY delay. If the recording can't be read, return null.
+     * The remote engine searches through the dictionary server at INPUT_SERVER_URL or the default server url.
      * @param engine argument
      * @return input engine
      */
@@ -61,18 +99,179 @@ public class Main extends Application {
         if (engine.equals("offline")) {
             return new OfflineInputEngine(new DummyAPI(), new LemmaProcessor(), new AboutData());
         }
-        else if (engine.equals("online")) {
+        else if (engine.equals("online") || engine.equals("record")) {
             this.inputApiAppId = System.getenv("INPUT_API_APP_ID");
             this.inputAppKey = System.getenv("INPUT_API_KEY");
             if (inputApiAppId == null || inputAppKey == null) {
                 System.out.println("Environment variables not set");
                 System.exit(-1);
             }
-            return new OnlineInputEngine(new Request(inputApiAppId, inputAppKey), new LemmaProcessor(), new SqlDatabase(), new AboutData());
+            Request request;
+            if (engine.equals("record")) {
+                request = new RecordingRequest(inputApiAppId, inputAppKey, Paths.get(getRecordingName()));
+            }
+            else {
+                request = new Request(inputApiAppId, inputAppKey);
+            }
+            SqlDatabase db = ShardedDatabase.fromEnvironment(defaultDbName, false);
+            if (db == null) {
+                return null;
+            }
+            return new OnlineInputEngine(request, new LemmaProcessor(), db, new AboutData(),
+                    new AudioCache(request), new PronunciationProcessor(), new EntryFilter(), openSnapshot());
+        }
+        else if (engine.equals("replay")) {
+            String latencyName = System.getenv("INPUT_REPLAY_LATENCY");
+            if (latencyName == null) {
+                latencyName = "recorded";
+            }
+            ReplayLatency latency = ReplayLatency.parse(latencyName);
+            if (latency == null) {
+                System.out.println("Invalid replay latency " + latencyName);
+                return null;
+            }
+
+            Request request;
+            try {
+                request = new ReplayRequest(Paths.get(getRecordingName()), latency);
+            } catch (IOException e) {
+                System.out.println(e.getMessage());
+                return null;
+            }
+            SqlDatabase db = ShardedDatabase.fromEnvironment(defaultDbName, false);
+            if (db == null) {
+                return null;
+            }
+            return new OnlineInputEngine(request, new LemmaProcessor(), db, new AboutData(),
+                    new AudioCache(request), new PronunciationProcessor(), new EntryFilter(), openSnapshot());
+        }
+        else if (engine.equals("cached")) {
+            String dbName = System.getenv("INPUT_CACHE_DB");
+            if (dbName == null) {
+                dbName = defaultDbName;
+            }
+            SqlDatabase db = ShardedDatabase.fromEnvironment(dbName, true);
+            if (db == null) {
+                return null;
+            }
+            return new CachedInputEngine(db, new LemmaProcessor(), new AboutData(), new AudioCache(null), new EntryFilter(),
+                    openSnapshot());
+        }
+        else if (engine.equals("remote")) {
+            String serverUrl = System.getenv("INPUT_SERVER_URL");
+            if (serverUrl == null) {
+                serverUrl = "http://localhost:" + defaultServerPort;
+            }
+            return new RemoteInputEngine(new Request(null, null), serverUrl, new LemmaProcessor(), new AboutData());
         }
         return null;
     }
 
+    /**
+     * Creates the dictionary server from the environment variables. The api id and key are required, like the online engine.
+     * SERVER_HOST and SERVER_PORT are the address to listen on, localhost and 8765 if they aren't set. SERVER_THREADS is the
+     * number of requests handled at once, 64 if it isn't set. SERVER_CACHE_SIZE is the number of results kept in memory, 10000
+     * if it isn't set. INPUT_RATE_LIMIT is the api requests per minute shared by all the clients, 60 if it isn't set. The server uses the snapshot if there is one. If a variable is invalid or the address can't
+     * be bound, return null.
+     * @return dictionary server
+     */
+    public DictionaryServer createServer() {
+        this.inputApiAppId = System.getenv("INPUT_API_APP_ID");
+        this.inputAppKey = System.getenv("INPUT_API_KEY");
+        if (inputApiAppId == null || inputAppKey == null) {
+            System.out.println("Environment variables not set");
+            return null;
+        }
+
+        String host = System.getenv("SERVER_HOST");
+        if (host == null) {
+            host = "localhost";
+        }
+        int port;
+        int threads;
+        int cacheSize;
+        double rateLimit;
+        try {
+            port = Integer.parseInt(getEnv("SERVER_PORT", String.valueOf(defaultServerPort)));
+            threads = Integer.parseInt(getEnv("SERVER_THREADS", "64"));
+            cacheSize = Integer.parseInt(getEnv("SERVER_CACHE_SIZE", "10000"));
+            rateLimit = Double.parseDouble(getEnv("INPUT_RATE_LIMIT", "60"));
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid server environment variables: " + e.getMessage());
+            return null;
+        }
+        if (threads < 1 || cacheSize < 0 || rateLimit <= 0) {
+            System.out.println("Invalid server environment variables");
+            return null;
+        }
+
+        Request request = new RateLimitedRequest(new Request(inputApiAppId, inputAppKey),
+                new RateLimiter(rateLimit, (int) Math.ceil(rateLimit / 6)));
+        SqlDatabase db = ShardedDatabase.fromEnvironment(defaultDbName, false);
+        if (db == null) {
+            return null;
+        }
+        DictionaryLookup lookup = new DictionaryLookup(request, db, new AudioCache(request),
+                new PronunciationProcessor(), new EntryFilter(), openSnapshot());
+        lookup.warmUp();
+        try {
+            return new DictionaryServer(lookup, new InetSocketAddress(host, port), threads, cacheSize);
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Gets the environment variable or the default value if it isn't set
+     * @param name name
+     * @param defaultValue default value
+     * @return value
+     */
+    private String getEnv(String name, String defaultValue) {
+        String value = System.getenv(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * Gets the recording file of the record and replay engines from the INPUT_RECORDING environment variable
+     * or the default recording file
+     * @return recording file name
+     */
+    public String getRecordingName() {
+        String recordingName = System.getenv("INPUT_RECORDING");
+        if (recordingName == null) {
+            recordingName = "OxfordDictionary.recording";
+        }
+        return recordingName;
+    }
+
+    /**
+     * Opens the snapshot from the INPUT_SNAPSHOT environment variable or the default snapshot file.
+     * If it doesn't exist or can't be opened, return null so only the database is used.
+     * @return snapshot reader
+     */
+    public SnapshotReader openSnapshot() {
+        String snapshotName = System.getenv("INPUT_SNAPSHOT");
+        if (snapshotName == null) {
+            snapshotName = "OxfordDictionary.snapshot";
+        }
+        Path path = Paths.get(snapshotName);
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        try {
+            return SnapshotReader.open(path);
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Decides which output engine to use. If it is neither online or offline, return null. If it is online, it gets the environment variables.
      * If the environment variables do not exist, exit the program.
@@ -95,10 +294,20 @@ public class Main extends Application {
     }
 
     /**
-     * Run the application
+     * Run the application. If the argument is server, run the dictionary server without a window instead.
      * @param args arguments
      */
     public static void main(String[] args) {
+        if (args.length == 1 && args[0].equals("server")) {
+            DictionaryServer server = new Main().createServer();
+            if (server == null) {
+                System.exit(-1);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+            server.start();
+            System.out.println("Dictionary server listening on port " + server.getPort());
+            return;
+        }
         launch(args);
     }
 }
@@ -0,0 +1,470 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.metrics.Metrics;
+import oxforddictionaries.model.request.AudioCache;
+import oxforddictionaries.model.request.HistoryStore;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.SnapshotReader;
+import oxforddictionaries.model.request.SqlDatabase;
+import oxforddictionaries.model.request.VocabularyInterner;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import com.google.gson.Gson;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Answers the searches from a read only copy of the database without requesting the api, so it can be used
+ * without internet access. Only the searches in the snapshot or the database can be found, and they are found
+ * by the dictionary lookup like the cached searches of the online engine. The database is never written to.
+ */
+public class CachedInputEngine implements InputEngine {
+    private SqlDatabase db;
+    private SearchSession session;
+    private LemmaProcessor lemmaProcessor;
+    private AboutData aboutData;
+    private AudioCache audioCache;
+    private DictionaryLookup lookup;
+    private Gson gson;
+    private EntryMerger entryMerger;
+
+    /**
+     * Creates the cached input engine
+     * @param db read only sql database
+     * @param lemmaProcessor lemma processor
+     * @param aboutData about information
+     * @param audioCache downloaded pronunciation audio files
+     * @param entryFilter filters cached entries
+     */
+    public CachedInputEngine(SqlDatabase db, LemmaProcessor lemmaProcessor, AboutData aboutData, AudioCache audioCache,
+                             EntryFilter entryFilter) {
+        this(db, lemmaProcessor, aboutData, audioCache, entryFilter, null);
+    }
+
+    /**
+     * Creates the cached input engine with a snapshot, which is checked before the database
+     * @param db read only sql database
+     * @param lemmaProcessor lemma processor
+     * @param aboutData about information
+     * @param audioCache downloaded pronunciation audio files
+     * @param entryFilter filters cached entries
+     * @param snapshot read only snapshot, null if there isn't one
+     */
+    public CachedInputEngine(SqlDatabase db, LemmaProcessor lemmaProcessor, AboutData aboutData, AudioCache audioCache,
+                             EntryFilter entryFilter, SnapshotReader snapshot) {
+        this.db = db;
+        this.lemmaProcessor = lemmaProcessor;
+        this.aboutData = aboutData;
+        this.audioCache = audioCache;
+        this.lookup = new DictionaryLookup(null, db, audioCache, null, entryFilter, snapshot);
+        this.gson = new VocabularyInterner().createGson();
+        this.entryMerger = new EntryMerger(gson);
+        this.session = new SearchSession();
+    }
+
+    /**
+     * Gets the query key from the database. If it doesn't exist and the search has filters that can be applied locally,
+     * derive it from the search without those filters. The user is not asked to use the cache as there is nothing
+     * else to use. A search that isn't in the database is handled like a 404 response.
+     * If the response errors then return the list of errors.
+     * If valid, create the POJO. If it is not a history search then add it to the history
+     * and move the current entry to the end if it is not a new search. Return an empty list if valid.
+     * @param lang language
+     * @param word word
+     * @param field field
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @param newSearch new search
+     * @param historyEntry history search
+     * @param lemma lemma search
+     * @param cacheDecided unused
+     * @param useCache unused
+     * @return list of error messages
+     */
+    public List<String> entrySearch(String lang, String word, String field, String gramFeat, String lexiCate,
+                                    String domains, String registers, String match, boolean newSearch, boolean historyEntry, boolean lemma,
+                                    boolean cacheDecided, boolean useCache) {
+        long start = Metrics.start();
+        try {
+            QueryKey queryKey = QueryKey.entries(lang, word, field, gramFeat, lexiCate, domains, registers, match);
+            LookupResult result = lookUp(queryKey, lemma);
+            if (result.getRetrieveEntry() != null) {
+                session.showEntry(result.getRetrieveEntry(), historyEntry, lang, word, field, gramFeat, lexiCate, domains,
+                        registers, match, newSearch);
+            }
+            return result.getResponse();
+        } finally {
+            Metrics.stop("entrySearch.total", start);
+        }
+    }
+
+    /**
+     * Gets the search from the database and creates the POJO if it is valid. If the response errors then return the
+     * list of errors. A search that isn't found is a null list, unless it is a lemma search.
+     * @param queryKey query key
+     * @param lemma lemma search
+     * @return POJO with an empty list, or the errors
+     */
+    private LookupResult lookUp(QueryKey queryKey, boolean lemma) {
+        LookupResult found = findEntry(queryKey);
+        List<String> response = found.getResponse();
+        RetrieveEntry retrieveEntry = null;
+
+        if (response.size() == 2) {
+            int statusCode = Integer.parseInt(response.get(0));
+            if (statusCode >= 200 && statusCode < 300) {
+                retrieveEntry = found.getRetrieveEntry();
+                if (retrieveEntry == null) {
+                    long stage = Metrics.start();
+                    retrieveEntry = gson.fromJson(response.get(1), RetrieveEntry.class);
+                    Metrics.stop("entrySearch.parse", stage);
+                }
+                response.clear();
+            }
+            else if (statusCode >= 400 && statusCode < 500) {
+                response = handleErrorReq(response.get(0), response.get(1));
+                if (response.get(0).equals("404") && !lemma) {
+                    response = null;
+                }
+            }
+        }
+        return new LookupResult(response, retrieveEntry);
+    }
+
+    /**
+     * Finds the search in the snapshot, then the database, or derives it from the search without its local filters,
+     * see the dictionary lookup. A search that isn't cached is handled like a 404 response.
+     * @param queryKey query key
+     * @return status code and json, with the POJO if it was derived
+     */
+    public LookupResult findEntry(QueryKey queryKey) {
+        LookupResult found = lookup.findCached(queryKey);
+        List<String> response = found.getResponse();
+        if (response.size() == 0) {
+            response = createMissing(queryKey.getWord());
+        }
+        return new LookupResult(response, found.getRetrieveEntry());
+    }
+
+    /**
+     * Gets the details of the preview search from the database, the search without the fields. If valid, merge them
+     * into the preview, which they replace in the session unless another entry replaced it, and return an empty list.
+     * If they aren't in the database, return the error.
+     * @param preview POJO of the preview search
+     * @param lang language
+     * @param word word
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @return list of error messages
+     */
+    public List<String> detailSearch(RetrieveEntry preview, String lang, String word, String gramFeat, String lexiCate,
+                                     String domains, String registers, String match) {
+        QueryKey queryKey = QueryKey.entries(lang, word, null, gramFeat, lexiCate, domains, registers, match);
+        LookupResult found = findEntry(queryKey);
+        List<String> response = found.getResponse();
+        if (response.size() != 2) {
+            return response;
+        }
+        if (!response.get(0).startsWith("2")) {
+            return handleErrorReq(response.get(0), response.get(1));
+        }
+
+        RetrieveEntry details = found.getRetrieveEntry();
+        if (details == null) {
+            details = gson.fromJson(response.get(1), RetrieveEntry.class);
+        }
+        session.replaceRetrieveEntry(preview, entryMerger.merge(preview, details));
+        return new ArrayList<>();
+    }
+
+    /**
+     * Gets the POJO
+     * @return entry
+     */
+    public RetrieveEntry getRetrieveEntry() {
+        return session.getRetrieveEntry();
+    }
+
+    /**
+     * Updates the POJO of the session to an entry that was displayed before
+     * @param retrieveEntry entry
+     */
+    public void setRetrieveEntry(RetrieveEntry retrieveEntry) {
+        session.setRetrieveEntry(retrieveEntry);
+    }
+
+    /**
+     * Gets the search from the database. A search that isn't in the database is a null list.
+     * @param queryKey query key
+     * @return result
+     */
+    public LookupResult cachedSearch(QueryKey queryKey) {
+        return lookUp(queryKey, false);
+    }
+
+    /**
+     * There is nothing newer than the database without internet access
+     * @param queryKey query key
+     * @param refresh unused
+     * @return an empty list without a POJO
+     */
+    public LookupResult freshSearch(QueryKey queryKey, boolean refresh) {
+        return new LookupResult(new ArrayList<>(), null);
+    }
+
+    /**
+     * Gets the query key from the database. A search that isn't in the database is handled like a 404 response.
+     * If the response errors then return the list of errors.
+     * If valid, create the POJO and return an empty list.
+     * @param lang language
+     * @param word word
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param cacheDecided unused
+     * @param useCache unused
+     * @return list of error messages
+     */
+    public List<String> lemmaSearch(String lang, String word, String gramFeat, String lexiCate, boolean cacheDecided, boolean useCache) {
+        long start = Metrics.start();
+        try {
+            QueryKey queryKey = QueryKey.lemmas(lang, word, gramFeat, lexiCate);
+
+            long stage = Metrics.start();
+            List<String> response = db.getLemma(queryKey.getKey());
+            Metrics.stop("lemmaSearch.db", stage);
+            Metrics.cacheLookup("cache.lemmas", response.size() > 0);
+
+            if (response.size() == 0) {
+                response = createMissing(word);
+            }
+
+            if (response.size() == 2) {
+                int statusCode = Integer.parseInt(response.get(0));
+                if (statusCode >= 200 && statusCode < 300) {
+                    stage = Metrics.start();
+                    session.setRetrieveEntry(gson.fromJson(response.get(1), RetrieveEntry.class));
+                    Metrics.stop("lemmaSearch.parse", stage);
+                    response.clear();
+                }
+                else if (statusCode >= 400 && statusCode < 500) {
+                    response = handleErrorReq(response.get(0), response.get(1));
+                    if (response.get(0).equals("404")) {
+                        response = null;
+                    }
+                }
+            }
+            return response;
+        } finally {
+            Metrics.stop("lemmaSearch.total", start);
+        }
+    }
+
+    /**
+     * Creates the 404 response of a search that isn't in the database
+     * @param word word
+     * @return 404 response
+     */
+    public List<String> createMissing(String word) {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", word + " is not in the offline dictionary");
+        List<String> response = new ArrayList<>();
+        response.add("404");
+        response.add(gson.toJson(error));
+        return response;
+    }
+
+    /**
+     * Maps the raw JSON and adds the status code and message to a list
+     * @param code status code
+     * @param body raw json
+     * @return list of error messages
+     */
+    public List<String> handleErrorReq(String code, String body) {
+        return ErrorParser.handleErrorReq(code, body);
+    }
+
+    /**
+     * Reads the whole history from the store. The list doesn't change with later searches.
+     * @return history
+     */
+    public List<List<String>> getHistory() {
+        return session.getHistory();
+    }
+
+    /**
+     * Gets the last entry of the history from the store, null if the history is empty
+     * @return history entry
+     */
+    public List<String> getLastEntry() {
+        return session.getLastEntry();
+    }
+
+    /**
+     * Gets the history store of the session, which has the history in the same order
+     * @return history store
+     */
+    public HistoryStore getHistoryStore() {
+        return session.getHistoryStore();
+    }
+
+    /**
+     * Updates the current page index
+     * @param ind page index
+     */
+    public void setCurrentPageInd(int ind) {
+        session.setCurrentPageInd(ind);
+    }
+
+    /**
+     * Updates the current page to the row of the history store
+     * @param seq position in the store
+     */
+    public void setCurrentHistorySeq(long seq) {
+        session.setCurrentSeq(seq);
+    }
+
+    /**
+     * Adds all the parameters to a list, if they are null, set them to an empty string.
+     * @param lang language
+     * @param word word
+     * @param field field
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @param newSearch new search
+     * @return history
+     */
+    public List<String> createHistoryEntry(String lang, String word, String field, String gramFeat, String lexiCate, String domains,
+                                           String registers, String match, boolean newSearch) {
+        return session.createHistoryEntry(lang, word, field, gramFeat, lexiCate, domains, registers, match, newSearch);
+    }
+
+    /**
+     * Gets the index it is currently at for the history
+     * @return page index
+     */
+    public int getCurrentPageInd() {
+        return session.getCurrentPageInd();
+    }
+
+    /**
+     * Finds the lemmas from the POJO
+     * @return List of lemmas
+     */
+    public List<List<String>> findLemmas() {
+        return lemmaProcessor.createData(session.getRetrieveEntry());
+    }
+
+    /**
+     * The database is read only so it can't be cleared
+     * @return error message
+     */
+    public String clearCache() {
+        return "The offline dictionary is read only and can't be cleared.";
+    }
+
+    /**
+     * The database is read only so it can't be cleared
+     * @param lang language
+     * @return error message
+     */
+    public String clearCache(String lang) {
+        return clearCache();
+    }
+
+    /**
+     * Gets the application name from the about data
+     * @return application name
+     */
+    public String getAboutAppName() {
+        return aboutData.getAppName();
+    }
+
+    /**
+     * Gets the developer name from the about data
+     * @return developer name
+     */
+    public String getAboutDevName() {
+        return aboutData.getDevName();
+    }
+
+    /**
+     * Gets the references from the about data
+     * @return references
+     */
+    public List<String> getAboutReferences() {
+        return aboutData.getReferences();
+    }
+
+    /**
+     * Adds pronunciation to the list of pronunciations. If the uri is already in the list, return false.
+     * If the entry id is null, change the id to '-'.
+     * @param entryId Entry ID
+     * @param pronunciation Pronunciation URI
+     * @return added or not
+     */
+    public boolean addPronunciation(String entryId, String pronunciation) {
+        return session.addPronunciation(entryId, pronunciation);
+    }
+
+    /**
+     * Gets the list of pronunciations. The list doesn't change when pronunciations are added or removed.
+     * @return pronunciations
+     */
+    public List<List<String>> getPronunciations() {
+        return session.getPronunciations();
+    }
+
+    /**
+     * Removes pronunciation from the list of pronunciations
+     * @param pronunciation Pronunciation URI
+     * @return removed or not
+     */
+    public boolean removePronunciation(String pronunciation) {
+        return session.removePronunciation(pronunciation);
+    }
+
+    /**
+     * Gets the uri to play the pronunciation audio file from. Uses the downloaded copy if it exists,
+     * otherwise the url is returned and nothing is downloaded.
+     * @param audioFile audio file url
+     * @return playable uri
+     */
+    public String getAudioUri(String audioFile) {
+        return audioCache.getCachedUri(audioFile);
+    }
+
+    /**
+     * Nothing is downloaded without internet access
+     * @param retrieveEntry POJO
+     */
+    public void prefetchPronunciations(RetrieveEntry retrieveEntry) {
+    }
+
+    /**
+     * Opens the database, creates the json parsers and opens the history store
+     */
+    public void warmUp() {
+        db.getEntry("");
+        gson.fromJson("{}", RetrieveEntry.class);
+        session.getHistoryStore().size("");
+    }
+
+    /**
+     * Opens the database of the language
+     * @param lang language
+     */
+    public void warmUp(String lang) {
+        db.warmUp(lang);
+    }
+}
@@ -0,0 +1,113 @@
+package oxforddictionaries.model;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes an item once no other item has been received for the delay, e.g. the search once the user stops typing.
+ * Only the newest item is kept, so it requests the items one at a time and never falls behind. The subscribers
+ * have a buffer, and publishing waits for space in it.
+ * @param <T> item type
+ */
+public class Debouncer<T> extends SubmissionPublisher<T> implements Flow.Processor<T, T> {
+    private final long delayMillis;
+    private final ScheduledExecutorService scheduler;
+    private Flow.Subscription subscription;
+    private ScheduledFuture<?> pending;
+    private T pendingItem;
+    private long sequence;
+
+    /**
+     * Creates the debouncer
+     * @param delayMillis time without items before the newest is published
+     * @param scheduler scheduler of the delays
+     */
+    public Debouncer(long delayMillis, ScheduledExecutorService scheduler) {
+        this.delayMillis = delayMillis;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Requests the first item
+     * @param subscription subscription
+     */
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    /**
+     * Replaces the item waiting to be published and restarts the delay, then requests the next item
+     * @param item item
+     */
+    @Override
+    public synchronized void onNext(T item) {
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        this.pendingItem = item;
+        long itemSequence = ++sequence;
+        this.pending = scheduler.schedule(() -> publishPending(itemSequence), delayMillis, TimeUnit.MILLISECONDS);
+        subscription.request(1);
+    }
+
+    /**
+     * Drops the item waiting to be published and closes with the error
+     * @param throwable error
+     */
+    @Override
+    public synchronized void onError(Throwable throwable) {
+        cancelPending();
+        closeExceptionally(throwable);
+    }
+
+    /**
+     * Publishes the item waiting to be published at once and closes
+     */
+    @Override
+    public void onComplete() {
+        T item;
+        synchronized (this) {
+            item = pendingItem;
+            cancelPending();
+        }
+        if (item != null) {
+            submit(item);
+        }
+        close();
+    }
+
+    /**
+     * Drops the item waiting to be published
+     */
+    public synchronized void cancelPending() {
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        this.pending = null;
+        this.pendingItem = null;
+    }
+
+    /**
+     * Publishes the item waiting to be published if it hasn't been replaced
+     * @param itemSequence number of the item when its delay started
+     */
+    private void publishPending(long itemSequence) {
+        T item;
+        synchronized (this) {
+            if (itemSequence != sequence) {
+                return;
+            }
+            item = pendingItem;
+            this.pendingItem = null;
+            this.pending = null;
+        }
+        if (item != null && !isClosed()) {
+            submit(item);
+        }
+    }
+}
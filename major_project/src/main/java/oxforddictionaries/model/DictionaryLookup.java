@@ -0,0 +1,534 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.metrics.Metrics;
+import oxforddictionaries.model.request.AudioCache;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.Request;
+import oxforddictionaries.model.request.SnapshotReader;
+import oxforddictionaries.model.request.SqlDatabase;
+import oxforddictionaries.model.request.VocabularyInterner;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import com.google.gson.Gson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Looks up entries and lemmas in the snapshot, then the database, before requesting the Oxford Dictionaries Api.
+ * It keeps no state of a search, every lookup returns its response and POJO, so one lookup and its cache can be
+ * shared by many sessions and threads. The state of a user is kept in a search session.
+ */
+public class DictionaryLookup {
+    private final Request request;
+    private final SqlDatabase db;
+    private final AudioCache audioCache;
+    private final PronunciationProcessor pronunciationProcessor;
+    private final EntryFilter entryFilter;
+    private final Gson gson;
+    private final EntryMerger entryMerger;
+    private final SnapshotReader snapshot;
+    private volatile boolean setUp;
+
+    /**
+     * Creates the lookup. The database is set up by the first lookup or by warming up, so creating it doesn't block.
+     * @param request request, null if only the cache is looked up
+     * @param db sql database
+     * @param audioCache pronunciation audio cache
+     * @param pronunciationProcessor pronunciation processor
+     * @param entryFilter filters cached entries
+     * @param snapshot read only snapshot checked before the database, null if there isn't one
+     */
+    public DictionaryLookup(Request request, SqlDatabase db, AudioCache audioCache, PronunciationProcessor pronunciationProcessor,
+                            EntryFilter entryFilter, SnapshotReader snapshot) {
+        this.request = request;
+        this.db = db;
+        this.audioCache = audioCache;
+        this.pronunciationProcessor = pronunciationProcessor;
+        this.entryFilter = entryFilter;
+        this.gson = new VocabularyInterner().createGson();
+        this.entryMerger = new EntryMerger(gson);
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Setups the database if it hasn't been set up. Return null if there are no errors.
+     * @return error message
+     */
+    public String setup() {
+        if (setUp) {
+            return null;
+        }
+        synchronized (this) {
+            if (setUp) {
+                return null;
+            }
+            String error = db.setupDB();
+            this.setUp = true;
+            return error;
+        }
+    }
+
+    /**
+     * Setups the database and creates the json parsers, so the first search doesn't wait for them.
+     * The time is recorded in the metrics.
+     */
+    public void warmUp() {
+        long start = Metrics.start();
+        setup();
+        gson.fromJson("{}", RetrieveEntry.class);
+        Metrics.stop("lookup.warmUp", start);
+    }
+
+    /**
+     * Check the snapshot, then the database, if the query key exists. If it doesn't and the search has filters that can be
+     * applied locally, derive it from the cached search without those filters. Otherwise, request from the api. If found,
+     * notify the user to select if they want to use it or not. When the user selects a new request, update the database.
+     * The snapshot is read only, so a new request of an entry in the snapshot is only used for this search.
+     * Check if the response is OK. If the response errors then return the list of errors.
+     * If valid, create the POJO and return it with an empty list.
+     * The database, request, parse and total times are recorded in the metrics.
+     * @param queryKey query key
+     * @param lemma lemma search
+     * @param cacheDecided notified user
+     * @param useCache cache or request new data
+     * @return result
+     */
+    public LookupResult entrySearch(QueryKey queryKey, boolean lemma, boolean cacheDecided, boolean useCache) {
+        return entrySearch(queryKey, lemma, cacheDecided, useCache, true);
+    }
+
+    /**
+     * Looks up the entry like the other entry search. A requested search that wasn't found is only written to the
+     * database if it is kept, so the prefixes of a word searched while it is typed don't fill the database.
+     * @param queryKey query key
+     * @param lemma lemma search
+     * @param cacheDecided notified user
+     * @param useCache cache or request new data
+     * @param keepMissing write a search that wasn't found to the database
+     * @return result
+     */
+    public LookupResult entrySearch(QueryKey queryKey, boolean lemma, boolean cacheDecided, boolean useCache,
+                                    boolean keepMissing) {
+        setup();
+        long start = Metrics.start();
+        try {
+            String key = queryKey.getKey();
+
+            List<String> response = getSnapshotEntry(key);
+            boolean inSnapshot = response.size() > 0;
+            long stage;
+            if (!inSnapshot) {
+                stage = Metrics.start();
+                response = db.getEntry(key);
+                Metrics.stop("entrySearch.db", stage);
+            }
+            boolean cached = true;
+            boolean derived = false;
+            RetrieveEntry derivedEntry = null;
+            if (response.size() == 0 && queryKey.hasLocalFilters()) {
+                stage = Metrics.start();
+                LookupResult result = deriveEntry(queryKey);
+                Metrics.stop("entrySearch.derive", stage);
+                response = result.getResponse();
+                derivedEntry = result.getRetrieveEntry();
+                derived = response.size() > 0;
+            }
+            if (response.size() == 0) {
+                stage = Metrics.start();
+                response = request.getRequest(queryKey.toUri());
+                Metrics.stop("entrySearch.http", stage);
+                cached = false;
+            }
+            Metrics.cacheLookup("cache.entries", cached);
+
+            if (!cacheDecided && cached) {
+                response.clear();
+                response.add(null);
+                return new LookupResult(response, null);
+            }
+
+            boolean update = false;
+            if (cacheDecided && !useCache) {
+                stage = Metrics.start();
+                response = request.getRequest(queryKey.toUri());
+                Metrics.stop("entrySearch.http", stage);
+                if (derived) {
+                    derivedEntry = null;
+                    cached = false;
+                }
+                else if (!inSnapshot) {
+                    update = true;
+                }
+            }
+
+            RetrieveEntry retrieveEntry = null;
+            if (response.size() == 2) {
+                int statusCode = Integer.parseInt(response.get(0));
+                if (statusCode == 404 && !keepMissing) {
+                    cached = true;
+                    update = false;
+                }
+                if (!cached) {
+                    stage = Metrics.start();
+                    String error = db.addEntry(key, response.get(1), statusCode);
+                    Metrics.stop("entrySearch.dbWrite", stage);
+                    if (error != null) {
+                        response.clear();
+                        response.add(error);
+                        return new LookupResult(response, null);
+                    }
+                }
+
+                if (update) {
+                    stage = Metrics.start();
+                    String error = db.updateEntry(key, response.get(1), statusCode);
+                    Metrics.stop("entrySearch.dbWrite", stage);
+                    if (error != null) {
+                        response.clear();
+                        response.add(error);
+                        return new LookupResult(response, null);
+                    }
+                }
+
+                if (statusCode >= 200 && statusCode < 300) {
+                    if (derivedEntry != null) {
+                        retrieveEntry = derivedEntry;
+                    }
+                    else {
+                        stage = Metrics.start();
+                        retrieveEntry = gson.fromJson(response.get(1), RetrieveEntry.class);
+                        Metrics.stop("entrySearch.parse", stage);
+                    }
+                    response.clear();
+                }
+                else if (statusCode >= 400 && statusCode < 500) {
+                    response = handleErrorReq(response.get(0), response.get(1));
+                    if (response.get(0).equals("404") && !lemma) {
+                        response = null;
+                    }
+                }
+            }
+            return new LookupResult(response, retrieveEntry);
+        } finally {
+            Metrics.stop("entrySearch.total", start);
+        }
+    }
+
+    /**
+     * Looks up the query key in the snapshot, then the database, without requesting the api, e.g. to preview a search
+     * while it is typed. If it isn't there and the search has filters that can be applied locally, derive it from the
+     * cached search without those filters. If it is OK, return the POJO with an empty list. If it errors, return the
+     * list of errors. Return an empty list without a POJO if it isn't cached.
+     * @param queryKey query key
+     * @return result
+     */
+    public LookupResult cachedSearch(QueryKey queryKey) {
+        setup();
+        LookupResult found = findCached(queryKey);
+        List<String> response = found.getResponse();
+        if (response.size() != 2) {
+            return new LookupResult(new ArrayList<>(), null);
+        }
+
+        int statusCode = Integer.parseInt(response.get(0));
+        if (statusCode >= 200 && statusCode < 300) {
+            RetrieveEntry retrieveEntry = found.getRetrieveEntry();
+            if (retrieveEntry == null) {
+                long stage = Metrics.start();
+                retrieveEntry = gson.fromJson(response.get(1), RetrieveEntry.class);
+                Metrics.stop("entrySearch.parse", stage);
+            }
+            return new LookupResult(new ArrayList<>(), retrieveEntry);
+        }
+        if (statusCode >= 400 && statusCode < 500) {
+            return new LookupResult(handleErrorReq(response.get(0), response.get(1)), null);
+        }
+        return new LookupResult(response, null);
+    }
+
+    /**
+     * Finds the query key in the snapshot, then the database, without requesting the api. If it isn't there and the
+     * search has filters that can be applied locally, derive it from the cached search without those filters.
+     * The database and derive times are recorded in the metrics.
+     * @param queryKey query key
+     * @return status code and json, with the POJO if it was derived. An empty list if it isn't cached.
+     */
+    public LookupResult findCached(QueryKey queryKey) {
+        String key = queryKey.getKey();
+        List<String> response = getSnapshotEntry(key);
+        long stage;
+        if (response.size() == 0) {
+            stage = Metrics.start();
+            response = db.getEntry(key);
+            Metrics.stop("entrySearch.db", stage);
+        }
+        RetrieveEntry derivedEntry = null;
+        if (response.size() == 0 && queryKey.hasLocalFilters()) {
+            stage = Metrics.start();
+            LookupResult result = deriveEntry(queryKey);
+            Metrics.stop("entrySearch.derive", stage);
+            response = result.getResponse();
+            derivedEntry = result.getRetrieveEntry();
+        }
+        Metrics.cacheLookup("cache.entries", response.size() == 2);
+        return new LookupResult(response, derivedEntry);
+    }
+
+    /**
+     * Gets the details of a preview search and merges them into the preview. The details are the search without
+     * the fields, so they are found in the cache like any other search and added to it when they are requested.
+     * If the search isn't found, return an error as the preview was found. The merge time is recorded in the metrics.
+     * @param queryKey search without the fields
+     * @param preview POJO of the preview search
+     * @return result with the merged POJO
+     */
+    public LookupResult detailSearch(QueryKey queryKey, RetrieveEntry preview) {
+        LookupResult details = entrySearch(queryKey, false, true, true);
+        if (details.getResponse() == null) {
+            List<String> response = new ArrayList<>();
+            response.add("No details were found for the entry.");
+            return new LookupResult(response, null);
+        }
+        if (details.getRetrieveEntry() == null) {
+            return details;
+        }
+
+        long stage = Metrics.start();
+        RetrieveEntry merged = entryMerger.merge(preview, details.getRetrieveEntry());
+        Metrics.stop("detailSearch.merge", stage);
+        return new LookupResult(details.getResponse(), merged);
+    }
+
+    /**
+     * Answers a search with lexical category, grammatical feature, domain or register filters from the cached
+     * search without them. If the cached response is OK, the filters are applied to it and the filtered POJO
+     * is returned with the response. If nothing matches, return a 404 response. Other cached responses are returned
+     * as they are. Return an empty response if the search without the filters isn't cached.
+     * @param queryKey search with the filters
+     * @return result
+     */
+    public LookupResult deriveEntry(QueryKey queryKey) {
+        String supersetKey = queryKey.getSuperset().getKey();
+        List<String> superset = getSnapshotEntry(supersetKey);
+        if (superset.size() == 0) {
+            superset = db.getEntry(supersetKey);
+        }
+        if (superset.size() != 2) {
+            return new LookupResult(new ArrayList<>(), null);
+        }
+
+        int statusCode = Integer.parseInt(superset.get(0));
+        if (statusCode < 200 || statusCode >= 300) {
+            return new LookupResult(superset, null);
+        }
+
+        RetrieveEntry filtered = entryFilter.apply(gson.fromJson(superset.get(1), RetrieveEntry.class), queryKey);
+        List<String> response = new ArrayList<>();
+        if (filtered == null) {
+            response.add("404");
+            response.add("{\"error\": \"No entry found matching supplied source_lang, word and provided filters\"}");
+            return new LookupResult(response, null);
+        }
+
+        response.add(superset.get(0));
+        response.add(null);
+        return new LookupResult(response, filtered);
+    }
+
+    /**
+     * Gets the entry from the snapshot. A record that can't be read is treated as missing so the database is used.
+     * @param key query key
+     * @return status code and json, empty if it isn't in the snapshot
+     */
+    public List<String> getSnapshotEntry(String key) {
+        if (snapshot == null) {
+            return new ArrayList<>();
+        }
+        long stage = Metrics.start();
+        List<String> response = snapshot.getEntry(key);
+        Metrics.stop("entrySearch.snapshot", stage);
+        Metrics.cacheLookup("cache.snapshot.entries", response.size() == 2);
+        if (response.size() != 2) {
+            return new ArrayList<>();
+        }
+        return response;
+    }
+
+    /**
+     * Gets the lemma from the snapshot. A record that can't be read is treated as missing so the database is used.
+     * @param key query key
+     * @return status code and json, empty if it isn't in the snapshot
+     */
+    public List<String> getSnapshotLemma(String key) {
+        if (snapshot == null) {
+            return new ArrayList<>();
+        }
+        long stage = Metrics.start();
+        List<String> response = snapshot.getLemma(key);
+        Metrics.stop("lemmaSearch.snapshot", stage);
+        Metrics.cacheLookup("cache.snapshot.lemmas", response.size() == 2);
+        if (response.size() != 2) {
+            return new ArrayList<>();
+        }
+        return response;
+    }
+
+    /**
+     * Performs a GET request of the query key. Before requesting the api, it checks the snapshot, then the database.
+     * If found, notify the user to select if they want to use it or not.
+     * When the user selects a new request, update the database. A new request of a lemma in the snapshot is only used
+     * for this search.
+     * If the response errors then return the list of errors.
+     * If valid, create the POJO and return it with an empty list.
+     * The database, request, parse and total times are recorded in the metrics.
+     * @param queryKey query key
+     * @param cacheDecided cached been decided
+     * @param useCache cache or request new data
+     * @return result
+     */
+    public LookupResult lemmaSearch(QueryKey queryKey, boolean cacheDecided, boolean useCache) {
+        setup();
+        long start = Metrics.start();
+        try {
+            String key = queryKey.getKey();
+
+            List<String> response = getSnapshotLemma(key);
+            boolean inSnapshot = response.size() > 0;
+            long stage;
+            if (!inSnapshot) {
+                stage = Metrics.start();
+                response = db.getLemma(key);
+                Metrics.stop("lemmaSearch.db", stage);
+            }
+            boolean cached = true;
+            if (response.size() == 0) {
+                stage = Metrics.start();
+                response = request.getRequest(queryKey.toUri());
+                Metrics.stop("lemmaSearch.http", stage);
+                cached = false;
+            }
+            Metrics.cacheLookup("cache.lemmas", cached);
+
+            if (!cacheDecided && cached) {
+                response.clear();
+                response.add(null);
+                return new LookupResult(response, null);
+            }
+
+            boolean update = false;
+            if (cacheDecided && !useCache) {
+                stage = Metrics.start();
+                response = request.getRequest(queryKey.toUri());
+                Metrics.stop("lemmaSearch.http", stage);
+                update = !inSnapshot;
+            }
+
+            RetrieveEntry retrieveEntry = null;
+            if (response.size() == 2) {
+                int statusCode = Integer.parseInt(response.get(0));
+                if (!cached) {
+                    stage = Metrics.start();
+                    String error = db.addLemma(key, response.get(1), statusCode);
+                    Metrics.stop("lemmaSearch.dbWrite", stage);
+                    if (error != null) {
+                        response.clear();
+                        response.add(error);
+                        return new LookupResult(response, null);
+                    }
+                }
+
+                if (update) {
+                    stage = Metrics.start();
+                    String error = db.updateLemma(key, response.get(1), statusCode);
+                    Metrics.stop("lemmaSearch.dbWrite", stage);
+                    if (error != null) {
+                        response.clear();
+                        response.add(error);
+                        return new LookupResult(response, null);
+                    }
+                }
+
+                if (statusCode >= 200 && statusCode < 300) {
+                    stage = Metrics.start();
+                    retrieveEntry = gson.fromJson(response.get(1), RetrieveEntry.class);
+                    Metrics.stop("lemmaSearch.parse", stage);
+                    response.clear();
+                }
+                else if (statusCode >= 400 && statusCode < 500) {
+                    response = handleErrorReq(response.get(0), response.get(1));
+                    if (response.get(0).equals("404")) {
+                        response = null;
+                    }
+                }
+            }
+            return new LookupResult(response, retrieveEntry);
+        } finally {
+            Metrics.stop("lemmaSearch.total", start);
+        }
+    }
+
+    /**
+     * Maps the raw JSON and adds the status code and message to a list
+     * @param code status code
+     * @param body raw json
+     * @return list of error messages
+     */
+    public List<String> handleErrorReq(String code, String body) {
+        return ErrorParser.handleErrorReq(code, body);
+    }
+
+    /**
+     * Clears the database tables and the downloaded audio files. The snapshot is read only and is kept.
+     * @return error message
+     */
+    public String clearCache() {
+        setup();
+        String error = db.clearDatabase();
+        if (error != null) {
+            return error;
+        }
+        return audioCache.clear();
+    }
+
+    /**
+     * Clears the database tables of the language. The downloaded audio files are shared by the languages and are kept.
+     * @param lang language
+     * @return error message
+     */
+    public String clearCache(String lang) {
+        setup();
+        return db.clearLanguage(lang);
+    }
+
+    /**
+     * Sets up the database and prepares the cache of the language, see warmUp
+     * @param lang language
+     */
+    public void warmUp(String lang) {
+        long start = Metrics.start();
+        setup();
+        db.warmUp(lang);
+        Metrics.stop("lookup.warmUp", start);
+    }
+
+    /**
+     * Gets the uri to play the pronunciation audio file from. Uses the downloaded copy if it exists,
+     * otherwise it is downloaded in the background and the url is streamed.
+     * @param audioFile audio file url
+     * @return playable uri
+     */
+    public String getAudioUri(String audioFile) {
+        return audioCache.getUri(audioFile);
+    }
+
+    /**
+     * Downloads the pronunciation audio files of the POJO in the background
+     * @param retrieveEntry POJO
+     */
+    public void prefetchPronunciations(RetrieveEntry retrieveEntry) {
+        List<String> audioFiles = pronunciationProcessor.createData(retrieveEntry);
+        if (audioFiles.size() > 0) {
+            audioCache.prefetch(audioFiles);
+        }
+    }
+}
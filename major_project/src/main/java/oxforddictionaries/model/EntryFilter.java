@@ -0,0 +1,203 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.responseclasses.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies the lexical category, grammatical feature, domain and register filters of a search to an entry
+ * that was searched without them, so a filtered search can be answered from the cached entry.
+ * A value matches if it is any of the filter's values and an entry must match every filter that is used.
+ */
+public class EntryFilter {
+
+    /**
+     * Creates a copy of the POJO with only the parts that match the filters. The lexical entries are filtered by
+     * lexical category and grammatical features, then the senses and sub senses by domains and registers.
+     * Anything left without senses, entries or lexical entries is removed.
+     * @param retrieveEntry POJO searched without the filters
+     * @param queryKey search with the filters
+     * @return filtered POJO, null if nothing matches
+     */
+    public RetrieveEntry apply(RetrieveEntry retrieveEntry, QueryKey queryKey) {
+        if (retrieveEntry == null || retrieveEntry.getResults() == null) {
+            return null;
+        }
+
+        List<String> lexiCates = queryKey.getFilter("lexicalCategory");
+        List<String> gramFeats = queryKey.getFilter("grammaticalFeatures");
+        List<String> domains = queryKey.getFilter("domains");
+        List<String> registers = queryKey.getFilter("registers");
+
+        List<HeadwordEntry> results = new ArrayList<>();
+        for (HeadwordEntry headwordEntry : retrieveEntry.getResults()) {
+            if (headwordEntry.getLexicalEntries() == null) {
+                continue;
+            }
+
+            List<LexicalEntry> lexicalEntries = new ArrayList<>();
+            for (LexicalEntry lexicalEntry : headwordEntry.getLexicalEntries()) {
+                LexicalEntry filtered = filterLexicalEntry(lexicalEntry, lexiCates, gramFeats, domains, registers);
+                if (filtered != null) {
+                    lexicalEntries.add(filtered);
+                }
+            }
+
+            if (lexicalEntries.size() > 0) {
+                results.add(headwordEntry.withLexicalEntries(lexicalEntries));
+            }
+        }
+
+        if (results.size() == 0) {
+            return null;
+        }
+        return retrieveEntry.withResults(results);
+    }
+
+    /**
+     * Filters the lexical entry and its entries
+     * @param lexicalEntry POJO
+     * @param lexiCates lexical category ids
+     * @param gramFeats grammatical feature ids
+     * @param domains domain ids
+     * @param registers register ids
+     * @return filtered lexical entry, null if it doesn't match
+     */
+    public LexicalEntry filterLexicalEntry(LexicalEntry lexicalEntry, List<String> lexiCates, List<String> gramFeats,
+                                           List<String> domains, List<String> registers) {
+        if (lexiCates.size() > 0) {
+            LexicalCategory lexicalCategory = lexicalEntry.getLexicalCategory();
+            if (lexicalCategory == null || !matches(lexicalCategory.getId(), lexiCates)) {
+                return null;
+            }
+        }
+
+        boolean lexicalEntryHasFeature = hasGrammaticalFeature(lexicalEntry.getGrammaticalFeatures(), gramFeats);
+        if (lexicalEntry.getEntries() == null) {
+            if (gramFeats.size() > 0 && !lexicalEntryHasFeature) {
+                return null;
+            }
+            if (domains.size() > 0 || registers.size() > 0) {
+                return null;
+            }
+            return lexicalEntry;
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (Entry entry : lexicalEntry.getEntries()) {
+            if (gramFeats.size() > 0 && !lexicalEntryHasFeature && !hasGrammaticalFeature(entry.getGrammaticalFeatures(), gramFeats)) {
+                continue;
+            }
+
+            if (domains.size() == 0 && registers.size() == 0) {
+                entries.add(entry);
+                continue;
+            }
+
+            List<Sense> senses = filterSenses(entry.getSenses(), domains, registers);
+            if (senses.size() > 0) {
+                entries.add(entry.withSenses(senses));
+            }
+        }
+
+        if (entries.size() == 0) {
+            return null;
+        }
+        return lexicalEntry.withEntries(entries);
+    }
+
+    /**
+     * Keeps the senses that match the domains and registers. A sense that doesn't match is kept
+     * with only its matching sub senses if it has any.
+     * @param senses POJO
+     * @param domains domain ids
+     * @param registers register ids
+     * @return filtered senses
+     */
+    public List<Sense> filterSenses(List<Sense> senses, List<String> domains, List<String> registers) {
+        List<Sense> filtered = new ArrayList<>();
+        if (senses == null) {
+            return filtered;
+        }
+
+        for (Sense sense : senses) {
+            if (senseMatches(sense, domains, registers)) {
+                filtered.add(sense);
+                continue;
+            }
+
+            List<Sense> subsenses = filterSenses(sense.getSubsenses(), domains, registers);
+            if (subsenses.size() > 0) {
+                filtered.add(sense.withSubsenses(subsenses));
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Checks if the sense has one of the domains and one of the registers, for the filters that are used
+     * @param sense POJO
+     * @param domains domain ids
+     * @param registers register ids
+     * @return true if it matches
+     */
+    public boolean senseMatches(Sense sense, List<String> domains, List<String> registers) {
+        if (domains.size() > 0) {
+            boolean found = false;
+            if (sense.getDomains() != null) {
+                for (Domain domain : sense.getDomains()) {
+                    if (matches(domain.getId(), domains)) {
+                        found = true;
+                        break;
+                    }
+                }
+            }
+            if (!found) {
+                return false;
+            }
+        }
+
+        if (registers.size() > 0) {
+            if (sense.getRegisters() == null) {
+                return false;
+            }
+            for (Register register : sense.getRegisters()) {
+                if (matches(register.getId(), registers)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks if one of the grammatical features is in the filter
+     * @param grammaticalFeatures POJO
+     * @param gramFeats grammatical feature ids
+     * @return true if one matches
+     */
+    public boolean hasGrammaticalFeature(List<GrammaticalFeature> grammaticalFeatures, List<String> gramFeats) {
+        if (grammaticalFeatures == null) {
+            return false;
+        }
+        for (GrammaticalFeature grammaticalFeature : grammaticalFeatures) {
+            if (matches(grammaticalFeature.getId(), gramFeats)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the id is one of the values. The values are lower case.
+     * @param id id
+     * @param values filter values
+     * @return true if it matches
+     */
+    public boolean matches(String id, List<String> values) {
+        return id != null && values.contains(id.toLowerCase());
+    }
+}
@@ -0,0 +1,132 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merges two responses of the same entry that were requested with different fields, e.g. the preview of a two phase
+ * search and its details. The attributes of both are kept. Objects in lists are matched by their id, or by their
+ * position if they don't have one, e.g. the senses by id and the lexical entries by position.
+ */
+public class EntryMerger {
+    private final Gson gson;
+
+    /**
+     * Creates the entry merger
+     * @param gson gson used to convert the POJOs
+     */
+    public EntryMerger(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * Merges the details into the preview. If either is null, the other is returned.
+     * @param preview POJO
+     * @param details POJO
+     * @return merged POJO
+     */
+    public RetrieveEntry merge(RetrieveEntry preview, RetrieveEntry details) {
+        if (preview == null) {
+            return details;
+        }
+        if (details == null) {
+            return preview;
+        }
+        return gson.fromJson(merge(gson.toJsonTree(preview), gson.toJsonTree(details)), RetrieveEntry.class);
+    }
+
+    /**
+     * Merges the json of the details into the json of the preview. Objects are merged by attribute and lists by
+     * their items. Any other value of the details replaces the value of the preview.
+     * @param preview json
+     * @param details json
+     * @return merged json
+     */
+    public JsonElement merge(JsonElement preview, JsonElement details) {
+        if (preview.isJsonObject() && details.isJsonObject()) {
+            JsonObject merged = preview.getAsJsonObject().deepCopy();
+            for (Map.Entry<String, JsonElement> attribute : details.getAsJsonObject().entrySet()) {
+                JsonElement value = merged.get(attribute.getKey());
+                merged.add(attribute.getKey(), value == null ? attribute.getValue() : merge(value, attribute.getValue()));
+            }
+            return merged;
+        }
+        if (preview.isJsonArray() && details.isJsonArray()) {
+            return mergeArrays(preview.getAsJsonArray(), details.getAsJsonArray());
+        }
+        return details;
+    }
+
+    /**
+     * Merges the items of the details into the items of the preview. An object is merged with the object of the same id,
+     * or the object without an id in the same position. Other values are added if the preview doesn't have them.
+     * @param preview json list
+     * @param details json list
+     * @return merged json list
+     */
+    public JsonArray mergeArrays(JsonArray preview, JsonArray details) {
+        JsonArray merged = preview.deepCopy();
+        List<Integer> withoutId = new ArrayList<>();
+        for (int i = 0; i < merged.size(); i++) {
+            if (merged.get(i).isJsonObject() && getId(merged.get(i)) == null) {
+                withoutId.add(i);
+            }
+        }
+
+        int position = 0;
+        for (JsonElement detail : details) {
+            if (!detail.isJsonObject()) {
+                if (!merged.contains(detail)) {
+                    merged.add(detail);
+                }
+                continue;
+            }
+
+            int match = -1;
+            String id = getId(detail);
+            if (id != null) {
+                for (int i = 0; i < merged.size(); i++) {
+                    if (id.equals(getId(merged.get(i)))) {
+                        match = i;
+                        break;
+                    }
+                }
+            }
+            else if (position < withoutId.size()) {
+                match = withoutId.get(position);
+                position++;
+            }
+
+            if (match < 0) {
+                merged.add(detail);
+            }
+            else {
+                merged.set(match, merge(merged.get(match), detail));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Gets the id of the json object
+     * @param element json
+     * @return id, null if it isn't an object with an id
+     */
+    private String getId(JsonElement element) {
+        if (!element.isJsonObject()) {
+            return null;
+        }
+        JsonElement id = element.getAsJsonObject().get("id");
+        if (id == null || !id.isJsonPrimitive()) {
+            return null;
+        }
+        return id.getAsString();
+    }
+}
@@ -0,0 +1,43 @@
+package oxforddictionaries.model;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the error message out of the error responses of the api and the dictionary server
+ */
+public class ErrorParser {
+    private static final Gson gson = new Gson();
+    private static final Type mapType = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private ErrorParser() {
+    }
+
+    /**
+     * Maps the raw JSON and adds the status code and message to a list. A body without an error is added as it is.
+     * @param code status code
+     * @param body raw json
+     * @return list of error messages
+     */
+    public static List<String> handleErrorReq(String code, String body) {
+        List<String> response = new ArrayList<>();
+        response.add(code);
+        String msg = body;
+        try {
+            Map<String, Object> errorMap = gson.fromJson(body, mapType);
+            if (errorMap != null && errorMap.get("error") != null) {
+                msg = String.valueOf(errorMap.get("error"));
+            }
+        } catch (JsonParseException e) {
+            System.out.println(e.getMessage());
+        }
+        response.add(msg);
+        return response;
+    }
+}
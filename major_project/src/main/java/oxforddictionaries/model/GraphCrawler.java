@@ -0,0 +1,205 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.AudioCache;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.RateLimitedRequest;
+import oxforddictionaries.model.request.RateLimiter;
+import oxforddictionaries.model.request.Request;
+import oxforddictionaries.model.request.ShardedDatabase;
+import oxforddictionaries.model.request.SqlDatabase;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Crawls the related words of a word breadth first and stores them in the related table of the database,
+ * so the related words can be found without the api. The words of each depth are looked up at the same time
+ * through the dictionary lookup, so its cache and rate limit are used. The database is written by one thread.
+ */
+public class GraphCrawler {
+    private final DictionaryLookup lookup;
+    private final SqlDatabase db;
+    private final RelatedWordProcessor relatedWordProcessor;
+    private final int threads;
+
+    /**
+     * Result of a crawl
+     */
+    public static class Result {
+        private final int words;
+        private final int relations;
+        private final List<String> errors;
+
+        private Result(int words, int relations, List<String> errors) {
+            this.words = words;
+            this.relations = relations;
+            this.errors = errors;
+        }
+
+        /**
+         * Gets the number of words looked up
+         * @return words
+         */
+        public int getWords() {
+            return words;
+        }
+
+        /**
+         * Gets the number of related words stored
+         * @return relations
+         */
+        public int getRelations() {
+            return relations;
+        }
+
+        /**
+         * Gets the error messages of the words which couldn't be looked up or stored
+         * @return list of error messages
+         */
+        public List<String> getErrors() {
+            return errors;
+        }
+    }
+
+    /**
+     * Creates the crawler
+     * @param lookup dictionary lookup
+     * @param db sql database with the related table
+     * @param relatedWordProcessor related word processor
+     * @param threads number of words looked up at once
+     */
+    public GraphCrawler(DictionaryLookup lookup, SqlDatabase db, RelatedWordProcessor relatedWordProcessor, int threads) {
+        this.lookup = lookup;
+        this.db = db;
+        this.relatedWordProcessor = relatedWordProcessor;
+        this.threads = threads;
+    }
+
+    /**
+     * Looks up the word, then its related words, and so on until the depth or the budget is reached.
+     * The related words of every word looked up are stored. A word is only looked up once.
+     * @param lang language
+     * @param word word to start from
+     * @param maxDepth number of links to follow from the word
+     * @param budget maximum number of words to look up
+     * @return result
+     */
+    public Result crawl(String lang, String word, int maxDepth, int budget) {
+        Set<String> visited = new HashSet<>();
+        visited.add(word);
+        List<String> frontier = new ArrayList<>();
+        frontier.add(word);
+        List<String> errors = new ArrayList<>();
+        int words = 0;
+        int relations = 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int depth = 0; depth <= maxDepth && !frontier.isEmpty() && words < budget; depth++) {
+                List<String> level = frontier.subList(0, Math.min(frontier.size(), budget - words));
+                List<Future<LookupResult>> futures = new ArrayList<>();
+                for (String levelWord : level) {
+                    QueryKey queryKey = QueryKey.entries(lang, levelWord, null, null, null, null, null, null);
+                    futures.add(executor.submit(() -> lookup.entrySearch(queryKey, false, true, true)));
+                }
+
+                List<String> next = new ArrayList<>();
+                for (int i = 0; i < level.size(); i++) {
+                    String levelWord = level.get(i);
+                    LookupResult result = futures.get(i).get();
+                    words++;
+                    if (result.getRetrieveEntry() == null && result.getResponse() != null) {
+                        errors.add(levelWord + ": " + String.join(" ", result.getResponse()));
+                        continue;
+                    }
+
+                    List<List<String>> related = relatedWordProcessor.createData(result.getRetrieveEntry());
+                    String error = db.setRelated(lang, levelWord, related);
+                    if (error != null) {
+                        errors.add(levelWord + ": " + error);
+                        continue;
+                    }
+                    relations += related.size();
+
+                    if (depth < maxDepth) {
+                        for (List<String> relation : related) {
+                            if (visited.add(relation.get(1))) {
+                                next.add(relation.get(1));
+                            }
+                        }
+                    }
+                }
+                frontier = next;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.add("Crawl interrupted");
+        } catch (ExecutionException e) {
+            System.out.println(e.getMessage());
+            errors.add(e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result(words, relations, errors);
+    }
+
+    /**
+     * Crawls the related words into the default database. The arguments are the language, the word, the depth
+     * and the budget, which default to 2 and 100. It needs the api environment variables and uses
+     * INPUT_RATE_LIMIT requests per minute, 60 if it isn't set. The related words of the word are printed.
+     * @param args arguments
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Usage: <lang> <word> [depth] [budget]");
+            System.exit(-1);
+        }
+        String appId = System.getenv("INPUT_API_APP_ID");
+        String appKey = System.getenv("INPUT_API_KEY");
+        if (appId == null || appKey == null) {
+            System.out.println("Environment variables not set");
+            System.exit(-1);
+        }
+
+        int depth;
+        int budget;
+        double rateLimit;
+        try {
+            depth = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+            budget = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+            String rate = System.getenv("INPUT_RATE_LIMIT");
+            rateLimit = rate != null ? Double.parseDouble(rate) : 60;
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number: " + e.getMessage());
+            System.exit(-1);
+            return;
+        }
+
+        Request request = new RateLimitedRequest(new Request(appId, appKey), new RateLimiter(rateLimit, 1));
+        SqlDatabase db = ShardedDatabase.fromEnvironment("OxfordDictionary.db", false);
+        if (db == null) {
+            System.exit(-1);
+            return;
+        }
+        DictionaryLookup lookup = new DictionaryLookup(request, db, new AudioCache(request), new PronunciationProcessor(),
+                new EntryFilter(), null);
+
+        long start = System.nanoTime();
+        Result result = new GraphCrawler(lookup, db, new RelatedWordProcessor(), 8).crawl(args[0], args[1], depth, budget);
+        System.out.printf("Crawled %d words with %d related words in %d ms%n", result.getWords(), result.getRelations(),
+                (System.nanoTime() - start) / 1000000);
+        for (String error : result.getErrors()) {
+            System.out.println(error);
+        }
+        for (List<String> relation : db.getRelated(args[0], args[1])) {
+            System.out.println(String.join(" ", relation));
+        }
+        System.exit(0);
+    }
+}
@@ -1,5 +1,7 @@
 package oxforddictionaries.model;
 
+import oxforddictionaries.model.request.HistoryStore;
+import oxforddictionaries.model.request.QueryKey;
 import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
 
 import java.util.List;
@@ -30,12 +32,52 @@ public interface InputEngine {
                              String domains, String registers, String match, boolean newSearch, boolean historyEntry, boolean lemma,
                              boolean cacheDecided, boolean useCache);
 
+    /**
+     * Gets the details of a preview search, the search without the fields, and merges them into the preview.
+     * The merged POJO only replaces the POJO if it is still the preview, so the details of an entry are never merged
+     * into another entry that was searched in the meantime.
+     * @param preview POJO of the preview search
+     * @param lang language
+     * @param word word
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @return list of error messages
+     */
+    List<String> detailSearch(RetrieveEntry preview, String lang, String word, String gramFeat, String lexiCate,
+                              String domains, String registers, String match);
+
+    /**
+     * Looks up the search in the cache of the engine without a request, e.g. to preview it while it is typed.
+     * The session isn't changed.
+     * @param queryKey query key
+     * @return POJO with an empty list, or the errors. An empty list without a POJO if it isn't cached.
+     */
+    LookupResult cachedSearch(QueryKey queryKey);
+
+    /**
+     * Looks up the newest entry of the search, which is cached like other searches. The session isn't changed.
+     * @param queryKey query key
+     * @param refresh request the search again even if it is cached
+     * @return POJO with an empty list, or the errors. Null errors if it wasn't found, and an empty list without
+     * a POJO if there is nothing newer than the cache.
+     */
+    LookupResult freshSearch(QueryKey queryKey, boolean refresh);
+
     /**
      * Gets the POJO
      * @return entry
      */
     RetrieveEntry getRetrieveEntry();
 
+    /**
+     * Updates the POJO to an entry that was displayed before, without searching it
+     * @param retrieveEntry entry
+     */
+    void setRetrieveEntry(RetrieveEntry retrieveEntry);
+
     /**
      * Creates the uri and performs a GET request.
      * @param lang language
@@ -54,12 +96,30 @@ public interface InputEngine {
      */
     List<List<String>> getHistory();
 
+    /**
+     * Gets the last entry of the history, null if the history is empty
+     * @return history entry
+     */
+    List<String> getLastEntry();
+
+    /**
+     * Gets the history in a store, which can be read a page at a time and filtered by the word
+     * @return history store
+     */
+    HistoryStore getHistoryStore();
+
     /**
      * Updates the current page index
      * @param ind page index
      */
     void setCurrentPageInd(int ind);
 
+    /**
+     * Updates the current page to the row of the history store
+     * @param seq position in the store
+     */
+    void setCurrentHistorySeq(long seq);
+
     /**
      * Finds the lemmas from the POJO
      * @return List of lemmas
@@ -72,6 +132,13 @@ public interface InputEngine {
      */
      String clearCache();
 
+    /**
+     * Clears the cache of the language. The other languages are kept.
+     * @param lang language
+     * @return error message
+     */
+    String clearCache(String lang);
+
     /**
      * Gets the application name from the about data
      * @return application name
@@ -110,4 +177,29 @@ public interface InputEngine {
      * @return removed or not
      */
     boolean removePronunciation(String pronunciation);
+
+    /**
+     * Gets the uri to play the pronunciation audio file from. Uses the downloaded copy if it exists.
+     * @param audioFile audio file url
+     * @return playable uri
+     */
+    String getAudioUri(String audioFile);
+
+    /**
+     * Downloads the pronunciation audio files of the POJO in the background
+     * @param retrieveEntry POJO
+     */
+    void prefetchPronunciations(RetrieveEntry retrieveEntry);
+
+    /**
+     * Prepares the engine so the first search doesn't wait, e.g. sets up the database and creates the json parsers.
+     * It is called in the background after the window shows, and searches work without it.
+     */
+    void warmUp();
+
+    /**
+     * Prepares the cache of the language so its first search doesn't wait, e.g. opens its database file
+     * @param lang language
+     */
+    void warmUp(String lang);
 }
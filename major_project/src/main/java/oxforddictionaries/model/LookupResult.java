@@ -0,0 +1,40 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.util.List;
+
+/**
+ * Result of a dictionary lookup. The response follows the input engine, an empty list if the lookup is valid,
+ * a list with null if the user has to decide on the cache, null if nothing was found, otherwise the error messages.
+ */
+public class LookupResult {
+    private final List<String> response;
+    private final RetrieveEntry retrieveEntry;
+
+    /**
+     * Creates the result
+     * @param response response
+     * @param retrieveEntry POJO, null if the lookup isn't valid
+     */
+    public LookupResult(List<String> response, RetrieveEntry retrieveEntry) {
+        this.response = response;
+        this.retrieveEntry = retrieveEntry;
+    }
+
+    /**
+     * Gets the response
+     * @return response
+     */
+    public List<String> getResponse() {
+        return response;
+    }
+
+    /**
+     * Gets the POJO
+     * @return entry, null if the lookup isn't valid
+     */
+    public RetrieveEntry getRetrieveEntry() {
+        return retrieveEntry;
+    }
+}
@@ -1,6 +1,8 @@
 package oxforddictionaries.model;
 
 import oxforddictionaries.model.request.DummyAPI;
+import oxforddictionaries.model.request.HistoryStore;
+import oxforddictionaries.model.request.QueryKey;
 import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
 import com.google.gson.Gson;
 
@@ -14,6 +16,7 @@ public class OfflineInputEngine implements InputEngine {
     private DummyAPI dummyAPI;
     private RetrieveEntry retrieveEntry;
     private List<List<String>> history;
+    private HistoryStore historyStore;
     private int currentPageInd;
     private LemmaProcessor lemmaProcessor;
     private AboutData aboutData;
@@ -30,6 +33,7 @@ public class OfflineInputEngine implements InputEngine {
         this.lemmaProcessor = lemmaProcessor;
         this.aboutData = aboutData;
         this.history = new ArrayList<>();
+        this.historyStore = new HistoryStore();
         this.pronunciations = new ArrayList<>();
         setupHistory();
         setupPronunciations();
@@ -67,6 +71,23 @@ public class OfflineInputEngine implements InputEngine {
         return error;
     }
 
+    /**
+     * The dummy api always returns the whole entry, so there are no details to get. Return an empty list.
+     * @param preview POJO of the preview search
+     * @param lang language
+     * @param word word
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @return empty list
+     */
+    public List<String> detailSearch(RetrieveEntry preview, String lang, String word, String gramFeat, String lexiCate,
+                                     String domains, String registers, String match) {
+        return new ArrayList<>();
+    }
+
     /**
      * Gets the POJO
      * @return entry
@@ -75,6 +96,40 @@ public class OfflineInputEngine implements InputEngine {
         return retrieveEntry;
     }
 
+    /**
+     * Updates the POJO to an entry that was displayed before
+     * @param retrieveEntry entry
+     */
+    public void setRetrieveEntry(RetrieveEntry retrieveEntry) {
+        this.retrieveEntry = retrieveEntry;
+    }
+
+    /**
+     * There is no cache
+     * @param queryKey query key
+     * @return an empty list without a POJO
+     */
+    public LookupResult cachedSearch(QueryKey queryKey) {
+        return new LookupResult(new ArrayList<>(), null);
+    }
+
+    /**
+     * Calls from the dummy api and creates the POJO after the same delay as an entry search
+     * @param queryKey query key
+     * @param refresh unused
+     * @return POJO with an empty list, or the error if it is interrupted
+     */
+    public LookupResult freshSearch(QueryKey queryKey, boolean refresh) {
+        List<String> error = new ArrayList<>();
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            error.add(e.getMessage());
+            return new LookupResult(error, null);
+        }
+        return new LookupResult(error, new Gson().fromJson(dummyAPI.getEntrySearchJSON(), RetrieveEntry.class));
+    }
+
     /**
      * Calls from the dummy api and creates the POJO. Return an empty list.
      * @param lang language
@@ -105,6 +160,20 @@ public class OfflineInputEngine implements InputEngine {
         return history;
     }
 
+    /**
+     * @return last entry of the fake history
+     */
+    public List<String> getLastEntry() {
+        return history.isEmpty() ? null : history.get(history.size() - 1);
+    }
+
+    /**
+     * @return history store with the fake history
+     */
+    public HistoryStore getHistoryStore() {
+        return historyStore;
+    }
+
     /**
      * Updates the current page index
      * @param ind page index
@@ -113,6 +182,14 @@ public class OfflineInputEngine implements InputEngine {
         this.currentPageInd = ind;
     }
 
+    /**
+     * Updates the current page to the row of the history store
+     * @param seq position in the store
+     */
+    public void setCurrentHistorySeq(long seq) {
+        this.currentPageInd = historyStore.indexOf(seq);
+    }
+
     /**
      * Creates fake history
      */
@@ -128,6 +205,7 @@ public class OfflineInputEngine implements InputEngine {
         entry.add("");
         entry.add("Searched");
         history.add(entry);
+        historyStore.add(entry);
 
         entry = new ArrayList<>();
         entry.add("en_gb");
@@ -140,6 +218,7 @@ public class OfflineInputEngine implements InputEngine {
         entry.add("");
         entry.add("Searched");
         history.add(entry);
+        historyStore.add(entry);
     }
 
     /**
@@ -158,6 +237,15 @@ public class OfflineInputEngine implements InputEngine {
         return null;
     }
 
+    /**
+     * There is no database to clear.
+     * @param lang language
+     * @return null
+     */
+    public String clearCache(String lang) {
+        return null;
+    }
+
     /**
      * Gets the application name from the about data
      * @return application name
@@ -218,4 +306,33 @@ public class OfflineInputEngine implements InputEngine {
         pronunciation.add("https://audio.oxforddictionaries.com/en/mp3/noun_gb_1.mp3");
         pronunciations.add(pronunciation);
     }
+
+    /**
+     * Gets the uri to play the pronunciation audio file from.
+     * @param audioFile audio file url
+     * @return audio file url
+     */
+    public String getAudioUri(String audioFile) {
+        return audioFile;
+    }
+
+    /**
+     * Does nothing as there is no cache to download to
+     * @param retrieveEntry POJO
+     */
+    public void prefetchPronunciations(RetrieveEntry retrieveEntry) {
+    }
+
+    /**
+     * Does nothing as there is no database
+     */
+    public void warmUp() {
+    }
+
+    /**
+     * Does nothing as there is no database
+     * @param lang language
+     */
+    public void warmUp(String lang) {
+    }
 }
@@ -1,51 +1,86 @@
 package oxforddictionaries.model;
 
+import oxforddictionaries.model.request.AudioCache;
+import oxforddictionaries.model.request.HistoryStore;
+import oxforddictionaries.model.request.QueryKey;
 import oxforddictionaries.model.request.Request;
+import oxforddictionaries.model.request.SnapshotReader;
 import oxforddictionaries.model.request.SqlDatabase;
 import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
-import com.google.gson.Gson;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
- * Calls the Oxford Dictionaries Api with GET requests. Checks if the entry exists in the database before requesting.
+ * Calls the Oxford Dictionaries Api with GET requests. Checks if the entry exists in the snapshot,
+ * then the database, before requesting. The lookups are done by a dictionary lookup, which can be shared
+ * by many engines, and the state of the searches is kept in the engine's own search session.
  */
 public class OnlineInputEngine implements InputEngine {
-    private Request request;
-    private RetrieveEntry retrieveEntry;
-    private List<List<String>> history;
-    private int currentPageInd;
+    private DictionaryLookup lookup;
+    private SearchSession session;
     private LemmaProcessor lemmaProcessor;
-    private SqlDatabase db;
     private AboutData aboutData;
-    private List<List<String>> pronunciations;
 
     /**
-     * Creates the online input engine. Setups the database.
+     * Creates the online input engine with the default audio cache.
      * @param request request
      * @param lemmaProcessor lemma processor
      * @param db sql database
      * @param aboutData about information
      */
     public OnlineInputEngine(Request request, LemmaProcessor lemmaProcessor, SqlDatabase db, AboutData aboutData) {
-        this.request = request;
-        this.history = new ArrayList<>();
+        this(request, lemmaProcessor, db, aboutData, new AudioCache(request), new PronunciationProcessor(), new EntryFilter());
+    }
+
+    /**
+     * Creates the online input engine without a snapshot.
+     * @param request request
+     * @param lemmaProcessor lemma processor
+     * @param db sql database
+     * @param aboutData about information
+     * @param audioCache pronunciation audio cache
+     * @param pronunciationProcessor pronunciation processor
+     * @param entryFilter filters cached entries
+     */
+    public OnlineInputEngine(Request request, LemmaProcessor lemmaProcessor, SqlDatabase db, AboutData aboutData,
+                             AudioCache audioCache, PronunciationProcessor pronunciationProcessor, EntryFilter entryFilter) {
+        this(request, lemmaProcessor, db, aboutData, audioCache, pronunciationProcessor, entryFilter, null);
+    }
+
+    /**
+     * Creates the online input engine.
+     * @param request request
+     * @param lemmaProcessor lemma processor
+     * @param db sql database
+     * @param aboutData about information
+     * @param audioCache pronunciation audio cache
+     * @param pronunciationProcessor pronunciation processor
+     * @param entryFilter filters cached entries
+     * @param snapshot read only snapshot checked before the database, null if there isn't one
+     */
+    public OnlineInputEngine(Request request, LemmaProcessor lemmaProcessor, SqlDatabase db, AboutData aboutData,
+                             AudioCache audioCache, PronunciationProcessor pronunciationProcessor, EntryFilter entryFilter,
+                             SnapshotReader snapshot) {
+        this(new DictionaryLookup(request, db, audioCache, pronunciationProcessor, entryFilter, snapshot), lemmaProcessor, aboutData);
+    }
+
+    /**
+     * Creates the online input engine with a new session, which shares the lookup and its cache with other engines
+     * @param lookup dictionary lookup
+     * @param lemmaProcessor lemma processor
+     * @param aboutData about information
+     */
+    public OnlineInputEngine(DictionaryLookup lookup, LemmaProcessor lemmaProcessor, AboutData aboutData) {
+        this.lookup = lookup;
+        this.session = new SearchSession();
         this.lemmaProcessor = lemmaProcessor;
-        this.db = db;
         this.aboutData = aboutData;
-        this.pronunciations = new ArrayList<>();
-
-        db.setupDB();
     }
 
     /**
-     * Check the database if the uri exists. If it doesn't then request from the api. If found, notify the user to
-     * select if they want to use it or not. When the user selects a new request, update the database.
-     * Check if the response is OK. If the response errors then return the list of errors.
-     * If valid, create the POJO. If it is not a history search then add it to the history
-     * and move the current entry to the end if it is not a new search. Return an empty list if valid.
+     * Looks up the entry, see the dictionary lookup. If valid, update the POJO of the session. If it is not a
+     * history search then add it to the history and move the current entry to the end if it is not a new search.
+     * Return an empty list if valid.
      * @param lang language
      * @param word word
      * @param field field
@@ -64,76 +99,36 @@ public class OnlineInputEngine implements InputEngine {
     public List<String> entrySearch(String lang, String word, String field, String gramFeat, String lexiCate,
                             String domains, String registers, String match, boolean newSearch, boolean historyEntry, boolean lemma,
                                     boolean cacheDecided, boolean useCache) {
-        String uri = "https://od-api.oxforddictionaries.com/api/v2/entries/" + lang + "/" + word;
-
-        uri = createUriFields(uri, field, gramFeat, lexiCate, domains, registers, match);
-        uri = uriEscape(uri);
-
-        List<String> response = db.getEntry(uri);
-        boolean cached = true;
-        if (response.size() == 0) {
-            response = request.getRequest(uri);
-            cached = false;
-        }
-
-        if (!cacheDecided && cached) {
-            response.clear();
-            response.add(null);
-            return response;
+        QueryKey queryKey = QueryKey.entries(lang, word, field, gramFeat, lexiCate, domains, registers, match);
+        LookupResult result = lookup.entrySearch(queryKey, lemma, cacheDecided, useCache);
+        if (result.getRetrieveEntry() != null) {
+            session.showEntry(result.getRetrieveEntry(), historyEntry, lang, word, field, gramFeat, lexiCate, domains,
+                    registers, match, newSearch);
         }
+        return result.getResponse();
+    }
 
-        boolean update = false;
-        if (cacheDecided && !useCache) {
-            response = request.getRequest(uri);
-            update = true;
-        }
-//        System.out.println(response);
-        if (response.size() == 2) {
-            int statusCode = Integer.parseInt(response.get(0));
-            if (!cached) {
-                String error = db.addEntry(uri, response.get(1), statusCode);
-                if (error != null) {
-                    response.clear();
-                    response.add(error);
-                    return response;
-                }
-            }
-
-            if (update) {
-                String error = db.updateEntry(uri, response.get(1), statusCode);
-                if (error != null) {
-                    response.clear();
-                    response.add(error);
-                    return response;
-                }
-            }
-
-//            System.out.println("Response body was:\n" + response.get(1));
-
-            if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                this.retrieveEntry = gson.fromJson(response.get(1), RetrieveEntry.class);
-                response.clear();
-
-                if (!historyEntry) {
-                    List<String> search = createHistoryEntry(lang, word, field, gramFeat, lexiCate, domains, registers, match, newSearch);
-                    if (!newSearch) {
-                        List<String> currentEntry = history.remove(currentPageInd);
-                        history.add(currentEntry);
-                    }
-
-                    history.add(search);
-                    currentPageInd = history.size() - 1;
-                }
-            }
-            else if (statusCode >= 400 && statusCode < 500) {
-                response = handleErrorReq(response.get(0), response.get(1));
-                if (response.get(0).equals("404") && !lemma) {
-                    response = null;
-                }
-            }
+    /**
+     * Gets the details of the preview search, see the dictionary lookup. If valid, the merged POJO replaces the preview
+     * in the session, unless another entry replaced it, and return an empty list.
+     * @param preview POJO of the preview search
+     * @param lang language
+     * @param word word
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @return list of error messages
+     */
+    public List<String> detailSearch(RetrieveEntry preview, String lang, String word, String gramFeat, String lexiCate,
+                                     String domains, String registers, String match) {
+        QueryKey queryKey = QueryKey.entries(lang, word, null, gramFeat, lexiCate, domains, registers, match);
+        LookupResult result = lookup.detailSearch(queryKey, preview);
+        if (result.getRetrieveEntry() != null) {
+            session.replaceRetrieveEntry(preview, result.getRetrieveEntry());
         }
-        return response;
+        return result.getResponse();
     }
 
     /**
@@ -141,15 +136,39 @@ public class OnlineInputEngine implements InputEngine {
      * @return entry
      */
     public RetrieveEntry getRetrieveEntry() {
-        return retrieveEntry;
+        return session.getRetrieveEntry();
+    }
+
+    /**
+     * Updates the POJO of the session to an entry that was displayed before
+     * @param retrieveEntry entry
+     */
+    public void setRetrieveEntry(RetrieveEntry retrieveEntry) {
+        session.setRetrieveEntry(retrieveEntry);
+    }
+
+    /**
+     * Looks up the search in the snapshot and the database, see the dictionary lookup
+     * @param queryKey query key
+     * @return result, an empty list without a POJO if it isn't cached
+     */
+    public LookupResult cachedSearch(QueryKey queryKey) {
+        return lookup.cachedSearch(queryKey);
+    }
+
+    /**
+     * Requests the search from the api and updates the cache. If it isn't refreshed, a cached search isn't requested.
+     * A search that wasn't found isn't cached.
+     * @param queryKey query key
+     * @param refresh request the search again even if it is cached
+     * @return result, null errors if it wasn't found
+     */
+    public LookupResult freshSearch(QueryKey queryKey, boolean refresh) {
+        return lookup.entrySearch(queryKey, false, true, !refresh, false);
     }
 
     /**
-     * Creates the uri and performs a GET request. Before requesting the api, it checks the database.
-     * If found, notify the user to select if they want to use it or not.
-     * When the user selects a new request, update the database.
-     * If the response errors then return the list of errors.
-     * If valid, create the POJO and return an empty list.
+     * Looks up the lemma, see the dictionary lookup. If valid, update the POJO of the session and return an empty list.
      * @param lang language
      * @param word word
      * @param gramFeat grammatical features
@@ -159,66 +178,11 @@ public class OnlineInputEngine implements InputEngine {
      * @return list of error messages
      */
     public List<String> lemmaSearch(String lang, String word, String gramFeat, String lexiCate, boolean cacheDecided, boolean useCache) {
-        String uri = "https://od-api.oxforddictionaries.com/api/v2/lemmas/" + lang + "/" + word;
-
-        uri = createUriFields(uri, null, gramFeat, lexiCate, null, null, null);
-        uri = uriEscape(uri);
-//        System.out.println(uri);
-
-        List<String> response = db.getLemma(uri);
-        boolean cached = true;
-        if (response.size() == 0) {
-            response = request.getRequest(uri);
-            cached = false;
+        LookupResult result = lookup.lemmaSearch(QueryKey.lemmas(lang, word, gramFeat, lexiCate), cacheDecided, useCache);
+        if (result.getRetrieveEntry() != null) {
+            session.setRetrieveEntry(result.getRetrieveEntry());
         }
-
-        if (!cacheDecided && cached) {
-            response.clear();
-            response.add(null);
-            return response;
-        }
-
-        boolean update = false;
-        if (cacheDecided && !useCache) {
-            response = request.getRequest(uri);
-            update = true;
-        }
-
-//        System.out.println(response);
-        if (response.size() == 2) {
-            int statusCode = Integer.parseInt(response.get(0));
-//            System.out.println("Response body was:\n" + response.get(1));
-            if (!cached) {
-                String error = db.addLemma(uri, response.get(1), statusCode);
-                if (error != null) {
-                    response.clear();
-                    response.add(error);
-                    return response;
-                }
-            }
-
-            if (update) {
-                String error = db.updateLemma(uri, response.get(1), statusCode);
-                if (error != null) {
-                    response.clear();
-                    response.add(error);
-                    return response;
-                }
-            }
-
-            if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                this.retrieveEntry = gson.fromJson(response.get(1), RetrieveEntry.class);
-                response.clear();
-            }
-            else if (statusCode >= 400 && statusCode < 500) {
-                response = handleErrorReq(response.get(0), response.get(1));
-                if (response.get(0).equals("404")) {
-                    response = null;
-                }
-            }
-        }
-        return response;
+        return result.getResponse();
     }
 
     /**
@@ -228,87 +192,47 @@ public class OnlineInputEngine implements InputEngine {
      * @return list of error messages
      */
     public List<String> handleErrorReq(String code, String body) {
-        Gson gson = new Gson();
-        List<String> response = new ArrayList<>();
-        response.add(code);
-        Map errorMap = gson.fromJson(body, Map.class);
-        String msg = String.valueOf(errorMap.get("error"));
-        response.add(msg);
-        return response;
+        return lookup.handleErrorReq(code, body);
     }
 
     /**
+     * Reads the whole history from the store. The list doesn't change with later searches.
      * @return history
      */
     public List<List<String>> getHistory() {
-        return history;
+        return session.getHistory();
     }
 
     /**
-     * Updates the current page index
-     * @param ind page index
+     * Gets the last entry of the history from the store, null if the history is empty
+     * @return history entry
      */
-    public void setCurrentPageInd(int ind) {
-        this.currentPageInd = ind;
+    public List<String> getLastEntry() {
+        return session.getLastEntry();
     }
 
     /**
-     * Formats the uri to remove %, $ and spaces to remove
-     * @param uri uri
-     * @return escaped uri
+     * Gets the history store of the session, which has the history in the same order
+     * @return history store
      */
-    public String uriEscape(String uri) {
-        String uriClean = uri.replace("%", "%25");
-        uriClean = uriClean.replace(" ", "%20");
-        uriClean = uriClean.replace("$", "%24");
-        return uriClean;
+    public HistoryStore getHistoryStore() {
+        return session.getHistoryStore();
     }
 
     /**
-     * Adds the parameters to the uri if they exist
-     * @param uri uri
-     * @param field field
-     * @param gramFeat grammatical features
-     * @param lexiCate lexical categories
-     * @param domains domains
-     * @param registers registers
-     * @param match match
-     * @return uri
-     */
-    public String createUriFields(String uri, String field, String gramFeat, String lexiCate, String domains, String registers, String match) {
-        List<String> parameters = new ArrayList<>();
-        parameters.add("fields=");
-        parameters.add("grammaticalFeatures=");
-        parameters.add("lexicalCategory=");
-        parameters.add("domains=");
-        parameters.add("registers=");
-        parameters.add("strictMatch=");
-
-        List<String> filters = new ArrayList<>();
-        filters.add(field);
-        filters.add(gramFeat);
-        filters.add(lexiCate);
-        filters.add(domains);
-        filters.add(registers);
-        filters.add(match);
-
-        List<String> valid = new ArrayList<>();
-        for (int i = 0; i < filters.size(); i++) {
-            String filter = filters.get(i);
-            if (filter != null) {
-                String trim = filter.trim();
-                if (!trim.equals("")) {
-                    valid.add(parameters.get(i) + filter);
-                }
-            }
-        }
-
-        if (valid.size() >= 1) {
-            String validStr = String.join("&", valid);
-            uri += "?" + validStr;
-        }
+     * Updates the current page index
+     * @param ind page index
+     */
+    public void setCurrentPageInd(int ind) {
+        session.setCurrentPageInd(ind);
+    }
 
-        return uri;
+    /**
+     * Updates the current page to the row of the history store
+     * @param seq position in the store
+     */
+    public void setCurrentHistorySeq(long seq) {
+        session.setCurrentSeq(seq);
     }
 
     /**
@@ -326,41 +250,7 @@ public class OnlineInputEngine implements InputEngine {
      */
     public List<String> createHistoryEntry(String lang, String word, String field, String gramFeat, String lexiCate, String domains,
                                            String registers, String match, boolean newSearch) {
-        if (field == null) {
-            field = "";
-        }
-        if (gramFeat == null) {
-            gramFeat = "";
-        }
-        if (lexiCate == null) {
-            lexiCate = "";
-        }
-        if (domains == null) {
-            domains = "";
-        }
-        if (registers == null) {
-            registers = "";
-        }
-        if (match == null) {
-            match = "";
-        }
-        List<String> search = new ArrayList<>();
-        search.add(lang);
-        search.add(word);
-        search.add(field);
-        search.add(gramFeat);
-        search.add(lexiCate);
-        search.add(domains);
-        search.add(registers);
-        search.add(match);
-        String newEntry = "Searched";
-        if (!newSearch) {
-            newEntry = "Synonym/Antonym of " + history.get(currentPageInd).get(1);
-
-        }
-        search.add(newEntry);
-
-        return search;
+        return session.createHistoryEntry(lang, word, field, gramFeat, lexiCate, domains, registers, match, newSearch);
     }
 
     /**
@@ -368,7 +258,23 @@ public class OnlineInputEngine implements InputEngine {
      * @return page index
      */
     public int getCurrentPageInd() {
-        return currentPageInd;
+        return session.getCurrentPageInd();
+    }
+
+    /**
+     * Gets the session of the searches
+     * @return search session
+     */
+    public SearchSession getSession() {
+        return session;
+    }
+
+    /**
+     * Gets the lookup, which can be shared with other engines
+     * @return dictionary lookup
+     */
+    public DictionaryLookup getLookup() {
+        return lookup;
     }
 
     /**
@@ -376,15 +282,24 @@ public class OnlineInputEngine implements InputEngine {
      * @return List of lemmas
      */
     public List<List<String>> findLemmas() {
-        return lemmaProcessor.createData(retrieveEntry);
+        return lemmaProcessor.createData(session.getRetrieveEntry());
     }
 
     /**
-     * Clears the database tables.
+     * Clears the database tables and the downloaded audio files. The snapshot is read only and is kept.
      * @return error message
      */
     public String clearCache() {
-        return db.clearDatabase();
+        return lookup.clearCache();
+    }
+
+    /**
+     * Clears the database tables of the language. The downloaded audio files and the snapshot are kept.
+     * @param lang language
+     * @return error message
+     */
+    public String clearCache(String lang) {
+        return lookup.clearCache(lang);
     }
 
     /**
@@ -411,7 +326,6 @@ public class OnlineInputEngine implements InputEngine {
         return aboutData.getReferences();
     }
 
-
     /**
      * Adds pronunciation to the list of pronunciations. If the uri is already in the list, return false.
      * If the entry id is null, change the id to '-'.
@@ -420,29 +334,15 @@ public class OnlineInputEngine implements InputEngine {
      * @return added or not
      */
     public boolean addPronunciation(String entryId, String pronunciation) {
-        for (List<String> pro : pronunciations) {
-            if (pro.contains(pronunciation)) {
-                return false;
-            }
-        }
-
-        List<String> newPronunciation = new ArrayList<>();
-        String id = "-";
-        if (entryId != null) {
-            id = entryId;
-        }
-        newPronunciation.add(id);
-        newPronunciation.add(pronunciation);
-        pronunciations.add(newPronunciation);
-        return true;
+        return session.addPronunciation(entryId, pronunciation);
     }
 
     /**
-     * Gets the list of pronunciations
+     * Gets the list of pronunciations. The list doesn't change when pronunciations are added or removed.
      * @return pronunciations
      */
     public List<List<String>> getPronunciations() {
-        return pronunciations;
+        return session.getPronunciations();
     }
 
     /**
@@ -451,20 +351,40 @@ public class OnlineInputEngine implements InputEngine {
      * @return removed or not
      */
     public boolean removePronunciation(String pronunciation) {
-        boolean contains = false;
-        List<String> removeList = null;
-        for (List<String> pro : pronunciations) {
-            if (pro.contains(pronunciation)) {
-                contains = true;
-                removeList = pro;
-            }
-        }
+        return session.removePronunciation(pronunciation);
+    }
 
-        if (!contains) {
-            return false;
-        }
+    /**
+     * Gets the uri to play the pronunciation audio file from. Uses the downloaded copy if it exists,
+     * otherwise it is downloaded in the background and the url is streamed.
+     * @param audioFile audio file url
+     * @return playable uri
+     */
+    public String getAudioUri(String audioFile) {
+        return lookup.getAudioUri(audioFile);
+    }
+
+    /**
+     * Downloads the pronunciation audio files of the POJO in the background
+     * @param retrieveEntry POJO
+     */
+    public void prefetchPronunciations(RetrieveEntry retrieveEntry) {
+        lookup.prefetchPronunciations(retrieveEntry);
+    }
 
-        pronunciations.remove(removeList);
-        return true;
+    /**
+     * Setups the database and creates the json parsers of the lookup, and opens the history store
+     */
+    public void warmUp() {
+        lookup.warmUp();
+        session.getHistoryStore().size("");
+    }
+
+    /**
+     * Opens the database of the language
+     * @param lang language
+     */
+    public void warmUp(String lang) {
+        lookup.warmUp(lang);
     }
 }
@@ -1,5 +1,6 @@
 package oxforddictionaries.model;
 
+import oxforddictionaries.model.metrics.Metrics;
 import oxforddictionaries.model.request.PastebinFormatter;
 import oxforddictionaries.model.request.PastebinPost;
 import oxforddictionaries.model.request.PastebinPostBuilder;
@@ -32,7 +33,8 @@ public class OnlineOutputEngine implements OutputEngine {
     }
 
     /**
-     * Creates the data to send and performs a POST request. If the response is OK, then return an empty list
+     * Creates the data to send and performs a POST request. If the response is OK, then return an empty list.
+     * The format, request and total times are recorded in the metrics.
      * @param retrieveEntry POJO
      * @param apiPastePrivate pastebin privacy
      * @param apiPasteName pastebin post name
@@ -43,14 +45,18 @@ public class OnlineOutputEngine implements OutputEngine {
      */
     public List<String> sendReport(RetrieveEntry retrieveEntry, int apiPastePrivate, String apiPasteName, String apiUserKey,
                            String apiPasteExpireDate, String apiFolderKey) {
+        long start = Metrics.start();
         String uri = "https://pastebin.com/api/api_post.php";
         String entry = pastebinFormatter.format(retrieveEntry);
+        Metrics.stop("sendReport.format", start);
 //        System.out.println(entry);
 
         PastebinPost pastebinPost = createPastebinPost(entry, apiPastePrivate, apiPasteName, apiUserKey, apiPasteExpireDate, apiFolderKey);
 
         String postBody = pastebinPost.toString();
+        long stage = Metrics.start();
         List<String> response = request.postRequest(uri, postBody);
+        Metrics.stop("sendReport.post", stage);
 
 //        System.out.println(response);
         if (response.size() == 2) {
@@ -62,6 +68,7 @@ public class OnlineOutputEngine implements OutputEngine {
                 response.clear();
             }
         }
+        Metrics.stop("sendReport.total", start);
         return response;
     }
 
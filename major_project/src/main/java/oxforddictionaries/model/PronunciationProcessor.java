@@ -0,0 +1,78 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.responseclasses.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds the pronunciation audio files from the POJO
+ */
+public class PronunciationProcessor {
+
+    /**
+     * Finds all the audio files of the pronunciations in the POJO and adds them to a list. Each file is only added once.
+     * @param retrieveEntry POJO
+     * @return List of audio file urls
+     */
+    public List<String> createData(RetrieveEntry retrieveEntry) {
+        List<String> audioFiles = new ArrayList<>();
+        if (retrieveEntry == null || retrieveEntry.getResults() == null) {
+            return audioFiles;
+        }
+
+        for (HeadwordEntry headwordEntry : retrieveEntry.getResults()) {
+            addAudioFiles(headwordEntry.getPronunciations(), audioFiles);
+            if (headwordEntry.getLexicalEntries() == null) {
+                continue;
+            }
+
+            for (LexicalEntry lexicalEntry : headwordEntry.getLexicalEntries()) {
+                addAudioFiles(lexicalEntry.getPronunciations(), audioFiles);
+                if (lexicalEntry.getEntries() == null) {
+                    continue;
+                }
+
+                for (Entry entry : lexicalEntry.getEntries()) {
+                    addAudioFiles(entry.getPronunciations(), audioFiles);
+                    addSenseAudioFiles(entry.getSenses(), audioFiles);
+                }
+            }
+        }
+        return audioFiles;
+    }
+
+    /**
+     * Adds the audio files of the senses and their sub senses
+     * @param senses POJO
+     * @param audioFiles List of audio file urls
+     */
+    public void addSenseAudioFiles(List<Sense> senses, List<String> audioFiles) {
+        if (senses == null) {
+            return;
+        }
+
+        for (Sense sense : senses) {
+            addAudioFiles(sense.getPronunciations(), audioFiles);
+            addSenseAudioFiles(sense.getSubsenses(), audioFiles);
+        }
+    }
+
+    /**
+     * Adds the audio files that are not already in the list
+     * @param pronunciations POJO
+     * @param audioFiles List of audio file urls
+     */
+    public void addAudioFiles(List<Pronunciation> pronunciations, List<String> audioFiles) {
+        if (pronunciations == null) {
+            return;
+        }
+
+        for (Pronunciation pronunciation : pronunciations) {
+            String audioFile = pronunciation.getAudioFile();
+            if (audioFile != null && !audioFiles.contains(audioFile)) {
+                audioFiles.add(audioFile);
+            }
+        }
+    }
+}
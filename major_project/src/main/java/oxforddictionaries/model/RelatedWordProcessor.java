@@ -0,0 +1,141 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.responseclasses.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds the words linked from the POJO: the synonyms, antonyms, thesaurus links and cross references of the senses,
+ * and the derivatives, compounds and phrases of the lexical entries
+ */
+public class RelatedWordProcessor {
+
+    /**
+     * Finds all the related words in the POJO. Each relation and word is only added once
+     * and the headword itself isn't added.
+     * @param retrieveEntry POJO
+     * @return List of relation and word
+     */
+    public List<List<String>> createData(RetrieveEntry retrieveEntry) {
+        Set<List<String>> related = new LinkedHashSet<>();
+        if (retrieveEntry == null || retrieveEntry.getResults() == null) {
+            return new ArrayList<>();
+        }
+
+        for (HeadwordEntry headwordEntry : retrieveEntry.getResults()) {
+            if (headwordEntry.getLexicalEntries() == null) {
+                continue;
+            }
+
+            for (LexicalEntry lexicalEntry : headwordEntry.getLexicalEntries()) {
+                addRelatedEntries("derivative", lexicalEntry.getDerivatives(), related);
+                addRelatedEntries("compound", lexicalEntry.getCompounds(), related);
+                addRelatedEntries("phrase", lexicalEntry.getPhrases(), related);
+                if (lexicalEntry.getEntries() == null) {
+                    continue;
+                }
+
+                for (Entry entry : lexicalEntry.getEntries()) {
+                    addCrossReferences(entry.getCrossReferences(), related);
+                    addSenses(entry.getSenses(), related);
+                }
+            }
+        }
+
+        List<List<String>> data = new ArrayList<>();
+        String headword = retrieveEntry.getId();
+        for (List<String> relation : related) {
+            if (!relation.get(1).equals(headword)) {
+                data.add(relation);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Adds the related words of the senses and their sub senses
+     * @param senses POJO
+     * @param related relations and words
+     */
+    public void addSenses(List<Sense> senses, Set<List<String>> related) {
+        if (senses == null) {
+            return;
+        }
+
+        for (Sense sense : senses) {
+            addSynonymsAntonyms("synonym", sense.getSynonyms(), related);
+            addSynonymsAntonyms("antonym", sense.getAntonyms(), related);
+            addCrossReferences(sense.getCrossReferences(), related);
+            if (sense.getThesaurusLinks() != null) {
+                for (ThesaurusLink link : sense.getThesaurusLinks()) {
+                    add("thesaurus", link.getEntryId(), null, related);
+                }
+            }
+            addSenses(sense.getSubsenses(), related);
+        }
+    }
+
+    /**
+     * Adds the synonyms or antonyms
+     * @param relation synonym or antonym
+     * @param words POJO
+     * @param related relations and words
+     */
+    public void addSynonymsAntonyms(String relation, List<SynonymsAntonyms> words, Set<List<String>> related) {
+        if (words == null) {
+            return;
+        }
+
+        for (SynonymsAntonyms word : words) {
+            add(relation, word.getId(), word.getText(), related);
+        }
+    }
+
+    /**
+     * Adds the cross references
+     * @param crossReferences POJO
+     * @param related relations and words
+     */
+    public void addCrossReferences(List<CrossReference> crossReferences, Set<List<String>> related) {
+        if (crossReferences == null) {
+            return;
+        }
+
+        for (CrossReference crossReference : crossReferences) {
+            add("crossReference", crossReference.getId(), crossReference.getText(), related);
+        }
+    }
+
+    /**
+     * Adds the derivatives, compounds or phrases
+     * @param relation derivative, compound or phrase
+     * @param entries POJO
+     * @param related relations and words
+     */
+    public void addRelatedEntries(String relation, List<RelatedEntry> entries, Set<List<String>> related) {
+        if (entries == null) {
+            return;
+        }
+
+        for (RelatedEntry entry : entries) {
+            add(relation, entry.getId(), entry.getText(), related);
+        }
+    }
+
+    /**
+     * Adds the word by its id, or by its text if it has no id
+     * @param relation relation
+     * @param id word id
+     * @param text word text
+     * @param related relations and words
+     */
+    private void add(String relation, String id, String text, Set<List<String>> related) {
+        String word = id != null ? id : text;
+        if (word != null && !word.isBlank()) {
+            related.add(List.of(relation, word));
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.HistoryStore;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.Request;
+import oxforddictionaries.model.request.VocabularyInterner;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Searches through a dictionary server, which shares its cache and api rate limit with the other clients.
+ * The history and pronunciations are kept by the client. The cache is kept by the server, so it can't be
+ * cleared from a client, and the pronunciations are streamed from the api.
+ */
+public class RemoteInputEngine implements InputEngine {
+    private Request request;
+    private String serverUrl;
+    private LemmaProcessor lemmaProcessor;
+    private AboutData aboutData;
+    private SearchSession session;
+    private Gson gson;
+    private EntryMerger entryMerger;
+
+    /**
+     * Creates the remote input engine
+     * @param request request
+     * @param serverUrl url of the dictionary server, e.g. http://localhost:8765
+     * @param lemmaProcessor lemma processor
+     * @param aboutData about information
+     */
+    public RemoteInputEngine(Request request, String serverUrl, LemmaProcessor lemmaProcessor, AboutData aboutData) {
+        this.request = request;
+        this.serverUrl = serverUrl.endsWith("/") ? serverUrl.substring(0, serverUrl.length() - 1) : serverUrl;
+        this.lemmaProcessor = lemmaProcessor;
+        this.aboutData = aboutData;
+        this.session = new SearchSession();
+        this.gson = new VocabularyInterner().createGson();
+        this.entryMerger = new EntryMerger(gson);
+    }
+
+    /**
+     * Looks up the entry on the server. If valid, update the POJO. If it is not a history search then add it to the
+     * history and move the current entry to the end if it is not a new search. Return an empty list if valid.
+     * @param lang language
+     * @param word word
+     * @param field field
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @param newSearch new search
+     * @param historyEntry history search
+     * @param lemma lemma search
+     * @param cacheDecided notified user
+     * @param useCache cache or request new data
+     * @return list of error messages
+     */
+    public List<String> entrySearch(String lang, String word, String field, String gramFeat, String lexiCate,
+                                    String domains, String registers, String match, boolean newSearch, boolean historyEntry, boolean lemma,
+                                    boolean cacheDecided, boolean useCache) {
+        String uri = serverUrl + "/entries?" + createQuery("lang", lang, "word", word, "field", field, "gramFeat", gramFeat,
+                "lexiCate", lexiCate, "domains", domains, "registers", registers, "match", match, "lemma", String.valueOf(lemma),
+                "cacheDecided", String.valueOf(cacheDecided), "useCache", String.valueOf(useCache));
+        LookupResult result = search(uri);
+        if (result.getRetrieveEntry() != null) {
+            session.showEntry(result.getRetrieveEntry(), historyEntry, lang, word, field, gramFeat, lexiCate, domains,
+                    registers, match, newSearch);
+        }
+        return result.getResponse();
+    }
+
+    /**
+     * Looks up the search without the fields on the server. The user has already decided to use the cache for the preview.
+     * If valid, merge it into the preview, which it replaces in the session unless another entry replaced it,
+     * and return an empty list.
+     * @param preview POJO of the preview search
+     * @param lang language
+     * @param word word
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @return list of error messages
+     */
+    public List<String> detailSearch(RetrieveEntry preview, String lang, String word, String gramFeat, String lexiCate,
+                                     String domains, String registers, String match) {
+        String uri = serverUrl + "/entries?" + createQuery("lang", lang, "word", word, "gramFeat", gramFeat,
+                "lexiCate", lexiCate, "domains", domains, "registers", registers, "match", match,
+                "cacheDecided", "true", "useCache", "true");
+        LookupResult result = search(uri);
+        if (result.getResponse() == null) {
+            List<String> error = new ArrayList<>();
+            error.add("No details were found for the entry.");
+            return error;
+        }
+        if (result.getRetrieveEntry() != null) {
+            session.replaceRetrieveEntry(preview, entryMerger.merge(preview, result.getRetrieveEntry()));
+        }
+        return result.getResponse();
+    }
+
+    /**
+     * Gets the POJO
+     * @return entry
+     */
+    public RetrieveEntry getRetrieveEntry() {
+        return session.getRetrieveEntry();
+    }
+
+    /**
+     * Updates the POJO of the session to an entry that was displayed before
+     * @param retrieveEntry entry
+     */
+    public void setRetrieveEntry(RetrieveEntry retrieveEntry) {
+        session.setRetrieveEntry(retrieveEntry);
+    }
+
+    /**
+     * The server has the cache, so nothing is cached by the engine
+     * @param queryKey query key
+     * @return an empty list without a POJO
+     */
+    public LookupResult cachedSearch(QueryKey queryKey) {
+        return new LookupResult(new ArrayList<>(), null);
+    }
+
+    /**
+     * Looks up the search on the server, which uses its cache unless it is refreshed. The server doesn't cache a search
+     * that wasn't found.
+     * @param queryKey query key
+     * @param refresh request the search again even if it is cached
+     * @return result, null errors if it wasn't found
+     */
+    public LookupResult freshSearch(QueryKey queryKey, boolean refresh) {
+        String uri = serverUrl + "/entries?" + createQuery("lang", queryKey.getLang(), "word", queryKey.getWord(),
+                "field", String.join(",", queryKey.getFilter("fields")),
+                "gramFeat", String.join(",", queryKey.getFilter("grammaticalFeatures")),
+                "lexiCate", String.join(",", queryKey.getFilter("lexicalCategory")),
+                "domains", String.join(",", queryKey.getFilter("domains")),
+                "registers", String.join(",", queryKey.getFilter("registers")),
+                "match", String.join(",", queryKey.getFilter("strictMatch")),
+                "cacheDecided", "true", "useCache", String.valueOf(!refresh), "keepMissing", "false");
+        return search(uri);
+    }
+
+    /**
+     * Looks up the lemma on the server. If valid, update the POJO and return an empty list.
+     * @param lang language
+     * @param word word
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param cacheDecided cached been decided
+     * @param useCache cache or request new data
+     * @return list of error messages
+     */
+    public List<String> lemmaSearch(String lang, String word, String gramFeat, String lexiCate, boolean cacheDecided, boolean useCache) {
+        String uri = serverUrl + "/lemmas?" + createQuery("lang", lang, "word", word, "gramFeat", gramFeat, "lexiCate", lexiCate,
+                "cacheDecided", String.valueOf(cacheDecided), "useCache", String.valueOf(useCache));
+        LookupResult result = search(uri);
+        if (result.getRetrieveEntry() != null) {
+            session.setRetrieveEntry(result.getRetrieveEntry());
+        }
+        return result.getResponse();
+    }
+
+    /**
+     * Requests the lookup from the server. If the server can't be reached, return the error message.
+     * If the server errors, return the status code and message.
+     * @param uri url of the search
+     * @return result
+     */
+    public LookupResult search(String uri) {
+        List<String> response = request.getRequest(uri);
+        if (response.size() != 2) {
+            return new LookupResult(response, null);
+        }
+        if (!response.get(0).equals("200")) {
+            return new LookupResult(handleErrorReq(response.get(0), response.get(1)), null);
+        }
+
+        try {
+            return gson.fromJson(response.get(1), LookupResult.class);
+        } catch (JsonParseException e) {
+            System.out.println(e.getMessage());
+            List<String> error = new ArrayList<>();
+            error.add("Invalid response from the dictionary server");
+            return new LookupResult(error, null);
+        }
+    }
+
+    /**
+     * Encodes the names and values into a query. The parameters with a null value are left out.
+     * @param params names and values
+     * @return query
+     */
+    public static String createQuery(String... params) {
+        StringBuilder query = new StringBuilder();
+        for (int i = 0; i + 1 < params.length; i += 2) {
+            if (params[i + 1] == null) {
+                continue;
+            }
+            if (query.length() > 0) {
+                query.append('&');
+            }
+            query.append(URLEncoder.encode(params[i], StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(params[i + 1], StandardCharsets.UTF_8));
+        }
+        return query.toString();
+    }
+
+    /**
+     * Maps the raw JSON and adds the status code and message to a list
+     * @param code status code
+     * @param body raw json
+     * @return list of error messages
+     */
+    public List<String> handleErrorReq(String code, String body) {
+        return ErrorParser.handleErrorReq(code, body);
+    }
+
+    /**
+     * Reads the whole history from the store. The list doesn't change with later searches.
+     * @return history
+     */
+    public List<List<String>> getHistory() {
+        return session.getHistory();
+    }
+
+    /**
+     * Gets the last entry of the history from the store, null if the history is empty
+     * @return history entry
+     */
+    public List<String> getLastEntry() {
+        return session.getLastEntry();
+    }
+
+    /**
+     * Gets the history store of the session, which has the history in the same order
+     * @return history store
+     */
+    public HistoryStore getHistoryStore() {
+        return session.getHistoryStore();
+    }
+
+    /**
+     * Updates the current page index
+     * @param ind page index
+     */
+    public void setCurrentPageInd(int ind) {
+        session.setCurrentPageInd(ind);
+    }
+
+    /**
+     * Updates the current page to the row of the history store
+     * @param seq position in the store
+     */
+    public void setCurrentHistorySeq(long seq) {
+        session.setCurrentSeq(seq);
+    }
+
+    /**
+     * Gets the index it is currently at for the history
+     * @return page index
+     */
+    public int getCurrentPageInd() {
+        return session.getCurrentPageInd();
+    }
+
+    /**
+     * Finds the lemmas from the POJO
+     * @return List of lemmas
+     */
+    public List<List<String>> findLemmas() {
+        return lemmaProcessor.createData(session.getRetrieveEntry());
+    }
+
+    /**
+     * The cache is shared by the clients of the server so it can't be cleared
+     * @return error message
+     */
+    public String clearCache() {
+        return "The dictionary cache is shared by the server and can't be cleared.";
+    }
+
+    /**
+     * The cache is shared by the clients of the server so it can't be cleared
+     * @param lang language
+     * @return error message
+     */
+    public String clearCache(String lang) {
+        return clearCache();
+    }
+
+    /**
+     * Gets the application name from the about data
+     * @return application name
+     */
+    public String getAboutAppName() {
+        return aboutData.getAppName();
+    }
+
+    /**
+     * Gets the developer name from the about data
+     * @return developer name
+     */
+    public String getAboutDevName() {
+        return aboutData.getDevName();
+    }
+
+    /**
+     * Gets the references from the about data
+     * @return references
+     */
+    public List<String> getAboutReferences() {
+        return aboutData.getReferences();
+    }
+
+    /**
+     * Adds pronunciation to the list of pronunciations. If the uri is already in the list, return false.
+     * If the entry id is null, change the id to '-'.
+     * @param entryId Entry ID
+     * @param pronunciation Pronunciation URI
+     * @return added or not
+     */
+    public boolean addPronunciation(String entryId, String pronunciation) {
+        return session.addPronunciation(entryId, pronunciation);
+    }
+
+    /**
+     * Gets the list of pronunciations. The list doesn't change when pronunciations are added or removed.
+     * @return pronunciations
+     */
+    public List<List<String>> getPronunciations() {
+        return session.getPronunciations();
+    }
+
+    /**
+     * Removes pronunciation from the list of pronunciations
+     * @param pronunciation Pronunciation URI
+     * @return removed or not
+     */
+    public boolean removePronunciation(String pronunciation) {
+        return session.removePronunciation(pronunciation);
+    }
+
+    /**
+     * The audio files are streamed from the api
+     * @param audioFile audio file url
+     * @return audio file url
+     */
+    public String getAudioUri(String audioFile) {
+        return audioFile;
+    }
+
+    /**
+     * The audio files aren't downloaded
+     * @param retrieveEntry POJO
+     */
+    public void prefetchPronunciations(RetrieveEntry retrieveEntry) {
+    }
+
+    /**
+     * Creates the json parsers and opens the history store. The server has its own database.
+     */
+    public void warmUp() {
+        gson.fromJson("{}", RetrieveEntry.class);
+        session.getHistoryStore().size("");
+    }
+
+    /**
+     * Does nothing as the server has the database
+     * @param lang language
+     */
+    public void warmUp(String lang) {
+    }
+}
@@ -0,0 +1,309 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.metrics.Metrics;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Searches while the user types. The inputs are debounced, turned into query keys and looked up in the memory of the
+ * pipeline, then the cache of the input engine. Only a search that neither has is requested, and only once its word
+ * is long enough, so the prefixes of a word don't use up the requests of the api. Each stage publishes an update,
+ * so a subscriber gets the remembered or cached entry, or the requested entry later. A new search cancels the search
+ * before it, and its updates are not published. The stages are flows with buffers, and publishing waits for the
+ * subscribers, so the searches don't run ahead of a slow subscriber.
+ */
+public class SearchPipeline implements Flow.Publisher<SearchUpdate> {
+    private static final int memorySize = 64;
+    private static final int minRequestLength = 3;
+    private static final long publishTimeoutSeconds = 30;
+    private final InputEngine inputEngine;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService lookupExecutor;
+    private final SubmissionPublisher<SearchInput> inputs;
+    private final Debouncer<SearchInput> debouncer;
+    private final SubmissionPublisher<SearchUpdate> updates;
+    private final Map<QueryKey, RetrieveEntry> memory;
+    private final AtomicLong generation;
+    private Future<?> lookup;
+    private QueryKey lastKey;
+
+    /**
+     * The input fields of a search
+     */
+    public static class SearchInput {
+        private final String lang;
+        private final String word;
+        private final String field;
+        private final String gramFeat;
+        private final String lexiCate;
+        private final String domains;
+        private final String registers;
+        private final String match;
+
+        /**
+         * Creates the input
+         * @param lang language
+         * @param word word
+         * @param field field
+         * @param gramFeat grammatical features
+         * @param lexiCate lexical categories
+         * @param domains domains
+         * @param registers registers
+         * @param match match
+         */
+        public SearchInput(String lang, String word, String field, String gramFeat, String lexiCate, String domains,
+                           String registers, String match) {
+            this.lang = lang;
+            this.word = word;
+            this.field = field;
+            this.gramFeat = gramFeat;
+            this.lexiCate = lexiCate;
+            this.domains = domains;
+            this.registers = registers;
+            this.match = match;
+        }
+
+        /**
+         * @return word
+         */
+        public String getWord() {
+            return word;
+        }
+
+        /**
+         * @return if there is no word
+         */
+        public boolean isBlank() {
+            return word == null || word.isBlank();
+        }
+
+        /**
+         * Creates the query key, so inputs that are the same search have the same key
+         * @return query key
+         */
+        public QueryKey toQueryKey() {
+            return QueryKey.entries(lang, word.strip(), field, gramFeat, lexiCate, domains, registers, match);
+        }
+    }
+
+    /**
+     * Creates the pipeline
+     * @param inputEngine input engine to search
+     * @param debounceMillis time without inputs before the newest is searched
+     */
+    public SearchPipeline(InputEngine inputEngine, long debounceMillis) {
+        this.inputEngine = inputEngine;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+            Thread thread = new Thread(runnable, "search-debounce");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.lookupExecutor = Executors.newSingleThreadExecutor((runnable) -> {
+            Thread thread = new Thread(runnable, "search-lookup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.inputs = new SubmissionPublisher<>();
+        this.debouncer = new Debouncer<>(debounceMillis, scheduler);
+        this.updates = new SubmissionPublisher<>();
+        this.memory = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryKey, RetrieveEntry> eldest) {
+                return size() > memorySize;
+            }
+        };
+        this.generation = new AtomicLong();
+
+        inputs.subscribe(debouncer);
+        debouncer.subscribe(new LookupStage());
+    }
+
+    /**
+     * Receives the debounced inputs one at a time and starts their searches
+     */
+    private class LookupStage implements Flow.Subscriber<SearchInput> {
+        private Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(SearchInput input) {
+            if (input.isBlank()) {
+                cancel();
+            }
+            else {
+                search(input.toQueryKey());
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            updates.closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            updates.close();
+        }
+    }
+
+    /**
+     * Adds the input of a keystroke. Inputs without a word cancel the search at once, and replace the inputs before
+     * them that are still being debounced.
+     * @param input search input
+     */
+    public void submit(SearchInput input) {
+        if (input.isBlank()) {
+            cancel();
+        }
+        inputs.submit(input);
+    }
+
+    /**
+     * Subscribes to the updates of the searches
+     * @param subscriber subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super SearchUpdate> subscriber) {
+        updates.subscribe(subscriber);
+    }
+
+    /**
+     * Cancels the search, so none of its updates are published
+     */
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+        this.lastKey = null;
+        if (lookup != null) {
+            lookup.cancel(true);
+        }
+    }
+
+    /**
+     * Forgets the remembered entries, e.g. once the cache is cleared, and cancels the search so it doesn't remember
+     * its entry again. The next search is looked up in the cache of the input engine.
+     */
+    public void clearMemory() {
+        cancel();
+        synchronized (memory) {
+            memory.clear();
+        }
+    }
+
+    /**
+     * Cancels the search and closes the stages. The subscribers are completed.
+     */
+    public void close() {
+        cancel();
+        inputs.close();
+        updates.close();
+        scheduler.shutdownNow();
+        lookupExecutor.shutdownNow();
+    }
+
+    /**
+     * Starts the search of the query key and cancels the search before it. The same search as before isn't started again.
+     * @param queryKey query key
+     */
+    private synchronized void search(QueryKey queryKey) {
+        if (queryKey.equals(lastKey)) {
+            return;
+        }
+        cancel();
+        this.lastKey = queryKey;
+        long searchGeneration = generation.get();
+        this.lookup = lookupExecutor.submit(() -> lookUp(queryKey, searchGeneration));
+    }
+
+    /**
+     * Looks up the query key in the memory, then the cache of the input engine, then with a request if neither has it
+     * and the word is long enough. The lookup stops once the search has been cancelled.
+     * @param queryKey query key
+     * @param searchGeneration number of the search
+     */
+    private void lookUp(QueryKey queryKey, long searchGeneration) {
+        RetrieveEntry remembered;
+        synchronized (memory) {
+            remembered = memory.get(queryKey);
+        }
+        Metrics.cacheLookup("cache.pipeline", remembered != null);
+
+        boolean found = remembered != null;
+        if (found) {
+            publish(new SearchUpdate(queryKey, SearchUpdate.memorySource, remembered, List.of()), searchGeneration);
+        }
+        else {
+            // A cached search that wasn't found or errored isn't requested again either
+            LookupResult result = inputEngine.cachedSearch(queryKey);
+            found = result.getRetrieveEntry() != null || result.getResponse() == null || result.getResponse().size() > 0;
+            publish(queryKey, SearchUpdate.cacheSource, result, searchGeneration);
+        }
+
+        if (found || generation.get() != searchGeneration || queryKey.getWord().length() < minRequestLength) {
+            return;
+        }
+        publish(queryKey, SearchUpdate.networkSource, inputEngine.freshSearch(queryKey, false), searchGeneration);
+    }
+
+    /**
+     * Publishes the result of a stage and remembers its POJO. A result without a POJO or errors isn't published.
+     * A result without a response wasn't found.
+     * @param queryKey query key
+     * @param source stage of the result
+     * @param result result
+     * @param searchGeneration number of the search
+     */
+    private void publish(QueryKey queryKey, String source, LookupResult result, long searchGeneration) {
+        if (generation.get() != searchGeneration) {
+            return;
+        }
+        RetrieveEntry retrieveEntry = result.getRetrieveEntry();
+        if (retrieveEntry != null) {
+            synchronized (memory) {
+                memory.put(queryKey, retrieveEntry);
+            }
+            publish(new SearchUpdate(queryKey, source, retrieveEntry, List.of()), searchGeneration);
+            return;
+        }
+
+        List<String> errors = result.getResponse();
+        if (errors == null) {
+            errors = new ArrayList<>();
+            errors.add("No entry was found for " + queryKey.getWord());
+        }
+        if (errors.size() > 0) {
+            publish(new SearchUpdate(queryKey, source, null, errors), searchGeneration);
+        }
+    }
+
+    /**
+     * Publishes the update if its search hasn't been cancelled. It waits for space in the buffers of the subscribers,
+     * and the update is dropped if the search is cancelled while it waits.
+     * @param update update
+     * @param searchGeneration number of the search
+     */
+    private void publish(SearchUpdate update, long searchGeneration) {
+        if (generation.get() != searchGeneration || updates.isClosed()) {
+            return;
+        }
+        updates.offer(update, publishTimeoutSeconds, TimeUnit.SECONDS, (subscriber, dropped) -> false);
+    }
+}
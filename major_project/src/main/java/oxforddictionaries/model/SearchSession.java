@@ -0,0 +1,270 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.HistoryStore;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * State of a user's searches: the current POJO, the history, the current page and the saved pronunciations.
+ * The history is only kept in the history store, so a search adds a row without going through the history and
+ * the session doesn't grow with it. The current page is the position of its row in the store.
+ * The pronunciations are an immutable list which is replaced on every change, so a list returned by the getter
+ * never changes and can be read from another thread while searches continue.
+ */
+public class SearchSession {
+    private volatile RetrieveEntry retrieveEntry;
+    private volatile long currentSeq;
+    private volatile List<List<String>> pronunciations;
+    private final HistoryStore historyStore;
+
+    /**
+     * Creates an empty session with its history store in a temporary file
+     */
+    public SearchSession() {
+        this(new HistoryStore());
+    }
+
+    /**
+     * Creates an empty session
+     * @param historyStore empty history store
+     */
+    public SearchSession(HistoryStore historyStore) {
+        this.pronunciations = List.of();
+        this.historyStore = historyStore;
+    }
+
+    /**
+     * Gets the POJO
+     * @return entry
+     */
+    public RetrieveEntry getRetrieveEntry() {
+        return retrieveEntry;
+    }
+
+    /**
+     * Updates the POJO
+     * @param retrieveEntry entry
+     */
+    public synchronized void setRetrieveEntry(RetrieveEntry retrieveEntry) {
+        this.retrieveEntry = retrieveEntry;
+    }
+
+    /**
+     * Updates the POJO only if it is still the expected one, e.g. a preview whose details were requested while
+     * another entry could have been searched
+     * @param expected entry that is replaced
+     * @param retrieveEntry entry
+     * @return replaced or not
+     */
+    public synchronized boolean replaceRetrieveEntry(RetrieveEntry expected, RetrieveEntry retrieveEntry) {
+        if (this.retrieveEntry != expected) {
+            return false;
+        }
+        this.retrieveEntry = retrieveEntry;
+        return true;
+    }
+
+    /**
+     * Updates the POJO of a search. If it is not a history search then add it to the history
+     * and move the current entry to the end if it is not a new search.
+     * @param retrieveEntry entry
+     * @param historyEntry history search
+     * @param lang language
+     * @param word word
+     * @param field field
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @param newSearch new search
+     * @return error message of the history store
+     */
+    public synchronized String showEntry(RetrieveEntry retrieveEntry, boolean historyEntry, String lang, String word, String field,
+                                       String gramFeat, String lexiCate, String domains, String registers, String match,
+                                       boolean newSearch) {
+        this.retrieveEntry = retrieveEntry;
+        if (!historyEntry) {
+            return addHistoryEntry(createHistoryEntry(lang, word, field, gramFeat, lexiCate, domains, registers, match, newSearch), newSearch);
+        }
+        return null;
+    }
+
+    /**
+     * Adds the search to the end of the history and moves to it.
+     * If it is not a new search, the current entry is moved to the end first. Return null if there are no errors.
+     * @param search history entry
+     * @param newSearch new search
+     * @return error message of the history store
+     */
+    public synchronized String addHistoryEntry(List<String> search, boolean newSearch) {
+        String error = null;
+        if (!newSearch) {
+            error = historyStore.moveToEnd(currentSeq);
+        }
+
+        String addError = historyStore.add(search);
+        if (addError == null) {
+            this.currentSeq = historyStore.getLastSeq();
+        }
+        return error == null ? addError : error;
+    }
+
+    /**
+     * Reads the whole history from the store. The list doesn't change with later searches.
+     * @return history
+     */
+    public List<List<String>> getHistory() {
+        List<List<String>> history = new ArrayList<>();
+        for (HistoryStore.Row row : historyStore.getPage("", 0, Integer.MAX_VALUE)) {
+            history.add(row.getEntry());
+        }
+        return List.copyOf(history);
+    }
+
+    /**
+     * Gets the last entry of the history from the store, null if the history is empty
+     * @return history entry
+     */
+    public List<String> getLastEntry() {
+        return historyStore.get(historyStore.getLastSeq());
+    }
+
+    /**
+     * Gets the history store, which has the history
+     * @return history store
+     */
+    public HistoryStore getHistoryStore() {
+        return historyStore;
+    }
+
+    /**
+     * Updates the current page to the row of the history store
+     * @param seq position in the store
+     */
+    public void setCurrentSeq(long seq) {
+        this.currentSeq = seq;
+    }
+
+    /**
+     * Updates the current page index. The row is found by its index in the store.
+     * @param ind page index
+     */
+    public synchronized void setCurrentPageInd(int ind) {
+        List<HistoryStore.Row> rows = historyStore.getPage("", ind, 1);
+        if (!rows.isEmpty()) {
+            this.currentSeq = rows.get(0).getSeq();
+        }
+    }
+
+    /**
+     * Gets the index it is currently at for the history
+     * @return page index
+     */
+    public int getCurrentPageInd() {
+        return historyStore.indexOf(currentSeq);
+    }
+
+    /**
+     * Adds all the parameters to a list, if they are null, set them to an empty string.
+     * @param lang language
+     * @param word word
+     * @param field field
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @param newSearch new search
+     * @return history
+     */
+    public synchronized List<String> createHistoryEntry(String lang, String word, String field, String gramFeat, String lexiCate,
+                                                        String domains, String registers, String match, boolean newSearch) {
+        if (field == null) {
+            field = "";
+        }
+        if (gramFeat == null) {
+            gramFeat = "";
+        }
+        if (lexiCate == null) {
+            lexiCate = "";
+        }
+        if (domains == null) {
+            domains = "";
+        }
+        if (registers == null) {
+            registers = "";
+        }
+        if (match == null) {
+            match = "";
+        }
+        List<String> search = new ArrayList<>();
+        search.add(lang);
+        search.add(word);
+        search.add(field);
+        search.add(gramFeat);
+        search.add(lexiCate);
+        search.add(domains);
+        search.add(registers);
+        search.add(match);
+        String newEntry = "Searched";
+        if (!newSearch) {
+            List<String> currentEntry = historyStore.get(currentSeq);
+            newEntry = "Synonym/Antonym of " + (currentEntry == null ? "" : currentEntry.get(1));
+        }
+        search.add(newEntry);
+
+        return search;
+    }
+
+    /**
+     * Adds pronunciation to the list of pronunciations. If the uri is already in the list, return false.
+     * If the entry id is null, change the id to '-'.
+     * @param entryId Entry ID
+     * @param pronunciation Pronunciation URI
+     * @return added or not
+     */
+    public synchronized boolean addPronunciation(String entryId, String pronunciation) {
+        for (List<String> pro : pronunciations) {
+            if (pro.contains(pronunciation)) {
+                return false;
+            }
+        }
+
+        String id = "-";
+        if (entryId != null) {
+            id = entryId;
+        }
+        List<List<String>> newPronunciations = new ArrayList<>(pronunciations);
+        newPronunciations.add(Collections.unmodifiableList(Arrays.asList(id, pronunciation)));
+        this.pronunciations = List.copyOf(newPronunciations);
+        return true;
+    }
+
+    /**
+     * Gets the list of pronunciations. The list doesn't change when pronunciations are added or removed.
+     * @return pronunciations
+     */
+    public List<List<String>> getPronunciations() {
+        return pronunciations;
+    }
+
+    /**
+     * Removes pronunciation from the list of pronunciations
+     * @param pronunciation Pronunciation URI
+     * @return removed or not
+     */
+    public synchronized boolean removePronunciation(String pronunciation) {
+        List<List<String>> newPronunciations = new ArrayList<>(pronunciations);
+        if (!newPronunciations.removeIf((pro) -> pro.contains(pronunciation))) {
+            return false;
+        }
+
+        this.pronunciations = List.copyOf(newPronunciations);
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.util.List;
+
+/**
+ * A result of the search pipeline. A search can have several, e.g. the cached entry first and the requested one later.
+ */
+public class SearchUpdate {
+    public static final String memorySource = "memory";
+    public static final String cacheSource = "cache";
+    public static final String networkSource = "network";
+    private final QueryKey queryKey;
+    private final String source;
+    private final RetrieveEntry retrieveEntry;
+    private final List<String> errors;
+
+    /**
+     * Creates the update
+     * @param queryKey query key of the search
+     * @param source memory, cache or network
+     * @param retrieveEntry POJO, null if there are errors
+     * @param errors error messages, empty if there is a POJO
+     */
+    public SearchUpdate(QueryKey queryKey, String source, RetrieveEntry retrieveEntry, List<String> errors) {
+        this.queryKey = queryKey;
+        this.source = source;
+        this.retrieveEntry = retrieveEntry;
+        this.errors = List.copyOf(errors);
+    }
+
+    /**
+     * @return query key of the search
+     */
+    public QueryKey getQueryKey() {
+        return queryKey;
+    }
+
+    /**
+     * @return memory, cache or network
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return POJO, null if there are errors
+     */
+    public RetrieveEntry getRetrieveEntry() {
+        return retrieveEntry;
+    }
+
+    /**
+     * @return error messages, empty if there is a POJO
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+}
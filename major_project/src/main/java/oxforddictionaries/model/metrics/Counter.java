@@ -0,0 +1,32 @@
+package oxforddictionaries.model.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts events, such as cache hits or bytes transferred. Can be updated from any thread.
+ */
+public class Counter {
+    private final LongAdder value = new LongAdder();
+
+    /**
+     * Adds to the counter
+     * @param amount amount to add
+     */
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    /**
+     * @return current value
+     */
+    public long getValue() {
+        return value.sum();
+    }
+
+    /**
+     * Sets the counter back to 0
+     */
+    public void reset() {
+        value.reset();
+    }
+}
@@ -0,0 +1,140 @@
+package oxforddictionaries.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the distribution of values, such as the duration of a stage in nanoseconds. The values are counted in
+ * buckets that split each power of two into 8, so a percentile is within 12.5% of the recorded value.
+ * Can be updated from any thread without locking.
+ */
+public class Histogram {
+    private static final int subBucketBits = 3;
+    private static final int subBuckets = 1 << subBucketBits;
+    private final AtomicLongArray buckets = new AtomicLongArray(64 << subBucketBits);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the value. Negative values are recorded as 0.
+     * @param value value
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.incrementAndGet(getBucket(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return sum of the recorded values
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return largest recorded value
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return mean of the recorded values, 0 if there are none
+     */
+    public double getMean() {
+        long n = getCount();
+        if (n == 0) {
+            return 0;
+        }
+        return (double) getSum() / n;
+    }
+
+    /**
+     * Gets the value that the given fraction of the recorded values are less than or equal to.
+     * Returns the upper bound of the bucket it is in, but never more than the largest value.
+     * @param fraction between 0 and 1, e.g. 0.99
+     * @return percentile value, 0 if there are none
+     */
+    public long getPercentile(double fraction) {
+        long n = getCount();
+        if (n == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(fraction * n));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min(getUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Clears the recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Gets the bucket the value is counted in
+     * @param value non-negative value
+     * @return bucket index
+     */
+    public static int getBucket(long value) {
+        if (value < subBuckets) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) ((value >>> (exponent - subBucketBits)) & (subBuckets - 1));
+        return ((exponent - subBucketBits + 1) << subBucketBits) + sub;
+    }
+
+    /**
+     * Gets the smallest value counted in the bucket
+     * @param bucket bucket index
+     * @return lower bound
+     */
+    public static long getLowerBound(int bucket) {
+        if (bucket < subBuckets) {
+            return bucket;
+        }
+        int exponent = (bucket >> subBucketBits) + subBucketBits - 1;
+        long sub = bucket & (subBuckets - 1);
+        return (subBuckets + sub) << (exponent - subBucketBits);
+    }
+
+    /**
+     * Gets the largest value counted in the bucket
+     * @param bucket bucket index
+     * @return upper bound
+     */
+    public static long getUpperBound(int bucket) {
+        if (bucket + 1 >= 64 << subBucketBits || getLowerBound(bucket + 1) <= 0) {
+            return Long.MAX_VALUE;
+        }
+        return getLowerBound(bucket + 1) - 1;
+    }
+}
@@ -0,0 +1,106 @@
+package oxforddictionaries.model.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Records the timers and counters of the application. Metrics are only recorded when the
+ * oxforddictionaries.metrics system property is true, otherwise every method returns straight away.
+ * When enabled, they are exposed through JMX and dumped every oxforddictionaries.metrics.period seconds (default 60)
+ * to the CSV file oxforddictionaries.metrics.csv, or printed if it isn't set.
+ */
+public final class Metrics {
+    private static final boolean enabled = Boolean.getBoolean("oxforddictionaries.metrics");
+    private static final MetricsRegistry registry = new MetricsRegistry();
+
+    static {
+        if (enabled) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(registry, new ObjectName("oxforddictionaries:type=Metrics"));
+            } catch (JMException e) {
+                System.out.println(e.getMessage());
+            }
+
+            String csv = System.getProperty("oxforddictionaries.metrics.csv");
+            Path csvFile = null;
+            if (csv != null && !csv.isBlank()) {
+                csvFile = Paths.get(csv);
+            }
+            MetricsReporter reporter = new MetricsReporter(registry, csvFile);
+            reporter.start(Long.getLong("oxforddictionaries.metrics.period", 60));
+            Runtime.getRuntime().addShutdownHook(new Thread(reporter::report, "metrics-shutdown"));
+        }
+    }
+
+    private Metrics() {
+    }
+
+    /**
+     * @return if metrics are recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the start time of a stage
+     * @return current nano time, 0 if disabled
+     */
+    public static long start() {
+        if (!enabled) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time since the stage started
+     * @param name stage name
+     * @param start value returned by start()
+     */
+    public static void stop(String name, long start) {
+        if (enabled) {
+            registry.timer(name).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Adds 1 to the counter
+     * @param name counter name
+     */
+    public static void increment(String name) {
+        add(name, 1);
+    }
+
+    /**
+     * Adds to the counter
+     * @param name counter name
+     * @param amount amount to add
+     */
+    public static void add(String name, long amount) {
+        if (enabled) {
+            registry.counter(name).add(amount);
+        }
+    }
+
+    /**
+     * Records a cache lookup in the counters name.hit or name.miss
+     * @param name cache name
+     * @param hit found in the cache
+     */
+    public static void cacheLookup(String name, boolean hit) {
+        if (enabled) {
+            registry.counter(hit ? name + ".hit" : name + ".miss").add(1);
+        }
+    }
+
+    /**
+     * @return metrics registry
+     */
+    public static MetricsRegistry getRegistry() {
+        return registry;
+    }
+}
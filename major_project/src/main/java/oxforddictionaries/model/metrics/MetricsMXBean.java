@@ -0,0 +1,49 @@
+package oxforddictionaries.model.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the metrics. It is registered as oxforddictionaries:type=Metrics when metrics are enabled.
+ */
+public interface MetricsMXBean {
+
+    /**
+     * @return counter values by name
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * @return hit ratio of each cache, from the counters named cache.hit and cache.miss
+     */
+    Map<String, Double> getCacheHitRatios();
+
+    /**
+     * @return number of times each stage was timed
+     */
+    Map<String, Long> getTimerCounts();
+
+    /**
+     * @return mean duration of each stage in milliseconds
+     */
+    Map<String, Double> getTimerMeanMillis();
+
+    /**
+     * @return median duration of each stage in milliseconds
+     */
+    Map<String, Double> getTimerP50Millis();
+
+    /**
+     * @return 99th percentile duration of each stage in milliseconds
+     */
+    Map<String, Double> getTimerP99Millis();
+
+    /**
+     * @return longest duration of each stage in milliseconds
+     */
+    Map<String, Double> getTimerMaxMillis();
+
+    /**
+     * Clears all the counters and timers
+     */
+    void reset();
+}
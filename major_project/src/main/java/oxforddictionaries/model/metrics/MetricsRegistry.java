@@ -0,0 +1,123 @@
+package oxforddictionaries.model.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Holds the counters and timers by name. They are created when they are first used.
+ */
+public class MetricsRegistry implements MetricsMXBean {
+    private static final String hitSuffix = ".hit";
+    private static final String missSuffix = ".miss";
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the counter, creating it if it doesn't exist
+     * @param name counter name
+     * @return counter
+     */
+    public Counter counter(String name) {
+        Counter counter = counters.get(name);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(name, (key) -> new Counter());
+        }
+        return counter;
+    }
+
+    /**
+     * Gets the timer, creating it if it doesn't exist. The timer records nanoseconds.
+     * @param name stage name
+     * @return timer
+     */
+    public Histogram timer(String name) {
+        Histogram timer = timers.get(name);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(name, (key) -> new Histogram());
+        }
+        return timer;
+    }
+
+    /**
+     * @return timers by name, sorted by name
+     */
+    public Map<String, Histogram> getTimers() {
+        return new TreeMap<>(timers);
+    }
+
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        for (Map.Entry<String, Counter> counter : counters.entrySet()) {
+            values.put(counter.getKey(), counter.getValue().getValue());
+        }
+        return values;
+    }
+
+    public Map<String, Double> getCacheHitRatios() {
+        Map<String, Double> ratios = new TreeMap<>();
+        for (String name : counters.keySet()) {
+            if (!name.endsWith(hitSuffix)) {
+                continue;
+            }
+            String cache = name.substring(0, name.length() - hitSuffix.length());
+            long hits = counters.get(name).getValue();
+            long total = hits;
+            Counter misses = counters.get(cache + missSuffix);
+            if (misses != null) {
+                total += misses.getValue();
+            }
+            if (total > 0) {
+                ratios.put(cache, (double) hits / total);
+            }
+        }
+        return ratios;
+    }
+
+    public Map<String, Long> getTimerCounts() {
+        Map<String, Long> values = new TreeMap<>();
+        for (Map.Entry<String, Histogram> timer : timers.entrySet()) {
+            values.put(timer.getKey(), timer.getValue().getCount());
+        }
+        return values;
+    }
+
+    public Map<String, Double> getTimerMeanMillis() {
+        return getTimerMillis(Histogram::getMean);
+    }
+
+    public Map<String, Double> getTimerP50Millis() {
+        return getTimerMillis((timer) -> timer.getPercentile(0.5));
+    }
+
+    public Map<String, Double> getTimerP99Millis() {
+        return getTimerMillis((timer) -> timer.getPercentile(0.99));
+    }
+
+    public Map<String, Double> getTimerMaxMillis() {
+        return getTimerMillis(Histogram::getMax);
+    }
+
+    public void reset() {
+        for (Counter counter : counters.values()) {
+            counter.reset();
+        }
+        for (Histogram timer : timers.values()) {
+            timer.reset();
+        }
+    }
+
+    /**
+     * Gets a value of each timer and converts it from nanoseconds to milliseconds
+     * @param value value of the timer in nanoseconds
+     * @return milliseconds by timer name
+     */
+    public Map<String, Double> getTimerMillis(ToDoubleFunction<Histogram> value) {
+        Map<String, Double> values = new TreeMap<>();
+        for (Map.Entry<String, Histogram> timer : timers.entrySet()) {
+            values.put(timer.getKey(), value.applyAsDouble(timer.getValue()) / 1e6);
+        }
+        return values;
+    }
+}
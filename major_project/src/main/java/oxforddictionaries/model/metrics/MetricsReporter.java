@@ -0,0 +1,116 @@
+package oxforddictionaries.model.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically dumps the metrics as CSV rows. The rows are appended to a file if one is given,
+ * otherwise they are printed.
+ */
+public class MetricsReporter {
+    private static final String header = "time,type,name,count,value,mean_ms,p50_ms,p95_ms,p99_ms,max_ms";
+    private final MetricsRegistry registry;
+    private final Path csvFile;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Creates the reporter
+     * @param registry metrics registry
+     * @param csvFile file to append to, null to print
+     */
+    public MetricsReporter(MetricsRegistry registry, Path csvFile) {
+        this.registry = registry;
+        this.csvFile = csvFile;
+    }
+
+    /**
+     * Starts dumping the metrics on a background thread
+     * @param periodSeconds seconds between dumps
+     */
+    public synchronized void start(long periodSeconds) {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::report, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops dumping the metrics
+     */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * Dumps the metrics once. Return null if there are no errors.
+     * @return error message
+     */
+    public String report() {
+        List<String> rows = createRows(Instant.now().toString());
+        if (csvFile == null) {
+            for (String row : rows) {
+                System.out.println(row);
+            }
+            return null;
+        }
+
+        try {
+            if (!Files.exists(csvFile)) {
+                rows.add(0, header);
+            }
+            Files.write(csvFile, rows, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Creates a row for each counter, cache hit ratio and timer
+     * @param time timestamp of the rows
+     * @return CSV rows
+     */
+    public List<String> createRows(String time) {
+        List<String> rows = new ArrayList<>();
+        for (Map.Entry<String, Long> counter : registry.getCounters().entrySet()) {
+            rows.add(time + ",counter," + counter.getKey() + "," + counter.getValue() + ",,,,,,");
+        }
+        for (Map.Entry<String, Double> ratio : registry.getCacheHitRatios().entrySet()) {
+            rows.add(time + ",ratio," + ratio.getKey() + ",," + format(ratio.getValue()) + ",,,,,");
+        }
+        for (Map.Entry<String, Histogram> timer : registry.getTimers().entrySet()) {
+            Histogram histogram = timer.getValue();
+            rows.add(time + ",timer," + timer.getKey() + "," + histogram.getCount() + ","
+                    + "," + format(histogram.getMean() / 1e6)
+                    + "," + format(histogram.getPercentile(0.5) / 1e6)
+                    + "," + format(histogram.getPercentile(0.95) / 1e6)
+                    + "," + format(histogram.getPercentile(0.99) / 1e6)
+                    + "," + format(histogram.getMax() / 1e6));
+        }
+        return rows;
+    }
+
+    private String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -0,0 +1,222 @@
+package oxforddictionaries.model.request;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Disk cache for the pronunciation audio files. It is stored next to the database file.
+ * The files are named by the hash of their url and the least recently played files are removed
+ * when the cache is larger than the maximum size. Plays are kept in memory, so playing a file never writes to
+ * the directory, which can be read only.
+ */
+public class AudioCache {
+    private static final String cacheDirName = "OxfordDictionary_audio";
+    private static final long defaultMaxBytes = 50L * 1024 * 1024;
+    private final Request request;
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final Map<Path, Long> played;
+    private ExecutorService prefetchExecutor;
+
+    /**
+     * Creates the audio cache in the default directory with the default size
+     * @param request request
+     */
+    public AudioCache(Request request) {
+        this(request, Paths.get(cacheDirName), defaultMaxBytes);
+    }
+
+    /**
+     * Creates the audio cache. The request can be null if the files are only read from the cache.
+     * @param request request
+     * @param cacheDir directory to store the files
+     * @param maxBytes maximum size of the cache in bytes
+     */
+    public AudioCache(Request request, Path cacheDir, long maxBytes) {
+        this.request = request;
+        this.cacheDir = cacheDir;
+        this.maxBytes = maxBytes;
+        this.played = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the uri to play the audio file from. If the file has been downloaded, return the local file uri.
+     * Otherwise, download it in the background and return the original url so it can be streamed.
+     * @param url audio file url
+     * @return playable uri
+     */
+    public String getUri(String url) {
+        String uri = getCachedUri(url);
+        if (!uri.equals(url)) {
+            return uri;
+        }
+
+        List<String> urls = new ArrayList<>();
+        urls.add(url);
+        prefetch(urls);
+        return url;
+    }
+
+    /**
+     * Gets the uri to play the audio file from without downloading it. If the file has been downloaded,
+     * return the local file uri. Otherwise, return the original url.
+     * @param url audio file url
+     * @return playable uri
+     */
+    public String getCachedUri(String url) {
+        Path path = getPath(url);
+        if (!Files.exists(path)) {
+            return url;
+        }
+        played.put(path, System.currentTimeMillis());
+        return path.toUri().toString();
+    }
+
+    /**
+     * Downloads the audio files that are not in the cache on a background thread
+     * @param urls audio file urls
+     */
+    public synchronized void prefetch(List<String> urls) {
+        if (prefetchExecutor == null) {
+            prefetchExecutor = Executors.newSingleThreadExecutor((runnable) -> {
+                Thread thread = new Thread(runnable, "audio-prefetch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        for (String url : urls) {
+            prefetchExecutor.submit(() -> {
+                download(url);
+            });
+        }
+    }
+
+    /**
+     * Downloads the audio file into the cache if it doesn't exist. The file is downloaded to a temporary file first
+     * so a partial download is never played. Return null if there are no errors.
+     * @param url audio file url
+     * @return error message
+     */
+    public String download(String url) {
+        Path path = getPath(url);
+        if (Files.exists(path)) {
+            return null;
+        }
+
+        try {
+            Files.createDirectories(cacheDir);
+            Path tmp = Files.createTempFile(cacheDir, "download", ".tmp");
+            try {
+                List<String> response = request.downloadFile(url, tmp);
+                // An interrupted download usually has no message
+                if (response.size() == 0 || response.get(0) == null) {
+                    return "Failed to download " + url;
+                }
+                if (response.size() != 1 || !response.get(0).startsWith("2")) {
+                    return response.get(0);
+                }
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+
+        evict();
+        return null;
+    }
+
+    /**
+     * Removes the least recently used files until the cache is within its maximum size. A file was last used when
+     * it was downloaded or last played, whichever is later.
+     */
+    public synchronized void evict() {
+        File[] files = cacheDir.toFile().listFiles((dir, name) -> name.endsWith(".mp3"));
+        if (files == null) {
+            return;
+        }
+
+        long total = 0;
+        for (File file : files) {
+            total += file.length();
+        }
+
+        Arrays.sort(files, Comparator.comparingLong(this::getLastUsed));
+        for (File file : files) {
+            if (total <= maxBytes) {
+                break;
+            }
+            long length = file.length();
+            if (file.delete()) {
+                total -= length;
+                played.remove(file.toPath());
+            }
+        }
+    }
+
+    /**
+     * Deletes all the downloaded audio files. Return null if there are no errors.
+     * @return error message
+     */
+    public synchronized String clear() {
+        played.clear();
+        File[] files = cacheDir.toFile().listFiles();
+        if (files == null) {
+            return null;
+        }
+
+        for (File file : files) {
+            if (!file.delete()) {
+                return "Failed to delete " + file.getName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the time the file was downloaded or last played, whichever is later
+     * @param file audio file
+     * @return time in milliseconds
+     */
+    private long getLastUsed(File file) {
+        return Math.max(file.lastModified(), played.getOrDefault(file.toPath(), 0L));
+    }
+
+    /**
+     * Gets the path of the audio file in the cache. The name is the SHA-256 hash of the url.
+     * @param url audio file url
+     * @return path
+     */
+    public Path getPath(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(url.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder();
+            for (byte b : hash) {
+                name.append(String.format("%02x", b));
+            }
+            name.append(".mp3");
+            return cacheDir.resolve(name.toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package oxforddictionaries.model.request;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * History of a session in SQLite, so the history page can read it a page at a time and filter it by the word
+ * without going through every search. The rows are in the order of the history, and the words are indexed
+ * without case for the filter. The connection is opened on the first use and kept, as the store is written on
+ * every search and read while the history page scrolls. The number of entries and the last position are counted
+ * when it is opened and kept up to date, so the size of the history doesn't go through the entries.
+ * By default the store is a temporary file which is deleted on exit, so a long session doesn't keep its history
+ * in memory.
+ */
+public class HistoryStore {
+    private static final String memoryDbName = ":memory:";
+    private final String dbURL;
+    private Connection conn;
+    private int count;
+    private long lastSeq;
+
+    /**
+     * A history entry and its position in the store
+     */
+    public static class Row {
+        private final long seq;
+        private final List<String> entry;
+
+        /**
+         * Creates the row
+         * @param seq position in the store
+         * @param entry history entry
+         */
+        public Row(long seq, List<String> entry) {
+            this.seq = seq;
+            this.entry = entry;
+        }
+
+        /**
+         * @return position in the store
+         */
+        public long getSeq() {
+            return seq;
+        }
+
+        /**
+         * @return history entry
+         */
+        public List<String> getEntry() {
+            return entry;
+        }
+    }
+
+    /**
+     * Creates the store in a new temporary file. If the file can't be created, the store is in memory.
+     */
+    public HistoryStore() {
+        this(createTempDb());
+    }
+
+    /**
+     * Creates the store in the given file
+     * @param dbName database file name
+     */
+    public HistoryStore(String dbName) {
+        this.dbURL = "jdbc:sqlite:" + dbName;
+    }
+
+    /**
+     * Creates an empty temporary file for the store, which is deleted on exit
+     * @return database file name, or the in memory name if the file can't be created
+     */
+    private static String createTempDb() {
+        try {
+            Path file = Files.createTempFile("history", ".db");
+            file.toFile().deleteOnExit();
+            return file.toString();
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            return memoryDbName;
+        }
+    }
+
+    /**
+     * Opens the connection and creates the history table if it hasn't been opened
+     * @return connection
+     * @throws SQLException if it can't be opened
+     */
+    private Connection connect() throws SQLException {
+        if (conn != null) {
+            return conn;
+        }
+        String createHistoryTableSQL =
+                """
+                CREATE TABLE IF NOT EXISTS history (
+                    seq integer PRIMARY KEY,
+                    lang text NOT NULL,
+                    word text NOT NULL COLLATE NOCASE,
+                    field text NOT NULL,
+                    gramFeat text NOT NULL,
+                    lexiCate text NOT NULL,
+                    domains text NOT NULL,
+                    registers text NOT NULL,
+                    matchType text NOT NULL,
+                    source text NOT NULL
+                );
+                """;
+
+        String createWordIndexSQL =
+                """
+                CREATE INDEX IF NOT EXISTS history_word ON history (word, seq);
+                """;
+
+        Connection connection = DriverManager.getConnection(dbURL);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(createHistoryTableSQL);
+            statement.execute(createWordIndexSQL);
+            ResultSet results = statement.executeQuery("SELECT COUNT(*), COALESCE(MAX(seq), 0) FROM history");
+            results.next();
+            this.count = results.getInt(1);
+            this.lastSeq = results.getLong(2);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        this.conn = connection;
+        return conn;
+    }
+
+    /**
+     * Adds the history entry to the end. Return null if there are no errors.
+     * @param entry lang, word, field, gramFeat, lexiCate, domains, registers, match and source of the search
+     * @return error message
+     */
+    public synchronized String add(List<String> entry) {
+        String addHistory =
+                """
+                INSERT INTO history(seq, lang, word, field, gramFeat, lexiCate, domains, registers, matchType, source) VALUES
+                    (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+
+        try (PreparedStatement preparedStatement = connect().prepareStatement(addHistory)) {
+            preparedStatement.setLong(1, lastSeq + 1);
+            for (int i = 0; i < 9; i++) {
+                preparedStatement.setString(i + 2, entry.get(i));
+            }
+            preparedStatement.executeUpdate();
+            this.lastSeq++;
+            this.count++;
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+
+        return null;
+    }
+
+    /**
+     * Moves the history entry to the end. Return null if there are no errors.
+     * @param seq position in the store
+     * @return error message
+     */
+    public synchronized String moveToEnd(long seq) {
+        String moveHistory =
+                """
+                UPDATE history
+                SET seq = ?
+                WHERE seq = ?
+                """;
+
+        try (PreparedStatement preparedStatement = connect().prepareStatement(moveHistory)) {
+            preparedStatement.setLong(1, lastSeq + 1);
+            preparedStatement.setLong(2, seq);
+            if (preparedStatement.executeUpdate() == 0) {
+                return "History entry " + seq + " was not found";
+            }
+            this.lastSeq++;
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+
+        return null;
+    }
+
+    /**
+     * Replaces the entries with the history, numbered from 1 in its order. Return null if there are no errors.
+     * @param history history entries
+     * @return error message
+     */
+    public synchronized String replace(List<List<String>> history) {
+        String addHistory =
+                """
+                INSERT INTO history(seq, lang, word, field, gramFeat, lexiCate, domains, registers, matchType, source) VALUES
+                    (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+
+        try {
+            Connection connection = connect();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement();
+                 PreparedStatement preparedStatement = connection.prepareStatement(addHistory)) {
+                statement.executeUpdate("DELETE FROM history");
+                for (int seq = 1; seq <= history.size(); seq++) {
+                    List<String> entry = history.get(seq - 1);
+                    preparedStatement.setLong(1, seq);
+                    for (int i = 0; i < 9; i++) {
+                        preparedStatement.setString(i + 2, entry.get(i));
+                    }
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+                connection.commit();
+                this.count = history.size();
+                this.lastSeq = history.size();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the history entry at the position. If it isn't found or it errors, return null.
+     * @param seq position in the store
+     * @return history entry
+     */
+    public synchronized List<String> get(long seq) {
+        String getHistory =
+                """
+                SELECT * FROM history
+                WHERE seq = ?
+                """;
+
+        try (PreparedStatement preparedStatement = connect().prepareStatement(getHistory)) {
+            preparedStatement.setLong(1, seq);
+            ResultSet results = preparedStatement.executeQuery();
+            return results.next() ? readEntry(results) : null;
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Gets the position of the last entry added or moved to the end, 0 if the store is empty. If it errors, return -1.
+     * @return position in the store
+     */
+    public synchronized long getLastSeq() {
+        try {
+            connect();
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return -1;
+        }
+        return lastSeq;
+    }
+
+    /**
+     * Counts the history entries whose word starts with the prefix, ignoring case. All the entries are counted
+     * without a query, and a prefix only counts its range of the word index. If it errors, return 0.
+     * @param prefix word prefix, empty for all the entries
+     * @return number of entries
+     */
+    public synchronized int size(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            try {
+                connect();
+            } catch (SQLException e) {
+                System.out.println(e.getMessage());
+                return 0;
+            }
+            return count;
+        }
+        String countHistory = "SELECT COUNT(*) FROM history" + wordCondition(prefix);
+
+        try (PreparedStatement preparedStatement = connect().prepareStatement(countHistory)) {
+            setWordCondition(preparedStatement, prefix);
+            ResultSet results = preparedStatement.executeQuery();
+            return results.next() ? results.getInt(1) : 0;
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Gets a page of the history entries whose word starts with the prefix, ignoring case, in the order of the history.
+     * If it errors, return an empty list.
+     * @param prefix word prefix, empty for all the entries
+     * @param offset number of entries before the page
+     * @param limit maximum number of entries in the page
+     * @return rows of the page
+     */
+    public List<Row> getPage(String prefix, int offset, int limit) {
+        return getPage(prefix, 0, offset, limit);
+    }
+
+    /**
+     * Gets a page of the history entries whose word starts with the prefix, ignoring case, after the position.
+     * With the position of the last row of the previous page and no offset, the page is found through the index
+     * without going through the entries before it. If it errors, return an empty list.
+     * @param prefix word prefix, empty for all the entries
+     * @param afterSeq position in the store the page is after, 0 for the start
+     * @param offset number of entries after the position before the page
+     * @param limit maximum number of entries in the page
+     * @return rows of the page
+     */
+    public synchronized List<Row> getPage(String prefix, long afterSeq, int offset, int limit) {
+        List<Row> rows = new ArrayList<>();
+        String condition = wordCondition(prefix);
+        condition += condition.isEmpty() ? " WHERE seq > ?" : " AND seq > ?";
+        String getHistory = "SELECT * FROM history" + condition + " ORDER BY seq LIMIT ? OFFSET ?";
+
+        try (PreparedStatement preparedStatement = connect().prepareStatement(getHistory)) {
+            int ind = setWordCondition(preparedStatement, prefix);
+            preparedStatement.setLong(ind, afterSeq);
+            preparedStatement.setInt(ind + 1, limit);
+            preparedStatement.setInt(ind + 2, offset);
+            ResultSet results = preparedStatement.executeQuery();
+
+            while (results.next()) {
+                rows.add(new Row(results.getLong("seq"), readEntry(results)));
+            }
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            rows.clear();
+        }
+
+        return rows;
+    }
+
+    /**
+     * Gets the index in the history of the row. If it errors, return -1.
+     * @param seq position in the store
+     * @return index in the history
+     */
+    public synchronized int indexOf(long seq) {
+        String countBefore =
+                """
+                SELECT COUNT(*) FROM history
+                WHERE seq < ?
+                """;
+
+        try (PreparedStatement preparedStatement = connect().prepareStatement(countBefore)) {
+            preparedStatement.setLong(1, seq);
+            ResultSet results = preparedStatement.executeQuery();
+            return results.next() ? results.getInt(1) : -1;
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Closes the connection. The store is opened again if it is used, and a store in memory is empty again.
+     */
+    public synchronized void close() {
+        if (conn == null) {
+            return;
+        }
+        try {
+            conn.close();
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+        }
+        this.conn = null;
+    }
+
+    /**
+     * Reads the history entry of the current row
+     * @param results rows of the history table
+     * @return history entry
+     * @throws SQLException if the row can't be read
+     */
+    private List<String> readEntry(ResultSet results) throws SQLException {
+        return List.of(results.getString("lang"), results.getString("word"), results.getString("field"),
+                results.getString("gramFeat"), results.getString("lexiCate"), results.getString("domains"),
+                results.getString("registers"), results.getString("matchType"), results.getString("source"));
+    }
+
+    /**
+     * Creates the condition of the word prefix. The prefix is a range of the word index.
+     * @param prefix word prefix
+     * @return where clause, empty if there is no prefix
+     */
+    private String wordCondition(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return "";
+        }
+        return " WHERE word >= ? AND word < ?";
+    }
+
+    /**
+     * Sets the parameters of the word prefix condition
+     * @param preparedStatement statement
+     * @param prefix word prefix
+     * @return index of the next parameter
+     * @throws SQLException if the parameters can't be set
+     */
+    private int setWordCondition(PreparedStatement preparedStatement, String prefix) throws SQLException {
+        if (prefix == null || prefix.isEmpty()) {
+            return 1;
+        }
+        preparedStatement.setString(1, prefix);
+        preparedStatement.setString(2, prefix + Character.MAX_VALUE);
+        return 3;
+    }
+}
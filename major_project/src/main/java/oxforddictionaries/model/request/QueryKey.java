@@ -0,0 +1,294 @@
+package oxforddictionaries.model.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A search of the Oxford Dictionaries Api. The filter values are trimmed, lower cased, sorted and deduped so
+ * equivalent searches have the same key, e.g. "noun,verb" and "verb, noun". The key is used for the database
+ * and the uri is only created when the api is requested.
+ */
+public class QueryKey {
+    /**
+     * Fields of the first request of a two phase search. The rest of the entry is requested when it is needed.
+     */
+    public static final String previewFields = "definitions,pronunciations";
+    private static final String apiUri = "https://od-api.oxforddictionaries.com/api/v2/";
+    private static final String[] parameters = {"fields", "grammaticalFeatures", "lexicalCategory", "domains", "registers", "strictMatch"};
+    private static final List<String> localParameters = List.of("grammaticalFeatures", "lexicalCategory", "domains", "registers");
+    private static final char[] hexDigits = "0123456789ABCDEF".toCharArray();
+    private final String endpoint;
+    private final String lang;
+    private final String word;
+    private final List<List<String>> filters;
+    private final String key;
+
+    /**
+     * Creates the key of an entry search
+     * @param lang language
+     * @param word word
+     * @param field field
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     * @return query key
+     */
+    public static QueryKey entries(String lang, String word, String field, String gramFeat, String lexiCate, String domains,
+                                   String registers, String match) {
+        return new QueryKey("entries", lang, word, field, gramFeat, lexiCate, domains, registers, match);
+    }
+
+    /**
+     * Creates the key of a lemma search
+     * @param lang language
+     * @param word word
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @return query key
+     */
+    public static QueryKey lemmas(String lang, String word, String gramFeat, String lexiCate) {
+        return new QueryKey("lemmas", lang, word, null, gramFeat, lexiCate, null, null, null);
+    }
+
+    /**
+     * Creates the query key. Null or blank filters are not used.
+     * @param endpoint api endpoint, e.g. entries
+     * @param lang language
+     * @param word word
+     * @param field field
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domains domains
+     * @param registers registers
+     * @param match match
+     */
+    public QueryKey(String endpoint, String lang, String word, String field, String gramFeat, String lexiCate, String domains,
+                    String registers, String match) {
+        this.endpoint = endpoint;
+        this.lang = lang;
+        this.word = word;
+
+        String[] values = {field, gramFeat, lexiCate, domains, registers, match};
+        List<List<String>> filters = new ArrayList<>();
+        for (String value : values) {
+            filters.add(normalise(value));
+        }
+        this.filters = Collections.unmodifiableList(filters);
+        this.key = createKey();
+    }
+
+    /**
+     * Creates the query key from filters that are already normalised
+     * @param endpoint api endpoint
+     * @param lang language
+     * @param word word
+     * @param filters normalised values of each parameter
+     */
+    private QueryKey(String endpoint, String lang, String word, List<List<String>> filters) {
+        this.endpoint = endpoint;
+        this.lang = lang;
+        this.word = word;
+        this.filters = Collections.unmodifiableList(filters);
+        this.key = createKey();
+    }
+
+    /**
+     * Splits the filter by commas, trims and lower cases the values, then sorts and removes duplicates
+     * @param filter filter typed by the user
+     * @return sorted values, empty if there are none
+     */
+    public static List<String> normalise(String filter) {
+        if (filter == null || filter.isBlank()) {
+            return Collections.emptyList();
+        }
+
+        Set<String> values = new TreeSet<>();
+        for (String value : filter.split(",")) {
+            String trim = value.trim().toLowerCase();
+            if (!trim.isEmpty()) {
+                values.add(trim);
+            }
+        }
+        return List.copyOf(values);
+    }
+
+    /**
+     * Checks if the field is the preview of a two phase search
+     * @param field field typed by the user
+     * @return true if it only asks for the preview fields
+     */
+    public static boolean isPreview(String field) {
+        return normalise(field).equals(normalise(previewFields));
+    }
+
+    /**
+     * Creates the key, e.g. entries/en-gb/ace?lexicalCategory=noun,verb
+     * @return key
+     */
+    private String createKey() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(endpoint).append('/').append(lang).append('/').append(word);
+        char separator = '?';
+        for (int i = 0; i < parameters.length; i++) {
+            List<String> values = filters.get(i);
+            if (values.isEmpty()) {
+                continue;
+            }
+            builder.append(separator).append(parameters[i]).append('=').append(String.join(",", values));
+            separator = '&';
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Gets the key stored in the database
+     * @return key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Creates the uri to request the api with. The word and filter values are escaped in one pass.
+     * @return uri
+     */
+    public String toUri() {
+        StringBuilder builder = new StringBuilder(apiUri.length() + key.length() + 16);
+        builder.append(apiUri).append(endpoint).append('/');
+        escape(lang, builder);
+        builder.append('/');
+        escape(word, builder);
+        char separator = '?';
+        for (int i = 0; i < parameters.length; i++) {
+            List<String> values = filters.get(i);
+            if (values.isEmpty()) {
+                continue;
+            }
+            builder.append(separator).append(parameters[i]).append('=');
+            for (int j = 0; j < values.size(); j++) {
+                if (j > 0) {
+                    builder.append(',');
+                }
+                escape(values.get(j), builder);
+            }
+            separator = '&';
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Percent encodes the characters that aren't unreserved in a uri, e.g. "%", "$" and spaces
+     * @param value value to escape
+     * @param builder builder to append to
+     */
+    public static void escape(String value, StringBuilder builder) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isUnreserved(c)) {
+                builder.append(c);
+                continue;
+            }
+
+            int end = i + 1;
+            if (Character.isHighSurrogate(c) && end < value.length()) {
+                end++;
+            }
+            for (byte b : value.substring(i, end).getBytes(StandardCharsets.UTF_8)) {
+                builder.append('%').append(hexDigits[(b >> 4) & 0xF]).append(hexDigits[b & 0xF]);
+            }
+            i = end - 1;
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    /**
+     * Gets the values of the filter
+     * @param parameter api parameter name, e.g. lexicalCategory
+     * @return sorted values, empty if it isn't used
+     */
+    public List<String> getFilter(String parameter) {
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].equals(parameter)) {
+                return filters.get(i);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Checks if the search uses a filter that can be evaluated on a cached entry: grammatical features,
+     * lexical categories, domains or registers
+     * @return true if a local filter is used
+     */
+    public boolean hasLocalFilters() {
+        for (String parameter : localParameters) {
+            if (!getFilter(parameter).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the search without the local filters. Its response contains the response of this search.
+     * The fields and strict match are kept as they change what the api returns.
+     * @return query key
+     */
+    public QueryKey getSuperset() {
+        List<List<String>> supersetFilters = new ArrayList<>();
+        for (int i = 0; i < parameters.length; i++) {
+            if (localParameters.contains(parameters[i])) {
+                supersetFilters.add(Collections.emptyList());
+            }
+            else {
+                supersetFilters.add(filters.get(i));
+            }
+        }
+        return new QueryKey(endpoint, lang, word, supersetFilters);
+    }
+
+    /**
+     * @return language
+     */
+    public String getLang() {
+        return lang;
+    }
+
+    /**
+     * @return word
+     */
+    public String getWord() {
+        return word;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryKey)) {
+            return false;
+        }
+        return key.equals(((QueryKey) o).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,69 @@
+package oxforddictionaries.model.request;
+
+import oxforddictionaries.model.metrics.Metrics;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends the GET requests to the api through a rate limiter, so the clients of a shared server stay within
+ * the api quota. Audio downloads and POST requests don't count against the api and aren't limited.
+ */
+public class RateLimitedRequest extends Request {
+    private final Request request;
+    private final RateLimiter rateLimiter;
+
+    /**
+     * Creates the rate limited request
+     * @param request request which sends the requests
+     * @param rateLimiter rate limiter
+     */
+    public RateLimitedRequest(Request request, RateLimiter rateLimiter) {
+        super(null, null);
+        this.request = request;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Waits for the rate limiter, then sends the GET request. The wait is recorded in the metrics.
+     * @param uri url
+     * @return http response, or the error message if interrupted while waiting
+     */
+    @Override
+    public List<String> getRequest(String uri) {
+        long start = Metrics.start();
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            List<String> msg = new ArrayList<>();
+            msg.add("Interrupted while waiting for the rate limit");
+            return msg;
+        }
+        Metrics.stop("http.rateLimit", start);
+        return request.getRequest(uri);
+    }
+
+    /**
+     * Downloads the file without waiting for the rate limiter
+     * @param uri url
+     * @param path file to write to
+     * @return http response
+     */
+    @Override
+    public List<String> downloadFile(String uri, Path path) {
+        return request.downloadFile(uri, path);
+    }
+
+    /**
+     * Sends the POST request without waiting for the rate limiter
+     * @param uri url
+     * @param postBody data to be sent to the api
+     * @return http response
+     */
+    @Override
+    public List<String> postRequest(String uri, String postBody) {
+        return request.postRequest(uri, postBody);
+    }
+}
@@ -0,0 +1,65 @@
+package oxforddictionaries.model.request;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the requests to a number per minute with a token bucket. Up to the burst can be sent at once, then the
+ * requests are spaced out. Each request reserves its time while holding the lock and waits after releasing it,
+ * so waiting requests don't block the others from reserving.
+ */
+public class RateLimiter {
+    private final double nanosPerPermit;
+    private final double burst;
+    private final LongSupplier clock;
+    private double tokens;
+    private long last;
+
+    /**
+     * Creates the rate limiter with a full bucket
+     * @param permitsPerMinute requests per minute
+     * @param burst requests which can be sent at once
+     */
+    public RateLimiter(double permitsPerMinute, int burst) {
+        this(permitsPerMinute, burst, System::nanoTime);
+    }
+
+    /**
+     * Creates the rate limiter with a full bucket
+     * @param permitsPerMinute requests per minute
+     * @param burst requests which can be sent at once
+     * @param clock time in nanoseconds
+     */
+    RateLimiter(double permitsPerMinute, int burst, LongSupplier clock) {
+        this.nanosPerPermit = 60e9 / permitsPerMinute;
+        this.burst = Math.max(1, burst);
+        this.clock = clock;
+        this.tokens = this.burst;
+        this.last = clock.getAsLong();
+    }
+
+    /**
+     * Reserves a request and returns how long to wait before sending it
+     * @return wait in nanoseconds
+     */
+    public synchronized long reserve() {
+        long now = clock.getAsLong();
+        tokens = Math.min(burst, tokens + (now - last) / nanosPerPermit);
+        last = now;
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) (-tokens * nanosPerPermit);
+    }
+
+    /**
+     * Waits until the request can be sent
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire() throws InterruptedException {
+        long wait = reserve();
+        if (wait > 0) {
+            Thread.sleep(wait / 1000000, (int) (wait % 1000000));
+        }
+    }
+}
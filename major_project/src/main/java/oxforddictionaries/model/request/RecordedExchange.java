@@ -0,0 +1,47 @@
+package oxforddictionaries.model.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A GET request and its response captured by the recording request. It is one line of json in the recording.
+ */
+public class RecordedExchange {
+    private String uri;
+    private List<String> response;
+    private double millis;
+
+    /**
+     * Creates the exchange
+     * @param uri uri
+     * @param response status code and body, or the error message
+     * @param millis time taken in milliseconds
+     */
+    public RecordedExchange(String uri, List<String> response, double millis) {
+        this.uri = uri;
+        this.response = new ArrayList<>(response);
+        this.millis = millis;
+    }
+
+    /**
+     * @return uri
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * Gets a copy of the response so it can be changed by the caller
+     * @return status code and body, or the error message
+     */
+    public List<String> getResponse() {
+        return new ArrayList<>(response);
+    }
+
+    /**
+     * @return time taken in milliseconds
+     */
+    public double getMillis() {
+        return millis;
+    }
+}
@@ -0,0 +1,62 @@
+package oxforddictionaries.model.request;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Performs the GET requests to the api and appends each uri, response and time taken to a recording,
+ * which can be served back by the replay request without a network.
+ */
+public class RecordingRequest extends Request {
+    private final Path recording;
+    private final Gson gson;
+
+    /**
+     * Creates the recording request. The exchanges are added to the end of the recording.
+     * @param INPUT_API_APP_ID Oxford Dictionaries api id
+     * @param INPUT_APP_KEY Oxford Dictionaries app key
+     * @param recording recording file
+     */
+    public RecordingRequest(String INPUT_API_APP_ID, String INPUT_APP_KEY, Path recording) {
+        super(INPUT_API_APP_ID, INPUT_APP_KEY);
+        this.recording = recording;
+        this.gson = new Gson();
+    }
+
+    /**
+     * Sends a GET request to the API and records the response and the time taken
+     * @param uri url
+     * @return http response
+     */
+    @Override
+    public List<String> getRequest(String uri) {
+        long start = System.nanoTime();
+        List<String> response = super.getRequest(uri);
+        record(uri, response, (System.nanoTime() - start) / 1e6);
+        return response;
+    }
+
+    /**
+     * Appends the exchange to the recording. It is written straight away so nothing is lost if the application exits.
+     * Return null if there are no errors.
+     * @param uri uri
+     * @param response status code and body, or the error message
+     * @param millis time taken in milliseconds
+     * @return error message
+     */
+    public synchronized String record(String uri, List<String> response, double millis) {
+        String line = gson.toJson(new RecordedExchange(uri, response, millis)) + System.lineSeparator();
+        try {
+            Files.writeString(recording, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+        return null;
+    }
+}
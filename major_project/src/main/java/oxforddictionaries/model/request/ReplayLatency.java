@@ -0,0 +1,94 @@
+package oxforddictionaries.model.request;
+
+import java.util.Random;
+
+/**
+ * How long the replay request waits before returning a response. The delays are drawn from a seeded random
+ * so a replay is the same every time it is run.
+ * <ul>
+ *     <li>recorded: the time the exchange took when it was recorded</li>
+ *     <li>none: no delay</li>
+ *     <li>fixed:ms: the same delay for every exchange</li>
+ *     <li>uniform:min:max: a delay between min and max</li>
+ *     <li>lognormal:median:sigma: a delay with a long tail, like a real network</li>
+ * </ul>
+ */
+public class ReplayLatency {
+    private static final long seed = 42;
+    private final String type;
+    private final double first;
+    private final double second;
+    private final Random random;
+
+    /**
+     * Creates the latency
+     * @param type recorded, none, fixed, uniform or lognormal
+     * @param first fixed delay, minimum or median in milliseconds
+     * @param second maximum in milliseconds or sigma
+     */
+    public ReplayLatency(String type, double first, double second) {
+        this.type = type;
+        this.first = first;
+        this.second = second;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Creates the latency from its description, e.g. recorded or uniform:50:250
+     * @param description latency description
+     * @return latency, null if it isn't valid
+     */
+    public static ReplayLatency parse(String description) {
+        String[] parts = description.trim().split(":");
+        try {
+            switch (parts[0]) {
+                case "recorded":
+                case "none":
+                    if (parts.length == 1) {
+                        return new ReplayLatency(parts[0], 0, 0);
+                    }
+                    break;
+                case "fixed":
+                    if (parts.length == 2 && Double.parseDouble(parts[1]) >= 0) {
+                        return new ReplayLatency(parts[0], Double.parseDouble(parts[1]), 0);
+                    }
+                    break;
+                case "uniform":
+                case "lognormal":
+                    if (parts.length == 3) {
+                        double first = Double.parseDouble(parts[1]);
+                        double second = Double.parseDouble(parts[2]);
+                        if (first >= 0 && second >= 0 && (parts[0].equals("lognormal") || first <= second)) {
+                            return new ReplayLatency(parts[0], first, second);
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (NumberFormatException e) {
+            System.out.println(e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Gets the delay of the next exchange
+     * @param recordedMillis time the exchange took when it was recorded
+     * @return delay in milliseconds
+     */
+    public synchronized double getDelay(double recordedMillis) {
+        switch (type) {
+            case "recorded":
+                return recordedMillis;
+            case "fixed":
+                return first;
+            case "uniform":
+                return first + random.nextDouble() * (second - first);
+            case "lognormal":
+                return first * Math.exp(second * random.nextGaussian());
+            default:
+                return 0;
+        }
+    }
+}
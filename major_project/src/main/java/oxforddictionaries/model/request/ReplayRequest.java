@@ -0,0 +1,119 @@
+package oxforddictionaries.model.request;
+
+import com.google.gson.Gson;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves the GET requests from a recording instead of the api, so the application can be tested with real
+ * responses without a network. A uri that was recorded more than once returns its responses in the order
+ * they were recorded, then starts again. Each response is delayed by the replay latency.
+ */
+public class ReplayRequest extends Request {
+    private final Map<String, List<RecordedExchange>> exchanges;
+    private final Map<String, Integer> replayed;
+    private final ReplayLatency latency;
+
+    /**
+     * Loads the recording
+     * @param recording recording file
+     * @param latency delay of the responses
+     * @throws IOException if the recording can't be read
+     */
+    public ReplayRequest(Path recording, ReplayLatency latency) throws IOException {
+        super(null, null);
+        this.exchanges = new HashMap<>();
+        this.replayed = new HashMap<>();
+        this.latency = latency;
+
+        Gson gson = new Gson();
+        try (BufferedReader reader = Files.newBufferedReader(recording)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                RecordedExchange exchange = gson.fromJson(line, RecordedExchange.class);
+                exchanges.computeIfAbsent(exchange.getUri(), (uri) -> new ArrayList<>()).add(exchange);
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Invalid recording: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the next recorded response of the uri after the replay latency. If the uri wasn't recorded,
+     * return an error message like a failed request.
+     * @param uri url
+     * @return http response
+     */
+    @Override
+    public List<String> getRequest(String uri) {
+        RecordedExchange exchange = next(uri);
+        if (exchange == null) {
+            List<String> msg = new ArrayList<>();
+            msg.add("Not recorded: " + uri);
+            return msg;
+        }
+
+        double delay = latency.getDelay(exchange.getMillis());
+        if (delay > 0) {
+            try {
+                Thread.sleep((long) delay, (int) ((delay % 1) * 1000000));
+            } catch (InterruptedException e) {
+                List<String> msg = new ArrayList<>();
+                msg.add(e.getMessage());
+                return msg;
+            }
+        }
+
+        List<String> response = exchange.getResponse();
+        if (response.size() == 2) {
+            countResponse(Integer.parseInt(response.get(0)), response.get(1));
+        }
+        return response;
+    }
+
+    /**
+     * Gets the next exchange of the uri
+     * @param uri url
+     * @return exchange, null if it wasn't recorded
+     */
+    private synchronized RecordedExchange next(String uri) {
+        List<RecordedExchange> recorded = exchanges.get(uri);
+        if (recorded == null) {
+            return null;
+        }
+        int index = replayed.getOrDefault(uri, 0);
+        replayed.put(uri, index + 1);
+        return recorded.get(index % recorded.size());
+    }
+
+    /**
+     * Audio files are not recorded
+     * @param uri url
+     * @param path file to write to
+     * @return error message
+     */
+    @Override
+    public List<String> downloadFile(String uri, Path path) {
+        List<String> msg = new ArrayList<>();
+        msg.add("Not recorded: " + uri);
+        return msg;
+    }
+
+    /**
+     * Gets the number of recorded uris
+     * @return number of uris
+     */
+    public int size() {
+        return exchanges.size();
+    }
+}
@@ -1,6 +1,8 @@
 package oxforddictionaries.model.request;
 
 
+import oxforddictionaries.model.metrics.Metrics;
+
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -8,15 +10,19 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Performs the POST and GET requests
+ * Performs the POST and GET requests. The status codes, errors and bytes transferred are counted in the metrics.
+ * All the requests share one http client so connections are reused.
  */
 public class Request {
     private final String INPUT_APP_KEY;
     private final String INPUT_API_APP_ID;
+    private static final HttpClient client = HttpClient.newBuilder().build();
 
     /**
      * Creates the Request object
@@ -29,7 +35,8 @@ public class Request {
     }
 
     /**
-     * Sends a GET request to the API and constructs a list of strings with the response status code and response body
+     * Sends a GET request to the API and constructs a list of strings with the response status code and response body.
+     * The api id and key are only sent if they are set.
      * @param uri url
      * @return http response
      */
@@ -37,21 +44,23 @@ public class Request {
         List<String> msg = new ArrayList<String>();
 //        System.out.println(INPUT_API_APP_ID + " " + INPUT_APP_KEY);
         try {
-            HttpRequest request = HttpRequest.newBuilder(new URI(uri))
+            HttpRequest.Builder builder = HttpRequest.newBuilder(new URI(uri))
                     .GET()
-                    .header("Accept", "application/json")
-                    .header("app_id", INPUT_API_APP_ID)
-                    .header("app_key", INPUT_APP_KEY)
-                    .build();
-
-            HttpClient client = HttpClient.newBuilder().build();
+                    .header("Accept", "application/json");
+            if (INPUT_API_APP_ID != null && INPUT_APP_KEY != null) {
+                builder.header("app_id", INPUT_API_APP_ID)
+                        .header("app_key", INPUT_APP_KEY);
+            }
+            HttpRequest request = builder.build();
 
             HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
             msg.add(String.valueOf(response.statusCode()));
 //            msg.add(String.valueOf(response.headers()));
             msg.add(response.body());
+            countResponse(response.statusCode(), response.body());
 
         } catch (IOException | InterruptedException e) {
+            Metrics.increment("http.errors");
             System.out.println("Something went wrong with our request!");
 //            System.out.println(e.getMessage());
 //            msg.add("Something went wrong with our request!");
@@ -65,6 +74,37 @@ public class Request {
         return msg;
     }
 
+    /**
+     * Sends a GET request for a file and writes the response body to the given path.
+     * Constructs a list of strings with the response status code, or the error message if it failed.
+     * @param uri url
+     * @param path file to write to
+     * @return http response
+     */
+    public List<String> downloadFile(String uri, Path path) {
+        List<String> msg = new ArrayList<String>();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(new URI(uri))
+                    .GET()
+                    .build();
+
+            HttpResponse<Path> response = client.send(request, HttpResponse.BodyHandlers.ofFile(path));
+            msg.add(String.valueOf(response.statusCode()));
+            Metrics.increment("http.status." + response.statusCode());
+            if (Metrics.isEnabled()) {
+                Metrics.add("http.bytes.received", Files.size(path));
+            }
+
+        } catch (IOException | InterruptedException e) {
+            Metrics.increment("http.errors");
+            System.out.println("Something went wrong with our request!");
+            msg.add(e.getMessage());
+        } catch (URISyntaxException ignored) {
+            msg.add(ignored.getMessage());
+        }
+        return msg;
+    }
+
     /**
      * Sends a POST request to the api and sends the data in UTF_8. Constructs a list of strings with the response status code and response body
      * @param uri url
@@ -80,15 +120,16 @@ public class Request {
                     .header("Content-type", "application/x-www-form-urlencoded")
                     .build();
 
-            HttpClient client = HttpClient.newBuilder().build();
-
             HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
             msg.add(String.valueOf(response.statusCode()));
 //            msg.add(String.valueOf(response.headers()));
             msg.add(response.body());
 //            System.out.println(response.body());
+            Metrics.add("http.bytes.sent", bytes.length);
+            countResponse(response.statusCode(), response.body());
 
         } catch (IOException | InterruptedException e) {
+            Metrics.increment("http.errors");
             System.out.println("Something went wrong with our request!");
 //            System.out.println(e.getMessage());
 //            msg.add("Something went wrong with our request!");
@@ -101,4 +142,19 @@ public class Request {
         }
         return msg;
     }
+
+    /**
+     * Counts the status code and the size of the response body in the metrics
+     * @param statusCode status code
+     * @param body response body
+     */
+    public void countResponse(int statusCode, String body) {
+        if (!Metrics.isEnabled()) {
+            return;
+        }
+        Metrics.increment("http.status." + statusCode);
+        if (body != null) {
+            Metrics.add("http.bytes.received", body.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
 }
@@ -0,0 +1,543 @@
+package oxforddictionaries.model.request;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Database with a file for every language, e.g. OxfordDictionary-en-gb.db next to OxfordDictionary.db. A language's file
+ * is only opened when it is first searched, and it has its own size budget and eviction policy, so a large cache of one
+ * language doesn't slow down or evict the searches of another. A row is added with its size and the time it was used,
+ * and the rows used the longest time ago are deleted once the language is over its budget. With the lru policy a
+ * search uses the row again, with the fifo policy only adding it does. The searches are kept in memory and written with
+ * the next row that is added, so a search never writes to the file.
+ * The database file of the name is the cache from before the languages had their own files. It is read when a search
+ * isn't in the file of its language, and cleared with it, but nothing is added to it.
+ */
+public class ShardedDatabase extends SqlDatabase {
+    public static final String leastRecentlyUsed = "lru";
+    public static final String firstInFirstOut = "fifo";
+    private static final long megabyte = 1024L * 1024;
+    private static final long defaultBudget = 256 * megabyte;
+    private static final int maxPendingUses = 1000;
+    private final Path directory;
+    private final String prefix;
+    private final String suffix;
+    private final boolean readOnly;
+    private final boolean legacy;
+    private final Map<String, Shard> shards;
+    private final Map<String, Long> budgets;
+    private final Map<String, String> policies;
+    private final AtomicLong clock;
+    private volatile long budget;
+    private volatile String policy;
+
+    /**
+     * The database of a language, the size of its rows and the searches that haven't been written
+     */
+    private static class Shard {
+        private final SqlDatabase db;
+        private final Map<List<String>, Long> pendingUses;
+        private boolean ready;
+        private long size;
+
+        private Shard(SqlDatabase db) {
+            this.db = db;
+            this.pendingUses = new HashMap<>();
+        }
+    }
+
+    /**
+     * Creates the database in the files of the default name with a budget of 256 MB for every language
+     */
+    public ShardedDatabase() {
+        this("OxfordDictionary.db", false);
+    }
+
+    /**
+     * Opens the database in the files of the given name with a budget of 256 MB for every language.
+     * A read only database never creates, writes to or evicts from the files.
+     * @param dbName database file name, the files of the languages are next to it
+     * @param readOnly open the database read only
+     */
+    public ShardedDatabase(String dbName, boolean readOnly) {
+        super(dbName, readOnly);
+        Path path = Paths.get(dbName).toAbsolutePath();
+        String fileName = path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        this.directory = path.getParent();
+        this.prefix = (dot > 0 ? fileName.substring(0, dot) : fileName) + "-";
+        this.suffix = dot > 0 ? fileName.substring(dot) : ".db";
+        this.readOnly = readOnly;
+        this.legacy = Files.exists(path);
+        this.shards = new ConcurrentHashMap<>();
+        this.budgets = new ConcurrentHashMap<>();
+        this.policies = new ConcurrentHashMap<>();
+        this.clock = new AtomicLong(System.currentTimeMillis());
+        this.budget = defaultBudget;
+        this.policy = leastRecentlyUsed;
+    }
+
+    /**
+     * Opens the database in the files of the given name with the budgets from the environment variables.
+     * INPUT_CACHE_BUDGET is the budget of every language in MB, 256 if it isn't set. INPUT_CACHE_SHARDS sets the budget
+     * and policy of languages, e.g. en-gb=512:lru,es=64:fifo. If a variable is invalid, return null.
+     * @param dbName database file name
+     * @param readOnly open the database read only
+     * @return database
+     */
+    public static ShardedDatabase fromEnvironment(String dbName, boolean readOnly) {
+        ShardedDatabase db = new ShardedDatabase(dbName, readOnly);
+        String budget = System.getenv("INPUT_CACHE_BUDGET");
+        String error = db.setShards(budget == null ? null : "*=" + budget);
+        if (error == null) {
+            error = db.setShards(System.getenv("INPUT_CACHE_SHARDS"));
+        }
+        if (error != null) {
+            System.out.println(error);
+            return null;
+        }
+        return db;
+    }
+
+    /**
+     * Sets the budgets and policies of the languages, e.g. en-gb=512:lru,es=64:fifo with the budgets in MB.
+     * The language * sets the default of the other languages. Return null if there are no errors.
+     * @param shards comma-delimited languages, budgets and policies
+     * @return error message
+     */
+    public String setShards(String shards) {
+        if (shards == null || shards.isBlank()) {
+            return null;
+        }
+        for (String shard : shards.split(",")) {
+            String[] langBudget = shard.strip().split("=");
+            if (langBudget.length != 2 || langBudget[0].isBlank()) {
+                return "Invalid cache shard " + shard.strip();
+            }
+            String[] budgetPolicy = langBudget[1].split(":");
+            long shardBudget;
+            try {
+                shardBudget = (long) (Double.parseDouble(budgetPolicy[0]) * megabyte);
+            } catch (NumberFormatException e) {
+                return "Invalid cache budget " + budgetPolicy[0];
+            }
+            String shardPolicy = budgetPolicy.length > 1 ? budgetPolicy[1] : null;
+            if (shardBudget < 0 || budgetPolicy.length > 2 || (shardPolicy != null
+                    && !shardPolicy.equals(leastRecentlyUsed) && !shardPolicy.equals(firstInFirstOut))) {
+                return "Invalid cache shard " + shard.strip();
+            }
+            setShard(langBudget[0].strip(), shardBudget, shardPolicy);
+        }
+        return null;
+    }
+
+    /**
+     * Sets the budget and policy of a language. The language * sets the default of the other languages.
+     * @param lang language
+     * @param budget size in bytes
+     * @param policy lru or fifo, null to keep the policy
+     */
+    public void setShard(String lang, long budget, String policy) {
+        if (lang.equals("*")) {
+            this.budget = budget;
+            if (policy != null) {
+                this.policy = policy;
+            }
+            return;
+        }
+        budgets.put(lang, budget);
+        if (policy != null) {
+            policies.put(lang, policy);
+        }
+    }
+
+    /**
+     * Gets the budget of the language
+     * @param lang language
+     * @return size in bytes
+     */
+    public long getBudget(String lang) {
+        return budgets.getOrDefault(lang, budget);
+    }
+
+    /**
+     * Gets the eviction policy of the language
+     * @param lang language
+     * @return lru or fifo
+     */
+    public String getPolicy(String lang) {
+        return policies.getOrDefault(lang, policy);
+    }
+
+    /**
+     * Gets the size of the rows of the language. If it errors, return -1.
+     * @param lang language
+     * @return size in bytes
+     */
+    public long getUsedSize(String lang) {
+        Shard shard = getShard(lang);
+        if (shard == null) {
+            return 0;
+        }
+        synchronized (shard) {
+            return shard.size;
+        }
+    }
+
+    /**
+     * Gets the file of the language
+     * @param lang language
+     * @return file name
+     */
+    public String getShardName(String lang) {
+        return directory.resolve(prefix + lang.replaceAll("[^A-Za-z0-9-]", "_") + suffix).toString();
+    }
+
+    /**
+     * The files of the languages are created when they are first searched
+     * @return null
+     */
+    @Override
+    public String setupDB() {
+        return null;
+    }
+
+    @Override
+    public String addEntry(String uri, String json, int code) {
+        return add("entries", uri, json, code, false);
+    }
+
+    @Override
+    public String addLemma(String uri, String json, int code) {
+        return add("lemmas", uri, json, code, false);
+    }
+
+    @Override
+    public String updateEntry(String uri, String json, int code) {
+        return add("entries", uri, json, code, true);
+    }
+
+    @Override
+    public String updateLemma(String uri, String json, int code) {
+        return add("lemmas", uri, json, code, true);
+    }
+
+    @Override
+    public List<String> getEntry(String uri) {
+        return get("entries", uri);
+    }
+
+    @Override
+    public List<String> getLemma(String uri) {
+        return get("lemmas", uri);
+    }
+
+    /**
+     * Passes every entry to the handler, in order of the language then the uri, then the entries of the old database
+     * which aren't in the file of their language, so a row that was added again is only passed once
+     * @param handler row handler
+     * @return error message
+     */
+    @Override
+    public String forEachEntry(RowHandler handler) {
+        for (String lang : getLanguages()) {
+            Shard shard = getShard(lang);
+            String error = shard == null ? null : shard.db.forEachEntry(handler);
+            if (error != null) {
+                return error;
+            }
+        }
+        return legacy ? super.forEachEntry(skipShardRows("entries", handler)) : null;
+    }
+
+    /**
+     * Passes every lemma to the handler, in order of the language then the uri, then the lemmas of the old database
+     * which aren't in the file of their language, so a row that was added again is only passed once
+     * @param handler row handler
+     * @return error message
+     */
+    @Override
+    public String forEachLemma(RowHandler handler) {
+        for (String lang : getLanguages()) {
+            Shard shard = getShard(lang);
+            String error = shard == null ? null : shard.db.forEachLemma(handler);
+            if (error != null) {
+                return error;
+            }
+        }
+        return legacy ? super.forEachLemma(skipShardRows("lemmas", handler)) : null;
+    }
+
+    @Override
+    public String setRelated(String lang, String word, List<List<String>> related) {
+        Shard shard = getShard(lang);
+        if (shard == null) {
+            return "The cache of " + lang + " is read only";
+        }
+        return shard.db.setRelated(lang, word, related);
+    }
+
+    @Override
+    public List<List<String>> getRelated(String lang, String word) {
+        Shard shard = getShard(lang);
+        List<List<String>> related = shard == null ? new ArrayList<>() : shard.db.getRelated(lang, word);
+        if (related.isEmpty() && legacy) {
+            return super.getRelated(lang, word);
+        }
+        return related;
+    }
+
+    /**
+     * Clears the files of every language and the old database. Return null if there are no errors.
+     * @return error message
+     */
+    @Override
+    public String clearDatabase() {
+        for (String lang : getLanguages()) {
+            String error = clearShard(lang);
+            if (error != null) {
+                return error;
+            }
+        }
+        return legacy ? super.clearDatabase() : null;
+    }
+
+    /**
+     * Clears the file of the language and its rows of the old database. The other languages are kept.
+     * Return null if there are no errors.
+     * @param lang language
+     * @return error message
+     */
+    @Override
+    public String clearLanguage(String lang) {
+        String error = clearShard(lang);
+        if (error != null) {
+            return error;
+        }
+        return legacy ? super.clearLanguage(lang) : null;
+    }
+
+    /**
+     * Opens the file of the language and reads it, so its first search doesn't wait for it
+     * @param lang language
+     * @return error message
+     */
+    @Override
+    public String warmUp(String lang) {
+        Shard shard = getShard(lang);
+        if (shard == null) {
+            return null;
+        }
+        return shard.db.warmUp(lang);
+    }
+
+    /**
+     * Adds or updates the row in the file of its language and records its size. The searches kept in memory are
+     * written first. If the language is over its budget, the rows used the longest time ago are evicted.
+     * @param table entries or lemmas
+     * @param uri uri
+     * @param json json
+     * @param code status code
+     * @param update update the row instead of adding it
+     * @return error message
+     */
+    private String add(String table, String uri, String json, int code, boolean update) {
+        String lang = getLanguage(uri);
+        if (lang == null) {
+            return "No language in " + uri;
+        }
+        Shard shard = getShard(lang);
+        if (shard == null) {
+            return "The cache of " + lang + " is read only";
+        }
+
+        String error;
+        if (table.equals("lemmas")) {
+            error = update ? shard.db.updateLemma(uri, json, code) : shard.db.addLemma(uri, json, code);
+        }
+        else {
+            error = update ? shard.db.updateEntry(uri, json, code) : shard.db.addEntry(uri, json, code);
+        }
+        if (error != null) {
+            return error;
+        }
+
+        long size = uri.getBytes(StandardCharsets.UTF_8).length + json.getBytes(StandardCharsets.UTF_8).length;
+        long shardBudget = getBudget(lang);
+        synchronized (shard) {
+            shard.pendingUses.remove(List.of(table, uri));
+            error = flushUses(shard);
+            if (error != null) {
+                return error;
+            }
+            long replacedSize = shard.db.getRowSize(table, uri);
+            if (replacedSize < 0) {
+                return "Failed to read the size of " + uri;
+            }
+            error = shard.db.recordUse(table, uri, size, tick());
+            if (error != null) {
+                return error;
+            }
+            shard.size += size - replacedSize;
+            if (shard.size > shardBudget) {
+                error = shard.db.evict(shardBudget);
+                shard.size = shard.db.getUsedSize();
+            }
+        }
+        return error;
+    }
+
+    /**
+     * Gets the row from the file of its language, or the old database if it isn't there. With the lru policy, the row
+     * is used again in memory. If many searches haven't been written, they are written.
+     * @param table entries or lemmas
+     * @param uri uri
+     * @return list of results or errors
+     */
+    private List<String> get(String table, String uri) {
+        String lang = getLanguage(uri);
+        Shard shard = lang == null ? null : getShard(lang);
+        List<String> row = new ArrayList<>();
+        if (shard != null) {
+            row = table.equals("lemmas") ? shard.db.getLemma(uri) : shard.db.getEntry(uri);
+            if (row.size() == 2 && !readOnly && getPolicy(lang).equals(leastRecentlyUsed)) {
+                synchronized (shard) {
+                    shard.pendingUses.put(List.of(table, uri), tick());
+                    if (shard.pendingUses.size() >= maxPendingUses) {
+                        flushUses(shard);
+                    }
+                }
+            }
+        }
+        if (row.isEmpty() && legacy) {
+            return table.equals("lemmas") ? super.getLemma(uri) : super.getEntry(uri);
+        }
+        return row;
+    }
+
+    /**
+     * Wraps the handler of the old database's rows so the rows which are also in the file of their language are skipped
+     * @param table entries or lemmas
+     * @param handler row handler
+     * @return row handler
+     */
+    private RowHandler skipShardRows(String table, RowHandler handler) {
+        return (uri, json, code) -> {
+            String lang = getLanguage(uri);
+            Shard shard = lang == null ? null : getShard(lang);
+            if (shard != null) {
+                List<String> row = table.equals("lemmas") ? shard.db.getLemma(uri) : shard.db.getEntry(uri);
+                if (row.size() == 1) {
+                    throw new IOException(row.get(0));
+                }
+                if (row.size() == 2) {
+                    return;
+                }
+            }
+            handler.handle(uri, json, code);
+        };
+    }
+
+    /**
+     * Writes the searches kept in memory of the shard. The caller holds the lock of the shard.
+     * @param shard shard
+     * @return error message
+     */
+    private String flushUses(Shard shard) {
+        String error = shard.db.touch(shard.pendingUses);
+        shard.pendingUses.clear();
+        return error;
+    }
+
+    /**
+     * Clears the file of the language if it exists
+     * @param lang language
+     * @return error message
+     */
+    private String clearShard(String lang) {
+        Shard shard = getShard(lang);
+        if (shard == null) {
+            return null;
+        }
+        synchronized (shard) {
+            shard.pendingUses.clear();
+            String error = shard.db.clearDatabase();
+            shard.size = shard.db.getUsedSize();
+            return error;
+        }
+    }
+
+    /**
+     * Gets the database of the language and creates its file the first time. A read only database only has the files
+     * that exist, otherwise return null.
+     * @param lang language
+     * @return shard
+     */
+    private Shard getShard(String lang) {
+        String shardName = getShardName(lang);
+        if (readOnly && !shards.containsKey(lang) && !Files.exists(Paths.get(shardName))) {
+            return null;
+        }
+        Shard shard = shards.computeIfAbsent(lang, (key) -> new Shard(new SqlDatabase(shardName, readOnly)));
+        synchronized (shard) {
+            if (!shard.ready) {
+                if (!readOnly) {
+                    shard.db.setupDB();
+                }
+                shard.size = shard.db.getUsedSize();
+                shard.ready = true;
+            }
+        }
+        return shard;
+    }
+
+    /**
+     * Gets the languages which have a file, in order
+     * @return languages
+     */
+    private TreeSet<String> getLanguages() {
+        TreeSet<String> languages = new TreeSet<>(shards.keySet());
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map((file) -> file.getFileName().toString())
+                    .filter((name) -> name.startsWith(prefix) && name.endsWith(suffix)
+                            && name.length() > prefix.length() + suffix.length())
+                    .forEach((name) -> languages.add(name.substring(prefix.length(), name.length() - suffix.length())));
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+        return languages;
+    }
+
+    /**
+     * Gets the language of the uri, e.g. en-gb of entries/en-gb/noun. If it has no language, return null.
+     * @param uri uri
+     * @return language
+     */
+    public static String getLanguage(String uri) {
+        int start = uri.indexOf('/');
+        int end = uri.indexOf('/', start + 1);
+        if (start < 0 || end < 0) {
+            return null;
+        }
+        return uri.substring(start + 1, end);
+    }
+
+    /**
+     * Gets the time a row is used, which is after the time of every other row
+     * @return time in ms
+     */
+    private long tick() {
+        return clock.updateAndGet((last) -> Math.max(last + 1, System.currentTimeMillis()));
+    }
+}
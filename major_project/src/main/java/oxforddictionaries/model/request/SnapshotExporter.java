@@ -0,0 +1,249 @@
+package oxforddictionaries.model.request;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Exports the entries and lemmas tables of the database into a single read only snapshot file,
+ * which is read by the snapshot reader. The records are written as they are added and only the keys
+ * are kept in memory to sort the index. The file is written to a temporary file first so a partial
+ * snapshot is never read.
+ */
+public class SnapshotExporter {
+    private final Path path;
+    private final Path tmp;
+    private final DataOutputStream out;
+    private final Deflater deflater;
+    private final ByteArrayOutputStream compressed;
+    private final byte[] chunk;
+    private final List<IndexEntry> entries;
+    private final List<IndexEntry> lemmas;
+    private long position;
+
+    /**
+     * Key and offset of a record
+     */
+    private static class IndexEntry {
+        private final byte[] key;
+        private final int offset;
+
+        private IndexEntry(byte[] key, int offset) {
+            this.key = key;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Creates the temporary file next to the snapshot file
+     * @param path snapshot file
+     * @throws IOException if the temporary file can't be created
+     */
+    public SnapshotExporter(Path path) throws IOException {
+        this.path = path;
+        Path dir = path.toAbsolutePath().getParent();
+        this.tmp = Files.createTempFile(dir, "snapshot", ".tmp");
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp), 1 << 16));
+        this.deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        this.compressed = new ByteArrayOutputStream();
+        this.chunk = new byte[8192];
+        this.entries = new ArrayList<>();
+        this.lemmas = new ArrayList<>();
+
+        out.write(new byte[SnapshotReader.headerBytes]);
+        this.position = SnapshotReader.headerBytes;
+    }
+
+    /**
+     * Exports the database into the snapshot file. Return null if there are no errors.
+     * @param db sql database
+     * @param path snapshot file
+     * @return error message
+     */
+    public static String export(SqlDatabase db, Path path) {
+        SnapshotExporter exporter;
+        try {
+            exporter = new SnapshotExporter(path);
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+
+        String error = db.forEachEntry(exporter::addEntry);
+        if (error == null) {
+            error = db.forEachLemma(exporter::addLemma);
+        }
+        if (error != null) {
+            exporter.discard();
+            return error;
+        }
+
+        try {
+            exporter.finish();
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            exporter.discard();
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Adds the entry to the snapshot
+     * @param key query key
+     * @param json json
+     * @param code status code
+     * @throws IOException if it can't be written
+     */
+    public void addEntry(String key, String json, int code) throws IOException {
+        add(entries, key, json, code);
+    }
+
+    /**
+     * Adds the lemma to the snapshot
+     * @param key query key
+     * @param json json
+     * @param code status code
+     * @throws IOException if it can't be written
+     */
+    public void addLemma(String key, String json, int code) throws IOException {
+        add(lemmas, key, json, code);
+    }
+
+    /**
+     * Deflates the json and writes the record
+     * @param index index of the table
+     * @param key query key
+     * @param json json
+     * @param code status code
+     * @throws IOException if it can't be written or the snapshot is larger than 2GB
+     */
+    private void add(List<IndexEntry> index, String key, String json, int code) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+
+        deflater.reset();
+        deflater.setInput(jsonBytes);
+        deflater.finish();
+        compressed.reset();
+        while (!deflater.finished()) {
+            int length = deflater.deflate(chunk);
+            compressed.write(chunk, 0, length);
+        }
+
+        long end = position + 16L + keyBytes.length + compressed.size();
+        if (end > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot is larger than 2GB");
+        }
+
+        index.add(new IndexEntry(keyBytes, (int) position));
+        out.writeInt(keyBytes.length);
+        out.write(keyBytes);
+        out.writeInt(code);
+        out.writeInt(jsonBytes.length);
+        out.writeInt(compressed.size());
+        compressed.writeTo(out);
+        this.position = end;
+    }
+
+    /**
+     * Writes the indexes and the header, then moves the temporary file to the snapshot file
+     * @throws IOException if it can't be written or a key was added twice
+     */
+    public void finish() throws IOException {
+        int entryIndex = writeIndex(entries);
+        int lemmaIndex = writeIndex(lemmas);
+        out.close();
+        deflater.end();
+
+        ByteBuffer header = ByteBuffer.allocate(SnapshotReader.headerBytes);
+        header.putInt(SnapshotReader.magic);
+        header.putInt(SnapshotReader.version);
+        header.putInt(entries.size());
+        header.putInt(entryIndex);
+        header.putInt(lemmas.size());
+        header.putInt(lemmaIndex);
+        header.flip();
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            channel.write(header, 0);
+            channel.force(true);
+        }
+
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Sorts the keys as unsigned bytes and writes the record offsets
+     * @param index index of the table
+     * @return offset of the index
+     * @throws IOException if it can't be written or a key was added twice
+     */
+    private int writeIndex(List<IndexEntry> index) throws IOException {
+        index.sort((a, b) -> Arrays.compareUnsigned(a.key, b.key));
+        if (position + index.size() * 4L > Integer.MAX_VALUE) {
+            throw new IOException("Snapshot is larger than 2GB");
+        }
+
+        int offset = (int) position;
+        for (int i = 0; i < index.size(); i++) {
+            if (i > 0 && Arrays.equals(index.get(i - 1).key, index.get(i).key)) {
+                throw new IOException("Duplicate key " + new String(index.get(i).key, StandardCharsets.UTF_8));
+            }
+            out.writeInt(index.get(i).offset);
+        }
+        this.position += index.size() * 4L;
+        return offset;
+    }
+
+    /**
+     * Deletes the temporary file without creating the snapshot
+     */
+    public void discard() {
+        deflater.end();
+        try {
+            out.close();
+            Files.deleteIfExists(tmp);
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    /**
+     * Exports the database and the files of its languages into a snapshot. The arguments are the database file
+     * and the snapshot file, which default to OxfordDictionary.db and OxfordDictionary.snapshot.
+     * @param args arguments
+     */
+    public static void main(String[] args) {
+        String dbName = args.length > 0 ? args[0] : "OxfordDictionary.db";
+        Path snapshot = Paths.get(args.length > 1 ? args[1] : "OxfordDictionary.snapshot");
+
+        long start = System.nanoTime();
+        String error = export(new ShardedDatabase(dbName, true), snapshot);
+        if (error != null) {
+            System.out.println("Export failed: " + error);
+            System.exit(-1);
+        }
+
+        try {
+            SnapshotReader reader = SnapshotReader.open(snapshot);
+            System.out.printf("Exported %d entries and %d lemmas to %s (%d bytes) in %d ms%n", reader.getEntryCount(),
+                    reader.getLemmaCount(), snapshot, Files.size(snapshot), (System.nanoTime() - start) / 1000000);
+        } catch (IOException e) {
+            System.out.println("Export failed: " + e.getMessage());
+            System.exit(-1);
+        }
+    }
+}
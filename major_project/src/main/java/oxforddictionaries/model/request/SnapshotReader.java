@@ -0,0 +1,198 @@
+package oxforddictionaries.model.request;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads the entries and lemmas from a snapshot created by the snapshot exporter. The file is memory mapped,
+ * the keys are binary searched and the payload is inflated straight from the mapped file.
+ * <p>
+ * The file starts with a header of the magic number, version, then the count and index offset of the entries
+ * and of the lemmas. Each record is the key length, the UTF-8 key, the status code, the json length,
+ * the compressed length and the deflated UTF-8 json. An index is the record offsets sorted by key.
+ * All the numbers are big endian ints so a snapshot is at most 2GB.
+ */
+public class SnapshotReader {
+    static final int magic = 0x4F44534E;
+    static final int version = 1;
+    static final int headerBytes = 24;
+    private static final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+    private final ByteBuffer buffer;
+    private final int entryCount;
+    private final int entryIndex;
+    private final int lemmaCount;
+    private final int lemmaIndex;
+
+    /**
+     * Creates the reader from the mapped snapshot and checks the header
+     * @param buffer mapped snapshot
+     * @throws IOException if it isn't a snapshot
+     */
+    public SnapshotReader(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < headerBytes || buffer.getInt(0) != magic) {
+            throw new IOException("Not a dictionary snapshot");
+        }
+        if (buffer.getInt(4) != version) {
+            throw new IOException("Unsupported snapshot version " + buffer.getInt(4));
+        }
+        this.entryCount = buffer.getInt(8);
+        this.entryIndex = buffer.getInt(12);
+        this.lemmaCount = buffer.getInt(16);
+        this.lemmaIndex = buffer.getInt(20);
+        checkIndex(entryIndex, entryCount);
+        checkIndex(lemmaIndex, lemmaCount);
+    }
+
+    /**
+     * Maps the snapshot file. The file is closed once it is mapped.
+     * @param path snapshot file
+     * @return reader
+     * @throws IOException if the file can't be mapped or isn't a snapshot
+     */
+    public static SnapshotReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is larger than 2GB");
+            }
+            return new SnapshotReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    private void checkIndex(int offset, int count) throws IOException {
+        if (offset < headerBytes || count < 0 || (long) offset + count * 4L > buffer.capacity()) {
+            throw new IOException("Snapshot index is out of bounds");
+        }
+    }
+
+    /**
+     * Gets the entry from the snapshot
+     * @param key query key
+     * @return status code and json, empty if it doesn't exist, or the error
+     */
+    public List<String> getEntry(String key) {
+        return get(entryIndex, entryCount, key);
+    }
+
+    /**
+     * Gets the lemma from the snapshot
+     * @param key query key
+     * @return status code and json, empty if it doesn't exist, or the error
+     */
+    public List<String> getLemma(String key) {
+        return get(lemmaIndex, lemmaCount, key);
+    }
+
+    /**
+     * @return number of entries
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * @return number of lemmas
+     */
+    public int getLemmaCount() {
+        return lemmaCount;
+    }
+
+    /**
+     * Finds the record of the key and inflates its json
+     * @param index index offset
+     * @param count number of records
+     * @param key query key
+     * @return status code and json, empty if it doesn't exist, or the error
+     */
+    private List<String> get(int index, int count, String key) {
+        List<String> result = new ArrayList<>();
+        try {
+            int record = find(index, count, key.getBytes(StandardCharsets.UTF_8));
+            if (record < 0) {
+                return result;
+            }
+
+            int payload = record + 4 + buffer.getInt(record);
+            int code = buffer.getInt(payload);
+            byte[] json = new byte[buffer.getInt(payload + 4)];
+            int compressedLength = buffer.getInt(payload + 8);
+
+            Inflater inflater = inflaters.get();
+            inflater.reset();
+            inflater.setInput(buffer.slice(payload + 12, compressedLength));
+            int length = 0;
+            while (length < json.length) {
+                int inflated = inflater.inflate(json, length, json.length - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != json.length) {
+                throw new DataFormatException("Snapshot record of " + key + " is truncated");
+            }
+
+            result.add(String.valueOf(code));
+            result.add(new String(json, StandardCharsets.UTF_8));
+        } catch (DataFormatException | IndexOutOfBoundsException e) {
+            System.out.println(e.getMessage());
+            result.clear();
+            result.add(e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Binary searches the index for the key
+     * @param index index offset
+     * @param count number of records
+     * @param key UTF-8 key
+     * @return record offset, -1 if it doesn't exist
+     */
+    private int find(int index, int count, byte[] key) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int record = buffer.getInt(index + mid * 4);
+            int compare = compareKey(record, key);
+            if (compare < 0) {
+                low = mid + 1;
+            }
+            else if (compare > 0) {
+                high = mid - 1;
+            }
+            else {
+                return record;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compares the key of the record with the key as unsigned bytes, without copying it out of the file
+     * @param record record offset
+     * @param key UTF-8 key
+     * @return negative if the record is before the key, 0 if equal, positive if after
+     */
+    private int compareKey(int record, byte[] key) {
+        int length = buffer.getInt(record);
+        int start = record + 4;
+        int shared = Math.min(length, key.length);
+        for (int i = 0; i < shared; i++) {
+            int compare = Byte.compareUnsigned(buffer.get(start + i), key[i]);
+            if (compare != 0) {
+                return compare;
+            }
+        }
+        return length - key.length;
+    }
+}
@@ -2,19 +2,63 @@ package oxforddictionaries.model.request;
 
 import org.sqlite.SQLiteConfig;
 
+import java.io.IOException;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Database which uses SQLite and prevent the user from making repeated requests to the api.
  */
 public class SqlDatabase {
-    private static final String dbName = "OxfordDictionary.db";
-    private static final String dbURL = "jdbc:sqlite:" + dbName;
+    private static final String defaultDbName = "OxfordDictionary.db";
+    private final String dbURL;
+    private final boolean readOnly;
 
     /**
-     * Creates the entry and lemma tables if they don't exist. Return null if there are no errors.
+     * Creates the database in the default file
+     */
+    public SqlDatabase() {
+        this(defaultDbName);
+    }
+
+    /**
+     * Creates the database in the given file
+     * @param dbName database file name
+     */
+    public SqlDatabase(String dbName) {
+        this(dbName, false);
+    }
+
+    /**
+     * Opens the database in the given file. A read only database is never created or written to,
+     * so a shipped copy can be used from read only storage.
+     * @param dbName database file name
+     * @param readOnly open the database read only
+     */
+    public SqlDatabase(String dbName, boolean readOnly) {
+        this.dbURL = "jdbc:sqlite:" + dbName;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Receives the rows of a table one at a time
+     */
+    public interface RowHandler {
+
+        /**
+         * Handles a row
+         * @param uri uri
+         * @param json json
+         * @param code status code
+         * @throws IOException if the row can't be handled
+         */
+        void handle(String uri, String json, int code) throws IOException;
+    }
+
+    /**
+     * Creates the entry, lemma, related word and usage tables if they don't exist. Return null if there are no errors.
      * @return error message
      */
     public String setupDB() {
@@ -37,13 +81,38 @@ public class SqlDatabase {
                 );
                 """;
 
+        String createRelatedTableSQL =
+                """
+                CREATE TABLE IF NOT EXISTS related (
+                    lang text NOT NULL,
+                    word text NOT NULL,
+                    relation text NOT NULL,
+                    related text NOT NULL,
+                    PRIMARY KEY (lang, word, relation, related)
+                ) WITHOUT ROWID;
+                """;
+
+        String createUsageTableSQL =
+                """
+                CREATE TABLE IF NOT EXISTS usage (
+                    tbl text NOT NULL,
+                    uri text NOT NULL,
+                    size integer NOT NULL,
+                    used integer NOT NULL,
+                    PRIMARY KEY (tbl, uri)
+                );
+                """;
+
         SQLiteConfig config = new SQLiteConfig();
         config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
 
         try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
              Statement statement = conn.createStatement()) {
             statement.execute(createEntriesTableSQL);
             statement.execute(createLemmasTableSQL);
+            statement.execute(createRelatedTableSQL);
+            statement.execute(createUsageTableSQL);
 
 //            System.out.println("Created tables");
         } catch (SQLException e) {
@@ -54,7 +123,8 @@ public class SqlDatabase {
     }
 
     /**
-     * Adds the entry to the database. Return null if there are no errors.
+     * Adds the entry to the database. Return null if there are no errors. If another search added it
+     * at the same time, it is replaced so sessions sharing the database don't fail on the same word.
      * @param uri uri
      * @param json json
      * @param code status code
@@ -63,12 +133,13 @@ public class SqlDatabase {
     public String addEntry(String uri, String json, int code) {
         String addEntry =
                 """
-                INSERT INTO entries(uri, json, code) VALUES
+                INSERT OR REPLACE INTO entries(uri, json, code) VALUES
                     (?, ?, ?)
                 """;
 
         SQLiteConfig config = new SQLiteConfig();
         config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
 
         try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
              PreparedStatement preparedStatement = conn.prepareStatement(addEntry)) {
@@ -86,7 +157,8 @@ public class SqlDatabase {
     }
 
     /**
-     * Adds the lemma to the database. Return null if there are no errors.
+     * Adds the lemma to the database. Return null if there are no errors. If another search added it
+     * at the same time, it is replaced so sessions sharing the database don't fail on the same word.
      * @param uri uri
      * @param json json
      * @param code status code
@@ -95,12 +167,13 @@ public class SqlDatabase {
     public String addLemma(String uri, String json, int code) {
         String addLemma =
                 """
-                INSERT INTO lemmas(uri, json, code) VALUES
+                INSERT OR REPLACE INTO lemmas(uri, json, code) VALUES
                     (?, ?, ?)
                 """;
 
         SQLiteConfig config = new SQLiteConfig();
         config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
 
         try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
              PreparedStatement preparedStatement = conn.prepareStatement(addLemma)) {
@@ -134,6 +207,7 @@ public class SqlDatabase {
 
         SQLiteConfig config = new SQLiteConfig();
         config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
 
         try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
              PreparedStatement preparedStatement = conn.prepareStatement(getEntry)) {
@@ -171,6 +245,7 @@ public class SqlDatabase {
 
         SQLiteConfig config = new SQLiteConfig();
         config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
 
         try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
              PreparedStatement preparedStatement = conn.prepareStatement(getLemma)) {
@@ -192,7 +267,146 @@ public class SqlDatabase {
     }
 
     /**
-     * Drops the tables and recreates them. Return null if there are no errors.
+     * Passes every entry to the handler in order of the uri, so the table doesn't need to fit in memory.
+     * Return null if there are no errors.
+     * @param handler row handler
+     * @return error message
+     */
+    public String forEachEntry(RowHandler handler) {
+        return forEachRow("entries", handler);
+    }
+
+    /**
+     * Passes every lemma to the handler in order of the uri, so the table doesn't need to fit in memory.
+     * Return null if there are no errors.
+     * @param handler row handler
+     * @return error message
+     */
+    public String forEachLemma(RowHandler handler) {
+        return forEachRow("lemmas", handler);
+    }
+
+    /**
+     * Passes every row of the table to the handler in order of the uri. Return null if there are no errors.
+     * @param table entries or lemmas
+     * @param handler row handler
+     * @return error message
+     */
+    private String forEachRow(String table, RowHandler handler) {
+        String getRows = "SELECT uri, json, code FROM " + table + " ORDER BY uri";
+
+        SQLiteConfig config = new SQLiteConfig();
+        config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
+
+        try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
+             Statement statement = conn.createStatement();
+             ResultSet results = statement.executeQuery(getRows)) {
+            while (results.next()) {
+                handler.handle(results.getString("uri"), results.getString("json"), results.getInt("code"));
+            }
+        } catch (SQLException | IOException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the related words of the word in one transaction. Return null if there are no errors.
+     * @param lang language
+     * @param word word
+     * @param related list of relation and related word
+     * @return error message
+     */
+    public String setRelated(String lang, String word, List<List<String>> related) {
+        String deleteRelated =
+                """
+                DELETE FROM related
+                WHERE lang = ? AND word = ?
+                """;
+
+        String addRelated =
+                """
+                INSERT OR IGNORE INTO related(lang, word, relation, related) VALUES
+                    (?, ?, ?, ?)
+                """;
+
+        SQLiteConfig config = new SQLiteConfig();
+        config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
+
+        try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
+             PreparedStatement deleteStatement = conn.prepareStatement(deleteRelated);
+             PreparedStatement addStatement = conn.prepareStatement(addRelated)) {
+            conn.setAutoCommit(false);
+            deleteStatement.setString(1, lang);
+            deleteStatement.setString(2, word);
+            deleteStatement.executeUpdate();
+
+            for (List<String> relation : related) {
+                addStatement.setString(1, lang);
+                addStatement.setString(2, word);
+                addStatement.setString(3, relation.get(0));
+                addStatement.setString(4, relation.get(1));
+                addStatement.addBatch();
+            }
+            addStatement.executeBatch();
+            conn.commit();
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the related words of the word, sorted by relation and word.
+     * If it errors, the list only has a list with the error message.
+     * @param lang language
+     * @param word word
+     * @return list of relation and related word, or errors
+     */
+    public List<List<String>> getRelated(String lang, String word) {
+        List<List<String>> related = new ArrayList<>();
+
+        String getRelated =
+                """
+                SELECT relation, related
+                FROM related
+                WHERE lang = ? AND word = ?
+                ORDER BY relation, related
+                """;
+
+        SQLiteConfig config = new SQLiteConfig();
+        config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
+
+        try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
+             PreparedStatement preparedStatement = conn.prepareStatement(getRelated)) {
+            preparedStatement.setString(1, lang);
+            preparedStatement.setString(2, word);
+            ResultSet results = preparedStatement.executeQuery();
+
+            while (results.next()) {
+                related.add(List.of(results.getString("relation"), results.getString("related")));
+            }
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            related.clear();
+            related.add(List.of(e.getMessage()));
+        }
+
+        return related;
+    }
+
+    /**
+     * Drops the tables and recreates them. The related words are found from the entries, so they are dropped too,
+     * and so is the usage of the rows.
+     * Return null if there are no errors.
      * @return error message
      */
     public String clearDatabase() {
@@ -225,15 +439,52 @@ public class SqlDatabase {
                 );
                 """;
 
+        String dropRelatedTableSQL =
+                """
+                DROP TABLE IF EXISTS related;
+                """;
+
+        String createRelatedTableSQL =
+                """
+                CREATE TABLE IF NOT EXISTS related (
+                    lang text NOT NULL,
+                    word text NOT NULL,
+                    relation text NOT NULL,
+                    related text NOT NULL,
+                    PRIMARY KEY (lang, word, relation, related)
+                ) WITHOUT ROWID;
+                """;
+
+        String dropUsageTableSQL =
+                """
+                DROP TABLE IF EXISTS usage;
+                """;
+
+        String createUsageTableSQL =
+                """
+                CREATE TABLE IF NOT EXISTS usage (
+                    tbl text NOT NULL,
+                    uri text NOT NULL,
+                    size integer NOT NULL,
+                    used integer NOT NULL,
+                    PRIMARY KEY (tbl, uri)
+                );
+                """;
+
         SQLiteConfig config = new SQLiteConfig();
         config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
 
         try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
              Statement statement = conn.createStatement()) {
             statement.execute(dropEntriesTableSQL);
             statement.execute(dropLemmasTableSQL);
+            statement.execute(dropRelatedTableSQL);
+            statement.execute(dropUsageTableSQL);
             statement.execute(createEntriesTableSQL);
             statement.execute(createLemmasTableSQL);
+            statement.execute(createRelatedTableSQL);
+            statement.execute(createUsageTableSQL);
 
 //            System.out.println("Created tables");
         } catch (SQLException e) {
@@ -261,6 +512,7 @@ public class SqlDatabase {
 
         SQLiteConfig config = new SQLiteConfig();
         config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
 
         try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
              PreparedStatement preparedStatement = conn.prepareStatement(updateState)) {
@@ -294,6 +546,7 @@ public class SqlDatabase {
 
         SQLiteConfig config = new SQLiteConfig();
         config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
 
         try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
              PreparedStatement preparedStatement = conn.prepareStatement(updateState)) {
@@ -309,5 +562,225 @@ public class SqlDatabase {
         return error;
     }
 
+    /**
+     * Deletes the entries, lemmas, related words and usage of the language in one transaction.
+     * Return null if there are no errors.
+     * @param lang language
+     * @return error message
+     */
+    public String clearLanguage(String lang) {
+        String deleteEntries = "DELETE FROM entries WHERE uri LIKE ? ESCAPE '\\'";
+        String deleteLemmas = "DELETE FROM lemmas WHERE uri LIKE ? ESCAPE '\\'";
+        String deleteRelated = "DELETE FROM related WHERE lang = ?";
+        String deleteUsage = "DELETE FROM usage WHERE uri LIKE ? ESCAPE '\\' OR uri LIKE ? ESCAPE '\\'";
+        String escapedLang = lang.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+
+        SQLiteConfig config = new SQLiteConfig();
+        config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
+
+        try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
+             PreparedStatement entriesStatement = conn.prepareStatement(deleteEntries);
+             PreparedStatement lemmasStatement = conn.prepareStatement(deleteLemmas);
+             PreparedStatement relatedStatement = conn.prepareStatement(deleteRelated);
+             PreparedStatement usageStatement = conn.prepareStatement(deleteUsage)) {
+            conn.setAutoCommit(false);
+            entriesStatement.setString(1, "entries/" + escapedLang + "/%");
+            entriesStatement.executeUpdate();
+            lemmasStatement.setString(1, "lemmas/" + escapedLang + "/%");
+            lemmasStatement.executeUpdate();
+            relatedStatement.setString(1, lang);
+            relatedStatement.executeUpdate();
+            usageStatement.setString(1, "entries/" + escapedLang + "/%");
+            usageStatement.setString(2, "lemmas/" + escapedLang + "/%");
+            usageStatement.executeUpdate();
+            conn.commit();
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Records the size of a row and when it was used. Return null if there are no errors.
+     * @param table entries or lemmas
+     * @param uri uri
+     * @param size size of the row in bytes
+     * @param used time it was used
+     * @return error message
+     */
+    public String recordUse(String table, String uri, long size, long used) {
+        String addUsage =
+                """
+                INSERT OR REPLACE INTO usage(tbl, uri, size, used) VALUES
+                    (?, ?, ?, ?)
+                """;
+
+        SQLiteConfig config = new SQLiteConfig();
+        config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
+
+        try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
+             PreparedStatement preparedStatement = conn.prepareStatement(addUsage)) {
+            preparedStatement.setString(1, table);
+            preparedStatement.setString(2, uri);
+            preparedStatement.setLong(3, size);
+            preparedStatement.setLong(4, used);
+            preparedStatement.executeUpdate();
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Updates when the rows were used, in one transaction. Return null if there are no errors.
+     * @param used table and uri of the rows, and the time they were used
+     * @return error message
+     */
+    public String touch(Map<List<String>, Long> used) {
+        if (used.isEmpty()) {
+            return null;
+        }
+        String updateUsage =
+                """
+                UPDATE usage
+                SET used = ?
+                WHERE tbl = ? AND uri = ?
+                """;
+
+        SQLiteConfig config = new SQLiteConfig();
+        config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
+
+        try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
+             PreparedStatement preparedStatement = conn.prepareStatement(updateUsage)) {
+            conn.setAutoCommit(false);
+            for (Map.Entry<List<String>, Long> row : used.entrySet()) {
+                preparedStatement.setLong(1, row.getValue());
+                preparedStatement.setString(2, row.getKey().get(0));
+                preparedStatement.setString(3, row.getKey().get(1));
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+            conn.commit();
+
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the recorded size of a row. If it has no recorded usage, return 0. If it errors, return -1.
+     * @param table entries or lemmas
+     * @param uri uri
+     * @return size in bytes
+     */
+    public long getRowSize(String table, String uri) {
+        String getSize = "SELECT size FROM usage WHERE tbl = ? AND uri = ?";
+
+        SQLiteConfig config = new SQLiteConfig();
+        config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
+
+        try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
+             PreparedStatement preparedStatement = conn.prepareStatement(getSize)) {
+            preparedStatement.setString(1, table);
+            preparedStatement.setString(2, uri);
+            ResultSet results = preparedStatement.executeQuery();
+            return results.next() ? results.getLong("size") : 0;
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Gets the total size of the rows with a recorded usage. If it errors, return -1.
+     * @return size in bytes
+     */
+    public long getUsedSize() {
+        String getSize = "SELECT COALESCE(SUM(size), 0) AS total FROM usage";
+
+        SQLiteConfig config = new SQLiteConfig();
+        config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
+
+        try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
+             Statement statement = conn.createStatement();
+             ResultSet results = statement.executeQuery(getSize)) {
+            return results.next() ? results.getLong("total") : 0;
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Deletes the rows used the longest time ago until the size of the rows is within the budget, in one transaction.
+     * Return null if there are no errors.
+     * @param budget size in bytes
+     * @return error message
+     */
+    public String evict(long budget) {
+        String getUsage = "SELECT tbl, uri, size FROM usage ORDER BY used DESC, uri DESC";
+        String deleteEntry = "DELETE FROM entries WHERE uri = ?";
+        String deleteLemma = "DELETE FROM lemmas WHERE uri = ?";
+        String deleteUsage = "DELETE FROM usage WHERE tbl = ? AND uri = ?";
+
+        SQLiteConfig config = new SQLiteConfig();
+        config.enforceForeignKeys(true);
+        config.setReadOnly(readOnly);
+
+        try (Connection conn = DriverManager.getConnection(dbURL, config.toProperties());
+             Statement statement = conn.createStatement();
+             PreparedStatement entryStatement = conn.prepareStatement(deleteEntry);
+             PreparedStatement lemmaStatement = conn.prepareStatement(deleteLemma);
+             PreparedStatement usageStatement = conn.prepareStatement(deleteUsage)) {
+            conn.setAutoCommit(false);
+            long kept = 0;
+            try (ResultSet results = statement.executeQuery(getUsage)) {
+                while (results.next()) {
+                    String table = results.getString("tbl");
+                    String uri = results.getString("uri");
+                    kept += results.getLong("size");
+                    if (kept <= budget) {
+                        continue;
+                    }
+                    PreparedStatement rowStatement = table.equals("lemmas") ? lemmaStatement : entryStatement;
+                    rowStatement.setString(1, uri);
+                    rowStatement.addBatch();
+                    usageStatement.setString(1, table);
+                    usageStatement.setString(2, uri);
+                    usageStatement.addBatch();
+                }
+            }
+            entryStatement.executeBatch();
+            lemmaStatement.executeBatch();
+            usageStatement.executeBatch();
+            conn.commit();
 
+        } catch (SQLException e) {
+            System.out.println(e.getMessage());
+            return e.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Reads the database, so the first search of the language doesn't open it.
+     * There is one file for every language, so the language is unused.
+     * @param lang language
+     * @return error message
+     */
+    public String warmUp(String lang) {
+        List<String> entry = getEntry("");
+        return entry.size() == 1 ? entry.get(0) : null;
+    }
 }
@@ -0,0 +1,82 @@
+package oxforddictionaries.model.request;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import oxforddictionaries.model.request.responseclasses.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shares the small vocabulary POJOs, e.g. lexical categories and domains, between the parsed responses.
+ * Every entry repeats the same ids and texts, so an object is only created the first time its json is read
+ * and later reads return the same instance along with its strings. The POJOs have no setters, so a shared
+ * instance can't be changed through one entry. The vocabulary of the api is small so the instances are kept.
+ */
+public class VocabularyInterner implements TypeAdapterFactory {
+    private static final Set<Class<?>> vocabularyClasses = Set.of(LexicalCategory.class, GrammaticalFeature.class,
+            Domain.class, Register.class, Region.class, SemanticClass.class, DomainClass.class);
+    private final Map<Class<?>, Map<String, Object>> pools = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the Gson which parses the responses with this interner
+     * @return gson
+     */
+    public Gson createGson() {
+        return new GsonBuilder().registerTypeAdapterFactory(this).create();
+    }
+
+    /**
+     * Creates the adapter of a vocabulary class which reads the json and returns the shared instance
+     * @param gson gson
+     * @param type type
+     * @param <T> type
+     * @return adapter, null if it isn't a vocabulary class
+     */
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        if (!vocabularyClasses.contains(type.getRawType())) {
+            return null;
+        }
+
+        TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+        TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+        Map<String, Object> pool = pools.computeIfAbsent(type.getRawType(), (rawType) -> new ConcurrentHashMap<>());
+        return new TypeAdapter<T>() {
+            @Override
+            public void write(JsonWriter out, T value) throws IOException {
+                delegate.write(out, value);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T read(JsonReader in) throws IOException {
+                JsonElement json = elementAdapter.read(in);
+                if (!json.isJsonObject()) {
+                    return delegate.fromJsonTree(json);
+                }
+                return (T) pool.computeIfAbsent(json.toString(), (key) -> delegate.fromJsonTree(json));
+            }
+        };
+    }
+
+    /**
+     * Gets the number of shared instances
+     * @return number of instances
+     */
+    public int size() {
+        int size = 0;
+        for (Map<String, Object> pool : pools.values()) {
+            size += pool.size();
+        }
+        return size;
+    }
+}
@@ -5,7 +5,7 @@ import java.util.List;
 /**
  * POJO
  */
-public class Entry {
+public class Entry implements Cloneable {
     private List<String> crossReferenceMarkers; // optional
     private List<CrossReference> crossReferences; // optional
     private List<String> etymologies; // optional
@@ -86,4 +86,19 @@ public class Entry {
     public List<VariantForm> getVariantForms() {
         return variantForms;
     }
+
+    /**
+     * Creates a copy with different senses. The other fields are shared with this object.
+     * @param senses senses
+     * @return copy
+     */
+    public Entry withSenses(List<Sense> senses) {
+        try {
+            Entry copy = (Entry) clone();
+            copy.senses = senses;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
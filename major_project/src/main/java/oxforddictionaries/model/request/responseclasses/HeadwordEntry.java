@@ -5,7 +5,7 @@ import java.util.List;
 /**
  * POJO
  */
-public class HeadwordEntry {
+public class HeadwordEntry implements Cloneable {
     private String id;
     private String language;
     private List<LexicalEntry> lexicalEntries;
@@ -54,4 +54,19 @@ public class HeadwordEntry {
     public String getWord() {
         return word;
     }
+
+    /**
+     * Creates a copy with different lexicalEntries. The other fields are shared with this object.
+     * @param lexicalEntries lexicalEntries
+     * @return copy
+     */
+    public HeadwordEntry withLexicalEntries(List<LexicalEntry> lexicalEntries) {
+        try {
+            HeadwordEntry copy = (HeadwordEntry) clone();
+            copy.lexicalEntries = lexicalEntries;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
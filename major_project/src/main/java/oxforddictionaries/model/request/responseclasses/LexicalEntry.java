@@ -5,7 +5,7 @@ import java.util.List;
 /**
  * POJO
  */
-public class LexicalEntry {
+public class LexicalEntry implements Cloneable {
     private List<RelatedEntry> compounds; // optional
     private List<RelatedEntry> derivativeOf; // optional
     private List<RelatedEntry> derivatives; // optional
@@ -126,4 +126,19 @@ public class LexicalEntry {
     public List<Inflection> getInflectionOf() {
         return inflectionOf;
     }
+
+    /**
+     * Creates a copy with different entries. The other fields are shared with this object.
+     * @param entries entries
+     * @return copy
+     */
+    public LexicalEntry withEntries(List<Entry> entries) {
+        try {
+            LexicalEntry copy = (LexicalEntry) clone();
+            copy.entries = entries;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -5,7 +5,7 @@ import java.util.List;
 /**
  * POJO
  */
-public class RetrieveEntry {
+public class RetrieveEntry implements Cloneable {
     private String id;
     private Metadata metadata; // optional
     private List<HeadwordEntry> results; // optional
@@ -38,4 +38,19 @@ public class RetrieveEntry {
     public String getWord() {
         return word;
     }
+
+    /**
+     * Creates a copy with different results. The other fields are shared with this object.
+     * @param results results
+     * @return copy
+     */
+    public RetrieveEntry withResults(List<HeadwordEntry> results) {
+        try {
+            RetrieveEntry copy = (RetrieveEntry) clone();
+            copy.results = results;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
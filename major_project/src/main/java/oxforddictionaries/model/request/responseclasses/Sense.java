@@ -5,7 +5,7 @@ import java.util.List;
 /**
  * POJO
  */
-public class Sense {
+public class Sense implements Cloneable {
     private List<SynonymsAntonyms> antonyms; // optional
     private List<InlineModel2> constructions; // optional
     private List<String> crossReferenceMarkers; // optional
@@ -174,4 +174,19 @@ public class Sense {
     public List<VariantForm> getVariantForms() {
         return variantForms;
     }
+
+    /**
+     * Creates a copy with different subsenses. The other fields are shared with this object.
+     * @param subsenses subsenses
+     * @return copy
+     */
+    public Sense withSubsenses(List<Sense> subsenses) {
+        try {
+            Sense copy = (Sense) clone();
+            copy.subsenses = subsenses;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,259 @@
+package oxforddictionaries.server;
+
+import oxforddictionaries.model.DictionaryLookup;
+import oxforddictionaries.model.LookupResult;
+import oxforddictionaries.model.metrics.Metrics;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.VocabularyInterner;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Serves the dictionary lookups as a local HTTP/JSON service, so several clients share one cache and one rate limit
+ * of the api. GET /entries and /lemmas take the search as query parameters, named like the input engine parameters,
+ * and return the lookup result as json. The lookup keeps no state, so the history of each client is kept by the client.
+ * The json of the valid and not found results is kept in memory, up to the cache size, so the popular searches are
+ * answered without reading the database. A result found in memory is treated like a result found in the database.
+ */
+public class DictionaryServer {
+    private static final int backlog = 1024;
+    private static final String undecided = "{\"response\":[null]}";
+    private final DictionaryLookup lookup;
+    private final Gson gson;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, String> results;
+
+    static {
+        // The headers and body are written separately, so without TCP_NODELAY every response waits for the delayed ack
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    /**
+     * Creates the server. It doesn't accept connections until it is started.
+     * @param lookup shared dictionary lookup
+     * @param address address to listen on, port 0 picks a free port
+     * @param threads number of requests handled at once
+     * @param cacheSize number of results kept in memory
+     * @throws IOException if the address can't be bound
+     */
+    public DictionaryServer(DictionaryLookup lookup, InetSocketAddress address, int threads, int cacheSize) throws IOException {
+        this.lookup = lookup;
+        this.results = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.gson = new VocabularyInterner().createGson();
+        this.server = HttpServer.create(address, backlog);
+        this.executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext("/entries", (exchange) -> handle(exchange, "/entries", this::getEntryKey, this::entrySearch));
+        server.createContext("/lemmas", (exchange) -> handle(exchange, "/lemmas", this::getLemmaKey, this::lemmaSearch));
+    }
+
+    /**
+     * Starts accepting connections
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting connections and stops the threads
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    /**
+     * Gets the port the server listens on
+     * @return port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Gets the key of the entry search in the memory cache. A lemma search is kept separately as its 404 is an error.
+     * @param params search parameters
+     * @return key
+     */
+    public String getEntryKey(Map<String, String> params) {
+        QueryKey queryKey = QueryKey.entries(params.get("lang"), params.get("word"), params.get("field"),
+                params.get("gramFeat"), params.get("lexiCate"), params.get("domains"), params.get("registers"),
+                params.get("match"));
+        if (Boolean.parseBoolean(params.get("lemma"))) {
+            return queryKey.getKey() + "#lemma";
+        }
+        return queryKey.getKey();
+    }
+
+    /**
+     * Gets the key of the lemma search in the memory cache
+     * @param params search parameters
+     * @return key
+     */
+    public String getLemmaKey(Map<String, String> params) {
+        return QueryKey.lemmas(params.get("lang"), params.get("word"), params.get("gramFeat"), params.get("lexiCate")).getKey();
+    }
+
+    /**
+     * Looks up the entry of the search parameters
+     * @param params lang, word, field, gramFeat, lexiCate, domains, registers, match, lemma, cacheDecided, useCache
+     *               and keepMissing, which is true if it isn't given
+     * @return result
+     */
+    public LookupResult entrySearch(Map<String, String> params) {
+        QueryKey queryKey = QueryKey.entries(params.get("lang"), params.get("word"), params.get("field"),
+                params.get("gramFeat"), params.get("lexiCate"), params.get("domains"), params.get("registers"),
+                params.get("match"));
+        return lookup.entrySearch(queryKey, Boolean.parseBoolean(params.get("lemma")),
+                Boolean.parseBoolean(params.get("cacheDecided")), Boolean.parseBoolean(params.get("useCache")),
+                !"false".equals(params.get("keepMissing")));
+    }
+
+    /**
+     * Looks up the lemma of the search parameters
+     * @param params lang, word, gramFeat, lexiCate, cacheDecided and useCache
+     * @return result
+     */
+    public LookupResult lemmaSearch(Map<String, String> params) {
+        QueryKey queryKey = QueryKey.lemmas(params.get("lang"), params.get("word"), params.get("gramFeat"),
+                params.get("lexiCate"));
+        return lookup.lemmaSearch(queryKey, Boolean.parseBoolean(params.get("cacheDecided")),
+                Boolean.parseBoolean(params.get("useCache")));
+    }
+
+    /**
+     * Decodes the query of a url into its parameters. A parameter without a value is an empty string.
+     * @param query raw query, can be null
+     * @return parameters
+     */
+    public static Map<String, String> parseQuery(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String param : query.split("&")) {
+            int split = param.indexOf('=');
+            String name = split < 0 ? param : param.substring(0, split);
+            String value = split < 0 ? "" : param.substring(split + 1);
+            params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    /**
+     * Checks the request and sends the result of the search as json. The search must be a GET request with
+     * the language and word. If the result is in memory and the user hasn't decided, the user is asked to use
+     * the cache like a result in the database. If the user uses the cache, the result is sent from memory.
+     * Otherwise, it is looked up and kept in memory if it is valid, or not found and missing searches are kept.
+     * The time of each request and the memory cache hits are recorded in the metrics.
+     * @param exchange exchange
+     * @param path path of the search
+     * @param cacheKey key of the search in the memory cache
+     * @param search search
+     */
+    private void handle(HttpExchange exchange, String path, Function<Map<String, String>, String> cacheKey,
+                        Function<Map<String, String>, LookupResult> search) {
+        long start = Metrics.start();
+        try {
+            if (!exchange.getRequestURI().getPath().equals(path)) {
+                sendError(exchange, 404, "Not found");
+                return;
+            }
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendError(exchange, 405, "Only GET requests are allowed");
+                return;
+            }
+
+            Map<String, String> params = parseQuery(exchange.getRequestURI().getRawQuery());
+            if (params.get("lang") == null || params.get("word") == null) {
+                sendError(exchange, 400, "lang and word are required");
+                return;
+            }
+
+            String key = cacheKey.apply(params);
+            boolean cacheDecided = Boolean.parseBoolean(params.get("cacheDecided"));
+            boolean useCache = Boolean.parseBoolean(params.get("useCache"));
+            if (!cacheDecided || useCache) {
+                String json = results.get(key);
+                Metrics.cacheLookup("cache.server", json != null);
+                if (json != null) {
+                    send(exchange, 200, cacheDecided ? json : undecided);
+                    return;
+                }
+            }
+
+            LookupResult result = search.apply(params);
+            String json = gson.toJson(result);
+            boolean keepMissing = !"false".equals(params.get("keepMissing"));
+            if ((result.getResponse() == null && keepMissing)
+                    || (result.getResponse() != null && result.getResponse().isEmpty() && result.getRetrieveEntry() != null)) {
+                results.put(key, json);
+            }
+            else {
+                results.remove(key);
+            }
+            send(exchange, 200, json);
+        } catch (IOException | RuntimeException e) {
+            System.out.println(e.getMessage());
+            try {
+                sendError(exchange, 500, String.valueOf(e.getMessage()));
+            } catch (IOException ignored) {
+                // The client has gone, so there is nothing to send the error to
+            }
+        } finally {
+            exchange.close();
+            Metrics.stop("server" + path, start);
+        }
+    }
+
+    /**
+     * Sends the error message as json, in the same format as the api errors
+     * @param exchange exchange
+     * @param code status code
+     * @param message error message
+     * @throws IOException if it can't be sent
+     */
+    private void sendError(HttpExchange exchange, int code, String message) throws IOException {
+        Map<String, String> error = new HashMap<>();
+        error.put("error", message);
+        send(exchange, code, gson.toJson(error));
+    }
+
+    /**
+     * Sends the json response
+     * @param exchange exchange
+     * @param code status code
+     * @param json json
+     * @throws IOException if it can't be sent
+     */
+    private void send(HttpExchange exchange, int code, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(code, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package oxforddictionaries.view;
+
+import javafx.scene.control.Alert;
+import javafx.scene.control.Alert.AlertType;
+import javafx.scene.control.ButtonBar;
+import javafx.scene.control.ButtonType;
+
+/**
+ * Displays a window which allows the user to select which languages to clear the cache of.
+ */
+public class ClearCacheConfirmation {
+    private Alert alert;
+    private ButtonType allBtnType;
+    private ButtonType langBtnType;
+
+    /**
+     * Presents the user with the option to clear the cache of every language or only the selected language.
+     * @param lang selected language
+     * @return alert box
+     */
+    public Alert create(String lang) {
+        this.alert = new Alert(AlertType.CONFIRMATION);
+        alert.setTitle("Confirmation");
+        alert.setHeaderText("Clear cache");
+        alert.setContentText("Would you like to clear the cache of every language or only " + lang + "?");
+
+        this.allBtnType = new ButtonType("All languages");
+        this.langBtnType = new ButtonType(lang + " only");
+        ButtonType cancelBtnType = new ButtonType("Cancel", ButtonBar.ButtonData.CANCEL_CLOSE);
+
+        alert.getButtonTypes().setAll(allBtnType, langBtnType, cancelBtnType);
+
+        return alert;
+    }
+
+    /**
+     * @return all languages button
+     */
+    public ButtonType getAllBtnType() {
+        return allBtnType;
+    }
+
+    /**
+     * @return selected language button
+     */
+    public ButtonType getLangBtnType() {
+        return langBtnType;
+    }
+}
@@ -45,4 +45,25 @@ public class CustomItem extends HBox {
         this.addBtn = addBtn;
         this.getChildren().add(addBtn);
     }
+
+    /**
+     * @return label of the item
+     */
+    public Label getLabel() {
+        return label;
+    }
+
+    /**
+     * @return pronunciation button of the item
+     */
+    public Button getProBtn() {
+        return proBtn;
+    }
+
+    /**
+     * @return add to list button of the item
+     */
+    public Button getAddBtn() {
+        return addBtn;
+    }
 }
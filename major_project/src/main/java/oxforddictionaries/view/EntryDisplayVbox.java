@@ -1,1263 +1,273 @@
 package oxforddictionaries.view;
 
+import javafx.animation.AnimationTimer;
 import javafx.scene.control.*;
 import oxforddictionaries.model.InputEngine;
-import oxforddictionaries.model.request.responseclasses.*;
-import javafx.scene.layout.HBox;
+import oxforddictionaries.model.metrics.Metrics;
 import javafx.scene.layout.VBox;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
- * This is the display pane for the searched entry
+ * This is the display pane for the searched entry. The tree is built from the view-model in chunks
+ * across pulses so the window stays responsive for large entries. The tree items only hold the entry nodes,
+ * the cells that display them are reused by the tree view. The details of a preview are loaded when their node is expanded.
  */
 public class EntryDisplayVbox {
+    private static final int nodesPerPulse = 250;
     private VBox vbox;
-    private List<String> synAntTexts;
-    private List<HBox> synAntHboxes;
     private CustomItemBuilder customItemBuilder;
     private InputEngine inputEngine;
     private String entryId;
+    private MediaPlayer proPlayer;
+    private Consumer<String> onSearch;
+    private Runnable onLoadDetails;
+    private boolean detailsLoading;
+    private Deque<PendingNode> pending;
+    private AnimationTimer attachTimer;
+    private long attachStart;
 
     /**
-     * Creates the entry display vbox.
-     * @param inputEngine Input Engine
-     */
-    public EntryDisplayVbox(InputEngine inputEngine) {
-        this.synAntTexts = new ArrayList<>();
-        this.synAntHboxes = new ArrayList<>();
-        this.customItemBuilder = new CustomItemBuilder();
-        this.inputEngine = inputEngine;
-    }
-
-    /**
-     * Creates the tree view and adds it to the vbox
-     * @param retrieveEntry POJO
-     * @return vbox
-     */
-    public VBox create(RetrieveEntry retrieveEntry) {
-        synAntTexts.clear();
-        synAntHboxes.clear();
-
-        this.vbox = new VBox(5);
-
-        Label titleLbl = new Label(retrieveEntry.getWord());
-        titleLbl.setWrapText(true);
-        titleLbl.setFont(Font.font("Verdana", FontWeight.BOLD, 20));
-
-        TreeItem<CustomItem> root = new TreeItem<>();
-
-        TreeView<CustomItem> entryTree = new TreeView<>(root);
-        entryTree.setShowRoot(false);
-        entryTree.setStyle("-fx-base: #d0d0d0;-fx-focus-color: #d0d0d0;-fx-faint-focus-color: #d0d0d0;");
-
-        vbox.getChildren().addAll(titleLbl, entryTree);
-
-        handleStringLbl(retrieveEntry.getId(), root, "ID: ", false);
-        this.entryId = retrieveEntry.getId();
-
-        if (retrieveEntry.getMetadata() != null) {
-            customItemBuilder.newItem();
-            Label metaLbl = new Label("Metadata: ");
-            metaLbl.setWrapText(true);
-            customItemBuilder.setLabel(metaLbl);
-            TreeItem<CustomItem> metaItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            root.getChildren().add(metaItem);
-
-            createMetadata(retrieveEntry.getMetadata(), metaItem);
-        }
-
-        if (retrieveEntry.getResults() != null) {
-            customItemBuilder.newItem();
-            Label resultsLbl = new Label("Results: ");
-            resultsLbl.setWrapText(true);
-            customItemBuilder.setLabel(resultsLbl);
-            TreeItem<CustomItem> resultsItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            root.getChildren().add(resultsItem);
-
-            int count = 1;
-            for (HeadwordEntry result : retrieveEntry.getResults()) {
-                customItemBuilder.newItem();
-                Label resultChildLbl = new Label(String.valueOf(count));
-                resultChildLbl.setWrapText(true);
-                customItemBuilder.setLabel(resultChildLbl);
-                TreeItem<CustomItem> resultChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-                resultsItem.getChildren().add(resultChildItem);
-
-                createHeadwordEntry(result, resultChildItem);
-                count += 1;
-            }
-        }
-
-        handleStringLbl(retrieveEntry.getWord(), root, "Word: ", false);
-        return vbox;
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param metadata POJO
-     * @param parent parent tree node
+     * A node waiting to be attached to its parent tree item
      */
-    public void createMetadata(Metadata metadata, TreeItem<CustomItem> parent) {
-        if (metadata.getOperation() != null) {
-            handleStringLbl(metadata.getOperation(), parent, "Operation: ", false);
-        }
-
-        if (metadata.getProvider() != null) {
-            handleStringLbl(metadata.getProvider(), parent, "Provider: ", false);
-        }
-
-        if (metadata.getSchema() != null) {
-            handleStringLbl(metadata.getSchema(), parent, "Schema: ", false);
-        }
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param headwordEntry POJO
-     * @param parent parent tree node
-     */
-    public void createHeadwordEntry(HeadwordEntry headwordEntry, TreeItem<CustomItem> parent) {
-        handleStringLbl(headwordEntry.getId(), parent, "ID: ", false);
-        handleStringLbl(headwordEntry.getLanguage(), parent, "Language: ", false);
-
-        if (headwordEntry.getLexicalEntries() != null) {
-            customItemBuilder.newItem();
-            Label lexLbl = new Label("Lexical Entries: ");
-            lexLbl.setWrapText(true);
-            customItemBuilder.setLabel(lexLbl);
-            TreeItem<CustomItem> lexItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            parent.getChildren().add(lexItem);
-
-            int count = 1;
-            for (LexicalEntry lex : headwordEntry.getLexicalEntries()) {
-                customItemBuilder.newItem();
-                Label lexChildLbl = new Label(String.valueOf(count));
-                lexChildLbl.setWrapText(true);
-                customItemBuilder.setLabel(lexChildLbl);
-                TreeItem<CustomItem> lexChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-                lexItem.getChildren().add(lexChildItem);
-
-                createLexicalEntry(lex, lexChildItem);
-                count += 1;
-            }
-        }
-
-        if (headwordEntry.getPronunciations() != null) {
-            handlePronunciations(headwordEntry.getPronunciations(), parent);
-        }
+    private static class PendingNode {
+        private final EntryNode node;
+        private final TreeItem<EntryNode> parent;
 
-        if (headwordEntry.getType() != null) {
-            handleStringLbl(headwordEntry.getType(), parent, "Type: ", false);
+        private PendingNode(EntryNode node, TreeItem<EntryNode> parent) {
+            this.node = node;
+            this.parent = parent;
         }
-
-        handleStringLbl(headwordEntry.getWord(), parent, "Word: ", false);
     }
 
     /**
-     * Adds the attributes to the tree node
-     * @param lexicalEntry POJO
-     * @param parent parent tree node
+     * Creates the entry display vbox.
+     * @param inputEngine Input Engine
      */
-    public void createLexicalEntry(LexicalEntry lexicalEntry, TreeItem<CustomItem> parent) {
-        if (lexicalEntry.getCompounds() != null) {
-            handleRelatedEntries(lexicalEntry.getCompounds(), parent, "Compounds: ");
-        }
-
-        if (lexicalEntry.getDerivativeOf() != null) {
-            handleRelatedEntries(lexicalEntry.getDerivativeOf(), parent, "Derivative Of: ");
-        }
-
-        if (lexicalEntry.getDerivatives() != null) {
-            handleRelatedEntries(lexicalEntry.getDerivatives(), parent, "Derivatives: ");
-        }
-
-        if (lexicalEntry.getEntries() != null) {
-            customItemBuilder.newItem();
-            Label entrLbl = new Label("Entries: ");
-            entrLbl.setWrapText(true);
-            customItemBuilder.setLabel(entrLbl);
-            TreeItem<CustomItem> entrItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            parent.getChildren().add(entrItem);
-
-            int count = 1;
-            for (Entry entry : lexicalEntry.getEntries()) {
-                customItemBuilder.newItem();
-                Label entrChildLbl = new Label(String.valueOf(count));
-                entrChildLbl.setWrapText(true);
-                customItemBuilder.setLabel(entrChildLbl);
-                TreeItem<CustomItem> entrChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-                entrItem.getChildren().add(entrChildItem);
-
-                createEntry(entry, entrChildItem);
-                count += 1;
+    public EntryDisplayVbox(InputEngine inputEngine) {
+        this.customItemBuilder = new CustomItemBuilder();
+        this.inputEngine = inputEngine;
+        this.pending = new ArrayDeque<>();
+        this.attachTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                attachPending();
             }
-        }
-
-        if (lexicalEntry.getGrammaticalFeatures() != null) {
-            handleGrammaticalFeatures(lexicalEntry.getGrammaticalFeatures(), parent);
-        }
-
-        handleStringLbl(lexicalEntry.getLanguage(), parent, "Language: ", false);
-        handleLexicalCategory(lexicalEntry.getLexicalCategory(), parent);
-
-        if (lexicalEntry.getNotes() != null) {
-            handleNotes(lexicalEntry.getNotes(), parent);
-        }
-
-        if (lexicalEntry.getPhrasalVerbs() != null) {
-            handleRelatedEntries(lexicalEntry.getPhrasalVerbs(), parent, "Phrasal Verbs: ");
-        }
-
-        if (lexicalEntry.getPhrases() != null) {
-            handleRelatedEntries(lexicalEntry.getPhrases(), parent, "Phrases: ");
-        }
-
-        if (lexicalEntry.getPronunciations() != null) {
-            handlePronunciations(lexicalEntry.getPronunciations(), parent);
-        }
-
-        if (lexicalEntry.getRoot() != null) {
-            handleStringLbl(lexicalEntry.getRoot(), parent, "Root: ", false);
-        }
-
-        handleStringLbl(lexicalEntry.getText(), parent, "Text: ", false);
-
-        if (lexicalEntry.getVariantForms() != null) {
-            handleVariantForms(lexicalEntry.getVariantForms(), parent);
-        }
-    }
-
-    /**
-     * Adds the attributes to the tree node. Adds a button to play the audio file and
-     * a button to add to the pronunciation list. If it can't be added then display an error.
-     * @param pronunciation POJO
-     * @param parent parent tree node
-     */
-    public void createPronunciation(Pronunciation pronunciation, TreeItem<CustomItem> parent) {
-        if (pronunciation.getAudioFile() != null) {
-            customItemBuilder.newItem();
-            Label audLbl = new Label("Audio: ");
-            audLbl.setWrapText(true);
-            customItemBuilder.setLabel(audLbl);
-
-            Media proMedia = new Media(pronunciation.getAudioFile());
-            MediaPlayer proPlayer = new MediaPlayer(proMedia);
-            proPlayer.setOnEndOfMedia(() -> {
-                proPlayer.stop();
-            });
-
-            Button proBtn = new Button("Play");
-            proBtn.setOnAction((event) -> {
-                proPlayer.play();
-            });
-            customItemBuilder.setProBtn(proBtn);
-
-            Button addBtn = new Button("Add to list");
-            addBtn.setOnAction((event) -> {
-                boolean added = inputEngine.addPronunciation(entryId, pronunciation.getAudioFile());
-                if (!added) {
-                    Alert alert = new Alert(Alert.AlertType.ERROR);
-                    alert.setTitle("Error");
-                    alert.setHeaderText("An error has occurred!");
-                    alert.setContentText("List already contains the pronunciation.");
-                    alert.showAndWait();
-                }
-            });
-
-            customItemBuilder.setAddBtn(addBtn);
-
-            TreeItem<CustomItem> audItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            parent.getChildren().add(audItem);
-        }
-
-        if (pronunciation.getDialects() != null) {
-            handleStrings(pronunciation.getDialects(), parent, "Dialects: ");
-        }
-
-        if (pronunciation.getPhoneticNotation() != null) {
-            handleStringLbl(pronunciation.getPhoneticNotation(), parent, "Phonetic Notation: ", false);
-        }
-
-        if (pronunciation.getPhoneticSpelling() != null) {
-            handleStringLbl(pronunciation.getPhoneticSpelling(), parent, "Phonetic Spelling: ", false);
-        }
-
-        if (pronunciation.getRegions() != null) {
-            handleRegions(pronunciation.getRegions(), parent);
-        }
-
-        if (pronunciation.getRegisters() != null) {
-            handleRegisters(pronunciation.getRegisters(), parent);
-        }
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param relatedEntry POJO
-     * @param parent parent tree node
-     */
-    public void createRelatedEntry(RelatedEntry relatedEntry, TreeItem<CustomItem> parent) {
-        if (relatedEntry.getDomains() != null) {
-            handleDomains(relatedEntry.getDomains(), parent);
-        }
-
-        handleStringLbl(relatedEntry.getId(), parent, "ID: ", false);
-
-        if (relatedEntry.getLanguage() != null) {
-            handleStringLbl(relatedEntry.getLanguage(), parent, "Language: ", false);
-        }
-
-        if (relatedEntry.getRegions() != null) {
-            handleRegions(relatedEntry.getRegions(), parent);
-        }
-
-        if (relatedEntry.getRegisters() != null) {
-            handleRegisters(relatedEntry.getRegisters(), parent);
-        }
-
-        handleStringLbl(relatedEntry.getText(), parent, "Text: ", false);
-
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param entry POJO
-     * @param parent parent tree node
-     */
-    public void createEntry(Entry entry, TreeItem<CustomItem> parent) {
-        if (entry.getCrossReferenceMarkers() != null) {
-            handleStrings(entry.getCrossReferenceMarkers(), parent, "Cross Reference Markers: ");
-        }
-
-        if (entry.getCrossReferences() != null) {
-            handleCrossReferences(entry.getCrossReferences(), parent);
-        }
-
-        if (entry.getEtymologies() != null) {
-            handleStrings(entry.getEtymologies(), parent, "Etymologies: ");
-        }
-
-        if (entry.getGrammaticalFeatures() != null) {
-            handleGrammaticalFeatures(entry.getGrammaticalFeatures(), parent);
-        }
-
-        if (entry.getHomographNumber() != null) {
-            handleStringLbl(entry.getHomographNumber(), parent, "Homograph Number: ", false);
-        }
-
-        if (entry.getInflections() != null) {
-            handleInflections(entry.getInflections(), parent);
-        }
-
-        if (entry.getNotes() != null) {
-            handleNotes(entry.getNotes(), parent);
-        }
-
-        if (entry.getPronunciations() != null) {
-            handlePronunciations(entry.getPronunciations(), parent);
-        }
-
-        if (entry.getSenses() != null) {
-            handleSenses(entry.getSenses(), parent, "Senses: ");
-        }
-
-        if (entry.getVariantForms() != null) {
-            handleVariantForms(entry.getVariantForms(), parent);
-        }
+        };
     }
 
     /**
-     * Adds the attributes to the tree node
-     * @param grammaticalFeature POJO
-     * @param parent parent tree node
+     * Sets what happens when a synonym/antonym is clicked
+     * @param onSearch called with the word to search
      */
-    public void createGrammaticalFeature(GrammaticalFeature grammaticalFeature, TreeItem<CustomItem> parent) {
-        handleStringLbl(grammaticalFeature.getId(), parent, "ID: ", false);
-        handleStringLbl(grammaticalFeature.getText(), parent, "Text: ", false);
-        handleStringLbl(grammaticalFeature.getType(), parent, "Type: ", false);
+    public void setOnSearch(Consumer<String> onSearch) {
+        this.onSearch = onSearch;
     }
 
     /**
-     * Adds the attributes to the tree node
-     * @param lexicalCategory POJO
-     * @param parent parent tree node
+     * Sets what happens when the details node of a preview is expanded
+     * @param onLoadDetails called once when the details are needed
      */
-    public void createLexicalCategory(LexicalCategory lexicalCategory, TreeItem<CustomItem> parent) {
-        handleStringLbl(lexicalCategory.getId(), parent, "ID: ", false);
-        handleStringLbl(lexicalCategory.getText(), parent, "Text: ", false);
+    public void setOnLoadDetails(Runnable onLoadDetails) {
+        this.onLoadDetails = onLoadDetails;
     }
 
     /**
-     * Adds the attributes to the tree node
-     * @param categorizedText POJO
-     * @param parent parent tree node
-     */
-    public void createCategorizedText(CategorizedText categorizedText, TreeItem<CustomItem> parent) {
-        if (categorizedText.getId() != null) {
-            handleStringLbl(categorizedText.getId(), parent, "ID: ", false);
-        }
-
-        handleStringLbl(categorizedText.getText(), parent, "Text: ", false);
-        handleStringLbl(categorizedText.getType(), parent, "Type: ", false);
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param variantForm POJO
-     * @param parent parent tree node
-     */
-    public void createVariantForm(VariantForm variantForm, TreeItem<CustomItem> parent) {
-        if (variantForm.getDomains() != null) {
-            handleDomains(variantForm.getDomains(), parent);
-        }
-
-        if (variantForm.getNotes() != null) {
-            handleNotes(variantForm.getNotes(), parent);
-        }
-
-        if (variantForm.getPronunciations() != null) {
-            handlePronunciations(variantForm.getPronunciations(), parent);
-        }
-
-        if (variantForm.getRegions() != null) {
-            handleRegions(variantForm.getRegions(), parent);
-        }
-
-        if (variantForm.getRegisters() != null) {
-            handleRegisters(variantForm.getRegisters(), parent);
-        }
-
-        handleStringLbl(variantForm.getText(), parent, "Text: ", false);
-    }
-
-    /**
-     * Adds the string to the tree node
-     * @param str string
-     * @param parent parent tree node
-     */
-    public void createString(String str, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label strLbl = new Label(str);
-        strLbl.setWrapText(true);
-        customItemBuilder.setLabel(strLbl);
-        TreeItem<CustomItem> strItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(strItem);
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param region POJO
-     * @param parent parent tree node
-     */
-    public void createRegion(Region region, TreeItem<CustomItem> parent) {
-        handleStringLbl(region.getId(), parent, "ID: ", false);
-        handleStringLbl(region.getText(), parent, "Text: ", false);
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param register POJO
-     * @param parent parent tree node
-     */
-    public void createRegister(Register register, TreeItem<CustomItem> parent) {
-        handleStringLbl(register.getId(), parent, "ID: ", false);
-        handleStringLbl(register.getText(), parent, "Text: ", false);
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param domain POJO
-     * @param parent parent tree node
-     */
-    public void createDomain(Domain domain, TreeItem<CustomItem> parent) {
-        handleStringLbl(domain.getId(), parent, "ID: ", false);
-        handleStringLbl(domain.getText(), parent, "Text: ", false);
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param crossReference POJO
-     * @param parent parent tree node
+     * Creates the tree view and adds it to the vbox. The nodes are attached over the next pulses.
+     * Stops attaching the previous entry if it hasn't finished.
+     * @param root view-model of the entry
+     * @param entryId entry ID
+     * @return vbox
      */
-    public void createCrossReference(CrossReference crossReference, TreeItem<CustomItem> parent) {
-        handleStringLbl(crossReference.getId(), parent, "ID: ", false);
-        handleStringLbl(crossReference.getText(), parent, "Text: ", false);
-        handleStringLbl(crossReference.getType(), parent, "Type: ", false);
+    public VBox create(EntryNode root, String entryId) {
+        return create(root, entryId, false);
     }
 
     /**
-     * Adds the attributes to the tree node
-     * @param inflectedForm POJO
-     * @param parent parent tree node
-     */
-    public void createInflectedForm(InflectedForm inflectedForm, TreeItem<CustomItem> parent) {
-        if (inflectedForm.getDomains() != null) {
-            handleDomains(inflectedForm.getDomains(), parent);
-        }
-
-        if (inflectedForm.getGrammaticalFeatures() != null) {
-            handleGrammaticalFeatures(inflectedForm.getGrammaticalFeatures(), parent);
-        }
-
-        handleStringLbl(inflectedForm.getInflectedForm(), parent, "Inflected Form: ", false);
-
-        if (inflectedForm.getLexicalCategory() != null) {
-            handleLexicalCategory(inflectedForm.getLexicalCategory(), parent);
-        }
-
-        if (inflectedForm.getPronunciations() != null) {
-            handlePronunciations(inflectedForm.getPronunciations(), parent);
-        }
-
-        if (inflectedForm.getRegions() != null) {
-            handleRegions(inflectedForm.getRegions(), parent);
-        }
-
-        if (inflectedForm.getRegisters() != null) {
-            handleRegisters(inflectedForm.getRegisters(), parent);
-        }
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param sense POJO
-     * @param parent parent tree node
+     * Creates the tree view and adds it to the vbox. The nodes are attached over the next pulses, or all at once
+     * if the view-model was displayed before, e.g. going back in the history. Only the expanded nodes get cells,
+     * so attaching a large entry at once only creates its tree items.
+     * Stops attaching the previous entry if it hasn't finished.
+     * @param root view-model of the entry
+     * @param entryId entry ID
+     * @param attachAll attach all the nodes before it is displayed
+     * @return vbox
      */
-    public void createSense(Sense sense, TreeItem<CustomItem> parent) {
-        if (sense.getAntonyms() != null) {
-            handleSynonymsAntonyms(sense.getAntonyms(), parent, "Antonyms: ");
-        }
-
-        if (sense.getConstructions() != null) {
-            customItemBuilder.newItem();
-            Label conLbl = new Label("Constructions: ");
-            conLbl.setWrapText(true);
-            customItemBuilder.setLabel(conLbl);
-            TreeItem<CustomItem> conItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            parent.getChildren().add(conItem);
-
-            int count = 1;
-            for (InlineModel2 con : sense.getConstructions()) {
-                customItemBuilder.newItem();
-                Label conChildLbl = new Label(String.valueOf(count));
-                conChildLbl.setWrapText(true);
-                customItemBuilder.setLabel(conChildLbl);
-                TreeItem<CustomItem> conChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-                conItem.getChildren().add(conChildItem);
-
-                createConstruction(con, conChildItem);
-                count += 1;
-            }
-        }
-
-        if (sense.getCrossReferenceMarkers() != null) {
-            handleStrings(sense.getCrossReferenceMarkers(), parent, "Cross Reference Markers: ");
-        }
-
-        if (sense.getCrossReferences() != null) {
-            handleCrossReferences(sense.getCrossReferences(), parent);
-        }
-
-        if (sense.getDefinitions() != null) {
-            handleStrings(sense.getDefinitions(), parent, "Definitions: ");
-        }
-
-        if (sense.getDomainClasses() != null) {
-            customItemBuilder.newItem();
-            Label domLbl = new Label("Domain Classes: ");
-            domLbl.setWrapText(true);
-            customItemBuilder.setLabel(domLbl);
-            TreeItem<CustomItem> domItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            parent.getChildren().add(domItem);
-
-            int count = 1;
-            for (DomainClass dom : sense.getDomainClasses()) {
-                customItemBuilder.newItem();
-                Label domChildLbl = new Label(String.valueOf(count));
-                domChildLbl.setWrapText(true);
-                customItemBuilder.setLabel(domChildLbl);
-                TreeItem<CustomItem> domChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-                domItem.getChildren().add(domChildItem);
-
-                createDomainClass(dom, domChildItem);
-                count += 1;
-            }
-        }
-
-        if (sense.getDomains() != null) {
-            handleDomains(sense.getDomains(), parent);
-        }
-
-        if (sense.getEtymologies() != null) {
-            handleStrings(sense.getEtymologies(), parent, "Etymologies: ");
-        }
-
-        if (sense.getExamples() != null) {
-            customItemBuilder.newItem();
-            Label examLbl = new Label("Examples: ");
-            examLbl.setWrapText(true);
-            customItemBuilder.setLabel(examLbl);
-            TreeItem<CustomItem> examItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            parent.getChildren().add(examItem);
-
-            int count = 1;
-            for (Example exam : sense.getExamples()) {
-                customItemBuilder.newItem();
-                Label examChildLbl = new Label(String.valueOf(count));
-                examChildLbl.setWrapText(true);
-                customItemBuilder.setLabel(examChildLbl);
-                TreeItem<CustomItem> examChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-                examItem.getChildren().add(examChildItem);
-
-                createExample(exam, examChildItem);
-                count += 1;
-            }
-        }
-
-        if (sense.getId() != null) {
-            handleStringLbl(sense.getId(), parent, "ID: ", false);
-        }
-
-        if (sense.getInflections() != null) {
-            handleInflections(sense.getInflections(), parent);
-        }
+    public VBox create(EntryNode root, String entryId, boolean attachAll) {
+        attachTimer.stop();
+        pending.clear();
+        this.entryId = entryId;
+        this.detailsLoading = false;
+        this.attachStart = Metrics.start();
 
-        if (sense.getNotes() != null) {
-            handleNotes(sense.getNotes(), parent);
-        }
-
-        if (sense.getPronunciations() != null) {
-            handlePronunciations(sense.getPronunciations(), parent);
-        }
+        this.vbox = new VBox(5);
 
-        if (sense.getRegions() != null) {
-            handleRegions(sense.getRegions(), parent);
-        }
+        Label titleLbl = new Label(root.getText());
+        titleLbl.setWrapText(true);
+        titleLbl.setFont(Font.font("Verdana", FontWeight.BOLD, 20));
 
-        if (sense.getRegisters() != null) {
-            handleRegisters(sense.getRegisters(), parent);
-        }
+        TreeItem<EntryNode> rootItem = new TreeItem<>();
 
-        if (sense.getSemanticClasses() != null) {
-            customItemBuilder.newItem();
-            Label semLbl = new Label("Semantic Classes: ");
-            semLbl.setWrapText(true);
-            customItemBuilder.setLabel(semLbl);
-            TreeItem<CustomItem> semItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            parent.getChildren().add(semItem);
+        TreeView<EntryNode> entryTree = new TreeView<>(rootItem);
+        entryTree.setShowRoot(false);
+        entryTree.setCellFactory((tree) -> new EntryTreeCell(customItemBuilder, this::play, this::addPronunciation, this::search));
+        entryTree.setStyle("-fx-base: #d0d0d0;-fx-focus-color: #d0d0d0;-fx-faint-focus-color: #d0d0d0;");
 
-            int count = 1;
-            for (SemanticClass sem : sense.getSemanticClasses()) {
-                customItemBuilder.newItem();
-                Label semChildLbl = new Label(String.valueOf(count));
-                semChildLbl.setWrapText(true);
-                customItemBuilder.setLabel(semChildLbl);
-                TreeItem<CustomItem> semChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-                semItem.getChildren().add(semChildItem);
+        vbox.getChildren().addAll(titleLbl, entryTree);
 
-                createSemanticClass(sem, semChildItem);
-                count += 1;
+        List<EntryNode> children = root.getChildren();
+        if (attachAll) {
+            List<TreeItem<EntryNode>> items = new ArrayList<>();
+            for (EntryNode child : children) {
+                items.add(createSubtree(child));
             }
+            rootItem.getChildren().setAll(items);
         }
-
-        if (sense.getShortDefinitions() != null) {
-            handleStrings(sense.getShortDefinitions(), parent, "Short Definitions: ");
-        }
-
-        if (sense.getSubsenses() != null) {
-            handleSenses(sense.getSubsenses(), parent, "Sub-senses: ");
-        }
-
-        if (sense.getSynonyms() != null) {
-            handleSynonymsAntonyms(sense.getSynonyms(), parent, "Synonyms: ");
-        }
-
-        if (sense.getThesaurusLinks() != null) {
-            customItemBuilder.newItem();
-            Label theLbl = new Label("Thesaurus Links: ");
-            theLbl.setWrapText(true);
-            customItemBuilder.setLabel(theLbl);
-            TreeItem<CustomItem> theItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            parent.getChildren().add(theItem);
-
-            int count = 1;
-            for (ThesaurusLink the : sense.getThesaurusLinks()) {
-                customItemBuilder.newItem();
-                Label theChildLbl = new Label(String.valueOf(count));
-                theChildLbl.setWrapText(true);
-                customItemBuilder.setLabel(theChildLbl);
-                TreeItem<CustomItem> theChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-                theItem.getChildren().add(theChildItem);
-
-                createThesaurusLink(the, theChildItem);
-                count += 1;
+        else {
+            for (int i = children.size() - 1; i >= 0; i--) {
+                pending.push(new PendingNode(children.get(i), rootItem));
             }
         }
-
-        if (sense.getVariantForms() != null) {
-            handleVariantForms(sense.getVariantForms(), parent);
-        }
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param synonymAntonym POJO
-     * @param parent parent tree node
-     */
-    public void createSynonymAntonym(SynonymsAntonyms synonymAntonym, TreeItem<CustomItem> parent) {
-        if (synonymAntonym.getDomains() != null) {
-            handleDomains(synonymAntonym.getDomains(), parent);
-        }
-
-        if (synonymAntonym.getId() != null) {
-            handleStringLbl(synonymAntonym.getId(), parent, "ID: ", false);
-        }
-
-        if (synonymAntonym.getLanguage() != null) {
-            handleStringLbl(synonymAntonym.getLanguage(), parent, "Language: ", false);
-        }
-
-        if (synonymAntonym.getRegions() != null) {
-            handleRegions(synonymAntonym.getRegions(), parent);
-        }
-
-        if (synonymAntonym.getRegisters() != null) {
-            handleRegisters(synonymAntonym.getRegisters(), parent);
+        attachPending();
+        if (!pending.isEmpty()) {
+            attachTimer.start();
         }
-
-        handleStringLbl(synonymAntonym.getText(), parent, "Text: ", true);
+        return vbox;
     }
 
     /**
-     * Adds the attributes to the tree node
-     * @param construction POJO
-     * @param parent parent tree node
+     * Attaches the pending nodes until the pulse budget is used. A subtree that fits in the remaining budget
+     * is built completely before it is attached. A larger subtree attaches its own node and queues its children.
+     * The time from creating the tree to attaching the last node is recorded in the metrics.
      */
-    public void createConstruction(InlineModel2 construction, TreeItem<CustomItem> parent) {
-        if (construction.getDomains() != null) {
-            handleDomains(construction.getDomains(), parent);
-        }
-
-        if (construction.getExamples() != null) {
-            customItemBuilder.newItem();
-            Label examLbl = new Label("Examples: ");
-            examLbl.setWrapText(true);
-            customItemBuilder.setLabel(examLbl);
-            TreeItem<CustomItem> examItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            parent.getChildren().add(examItem);
-
-            int count = 1;
-            for (ExampleText exam : construction.getExamples()) {
-                customItemBuilder.newItem();
-                Label examChildLbl = new Label(String.valueOf(count));
-                examChildLbl.setWrapText(true);
-                customItemBuilder.setLabel(examChildLbl);
-                TreeItem<CustomItem> examChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-                examItem.getChildren().add(examChildItem);
-
-                createExampleText(exam, examChildItem);
-                count += 1;
+    public void attachPending() {
+        int budget = nodesPerPulse;
+        while (budget > 0 && !pending.isEmpty()) {
+            PendingNode next = pending.pop();
+            if (next.node.getSize() <= budget) {
+                next.parent.getChildren().add(createSubtree(next.node));
+                budget -= next.node.getSize();
+                continue;
             }
-        }
-
-        if (construction.getNotes() != null) {
-            handleNotes(construction.getNotes(), parent);
-        }
-
-        if (construction.getRegions() != null) {
-            handleRegions(construction.getRegions(), parent);
-        }
-
-        if (construction.getRegisters() != null) {
-            handleRegisters(construction.getRegisters(), parent);
-        }
-
-        handleStringLbl(construction.getText(), parent, "Text: ", false);
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param domainClass POJO
-     * @param parent parent tree node
-     */
-    public void createDomainClass(DomainClass domainClass, TreeItem<CustomItem> parent) {
-        handleStringLbl(domainClass.getId(), parent, "ID: ", false);
-        handleStringLbl(domainClass.getText(), parent, "Text: ", false);
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param example POJO
-     * @param parent parent tree node
-     */
-    public void createExample(Example example, TreeItem<CustomItem> parent) {
-        if (example.getDefinitions() != null) {
-            handleStrings(example.getDefinitions(), parent, "Definitions: ");
-        }
 
-        if (example.getDomains() != null) {
-            handleDomains(example.getDomains(), parent);
-        }
-
-        if (example.getNotes() != null) {
-            handleNotes(example.getNotes(), parent);
-        }
+            TreeItem<EntryNode> item = createItem(next.node);
+            next.parent.getChildren().add(item);
+            budget -= 1;
 
-        if (example.getRegions() != null) {
-            handleRegions(example.getRegions(), parent);
-        }
-
-        if (example.getRegisters() != null) {
-            handleRegisters(example.getRegisters(), parent);
-        }
-
-        if (example.getSenseIds() != null) {
-            handleStrings(example.getSenseIds(), parent, "Sense IDs: ");
-        }
-
-        handleStringLbl(example.getText(), parent, "Text: ", false);
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param semanticClass POJO
-     * @param parent parent tree node
-     */
-    public void createSemanticClass(SemanticClass semanticClass, TreeItem<CustomItem> parent) {
-        handleStringLbl(semanticClass.getId(), parent, "ID: ", false);
-        handleStringLbl(semanticClass.getText(), parent, "Text: ", false);
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param thesaurusLink POJO
-     * @param parent parent tree node
-     */
-    public void createThesaurusLink(ThesaurusLink thesaurusLink, TreeItem<CustomItem> parent) {
-        handleStringLbl(thesaurusLink.getEntryId(), parent, "Entry ID: ", false);
-        handleStringLbl(thesaurusLink.getSenseId(), parent, "Sense ID: ", false);
-    }
-
-    /**
-     * Adds the attributes to the tree node
-     * @param exampleText POJO
-     * @param parent parent tree node
-     */
-    public void createExampleText(ExampleText exampleText, TreeItem<CustomItem> parent) {
-        handleStringLbl(exampleText.getText(), parent, "Text: ", false);
-    }
-
-    /**
-     * Adds the list of pronunciations to the tree node
-     * @param pronunciations list of pronunciations
-     * @param parent parent tree node
-     */
-    public void handlePronunciations(List<Pronunciation> pronunciations, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label proLbl = new Label("Pronunciations: ");
-        proLbl.setWrapText(true);
-        customItemBuilder.setLabel(proLbl);
-        TreeItem<CustomItem> proItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(proItem);
-
-        int count = 1;
-        for (Pronunciation pro : pronunciations) {
-            customItemBuilder.newItem();
-            Label proChildLbl = new Label(String.valueOf(count));
-            proChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(proChildLbl);
-            TreeItem<CustomItem> proChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            proItem.getChildren().add(proChildItem);
-
-            createPronunciation(pro, proChildItem);
-            count += 1;
-        }
-    }
-
-    /**
-     * Adds the list of grammatical features to the tree node
-     * @param grammaticalFeatures list of grammatical features
-     * @param parent parent tree node
-     */
-    public void handleGrammaticalFeatures(List<GrammaticalFeature> grammaticalFeatures, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label gramLbl = new Label("Grammatical Features: ");
-        gramLbl.setWrapText(true);
-        customItemBuilder.setLabel(gramLbl);
-        TreeItem<CustomItem> gramItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(gramItem);
-
-        int count = 1;
-        for (GrammaticalFeature gram :  grammaticalFeatures) {
-            customItemBuilder.newItem();
-            Label gramChildLbl = new Label(String.valueOf(count));
-            gramChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(gramChildLbl);
-            TreeItem<CustomItem> gramChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            gramItem.getChildren().add(gramChildItem);
-
-            createGrammaticalFeature(gram, gramChildItem);
-            count += 1;
-        }
-    }
-
-    /**
-     * Adds the list of related entries to the tree node
-     * @param relatedEntries list of related entries
-     * @param parent parent tree node
-     * @param label key
-     */
-    public void handleRelatedEntries(List<RelatedEntry> relatedEntries, TreeItem<CustomItem> parent, String label) {
-        customItemBuilder.newItem();
-        Label relaLbl = new Label(label);
-        relaLbl.setWrapText(true);
-        customItemBuilder.setLabel(relaLbl);
-        TreeItem<CustomItem> relaItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(relaItem);
-
-        int count = 1;
-        for (RelatedEntry entry : relatedEntries) {
-            customItemBuilder.newItem();
-            Label relaChildLbl = new Label(String.valueOf(count));
-            relaChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(relaChildLbl);
-            TreeItem<CustomItem> relaChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            relaItem.getChildren().add(relaChildItem);
-
-            createRelatedEntry(entry, relaChildItem);
-            count += 1;
-        }
-    }
-
-    /**
-     * Adds the list of notes to the tree node
-     * @param notes list of notes
-     * @param parent parent tree node
-     */
-    public void handleNotes(List<CategorizedText> notes, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label notesLbl = new Label("Notes: ");
-        notesLbl.setWrapText(true);
-        customItemBuilder.setLabel(notesLbl);
-        TreeItem<CustomItem> notesItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(notesItem);
-
-        int count = 1;
-        for (CategorizedText note : notes) {
-            customItemBuilder.newItem();
-            Label notesChildLbl = new Label(String.valueOf(count));
-            notesChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(notesChildLbl);
-            TreeItem<CustomItem> notesChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            notesItem.getChildren().add(notesChildItem);
-
-            createCategorizedText(note, notesChildItem);
-            count += 1;
-        }
-    }
-
-    /**
-     * Adds the list of variant forms to the tree node
-     * @param variantForms list of variant forms
-     * @param parent parent tree node
-     */
-    public void handleVariantForms(List<VariantForm> variantForms, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label varLbl = new Label("Variant Forms: ");
-        varLbl.setWrapText(true);
-        customItemBuilder.setLabel(varLbl);
-        TreeItem<CustomItem> varItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(varItem);
-
-        int count = 1;
-        for (VariantForm var : variantForms) {
-            customItemBuilder.newItem();
-            Label varChildLbl = new Label(String.valueOf(count));
-            varChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(varChildLbl);
-            TreeItem<CustomItem> varChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            varItem.getChildren().add(varChildItem);
-
-            createVariantForm(var, varChildItem);
-            count += 1;
-        }
-    }
-
-    /**
-     * Adds the list of strings to the tree node
-     * @param strings list of strings
-     * @param parent parent tree node
-     * @param label key
-     */
-    public void handleStrings(List<String> strings, TreeItem<CustomItem> parent, String label) {
-        customItemBuilder.newItem();
-        Label strLbl = new Label(label);
-        strLbl.setWrapText(true);
-        customItemBuilder.setLabel(strLbl);
-        TreeItem<CustomItem> strItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(strItem);
-
-        int count = 1;
-        for (String str : strings) {
-            customItemBuilder.newItem();
-            Label strChildLbl = new Label(String.valueOf(count));
-            strChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(strChildLbl);
-            TreeItem<CustomItem> strChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            strItem.getChildren().add(strChildItem);
-
-            createString(str, strChildItem);
-            count += 1;
+            List<EntryNode> children = next.node.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                pending.push(new PendingNode(children.get(i), item));
+            }
         }
-    }
-
-    /**
-     * Adds the list of regions to the tree node
-     * @param regions list of regions
-     * @param parent parent tree node
-     */
-    public void handleRegions(List<Region> regions, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label regLbl = new Label("Regions: ");
-        regLbl.setWrapText(true);
-        customItemBuilder.setLabel(regLbl);
-        TreeItem<CustomItem> regItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(regItem);
-
-        int count = 1;
-        for (Region reg : regions) {
-            customItemBuilder.newItem();
-            Label regChildLbl = new Label(String.valueOf(count));
-            regChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(regChildLbl);
-            TreeItem<CustomItem> regChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            regItem.getChildren().add(regChildItem);
 
-            createRegion(reg, regChildItem);
-            count += 1;
+        if (pending.isEmpty()) {
+            attachTimer.stop();
+            if (attachStart != 0) {
+                Metrics.stop("view.attach", attachStart);
+                attachStart = 0;
+            }
         }
     }
 
     /**
-     * Adds the list of registers to the tree node
-     * @param registers list of registers
-     * @param parent parent tree node
+     * Checks if all the nodes of the entry have been attached
+     * @return true if there are no pending nodes
      */
-    public void handleRegisters(List<Register> registers, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label regLbl = new Label("Registers: ");
-        regLbl.setWrapText(true);
-        customItemBuilder.setLabel(regLbl);
-        TreeItem<CustomItem> regItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(regItem);
-
-        int count = 1;
-        for (Register reg : registers) {
-            customItemBuilder.newItem();
-            Label regChildLbl = new Label(String.valueOf(count));
-            regChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(regChildLbl);
-            TreeItem<CustomItem> regChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            regItem.getChildren().add(regChildItem);
-
-            createRegister(reg, regChildItem);
-            count += 1;
-        }
+    public boolean isAttached() {
+        return pending.isEmpty();
     }
 
     /**
-     * Adds the list of domains to the tree node
-     * @param domains list of domains
-     * @param parent parent tree node
+     * Creates the tree item of the node and all of its children
+     * @param node entry node
+     * @return tree item
      */
-    public void handleDomains(List<Domain> domains, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label domLbl = new Label("Domains: ");
-        domLbl.setWrapText(true);
-        customItemBuilder.setLabel(domLbl);
-        TreeItem<CustomItem> domItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(domItem);
-
-        int count = 1;
-        for (Domain dom : domains) {
-            customItemBuilder.newItem();
-            Label domChildLbl = new Label(String.valueOf(count));
-            domChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(domChildLbl);
-            TreeItem<CustomItem> domChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            domItem.getChildren().add(domChildItem);
-
-            createDomain(dom, domChildItem);
-            count += 1;
+    public TreeItem<EntryNode> createSubtree(EntryNode node) {
+        TreeItem<EntryNode> item = createItem(node);
+        for (EntryNode child : node.getChildren()) {
+            item.getChildren().add(createSubtree(child));
         }
+        return item;
     }
 
     /**
-     * Adds the list of cross references to the tree node
-     * @param crossReferences list of cross references
-     * @param parent parent tree node
+     * Creates the tree item of the node. The details node has a loading child so it can be expanded,
+     * and expanding it loads the details.
+     * @param node entry node
+     * @return tree item
      */
-    public void handleCrossReferences(List<CrossReference> crossReferences, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label crossLbl = new Label("Cross Reference: ");
-        crossLbl.setWrapText(true);
-        customItemBuilder.setLabel(crossLbl);
-        TreeItem<CustomItem> crossItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(crossItem);
-
-        int count = 1;
-        for (CrossReference cross : crossReferences) {
-            customItemBuilder.newItem();
-            Label crossChildLabel = new Label(String.valueOf(count));
-            crossChildLabel.setWrapText(true);
-            customItemBuilder.setLabel(crossChildLabel);
-            TreeItem<CustomItem> crossChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            crossItem.getChildren().add(crossChildItem);
-
-            createCrossReference(cross, crossChildItem);
-            count += 1;
+    public TreeItem<EntryNode> createItem(EntryNode node) {
+        TreeItem<EntryNode> item = new TreeItem<>(node);
+        if (node.isLoadDetails()) {
+            item.getChildren().add(new TreeItem<>(new EntryNode("Loading...", null, null, List.of())));
+            item.expandedProperty().addListener((observable, wasExpanded, expanded) -> {
+                if (expanded) {
+                    loadDetails();
+                }
+            });
         }
+        return item;
     }
 
     /**
-     * Adds the list of inflected forms to the tree node
-     * @param inflectedForms list of inflected forms
-     * @param parent parent tree form
+     * Loads the details of the preview. They are only requested once for each entry displayed.
      */
-    public void handleInflections(List<InflectedForm> inflectedForms, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label infLbl = new Label("Inflections: ");
-        infLbl.setWrapText(true);
-        customItemBuilder.setLabel(infLbl);
-        TreeItem<CustomItem> infItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(infItem);
-
-        int count = 1;
-        for (InflectedForm inf : inflectedForms) {
-            customItemBuilder.newItem();
-            Label infChildLbl = new Label(String.valueOf(count));
-            infChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(infChildLbl);
-            TreeItem<CustomItem> infChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            infItem.getChildren().add(infChildItem);
-
-            createInflectedForm(inf, infChildItem);
-            count += 1;
+    public void loadDetails() {
+        if (detailsLoading || onLoadDetails == null) {
+            return;
         }
+        this.detailsLoading = true;
+        onLoadDetails.run();
     }
 
     /**
-     * Adds the list of senses to the tree node
-     * @param senses list of senses
-     * @param parent parent tree node
-     * @param label key
+     * Searches for the synonym/antonym that was clicked
+     * @param text word
      */
-    public void handleSenses(List<Sense> senses, TreeItem<CustomItem> parent, String label) {
-        customItemBuilder.newItem();
-        Label senLbl = new Label(label);
-        senLbl.setWrapText(true);
-        customItemBuilder.setLabel(senLbl);
-        TreeItem<CustomItem> senItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(senItem);
-
-        int count = 1;
-        for (Sense sen : senses) {
-            customItemBuilder.newItem();
-            Label senChildLbl = new Label(String.valueOf(count));
-            senChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(senChildLbl);
-            TreeItem<CustomItem> senChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            senItem.getChildren().add(senChildItem);
-
-            createSense(sen, senChildItem);
-            count += 1;
+    public void search(String text) {
+        if (onSearch != null) {
+            onSearch.accept(text);
         }
     }
 
     /**
-     * Adds the string to the tree node. If it is a synonym/antonym add it to the list of hboxes and texts.
-     * @param string value
-     * @param parent parent tree node
-     * @param label key
-     * @param synAnt is synonym/antonym
+     * Adds the audio file to the pronunciation list. If it can't be added then display an error.
+     * @param audioFile audio file url
      */
-    public void handleStringLbl(String string, TreeItem<CustomItem> parent, String label, boolean synAnt) {
-        if (synAnt) {
-            synAntHboxes.add(parent.getValue());
-            synAntTexts.add(string);
+    public void addPronunciation(String audioFile) {
+        boolean added = inputEngine.addPronunciation(entryId, audioFile);
+        if (!added) {
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("Error");
+            alert.setHeaderText("An error has occurred!");
+            alert.setContentText("List already contains the pronunciation.");
+            alert.showAndWait();
         }
-
-        customItemBuilder.newItem();
-        Label strLbl = new Label(label + string);
-        strLbl.setWrapText(true);
-        customItemBuilder.setLabel(strLbl);
-        TreeItem<CustomItem> strTree = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(strTree);
     }
 
     /**
-     * Adds the list of lexical categories to the tree node
-     * @param lexicalCategory list of lexical categories
-     * @param parent parent tree node
+     * Plays the pronunciation audio file. The player is created when it is played so the downloaded copy is used
+     * once it is in the cache. Stops the pronunciation that is currently playing.
+     * @param audioFile audio file url
      */
-    public void handleLexicalCategory(LexicalCategory lexicalCategory, TreeItem<CustomItem> parent) {
-        customItemBuilder.newItem();
-        Label lexiCateLbl = new Label("Lexical Category: ");
-        lexiCateLbl.setWrapText(true);
-        customItemBuilder.setLabel(lexiCateLbl);
-        TreeItem<CustomItem> lexiCateItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(lexiCateItem);
-
-        createLexicalCategory(lexicalCategory, lexiCateItem);
-    }
-
-    /**
-     * Adds the list of synonyms/antonyms to the tree node
-     * @param synonymsAntonyms list of synonyms/antonyms
-     * @param parent parent tree node
-     * @param label key
-     */
-    public void handleSynonymsAntonyms(List<SynonymsAntonyms> synonymsAntonyms, TreeItem<CustomItem> parent, String label) {
-        customItemBuilder.newItem();
-        Label synAntLbl = new Label(label);
-        synAntLbl.setWrapText(true);
-        customItemBuilder.setLabel(synAntLbl);
-        TreeItem<CustomItem> synAntItem = new TreeItem<>(customItemBuilder.getCustomItem());
-        parent.getChildren().add(synAntItem);
-
-        int count = 1;
-        for (SynonymsAntonyms synAnt : synonymsAntonyms) {
-            customItemBuilder.newItem();
-            Label synAntChildLbl = new Label(String.valueOf(count));
-            synAntChildLbl.setWrapText(true);
-            customItemBuilder.setLabel(synAntChildLbl);
-            TreeItem<CustomItem> synAntChildItem = new TreeItem<>(customItemBuilder.getCustomItem());
-            synAntItem.getChildren().add(synAntChildItem);
-
-            createSynonymAntonym(synAnt, synAntChildItem);
-            count += 1;
+    public void play(String audioFile) {
+        if (proPlayer != null) {
+            proPlayer.dispose();
         }
-    }
-
-    /**
-     * @return list of synonyms/antonyms hboxes
-     */
-    public List<HBox> getSynAntHboxes() {
-        return synAntHboxes;
-    }
-
-    /**
-     * Gets the synonym/antonym text at the index
-     * @param ind index
-     * @return synonym/antonym
-     */
-    public String getSynAntText(int ind) {
-        return synAntTexts.get(ind);
+        Media proMedia = new Media(inputEngine.getAudioUri(audioFile));
+        MediaPlayer player = new MediaPlayer(proMedia);
+        player.setOnEndOfMedia(() -> {
+            player.stop();
+        });
+        this.proPlayer = player;
+        player.play();
     }
 }
@@ -1,6 +1,7 @@
 package oxforddictionaries.view;
 
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
@@ -8,6 +9,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
+import oxforddictionaries.model.request.QueryKey;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,11 +28,13 @@ public class EntryInputVbox {
     private TextField domainsTxt;
     private TextField registersTxt;
     private ComboBox<String> matchMenu;
+    private CheckBox previewBox;
+    private CheckBox liveSearchBox;
     private Button searchBtn;
 
     /**
      * Creates the input fields for language, word, field, grammatical feature,
-     * lexical category, domains, registers and strict match
+     * lexical category, domains, registers, strict match, loading the details when expanded and searching as you type
      * @return vbox
      */
     public VBox create() {
@@ -50,14 +54,16 @@ public class EntryInputVbox {
         createDomainsHbox();
         createRegistersHbox();
         createMatchHbox();
+        createPreviewHbox();
+        createLiveSearchHbox();
 
         Label delimiterLbl = new Label("The filters are comma-delimited.");
         delimiterLbl.setWrapText(true);
 
         this.searchBtn = new Button("Search");
 
-        gridPane.add(delimiterLbl, 0, 8);
-        gridPane.add(searchBtn, 0, 9);
+        gridPane.add(delimiterLbl, 0, 10);
+        gridPane.add(searchBtn, 0, 11);
 
         this.vbox = new VBox(5);
         vbox.getChildren().addAll(titleLbl, gridPane);
@@ -184,6 +190,72 @@ public class EntryInputVbox {
         gridPane.add(matchMenu, 1, 7);
     }
 
+    /**
+     * Creates the check box for the two phase search. The preview only has the definitions and pronunciations,
+     * the rest of the entry is loaded when it is expanded.
+     */
+    public void createPreviewHbox() {
+        Label previewLbl = new Label("Load details when expanded: ");
+        previewLbl.setWrapText(true);
+        this.previewBox = new CheckBox();
+
+        gridPane.add(previewLbl, 0, 8);
+        gridPane.add(previewBox, 1, 8);
+    }
+
+    /**
+     * Creates the check box for searching as you type. The preview of the search is shown below the inputs.
+     */
+    public void createLiveSearchHbox() {
+        Label liveSearchLbl = new Label("Search as you type: ");
+        liveSearchLbl.setWrapText(true);
+        this.liveSearchBox = new CheckBox();
+
+        gridPane.add(liveSearchLbl, 0, 9);
+        gridPane.add(liveSearchBox, 1, 9);
+    }
+
+    /**
+     * Runs the action when the search inputs are changed, e.g. a keystroke in the word
+     * @param action action
+     */
+    public void setOnInputChanged(Runnable action) {
+        langsMenu.valueProperty().addListener((observable, oldValue, newValue) -> action.run());
+        wordTxt.textProperty().addListener((observable, oldValue, newValue) -> action.run());
+        fieldMenu.valueProperty().addListener((observable, oldValue, newValue) -> action.run());
+        gramFeatTxt.textProperty().addListener((observable, oldValue, newValue) -> action.run());
+        lexiCateTxt.textProperty().addListener((observable, oldValue, newValue) -> action.run());
+        domainsTxt.textProperty().addListener((observable, oldValue, newValue) -> action.run());
+        registersTxt.textProperty().addListener((observable, oldValue, newValue) -> action.run());
+        matchMenu.valueProperty().addListener((observable, oldValue, newValue) -> action.run());
+        previewBox.selectedProperty().addListener((observable, oldValue, newValue) -> action.run());
+        liveSearchBox.selectedProperty().addListener((observable, oldValue, newValue) -> action.run());
+    }
+
+    /**
+     * Runs the action when another language is picked
+     * @param action action
+     */
+    public void setOnLangChanged(Runnable action) {
+        langsMenu.valueProperty().addListener((observable, oldValue, newValue) -> action.run());
+    }
+
+    /**
+     * Adds the preview below the inputs, after they are created
+     * @param previewVbox preview
+     */
+    public void setPreview(VBox previewVbox) {
+        vbox.getChildren().add(previewVbox);
+    }
+
+    /**
+     * Gets if the search is done as it is typed
+     * @return if searched as you type
+     */
+    public boolean isLiveSearch() {
+        return liveSearchBox.isSelected();
+    }
+
     /**
      * Gets the language from the dropdown
      * @return language
@@ -204,11 +276,16 @@ public class EntryInputVbox {
     }
 
     /**
-     * Gets the field from the dropdown
+     * Gets the field from the dropdown. If no field is picked and the details are loaded when expanded,
+     * return the preview fields.
      * @return field
      */
     public String getField() {
-        return fieldMenu.getValue();
+        String field = fieldMenu.getValue();
+        if (previewBox.isSelected() && (field == null || field.isBlank())) {
+            return QueryKey.previewFields;
+        }
+        return field;
     }
 
     /**
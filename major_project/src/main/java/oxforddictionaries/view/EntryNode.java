@@ -0,0 +1,91 @@
+package oxforddictionaries.view;
+
+import java.util.List;
+
+/**
+ * Immutable node of the entry view-model. It holds the text to display, the pronunciation audio file,
+ * the word to search when it is a synonym/antonym and if expanding it loads the details of a preview.
+ */
+public class EntryNode {
+    private final String text;
+    private final String audioFile;
+    private final String searchText;
+    private final List<EntryNode> children;
+    private final boolean loadDetails;
+    private final int size;
+
+    /**
+     * Creates the node. The size is the number of nodes in the subtree including this node.
+     * @param text text to display
+     * @param audioFile pronunciation audio file, null if it doesn't have one
+     * @param searchText word to search when clicked, null if it isn't a synonym/antonym
+     * @param children child nodes
+     */
+    public EntryNode(String text, String audioFile, String searchText, List<EntryNode> children) {
+        this(text, audioFile, searchText, children, false);
+    }
+
+    /**
+     * Creates the node. The size is the number of nodes in the subtree including this node.
+     * @param text text to display
+     * @param audioFile pronunciation audio file, null if it doesn't have one
+     * @param searchText word to search when clicked, null if it isn't a synonym/antonym
+     * @param children child nodes
+     * @param loadDetails expanding the node loads the details of the preview
+     */
+    public EntryNode(String text, String audioFile, String searchText, List<EntryNode> children, boolean loadDetails) {
+        this.text = text;
+        this.audioFile = audioFile;
+        this.searchText = searchText;
+        this.children = List.copyOf(children);
+        this.loadDetails = loadDetails;
+
+        int size = 1;
+        for (EntryNode child : this.children) {
+            size += child.getSize();
+        }
+        this.size = size;
+    }
+
+    /**
+     * @return text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return audio file
+     */
+    public String getAudioFile() {
+        return audioFile;
+    }
+
+    /**
+     * @return word to search
+     */
+    public String getSearchText() {
+        return searchText;
+    }
+
+    /**
+     * @return child nodes
+     */
+    public List<EntryNode> getChildren() {
+        return children;
+    }
+
+    /**
+     * @return true if expanding the node loads the details
+     */
+    public boolean isLoadDetails() {
+        return loadDetails;
+    }
+
+    /**
+     * @return number of nodes in the subtree
+     */
+    public int getSize() {
+        return size;
+    }
+}
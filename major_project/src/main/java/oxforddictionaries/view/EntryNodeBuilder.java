@@ -0,0 +1,71 @@
+package oxforddictionaries.view;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the entry node and its children
+ */
+public class EntryNodeBuilder {
+    private String text;
+    private String audioFile;
+    private String searchText;
+    private List<EntryNodeBuilder> children;
+    private boolean loadDetails;
+
+    /**
+     * Creates the builder
+     * @param text text to display
+     */
+    public EntryNodeBuilder(String text) {
+        this.text = text;
+        this.children = new ArrayList<>();
+    }
+
+    /**
+     * Adds a child node
+     * @param text text to display
+     * @return child node builder
+     */
+    public EntryNodeBuilder addChild(String text) {
+        EntryNodeBuilder child = new EntryNodeBuilder(text);
+        children.add(child);
+        return child;
+    }
+
+    /**
+     * Sets the pronunciation audio file of the node
+     * @param audioFile audio file url
+     */
+    public void setAudioFile(String audioFile) {
+        this.audioFile = audioFile;
+    }
+
+    /**
+     * Sets the word to search when the node is clicked
+     * @param searchText word
+     */
+    public void setSearchText(String searchText) {
+        this.searchText = searchText;
+    }
+
+    /**
+     * Sets if expanding the node loads the details of the preview
+     * @param loadDetails load details
+     */
+    public void setLoadDetails(boolean loadDetails) {
+        this.loadDetails = loadDetails;
+    }
+
+    /**
+     * Gets the node that it is building with all of its children
+     * @return entry node
+     */
+    public EntryNode build() {
+        List<EntryNode> builtChildren = new ArrayList<>();
+        for (EntryNodeBuilder child : children) {
+            builtChildren.add(child.build());
+        }
+        return new EntryNode(text, audioFile, searchText, builtChildren, loadDetails);
+    }
+}
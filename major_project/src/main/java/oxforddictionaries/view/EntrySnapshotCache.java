@@ -0,0 +1,159 @@
+package oxforddictionaries.view;
+
+import oxforddictionaries.model.metrics.Metrics;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the POJO and view-model of the recently displayed entries by their history entry, so going back to an entry
+ * in the history displays it again without a search. The size of an entry is estimated from the number of nodes of its
+ * view-model. The least recently displayed entries are removed when the budget is used, and the entries are soft
+ * references so they are also collected when the memory is low.
+ */
+public class EntrySnapshotCache {
+    private static final int bytesPerNode = 256;
+    private final long budget;
+    private final Map<List<String>, Retained> snapshots;
+    private long bytes;
+
+    /**
+     * A displayed entry
+     */
+    public static class EntrySnapshot {
+        private final RetrieveEntry retrieveEntry;
+        private final EntryNode root;
+
+        /**
+         * Creates the snapshot
+         * @param retrieveEntry POJO
+         * @param root view-model of the entry
+         */
+        public EntrySnapshot(RetrieveEntry retrieveEntry, EntryNode root) {
+            this.retrieveEntry = retrieveEntry;
+            this.root = root;
+        }
+
+        /**
+         * @return POJO
+         */
+        public RetrieveEntry getRetrieveEntry() {
+            return retrieveEntry;
+        }
+
+        /**
+         * @return view-model of the entry
+         */
+        public EntryNode getRoot() {
+            return root;
+        }
+    }
+
+    /**
+     * A snapshot that can be collected and its estimated size
+     */
+    private static class Retained {
+        private final SoftReference<EntrySnapshot> snapshot;
+        private final long bytes;
+
+        private Retained(EntrySnapshot snapshot, long bytes) {
+            this.snapshot = new SoftReference<>(snapshot);
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * Creates the cache
+     * @param budget estimated bytes of the entries kept
+     */
+    public EntrySnapshotCache(long budget) {
+        this.budget = budget;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Keeps the displayed entry of the history entry. It replaces the entry kept before.
+     * An entry larger than the budget is not kept.
+     * @param historyEntry history entry
+     * @param snapshot displayed entry
+     */
+    public synchronized void put(List<String> historyEntry, EntrySnapshot snapshot) {
+        remove(historyEntry);
+        long size = estimateBytes(snapshot.getRoot());
+        if (size > budget) {
+            return;
+        }
+
+        snapshots.put(List.copyOf(historyEntry), new Retained(snapshot, size));
+        bytes += size;
+        Iterator<Retained> eldest = snapshots.values().iterator();
+        while (bytes > budget) {
+            bytes -= eldest.next().bytes;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Gets the displayed entry of the history entry. The hits are recorded in the metrics.
+     * @param historyEntry history entry
+     * @return displayed entry, null if it isn't kept or has been collected
+     */
+    public synchronized EntrySnapshot get(List<String> historyEntry) {
+        Retained retained = snapshots.get(historyEntry);
+        EntrySnapshot snapshot = retained == null ? null : retained.snapshot.get();
+        if (retained != null && snapshot == null) {
+            remove(historyEntry);
+        }
+        Metrics.cacheLookup("cache.history", snapshot != null);
+        return snapshot;
+    }
+
+    /**
+     * Removes the displayed entry of the history entry
+     * @param historyEntry history entry
+     */
+    public synchronized void remove(List<String> historyEntry) {
+        Retained retained = snapshots.remove(historyEntry);
+        if (retained != null) {
+            bytes -= retained.bytes;
+        }
+    }
+
+    /**
+     * Removes all the displayed entries
+     */
+    public synchronized void clear() {
+        snapshots.clear();
+        this.bytes = 0;
+    }
+
+    /**
+     * Gets the estimated bytes of the entries kept, including the ones that may have been collected
+     * @return estimated bytes
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Gets the number of entries kept, including the ones that may have been collected
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * Estimates the bytes of the POJO and view-model from the number of nodes, as each node is built from
+     * an attribute of the POJO
+     * @param root view-model of the entry
+     * @return estimated bytes
+     */
+    public static long estimateBytes(EntryNode root) {
+        return (long) root.getSize() * bytesPerNode;
+    }
+}
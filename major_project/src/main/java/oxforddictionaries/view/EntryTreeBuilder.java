@@ -0,0 +1,949 @@
+package oxforddictionaries.view;
+
+import oxforddictionaries.model.request.responseclasses.*;
+
+import java.util.List;
+
+/**
+ * Builds the view-model of the searched entry. It does not create any JavaFX nodes so it can run on a background thread.
+ */
+public class EntryTreeBuilder {
+
+    /**
+     * Creates the tree of the entry. The root holds the word and the children are the attributes.
+     * @param retrieveEntry POJO
+     * @return root node
+     */
+    public EntryNode build(RetrieveEntry retrieveEntry) {
+        return build(retrieveEntry, false);
+    }
+
+    /**
+     * Creates the tree of the entry. The root holds the word and the children are the attributes.
+     * The tree of a preview has a node that loads the rest of the entry when it is expanded.
+     * @param retrieveEntry POJO
+     * @param preview the entry only has the preview fields
+     * @return root node
+     */
+    public EntryNode build(RetrieveEntry retrieveEntry, boolean preview) {
+        EntryNodeBuilder root = new EntryNodeBuilder(retrieveEntry.getWord());
+
+        handleStringLbl(retrieveEntry.getId(), root, "ID: ", false);
+
+        if (retrieveEntry.getMetadata() != null) {
+            EntryNodeBuilder metaItem = root.addChild("Metadata: ");
+
+            createMetadata(retrieveEntry.getMetadata(), metaItem);
+        }
+
+        if (retrieveEntry.getResults() != null) {
+            EntryNodeBuilder resultsItem = root.addChild("Results: ");
+
+            int count = 1;
+            for (HeadwordEntry result : retrieveEntry.getResults()) {
+                EntryNodeBuilder resultChildItem = resultsItem.addChild(String.valueOf(count));
+
+                createHeadwordEntry(result, resultChildItem);
+                count += 1;
+            }
+        }
+
+        if (preview) {
+            EntryNodeBuilder detailsItem = root.addChild("More details: etymologies, examples, synonyms and related words");
+            detailsItem.setLoadDetails(true);
+        }
+
+        handleStringLbl(retrieveEntry.getWord(), root, "Word: ", false);
+        return root.build();
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param metadata POJO
+     * @param parent parent tree node
+     */
+    public void createMetadata(Metadata metadata, EntryNodeBuilder parent) {
+        if (metadata.getOperation() != null) {
+            handleStringLbl(metadata.getOperation(), parent, "Operation: ", false);
+        }
+
+        if (metadata.getProvider() != null) {
+            handleStringLbl(metadata.getProvider(), parent, "Provider: ", false);
+        }
+
+        if (metadata.getSchema() != null) {
+            handleStringLbl(metadata.getSchema(), parent, "Schema: ", false);
+        }
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param headwordEntry POJO
+     * @param parent parent tree node
+     */
+    public void createHeadwordEntry(HeadwordEntry headwordEntry, EntryNodeBuilder parent) {
+        handleStringLbl(headwordEntry.getId(), parent, "ID: ", false);
+        handleStringLbl(headwordEntry.getLanguage(), parent, "Language: ", false);
+
+        if (headwordEntry.getLexicalEntries() != null) {
+            EntryNodeBuilder lexItem = parent.addChild("Lexical Entries: ");
+
+            int count = 1;
+            for (LexicalEntry lex : headwordEntry.getLexicalEntries()) {
+                EntryNodeBuilder lexChildItem = lexItem.addChild(String.valueOf(count));
+
+                createLexicalEntry(lex, lexChildItem);
+                count += 1;
+            }
+        }
+
+        if (headwordEntry.getPronunciations() != null) {
+            handlePronunciations(headwordEntry.getPronunciations(), parent);
+        }
+
+        if (headwordEntry.getType() != null) {
+            handleStringLbl(headwordEntry.getType(), parent, "Type: ", false);
+        }
+
+        handleStringLbl(headwordEntry.getWord(), parent, "Word: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param lexicalEntry POJO
+     * @param parent parent tree node
+     */
+    public void createLexicalEntry(LexicalEntry lexicalEntry, EntryNodeBuilder parent) {
+        if (lexicalEntry.getCompounds() != null) {
+            handleRelatedEntries(lexicalEntry.getCompounds(), parent, "Compounds: ");
+        }
+
+        if (lexicalEntry.getDerivativeOf() != null) {
+            handleRelatedEntries(lexicalEntry.getDerivativeOf(), parent, "Derivative Of: ");
+        }
+
+        if (lexicalEntry.getDerivatives() != null) {
+            handleRelatedEntries(lexicalEntry.getDerivatives(), parent, "Derivatives: ");
+        }
+
+        if (lexicalEntry.getEntries() != null) {
+            EntryNodeBuilder entrItem = parent.addChild("Entries: ");
+
+            int count = 1;
+            for (Entry entry : lexicalEntry.getEntries()) {
+                EntryNodeBuilder entrChildItem = entrItem.addChild(String.valueOf(count));
+
+                createEntry(entry, entrChildItem);
+                count += 1;
+            }
+        }
+
+        if (lexicalEntry.getGrammaticalFeatures() != null) {
+            handleGrammaticalFeatures(lexicalEntry.getGrammaticalFeatures(), parent);
+        }
+
+        handleStringLbl(lexicalEntry.getLanguage(), parent, "Language: ", false);
+        handleLexicalCategory(lexicalEntry.getLexicalCategory(), parent);
+
+        if (lexicalEntry.getNotes() != null) {
+            handleNotes(lexicalEntry.getNotes(), parent);
+        }
+
+        if (lexicalEntry.getPhrasalVerbs() != null) {
+            handleRelatedEntries(lexicalEntry.getPhrasalVerbs(), parent, "Phrasal Verbs: ");
+        }
+
+        if (lexicalEntry.getPhrases() != null) {
+            handleRelatedEntries(lexicalEntry.getPhrases(), parent, "Phrases: ");
+        }
+
+        if (lexicalEntry.getPronunciations() != null) {
+            handlePronunciations(lexicalEntry.getPronunciations(), parent);
+        }
+
+        if (lexicalEntry.getRoot() != null) {
+            handleStringLbl(lexicalEntry.getRoot(), parent, "Root: ", false);
+        }
+
+        handleStringLbl(lexicalEntry.getText(), parent, "Text: ", false);
+
+        if (lexicalEntry.getVariantForms() != null) {
+            handleVariantForms(lexicalEntry.getVariantForms(), parent);
+        }
+    }
+
+    /**
+     * Adds the attributes to the tree node. The audio file is kept on its node so the display can add a button
+     * to play it and a button to add it to the pronunciation list.
+     * @param pronunciation POJO
+     * @param parent parent tree node
+     */
+    public void createPronunciation(Pronunciation pronunciation, EntryNodeBuilder parent) {
+        if (pronunciation.getAudioFile() != null) {
+            EntryNodeBuilder audItem = parent.addChild("Audio: ");
+            audItem.setAudioFile(pronunciation.getAudioFile());
+        }
+
+        if (pronunciation.getDialects() != null) {
+            handleStrings(pronunciation.getDialects(), parent, "Dialects: ");
+        }
+
+        if (pronunciation.getPhoneticNotation() != null) {
+            handleStringLbl(pronunciation.getPhoneticNotation(), parent, "Phonetic Notation: ", false);
+        }
+
+        if (pronunciation.getPhoneticSpelling() != null) {
+            handleStringLbl(pronunciation.getPhoneticSpelling(), parent, "Phonetic Spelling: ", false);
+        }
+
+        if (pronunciation.getRegions() != null) {
+            handleRegions(pronunciation.getRegions(), parent);
+        }
+
+        if (pronunciation.getRegisters() != null) {
+            handleRegisters(pronunciation.getRegisters(), parent);
+        }
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param relatedEntry POJO
+     * @param parent parent tree node
+     */
+    public void createRelatedEntry(RelatedEntry relatedEntry, EntryNodeBuilder parent) {
+        if (relatedEntry.getDomains() != null) {
+            handleDomains(relatedEntry.getDomains(), parent);
+        }
+
+        handleStringLbl(relatedEntry.getId(), parent, "ID: ", false);
+
+        if (relatedEntry.getLanguage() != null) {
+            handleStringLbl(relatedEntry.getLanguage(), parent, "Language: ", false);
+        }
+
+        if (relatedEntry.getRegions() != null) {
+            handleRegions(relatedEntry.getRegions(), parent);
+        }
+
+        if (relatedEntry.getRegisters() != null) {
+            handleRegisters(relatedEntry.getRegisters(), parent);
+        }
+
+        handleStringLbl(relatedEntry.getText(), parent, "Text: ", false);
+
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param entry POJO
+     * @param parent parent tree node
+     */
+    public void createEntry(Entry entry, EntryNodeBuilder parent) {
+        if (entry.getCrossReferenceMarkers() != null) {
+            handleStrings(entry.getCrossReferenceMarkers(), parent, "Cross Reference Markers: ");
+        }
+
+        if (entry.getCrossReferences() != null) {
+            handleCrossReferences(entry.getCrossReferences(), parent);
+        }
+
+        if (entry.getEtymologies() != null) {
+            handleStrings(entry.getEtymologies(), parent, "Etymologies: ");
+        }
+
+        if (entry.getGrammaticalFeatures() != null) {
+            handleGrammaticalFeatures(entry.getGrammaticalFeatures(), parent);
+        }
+
+        if (entry.getHomographNumber() != null) {
+            handleStringLbl(entry.getHomographNumber(), parent, "Homograph Number: ", false);
+        }
+
+        if (entry.getInflections() != null) {
+            handleInflections(entry.getInflections(), parent);
+        }
+
+        if (entry.getNotes() != null) {
+            handleNotes(entry.getNotes(), parent);
+        }
+
+        if (entry.getPronunciations() != null) {
+            handlePronunciations(entry.getPronunciations(), parent);
+        }
+
+        if (entry.getSenses() != null) {
+            handleSenses(entry.getSenses(), parent, "Senses: ");
+        }
+
+        if (entry.getVariantForms() != null) {
+            handleVariantForms(entry.getVariantForms(), parent);
+        }
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param grammaticalFeature POJO
+     * @param parent parent tree node
+     */
+    public void createGrammaticalFeature(GrammaticalFeature grammaticalFeature, EntryNodeBuilder parent) {
+        handleStringLbl(grammaticalFeature.getId(), parent, "ID: ", false);
+        handleStringLbl(grammaticalFeature.getText(), parent, "Text: ", false);
+        handleStringLbl(grammaticalFeature.getType(), parent, "Type: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param lexicalCategory POJO
+     * @param parent parent tree node
+     */
+    public void createLexicalCategory(LexicalCategory lexicalCategory, EntryNodeBuilder parent) {
+        handleStringLbl(lexicalCategory.getId(), parent, "ID: ", false);
+        handleStringLbl(lexicalCategory.getText(), parent, "Text: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param categorizedText POJO
+     * @param parent parent tree node
+     */
+    public void createCategorizedText(CategorizedText categorizedText, EntryNodeBuilder parent) {
+        if (categorizedText.getId() != null) {
+            handleStringLbl(categorizedText.getId(), parent, "ID: ", false);
+        }
+
+        handleStringLbl(categorizedText.getText(), parent, "Text: ", false);
+        handleStringLbl(categorizedText.getType(), parent, "Type: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param variantForm POJO
+     * @param parent parent tree node
+     */
+    public void createVariantForm(VariantForm variantForm, EntryNodeBuilder parent) {
+        if (variantForm.getDomains() != null) {
+            handleDomains(variantForm.getDomains(), parent);
+        }
+
+        if (variantForm.getNotes() != null) {
+            handleNotes(variantForm.getNotes(), parent);
+        }
+
+        if (variantForm.getPronunciations() != null) {
+            handlePronunciations(variantForm.getPronunciations(), parent);
+        }
+
+        if (variantForm.getRegions() != null) {
+            handleRegions(variantForm.getRegions(), parent);
+        }
+
+        if (variantForm.getRegisters() != null) {
+            handleRegisters(variantForm.getRegisters(), parent);
+        }
+
+        handleStringLbl(variantForm.getText(), parent, "Text: ", false);
+    }
+
+    /**
+     * Adds the string to the tree node
+     * @param str string
+     * @param parent parent tree node
+     */
+    public void createString(String str, EntryNodeBuilder parent) {
+        parent.addChild(str);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param region POJO
+     * @param parent parent tree node
+     */
+    public void createRegion(Region region, EntryNodeBuilder parent) {
+        handleStringLbl(region.getId(), parent, "ID: ", false);
+        handleStringLbl(region.getText(), parent, "Text: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param register POJO
+     * @param parent parent tree node
+     */
+    public void createRegister(Register register, EntryNodeBuilder parent) {
+        handleStringLbl(register.getId(), parent, "ID: ", false);
+        handleStringLbl(register.getText(), parent, "Text: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param domain POJO
+     * @param parent parent tree node
+     */
+    public void createDomain(Domain domain, EntryNodeBuilder parent) {
+        handleStringLbl(domain.getId(), parent, "ID: ", false);
+        handleStringLbl(domain.getText(), parent, "Text: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param crossReference POJO
+     * @param parent parent tree node
+     */
+    public void createCrossReference(CrossReference crossReference, EntryNodeBuilder parent) {
+        handleStringLbl(crossReference.getId(), parent, "ID: ", false);
+        handleStringLbl(crossReference.getText(), parent, "Text: ", false);
+        handleStringLbl(crossReference.getType(), parent, "Type: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param inflectedForm POJO
+     * @param parent parent tree node
+     */
+    public void createInflectedForm(InflectedForm inflectedForm, EntryNodeBuilder parent) {
+        if (inflectedForm.getDomains() != null) {
+            handleDomains(inflectedForm.getDomains(), parent);
+        }
+
+        if (inflectedForm.getGrammaticalFeatures() != null) {
+            handleGrammaticalFeatures(inflectedForm.getGrammaticalFeatures(), parent);
+        }
+
+        handleStringLbl(inflectedForm.getInflectedForm(), parent, "Inflected Form: ", false);
+
+        if (inflectedForm.getLexicalCategory() != null) {
+            handleLexicalCategory(inflectedForm.getLexicalCategory(), parent);
+        }
+
+        if (inflectedForm.getPronunciations() != null) {
+            handlePronunciations(inflectedForm.getPronunciations(), parent);
+        }
+
+        if (inflectedForm.getRegions() != null) {
+            handleRegions(inflectedForm.getRegions(), parent);
+        }
+
+        if (inflectedForm.getRegisters() != null) {
+            handleRegisters(inflectedForm.getRegisters(), parent);
+        }
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param sense POJO
+     * @param parent parent tree node
+     */
+    public void createSense(Sense sense, EntryNodeBuilder parent) {
+        if (sense.getAntonyms() != null) {
+            handleSynonymsAntonyms(sense.getAntonyms(), parent, "Antonyms: ");
+        }
+
+        if (sense.getConstructions() != null) {
+            EntryNodeBuilder conItem = parent.addChild("Constructions: ");
+
+            int count = 1;
+            for (InlineModel2 con : sense.getConstructions()) {
+                EntryNodeBuilder conChildItem = conItem.addChild(String.valueOf(count));
+
+                createConstruction(con, conChildItem);
+                count += 1;
+            }
+        }
+
+        if (sense.getCrossReferenceMarkers() != null) {
+            handleStrings(sense.getCrossReferenceMarkers(), parent, "Cross Reference Markers: ");
+        }
+
+        if (sense.getCrossReferences() != null) {
+            handleCrossReferences(sense.getCrossReferences(), parent);
+        }
+
+        if (sense.getDefinitions() != null) {
+            handleStrings(sense.getDefinitions(), parent, "Definitions: ");
+        }
+
+        if (sense.getDomainClasses() != null) {
+            EntryNodeBuilder domItem = parent.addChild("Domain Classes: ");
+
+            int count = 1;
+            for (DomainClass dom : sense.getDomainClasses()) {
+                EntryNodeBuilder domChildItem = domItem.addChild(String.valueOf(count));
+
+                createDomainClass(dom, domChildItem);
+                count += 1;
+            }
+        }
+
+        if (sense.getDomains() != null) {
+            handleDomains(sense.getDomains(), parent);
+        }
+
+        if (sense.getEtymologies() != null) {
+            handleStrings(sense.getEtymologies(), parent, "Etymologies: ");
+        }
+
+        if (sense.getExamples() != null) {
+            EntryNodeBuilder examItem = parent.addChild("Examples: ");
+
+            int count = 1;
+            for (Example exam : sense.getExamples()) {
+                EntryNodeBuilder examChildItem = examItem.addChild(String.valueOf(count));
+
+                createExample(exam, examChildItem);
+                count += 1;
+            }
+        }
+
+        if (sense.getId() != null) {
+            handleStringLbl(sense.getId(), parent, "ID: ", false);
+        }
+
+        if (sense.getInflections() != null) {
+            handleInflections(sense.getInflections(), parent);
+        }
+
+        if (sense.getNotes() != null) {
+            handleNotes(sense.getNotes(), parent);
+        }
+
+        if (sense.getPronunciations() != null) {
+            handlePronunciations(sense.getPronunciations(), parent);
+        }
+
+        if (sense.getRegions() != null) {
+            handleRegions(sense.getRegions(), parent);
+        }
+
+        if (sense.getRegisters() != null) {
+            handleRegisters(sense.getRegisters(), parent);
+        }
+
+        if (sense.getSemanticClasses() != null) {
+            EntryNodeBuilder semItem = parent.addChild("Semantic Classes: ");
+
+            int count = 1;
+            for (SemanticClass sem : sense.getSemanticClasses()) {
+                EntryNodeBuilder semChildItem = semItem.addChild(String.valueOf(count));
+
+                createSemanticClass(sem, semChildItem);
+                count += 1;
+            }
+        }
+
+        if (sense.getShortDefinitions() != null) {
+            handleStrings(sense.getShortDefinitions(), parent, "Short Definitions: ");
+        }
+
+        if (sense.getSubsenses() != null) {
+            handleSenses(sense.getSubsenses(), parent, "Sub-senses: ");
+        }
+
+        if (sense.getSynonyms() != null) {
+            handleSynonymsAntonyms(sense.getSynonyms(), parent, "Synonyms: ");
+        }
+
+        if (sense.getThesaurusLinks() != null) {
+            EntryNodeBuilder theItem = parent.addChild("Thesaurus Links: ");
+
+            int count = 1;
+            for (ThesaurusLink the : sense.getThesaurusLinks()) {
+                EntryNodeBuilder theChildItem = theItem.addChild(String.valueOf(count));
+
+                createThesaurusLink(the, theChildItem);
+                count += 1;
+            }
+        }
+
+        if (sense.getVariantForms() != null) {
+            handleVariantForms(sense.getVariantForms(), parent);
+        }
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param synonymAntonym POJO
+     * @param parent parent tree node
+     */
+    public void createSynonymAntonym(SynonymsAntonyms synonymAntonym, EntryNodeBuilder parent) {
+        if (synonymAntonym.getDomains() != null) {
+            handleDomains(synonymAntonym.getDomains(), parent);
+        }
+
+        if (synonymAntonym.getId() != null) {
+            handleStringLbl(synonymAntonym.getId(), parent, "ID: ", false);
+        }
+
+        if (synonymAntonym.getLanguage() != null) {
+            handleStringLbl(synonymAntonym.getLanguage(), parent, "Language: ", false);
+        }
+
+        if (synonymAntonym.getRegions() != null) {
+            handleRegions(synonymAntonym.getRegions(), parent);
+        }
+
+        if (synonymAntonym.getRegisters() != null) {
+            handleRegisters(synonymAntonym.getRegisters(), parent);
+        }
+
+        handleStringLbl(synonymAntonym.getText(), parent, "Text: ", true);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param construction POJO
+     * @param parent parent tree node
+     */
+    public void createConstruction(InlineModel2 construction, EntryNodeBuilder parent) {
+        if (construction.getDomains() != null) {
+            handleDomains(construction.getDomains(), parent);
+        }
+
+        if (construction.getExamples() != null) {
+            EntryNodeBuilder examItem = parent.addChild("Examples: ");
+
+            int count = 1;
+            for (ExampleText exam : construction.getExamples()) {
+                EntryNodeBuilder examChildItem = examItem.addChild(String.valueOf(count));
+
+                createExampleText(exam, examChildItem);
+                count += 1;
+            }
+        }
+
+        if (construction.getNotes() != null) {
+            handleNotes(construction.getNotes(), parent);
+        }
+
+        if (construction.getRegions() != null) {
+            handleRegions(construction.getRegions(), parent);
+        }
+
+        if (construction.getRegisters() != null) {
+            handleRegisters(construction.getRegisters(), parent);
+        }
+
+        handleStringLbl(construction.getText(), parent, "Text: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param domainClass POJO
+     * @param parent parent tree node
+     */
+    public void createDomainClass(DomainClass domainClass, EntryNodeBuilder parent) {
+        handleStringLbl(domainClass.getId(), parent, "ID: ", false);
+        handleStringLbl(domainClass.getText(), parent, "Text: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param example POJO
+     * @param parent parent tree node
+     */
+    public void createExample(Example example, EntryNodeBuilder parent) {
+        if (example.getDefinitions() != null) {
+            handleStrings(example.getDefinitions(), parent, "Definitions: ");
+        }
+
+        if (example.getDomains() != null) {
+            handleDomains(example.getDomains(), parent);
+        }
+
+        if (example.getNotes() != null) {
+            handleNotes(example.getNotes(), parent);
+        }
+
+        if (example.getRegions() != null) {
+            handleRegions(example.getRegions(), parent);
+        }
+
+        if (example.getRegisters() != null) {
+            handleRegisters(example.getRegisters(), parent);
+        }
+
+        if (example.getSenseIds() != null) {
+            handleStrings(example.getSenseIds(), parent, "Sense IDs: ");
+        }
+
+        handleStringLbl(example.getText(), parent, "Text: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param semanticClass POJO
+     * @param parent parent tree node
+     */
+    public void createSemanticClass(SemanticClass semanticClass, EntryNodeBuilder parent) {
+        handleStringLbl(semanticClass.getId(), parent, "ID: ", false);
+        handleStringLbl(semanticClass.getText(), parent, "Text: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param thesaurusLink POJO
+     * @param parent parent tree node
+     */
+    public void createThesaurusLink(ThesaurusLink thesaurusLink, EntryNodeBuilder parent) {
+        handleStringLbl(thesaurusLink.getEntryId(), parent, "Entry ID: ", false);
+        handleStringLbl(thesaurusLink.getSenseId(), parent, "Sense ID: ", false);
+    }
+
+    /**
+     * Adds the attributes to the tree node
+     * @param exampleText POJO
+     * @param parent parent tree node
+     */
+    public void createExampleText(ExampleText exampleText, EntryNodeBuilder parent) {
+        handleStringLbl(exampleText.getText(), parent, "Text: ", false);
+    }
+
+    /**
+     * Adds the list of pronunciations to the tree node
+     * @param pronunciations list of pronunciations
+     * @param parent parent tree node
+     */
+    public void handlePronunciations(List<Pronunciation> pronunciations, EntryNodeBuilder parent) {
+        EntryNodeBuilder proItem = parent.addChild("Pronunciations: ");
+
+        int count = 1;
+        for (Pronunciation pro : pronunciations) {
+            EntryNodeBuilder proChildItem = proItem.addChild(String.valueOf(count));
+
+            createPronunciation(pro, proChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of grammatical features to the tree node
+     * @param grammaticalFeatures list of grammatical features
+     * @param parent parent tree node
+     */
+    public void handleGrammaticalFeatures(List<GrammaticalFeature> grammaticalFeatures, EntryNodeBuilder parent) {
+        EntryNodeBuilder gramItem = parent.addChild("Grammatical Features: ");
+
+        int count = 1;
+        for (GrammaticalFeature gram :  grammaticalFeatures) {
+            EntryNodeBuilder gramChildItem = gramItem.addChild(String.valueOf(count));
+
+            createGrammaticalFeature(gram, gramChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of related entries to the tree node
+     * @param relatedEntries list of related entries
+     * @param parent parent tree node
+     * @param label key
+     */
+    public void handleRelatedEntries(List<RelatedEntry> relatedEntries, EntryNodeBuilder parent, String label) {
+        EntryNodeBuilder relaItem = parent.addChild(label);
+
+        int count = 1;
+        for (RelatedEntry entry : relatedEntries) {
+            EntryNodeBuilder relaChildItem = relaItem.addChild(String.valueOf(count));
+
+            createRelatedEntry(entry, relaChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of notes to the tree node
+     * @param notes list of notes
+     * @param parent parent tree node
+     */
+    public void handleNotes(List<CategorizedText> notes, EntryNodeBuilder parent) {
+        EntryNodeBuilder notesItem = parent.addChild("Notes: ");
+
+        int count = 1;
+        for (CategorizedText note : notes) {
+            EntryNodeBuilder notesChildItem = notesItem.addChild(String.valueOf(count));
+
+            createCategorizedText(note, notesChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of variant forms to the tree node
+     * @param variantForms list of variant forms
+     * @param parent parent tree node
+     */
+    public void handleVariantForms(List<VariantForm> variantForms, EntryNodeBuilder parent) {
+        EntryNodeBuilder varItem = parent.addChild("Variant Forms: ");
+
+        int count = 1;
+        for (VariantForm var : variantForms) {
+            EntryNodeBuilder varChildItem = varItem.addChild(String.valueOf(count));
+
+            createVariantForm(var, varChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of strings to the tree node
+     * @param strings list of strings
+     * @param parent parent tree node
+     * @param label key
+     */
+    public void handleStrings(List<String> strings, EntryNodeBuilder parent, String label) {
+        EntryNodeBuilder strItem = parent.addChild(label);
+
+        int count = 1;
+        for (String str : strings) {
+            EntryNodeBuilder strChildItem = strItem.addChild(String.valueOf(count));
+
+            createString(str, strChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of regions to the tree node
+     * @param regions list of regions
+     * @param parent parent tree node
+     */
+    public void handleRegions(List<Region> regions, EntryNodeBuilder parent) {
+        EntryNodeBuilder regItem = parent.addChild("Regions: ");
+
+        int count = 1;
+        for (Region reg : regions) {
+            EntryNodeBuilder regChildItem = regItem.addChild(String.valueOf(count));
+
+            createRegion(reg, regChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of registers to the tree node
+     * @param registers list of registers
+     * @param parent parent tree node
+     */
+    public void handleRegisters(List<Register> registers, EntryNodeBuilder parent) {
+        EntryNodeBuilder regItem = parent.addChild("Registers: ");
+
+        int count = 1;
+        for (Register reg : registers) {
+            EntryNodeBuilder regChildItem = regItem.addChild(String.valueOf(count));
+
+            createRegister(reg, regChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of domains to the tree node
+     * @param domains list of domains
+     * @param parent parent tree node
+     */
+    public void handleDomains(List<Domain> domains, EntryNodeBuilder parent) {
+        EntryNodeBuilder domItem = parent.addChild("Domains: ");
+
+        int count = 1;
+        for (Domain dom : domains) {
+            EntryNodeBuilder domChildItem = domItem.addChild(String.valueOf(count));
+
+            createDomain(dom, domChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of cross references to the tree node
+     * @param crossReferences list of cross references
+     * @param parent parent tree node
+     */
+    public void handleCrossReferences(List<CrossReference> crossReferences, EntryNodeBuilder parent) {
+        EntryNodeBuilder crossItem = parent.addChild("Cross Reference: ");
+
+        int count = 1;
+        for (CrossReference cross : crossReferences) {
+            EntryNodeBuilder crossChildItem = crossItem.addChild(String.valueOf(count));
+
+            createCrossReference(cross, crossChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of inflected forms to the tree node
+     * @param inflectedForms list of inflected forms
+     * @param parent parent tree form
+     */
+    public void handleInflections(List<InflectedForm> inflectedForms, EntryNodeBuilder parent) {
+        EntryNodeBuilder infItem = parent.addChild("Inflections: ");
+
+        int count = 1;
+        for (InflectedForm inf : inflectedForms) {
+            EntryNodeBuilder infChildItem = infItem.addChild(String.valueOf(count));
+
+            createInflectedForm(inf, infChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the list of senses to the tree node
+     * @param senses list of senses
+     * @param parent parent tree node
+     * @param label key
+     */
+    public void handleSenses(List<Sense> senses, EntryNodeBuilder parent, String label) {
+        EntryNodeBuilder senItem = parent.addChild(label);
+
+        int count = 1;
+        for (Sense sen : senses) {
+            EntryNodeBuilder senChildItem = senItem.addChild(String.valueOf(count));
+
+            createSense(sen, senChildItem);
+            count += 1;
+        }
+    }
+
+    /**
+     * Adds the string to the tree node. If it is a synonym/antonym, the parent node searches for it when clicked.
+     * @param string value
+     * @param parent parent tree node
+     * @param label key
+     * @param synAnt is synonym/antonym
+     */
+    public void handleStringLbl(String string, EntryNodeBuilder parent, String label, boolean synAnt) {
+        if (synAnt) {
+            parent.setSearchText(string);
+        }
+
+        parent.addChild(label + string);
+    }
+
+    /**
+     * Adds the list of lexical categories to the tree node
+     * @param lexicalCategory list of lexical categories
+     * @param parent parent tree node
+     */
+    public void handleLexicalCategory(LexicalCategory lexicalCategory, EntryNodeBuilder parent) {
+        EntryNodeBuilder lexiCateItem = parent.addChild("Lexical Category: ");
+
+        createLexicalCategory(lexicalCategory, lexiCateItem);
+    }
+
+    /**
+     * Adds the list of synonyms/antonyms to the tree node
+     * @param synonymsAntonyms list of synonyms/antonyms
+     * @param parent parent tree node
+     * @param label key
+     */
+    public void handleSynonymsAntonyms(List<SynonymsAntonyms> synonymsAntonyms, EntryNodeBuilder parent, String label) {
+        EntryNodeBuilder synAntItem = parent.addChild(label);
+
+        int count = 1;
+        for (SynonymsAntonyms synAnt : synonymsAntonyms) {
+            EntryNodeBuilder synAntChildItem = synAntItem.addChild(String.valueOf(count));
+
+            createSynonymAntonym(synAnt, synAntChildItem);
+            count += 1;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package oxforddictionaries.view;
+
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TreeCell;
+
+import java.util.function.Consumer;
+
+/**
+ * Cell of the entry tree. The tree view only creates enough cells to fill the viewport and reuses them
+ * while scrolling, so each cell keeps one custom item and binds it to the entry node it is showing.
+ */
+public class EntryTreeCell extends TreeCell<EntryNode> {
+    private final CustomItem customItem;
+
+    /**
+     * Creates the cell and its custom item with the pronunciation buttons hidden
+     * @param customItemBuilder custom item builder
+     * @param onPlay called with the audio file when play is pressed
+     * @param onAdd called with the audio file when add to list is pressed
+     * @param onSearch called with the word when a synonym/antonym is clicked
+     */
+    public EntryTreeCell(CustomItemBuilder customItemBuilder, Consumer<String> onPlay, Consumer<String> onAdd,
+                         Consumer<String> onSearch) {
+        customItemBuilder.newItem();
+        Label lbl = new Label();
+        lbl.setWrapText(true);
+        customItemBuilder.setLabel(lbl);
+
+        Button proBtn = new Button("Play");
+        proBtn.setOnAction((event) -> {
+            onPlay.accept(getItem().getAudioFile());
+        });
+        customItemBuilder.setProBtn(proBtn);
+
+        Button addBtn = new Button("Add to list");
+        addBtn.setOnAction((event) -> {
+            onAdd.accept(getItem().getAudioFile());
+        });
+        customItemBuilder.setAddBtn(addBtn);
+
+        this.customItem = customItemBuilder.getCustomItem();
+
+        setOnMouseClicked((event) -> {
+            EntryNode item = getItem();
+            if (item != null && item.getSearchText() != null) {
+                onSearch.accept(item.getSearchText());
+            }
+        });
+    }
+
+    /**
+     * Binds the custom item to the entry node. The buttons are only shown when the node has an audio file.
+     * @param item entry node
+     * @param empty cell is empty
+     */
+    @Override
+    protected void updateItem(EntryNode item, boolean empty) {
+        super.updateItem(item, empty);
+        if (empty || item == null) {
+            setGraphic(null);
+            return;
+        }
+
+        customItem.getLabel().setText(item.getText());
+        boolean hasAudio = item.getAudioFile() != null;
+        customItem.getProBtn().setVisible(hasAudio);
+        customItem.getProBtn().setManaged(hasAudio);
+        customItem.getAddBtn().setVisible(hasAudio);
+        customItem.getAddBtn().setManaged(hasAudio);
+        setGraphic(customItem);
+    }
+}
@@ -2,6 +2,8 @@ package oxforddictionaries.view;
 
 import javafx.application.Platform;
 import javafx.scene.text.TextAlignment;
+import oxforddictionaries.model.request.HistoryStore;
+import oxforddictionaries.model.request.QueryKey;
 import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
 import javafx.event.ActionEvent;
 import javafx.geometry.Insets;
@@ -10,17 +12,24 @@ import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import oxforddictionaries.model.InputEngine;
 import oxforddictionaries.model.OutputEngine;
+import oxforddictionaries.model.SearchPipeline;
+import oxforddictionaries.model.SearchUpdate;
+import oxforddictionaries.model.metrics.Metrics;
 import javafx.scene.Scene;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 /**
  * Main GUI class of the application. Handles what the window will display.
  */
 public class GameWindow {
+    private static final long snapshotBudget = 64L * 1024 * 1024;
+    private static final long liveSearchDelayMillis = 300;
     private final int width;
     private final int height;
     private InputEngine inputEngine;
@@ -38,10 +47,20 @@ public class GameWindow {
     private Button reportBtn;
     private ReportDialog reportDialog;
     private CacheConfirmation cacheConfirmation;
+    private ClearCacheConfirmation clearCacheConfirmation;
     private ThemeSongPlayer themeSongPlayer;
     private AboutDisplayVbox aboutDisplayVbox;
     private LoadingDisplayVbox loadingDisplayVbox;
     private PronunciationListVbox pronunciationListVbox;
+    private EntryTreeBuilder entryTreeBuilder;
+    private EntryNode entryNode;
+    private String entryId;
+    private EntrySnapshotCache entrySnapshotCache;
+    private List<String> historyEntry;
+    private List<String> selectedHistoryEntry;
+    private CompletableFuture<Void> backgroundStart;
+    private SearchPipeline searchPipeline;
+    private SearchPreviewVbox searchPreviewVbox;
 
     /**
      * Creates the game window. Creates the border pane and initialises the bottom hbox, left vbox and center scroll pane.
@@ -79,7 +98,8 @@ public class GameWindow {
 
     /**
      * Setups the border pane, sidebar buttons and other displays. The application starts with the entry input display.
-     * Plays the theme song in the background of the application
+     * The input engine is warmed up and the theme song is loaded in the background, so they don't delay the first frame.
+     * The theme song then plays in the background of the application.
      */
     public void draw() {
         setupBorderPane();
@@ -90,15 +110,69 @@ public class GameWindow {
         this.historyDisplayVbox = new HistoryDisplayVbox();
         this.reportDialog = new ReportDialog();
         this.cacheConfirmation = new CacheConfirmation();
+        this.clearCacheConfirmation = new ClearCacheConfirmation();
         this.themeSongPlayer = new ThemeSongPlayer();
         this.aboutDisplayVbox = new AboutDisplayVbox();
         this.loadingDisplayVbox = new LoadingDisplayVbox();
         this.pronunciationListVbox = new PronunciationListVbox(inputEngine);
+        this.entryTreeBuilder = new EntryTreeBuilder();
+        this.entrySnapshotCache = new EntrySnapshotCache(snapshotBudget);
+        this.searchPreviewVbox = new SearchPreviewVbox();
+        this.searchPipeline = new SearchPipeline(inputEngine, liveSearchDelayMillis);
+        subscribePreview();
 
-        themeSongPlayer.start();
         sidebarBtns();
         setupMenuBar();
         entry();
+        String lang = entryInputVbox.getLang();
+        this.backgroundStart = CompletableFuture.runAsync(() -> {
+            inputEngine.warmUp();
+            inputEngine.warmUp(lang);
+            themeSongPlayer.start();
+        });
+    }
+
+    /**
+     * Subscribes the preview to the updates of the search pipeline. An update is shown on the JavaFX thread if it is
+     * the search of the current inputs, then the next update is requested.
+     */
+    public void subscribePreview() {
+        searchPipeline.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(SearchUpdate update) {
+                Platform.runLater(() -> {
+                    if (entryInputVbox.isLiveSearch() && update.getQueryKey().equals(getLiveSearchInput().toQueryKey())) {
+                        searchPreviewVbox.show(update);
+                    }
+                    subscription.request(1);
+                });
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                System.out.println(throwable.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+    }
+
+    /**
+     * Gets the warm up of the input engine and the loading of the theme song started by draw
+     * @return completed when they are done
+     */
+    public CompletableFuture<Void> getBackgroundStart() {
+        return backgroundStart;
     }
 
     /**
@@ -175,9 +249,22 @@ public class GameWindow {
     public void entry() {
         this.reportBtn.setDisable(true);
         VBox entryVbox = entryInputVbox.create();
+        entryInputVbox.setPreview(searchPreviewVbox.create());
         this.contentScrollPane.setContent(entryVbox);
 
+        entryInputVbox.setOnInputChanged(() -> {
+            liveSearch();
+        });
+
+        entryInputVbox.setOnLangChanged(() -> {
+            String lang = entryInputVbox.getLang();
+            CompletableFuture.runAsync(() -> {
+                inputEngine.warmUp(lang);
+            });
+        });
+
         entryInputVbox.getSearchBtn().setOnAction((event) -> {
+            searchPipeline.cancel();
             if (entryInputVbox.getWord() == null) {
                 List<String> error = Arrays.asList("Word was not entered.");
                 handleError(error);
@@ -191,10 +278,38 @@ public class GameWindow {
 
     }
 
+    /**
+     * Submits the inputs to the search pipeline if searching as you type, otherwise the preview is hidden
+     */
+    public void liveSearch() {
+        if (!entryInputVbox.isLiveSearch()) {
+            searchPipeline.cancel();
+            searchPreviewVbox.clear();
+            return;
+        }
+        if (entryInputVbox.getWord() == null) {
+            searchPreviewVbox.clear();
+        }
+        searchPipeline.submit(getLiveSearchInput());
+    }
+
+    /**
+     * Gets the search of the current inputs
+     * @return search input
+     */
+    public SearchPipeline.SearchInput getLiveSearchInput() {
+        String word = entryInputVbox.getWord();
+        return new SearchPipeline.SearchInput(entryInputVbox.getLang(), word == null ? "" : word, entryInputVbox.getField(),
+                entryInputVbox.getGramFeat(), entryInputVbox.getLexiCate(), entryInputVbox.getDomains(),
+                entryInputVbox.getRegisters(), entryInputVbox.getMatch());
+    }
+
     /**
      * Requests the Oxford Dictionaries Api. If the response is null, request the api for the lemma.
      * If the first element in the response is null, notify the user to pick whether they want ot request new data or not.
      * If the response list size is greater than 0, display the error message.
+     * Otherwise, the view-model of the entry is built on the background thread before it is displayed.
+     * The entry is kept with its history entry, the selected one for a history search or the new one for other searches.
      * @param lang language
      * @param word word
      * @param field field
@@ -214,10 +329,29 @@ public class GameWindow {
                              boolean cacheDecided, boolean useCache) {
         loading();
         reportBtn.setDisable(true);
+        List<String> selected = selectedHistoryEntry;
         Thread thread = new Thread(() -> {
             List<String> error = inputEngine.entrySearch(lang, word, field, gramFeat, lexiCate, domain, register, match, newSearch, historySearch, lemma,
                     cacheDecided, useCache);
 //        System.out.println(error);
+            if (error != null && error.size() == 0) {
+                RetrieveEntry retrieveEntry = inputEngine.getRetrieveEntry();
+                inputEngine.prefetchPronunciations(retrieveEntry);
+                long start = Metrics.start();
+                EntryNode node = entryTreeBuilder.build(retrieveEntry, QueryKey.isPreview(field));
+                Metrics.stop("view.buildTree", start);
+                List<String> lastEntry = historySearch ? null : inputEngine.getLastEntry();
+                List<String> searchEntry = lastEntry == null ? selected : lastEntry;
+                Platform.runLater(() -> {
+                    reportBtn.setDisable(false);
+                    entryDisplayVbox.setOnLoadDetails(() -> {
+                        displayDetails(retrieveEntry, lang, word, gramFeat, lexiCate, domain, register, match);
+                    });
+                    showEntry(lang, searchEntry, retrieveEntry, node, false);
+                });
+                return;
+            }
+
             Platform.runLater(() -> {
                 if (error == null) {
     //            System.out.println("No entry");
@@ -225,31 +359,66 @@ public class GameWindow {
                     return;
                 }
 
-                if (error.size() > 0) {
-                    if (error.size() == 1 && error.get(0) == null) {
-                        Alert alert = cacheConfirmation.create(true);
-                        Optional<ButtonType> result = alert.showAndWait();
-                        if (result.isPresent()) {
-                            if (result.get() == cacheConfirmation.getYesBtnType()){
-                                displayEntry(lang, word, field, gramFeat, lexiCate, domain, register, match, newSearch, historySearch, lemma,
-                                        true, true);
-                            } else if (result.get() == cacheConfirmation.getNoBtnType()) {
-                                displayEntry(lang, word, field, gramFeat, lexiCate, domain, register, match, newSearch, historySearch, lemma,
-                                        true, false);
-                            }
+                if (error.size() == 1 && error.get(0) == null) {
+                    Alert alert = cacheConfirmation.create(true);
+                    Optional<ButtonType> result = alert.showAndWait();
+                    if (result.isPresent()) {
+                        if (result.get() == cacheConfirmation.getYesBtnType()){
+                            displayEntry(lang, word, field, gramFeat, lexiCate, domain, register, match, newSearch, historySearch, lemma,
+                                    true, true);
+                        } else if (result.get() == cacheConfirmation.getNoBtnType()) {
+                            displayEntry(lang, word, field, gramFeat, lexiCate, domain, register, match, newSearch, historySearch, lemma,
+                                    true, false);
                         }
-                        return;
                     }
-                    handleError(error);
-//                    if (lemma) {
-//                        entry();
-//                    }
-                    entry();
                     return;
                 }
+                handleError(error);
+//                if (lemma) {
+//                    entry();
+//                }
+                entry();
+            });
+        });
+        thread.start();
+    }
 
-                reportBtn.setDisable(false);
-                setEntryDisplayVbox(lang);
+    /**
+     * Requests the details of the displayed preview in the background, which are merged into the entry.
+     * If valid, the view-model of the whole entry replaces the preview and its snapshot, unless another entry has been
+     * displayed since.
+     * Otherwise, display the error message and keep the preview.
+     * @param previewEntry POJO of the displayed preview
+     * @param lang language
+     * @param word word
+     * @param gramFeat grammatical features
+     * @param lexiCate lexical categories
+     * @param domain domains
+     * @param register registers
+     * @param match match
+     */
+    public void displayDetails(RetrieveEntry previewEntry, String lang, String word, String gramFeat, String lexiCate,
+                               String domain, String register, String match) {
+        EntryNode preview = entryNode;
+        Thread thread = new Thread(() -> {
+            List<String> error = inputEngine.detailSearch(previewEntry, lang, word, gramFeat, lexiCate, domain, register, match);
+            if (error != null && error.size() == 0) {
+                RetrieveEntry retrieveEntry = inputEngine.getRetrieveEntry();
+                inputEngine.prefetchPronunciations(retrieveEntry);
+                long start = Metrics.start();
+                EntryNode node = entryTreeBuilder.build(retrieveEntry);
+                Metrics.stop("view.buildTree", start);
+                Platform.runLater(() -> {
+                    if (entryNode != preview) {
+                        return;
+                    }
+                    showEntry(lang, historyEntry, retrieveEntry, node, false);
+                });
+                return;
+            }
+
+            Platform.runLater(() -> {
+                handleError(error == null ? Arrays.asList("No details were found for the entry.") : error);
             });
         });
         thread.start();
@@ -331,25 +500,40 @@ public class GameWindow {
     }
 
     /**
-     * Creates the history page. The user can select a page to search.
+     * Creates the history page, which reads the history store a page at a time. The user can select a page to search.
+     * If the page was displayed recently, its snapshot is displayed again at once without a search.
      */
     public void history() {
         reportBtn.setDisable(true);
-        List<List<String>> history = inputEngine.getHistory();
-        VBox historyVbox = historyDisplayVbox.create(history);
+        HistoryStore historyStore = inputEngine.getHistoryStore();
+        VBox historyVbox = historyDisplayVbox.create(historyStore);
         this.contentScrollPane.setContent(historyVbox);
         historyDisplayVbox.getGoBtn().setOnAction((event) -> {
-            int ind = historyDisplayVbox.getSelectedBtnVal();
-            if (ind == -1) {
+            HistoryStore.Row row = historyDisplayVbox.getSelectedRow();
+            if (row == null) {
                 List<String> error = new ArrayList<>();
-                error.add("No radio button was selected");
+                error.add("No history entry was selected");
                 handleError(error);
                 return;
             }
-            List<String> entry = history.get(ind);
+            List<String> entry = row.getEntry();
+            EntrySnapshotCache.EntrySnapshot snapshot = entrySnapshotCache.get(entry);
+            if (snapshot != null) {
+                inputEngine.setRetrieveEntry(snapshot.getRetrieveEntry());
+                inputEngine.setCurrentHistorySeq(row.getSeq());
+                reportBtn.setDisable(false);
+                entryDisplayVbox.setOnLoadDetails(() -> {
+                    displayDetails(snapshot.getRetrieveEntry(), entry.get(0), entry.get(1), entry.get(3), entry.get(4),
+                            entry.get(5), entry.get(6), entry.get(7));
+                });
+                showEntry(entry.get(0), entry, snapshot.getRetrieveEntry(), snapshot.getRoot(), true);
+                return;
+            }
+
+            this.selectedHistoryEntry = entry;
             displayEntry(entry.get(0), entry.get(1), entry.get(2), entry.get(3), entry.get(4), entry.get(5),
                     entry.get(6), entry.get(7), true, true, false, false, false);
-            inputEngine.setCurrentPageInd(ind);
+            inputEngine.setCurrentHistorySeq(row.getSeq());
         });
     }
 
@@ -383,16 +567,32 @@ public class GameWindow {
     }
 
     /**
-     * Clears the database tables. Display whether it was successful or it caused an error.
+     * Asks whether to clear every language or only the selected one, then clears the database tables, the snapshots
+     * of the displayed entries and the entries remembered by the live search. Display whether it was successful or it
+     * caused an error.
      */
     public void clearCache() {
-        String error = inputEngine.clearCache();
+        String lang = entryInputVbox.getLang();
+        Alert confirmation = clearCacheConfirmation.create(lang);
+        Optional<ButtonType> choice = confirmation.showAndWait();
+        String error;
+        if (choice.isPresent() && choice.get() == clearCacheConfirmation.getAllBtnType()) {
+            error = inputEngine.clearCache();
+        }
+        else if (choice.isPresent() && choice.get() == clearCacheConfirmation.getLangBtnType()) {
+            error = inputEngine.clearCache(lang);
+        }
+        else {
+            return;
+        }
         if (error != null) {
             List<String> errorList = new ArrayList<>();
             errorList.add(error);
             handleError(errorList);
             return;
         }
+        entrySnapshotCache.clear();
+        searchPipeline.clearMemory();
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Database");
         alert.setHeaderText("Success!");
@@ -466,24 +666,44 @@ public class GameWindow {
     }
 
     /**
-     * Displays the
+     * Displays the entry and keeps its snapshot with its history entry, so it can be displayed again without a search
+     * @param lang searched language
+     * @param historyEntry history entry of the search, null if it doesn't have one
+     * @param retrieveEntry POJO
+     * @param node view-model of the entry
+     * @param attachAll attach all the nodes at once as the view-model was displayed before
+     */
+    public void showEntry(String lang, List<String> historyEntry, RetrieveEntry retrieveEntry, EntryNode node, boolean attachAll) {
+        this.entryNode = node;
+        this.entryId = retrieveEntry.getId();
+        this.historyEntry = historyEntry;
+        if (historyEntry != null) {
+            entrySnapshotCache.put(historyEntry, new EntrySnapshotCache.EntrySnapshot(retrieveEntry, node));
+        }
+        setEntryDisplayVbox(lang, attachAll);
+    }
+
+    /**
+     * Displays the view-model of the current entry. Clicking on a synonym/antonym searches for it.
      * @param lang searched language
      */
     public void setEntryDisplayVbox(String lang) {
-        RetrieveEntry retrieveEntry = inputEngine.getRetrieveEntry();
-        VBox contentVbox = entryDisplayVbox.create(retrieveEntry);
+        setEntryDisplayVbox(lang, false);
+    }
+
+    /**
+     * Displays the view-model of the current entry. Clicking on a synonym/antonym searches for it.
+     * @param lang searched language
+     * @param attachAll attach all the nodes at once
+     */
+    public void setEntryDisplayVbox(String lang, boolean attachAll) {
+        entryDisplayVbox.setOnSearch((text) -> {
+            displayEntry(lang, text, "", "", "", "", "", "", false,
+                    false, false, false, false);
+        });
+        VBox contentVbox = entryDisplayVbox.create(entryNode, entryId, attachAll);
         contentScrollPane.setVvalue(0);
         contentScrollPane.setContent(contentVbox);
-
-        List<HBox> synAntHboxes = entryDisplayVbox.getSynAntHboxes();
-        for (int i = 0; i < synAntHboxes.size(); i++) {
-            int ind = i;
-            synAntHboxes.get(ind).setOnMouseClicked((event) -> {
-                String text = entryDisplayVbox.getSynAntText(ind);
-                displayEntry(lang, text, "", "", "", "", "", "", false,
-                        false, false, false, false);
-            });
-        }
     }
 
 
@@ -2,28 +2,31 @@ package oxforddictionaries.view;
 
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.control.RadioButton;
-import javafx.scene.control.ToggleGroup;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
-
-import java.util.List;
+import oxforddictionaries.model.request.HistoryStore;
 
 /**
  * This is the display pane for the history
  */
 public class HistoryDisplayVbox {
+    private static final double cellHeight = 24;
+    private static final double listHeight = 480;
     private VBox vbox;
     private Button goBtn;
-    private ToggleGroup historyRadioBtns;
+    private ListView<HistoryStore.Row> historyList;
 
     /**
-     * Displays the history and allows the user to select an entry to revisit.
-     * @param history list of history
+     * Displays the history and allows the user to select an entry to revisit. Only the entries that are shown
+     * are read from the history store, and typing a word prefix filters the entries.
+     * @param historyStore history store
      * @return vbox
      */
-    public VBox create(List<List<String>> history) {
+    public VBox create(HistoryStore historyStore) {
         this.vbox = new VBox(5);
 
         Label titleLbl = new Label("History");
@@ -31,12 +34,28 @@ public class HistoryDisplayVbox {
         titleLbl.setFont(Font.font("Verdana", FontWeight.BOLD, 20));
         vbox.getChildren().add(titleLbl);
 
-        this.historyRadioBtns = new ToggleGroup();
-        for (List<String> entry : history) {
-            RadioButton radioBtn = new RadioButton(entry.get(1) + " - " + entry.get(8));
-            radioBtn.setToggleGroup(historyRadioBtns);
-            vbox.getChildren().add(radioBtn);
-        }
+        TextField filterTxtField = new TextField();
+        filterTxtField.setPromptText("Filter by word");
+        vbox.getChildren().add(filterTxtField);
+
+        this.historyList = new ListView<>(new HistoryPageList(historyStore, ""));
+        historyList.setFixedCellSize(cellHeight);
+        historyList.setPrefHeight(listHeight);
+        historyList.setCellFactory((listView) -> new ListCell<>() {
+            @Override
+            protected void updateItem(HistoryStore.Row row, boolean empty) {
+                super.updateItem(row, empty);
+                if (empty || row == null) {
+                    setText(null);
+                    return;
+                }
+                setText(row.getEntry().get(1) + " - " + row.getEntry().get(8));
+            }
+        });
+        filterTxtField.textProperty().addListener((observable, oldValue, newValue) -> {
+            historyList.setItems(new HistoryPageList(historyStore, newValue.strip()));
+        });
+        vbox.getChildren().add(historyList);
 
         this.goBtn = new Button("Go to");
         vbox.getChildren().add(goBtn);
@@ -52,13 +71,10 @@ public class HistoryDisplayVbox {
     }
 
     /**
-     * Gets the index of the selected entry on the history page. If no entry has been selected, return -1.
-     * @return index of selected entry
+     * Gets the selected entry on the history page. If no entry has been selected, return null.
+     * @return selected row
      */
-    public int getSelectedBtnVal() {
-        if (historyRadioBtns.getSelectedToggle() == null) {
-            return -1;
-        }
-        return historyRadioBtns.getToggles().indexOf(historyRadioBtns.getSelectedToggle());
+    public HistoryStore.Row getSelectedRow() {
+        return historyList.getSelectionModel().getSelectedItem();
     }
 }
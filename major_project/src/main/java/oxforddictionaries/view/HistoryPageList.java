@@ -0,0 +1,88 @@
+package oxforddictionaries.view;
+
+import javafx.collections.ObservableListBase;
+import oxforddictionaries.model.request.HistoryStore;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The history entries of a word prefix as a list for the history page. Only the size is counted when it is created,
+ * and the entries are read from the history store a page at a time when the list view shows them. The most recently
+ * read pages are kept so scrolling back doesn't read them again. A page is read after the last row of the page before
+ * it, so scrolling reads each page through the index. A page far from the pages read so far is skipped to from the
+ * closest one before it.
+ */
+public class HistoryPageList extends ObservableListBase<HistoryStore.Row> {
+    private static final int pageSize = 100;
+    private static final int maxPages = 8;
+    private final HistoryStore historyStore;
+    private final String prefix;
+    private final int size;
+    private final Map<Integer, List<HistoryStore.Row>> pages;
+    private final TreeMap<Integer, Long> pageEnds;
+
+    /**
+     * Creates the list and counts its entries
+     * @param historyStore history store
+     * @param prefix word prefix, empty for all the entries
+     */
+    public HistoryPageList(HistoryStore historyStore, String prefix) {
+        this.historyStore = historyStore;
+        this.prefix = prefix;
+        this.size = historyStore.size(prefix);
+        this.pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<HistoryStore.Row>> eldest) {
+                return size() > maxPages;
+            }
+        };
+        this.pageEnds = new TreeMap<>();
+    }
+
+    /**
+     * Gets the entry, reading its page if it isn't kept
+     * @param index index in the list
+     * @return row, null if it couldn't be read
+     */
+    @Override
+    public HistoryStore.Row get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int page = index / pageSize;
+        List<HistoryStore.Row> rows = pages.get(page);
+        if (rows == null) {
+            rows = readPage(page);
+            pages.put(page, rows);
+        }
+        int ind = index % pageSize;
+        return ind < rows.size() ? rows.get(ind) : null;
+    }
+
+    /**
+     * Reads the page after the last row of the closest page before it that has been read
+     * @param page page index
+     * @return rows of the page
+     */
+    private List<HistoryStore.Row> readPage(int page) {
+        Map.Entry<Integer, Long> before = pageEnds.floorEntry(page - 1);
+        long afterSeq = before == null ? 0 : before.getValue();
+        int skippedPages = before == null ? page : page - 1 - before.getKey();
+        List<HistoryStore.Row> rows = historyStore.getPage(prefix, afterSeq, skippedPages * pageSize, pageSize);
+        if (rows.size() == pageSize) {
+            pageEnds.put(page, rows.get(rows.size() - 1).getSeq());
+        }
+        return rows;
+    }
+
+    /**
+     * @return number of entries when the list was created
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+}
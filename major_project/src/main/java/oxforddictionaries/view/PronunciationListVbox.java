@@ -18,6 +18,7 @@ import java.util.List;
  */
 public class PronunciationListVbox {
     private InputEngine inputEngine;
+    private MediaPlayer proPlayer;
 
     /**
      * Creates the pronunciation list vbox
@@ -62,15 +63,9 @@ public class PronunciationListVbox {
         Label idLbl = new Label(pronunciation.get(0));
         idLbl.setWrapText(true);
 
-        Media proMedia = new Media(pronunciation.get(1));
-        MediaPlayer proPlayer = new MediaPlayer(proMedia);
-        proPlayer.setOnEndOfMedia(() -> {
-            proPlayer.stop();
-        });
-
         Button playBtn = new Button("Play");
         playBtn.setOnAction((event) -> {
-            proPlayer.play();
+            play(pronunciation.get(1));
         });
 
         Button removeBtn = new Button("Remove");
@@ -92,4 +87,21 @@ public class PronunciationListVbox {
 
         return gridPane;
     }
+
+    /**
+     * Plays the pronunciation audio file from the cache. Stops the pronunciation that is currently playing.
+     * @param audioFile audio file url
+     */
+    public void play(String audioFile) {
+        if (proPlayer != null) {
+            proPlayer.dispose();
+        }
+        Media proMedia = new Media(inputEngine.getAudioUri(audioFile));
+        MediaPlayer player = new MediaPlayer(proMedia);
+        player.setOnEndOfMedia(() -> {
+            player.stop();
+        });
+        this.proPlayer = player;
+        player.play();
+    }
 }
@@ -0,0 +1,122 @@
+package oxforddictionaries.view;
+
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import oxforddictionaries.model.SearchUpdate;
+import oxforddictionaries.model.request.responseclasses.Entry;
+import oxforddictionaries.model.request.responseclasses.HeadwordEntry;
+import oxforddictionaries.model.request.responseclasses.LexicalEntry;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import oxforddictionaries.model.request.responseclasses.Sense;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Displays the preview of the search while it is typed, the first definitions of the entry or the errors
+ */
+public class SearchPreviewVbox {
+    private static final int maxDefinitions = 5;
+    private VBox vbox;
+    private Label titleLbl;
+    private VBox linesVbox;
+
+    /**
+     * Creates the empty preview
+     * @return vbox
+     */
+    public VBox create() {
+        this.titleLbl = new Label();
+        titleLbl.setWrapText(true);
+        titleLbl.setFont(Font.font("Verdana", FontWeight.BOLD, 14));
+
+        this.linesVbox = new VBox(3);
+        this.vbox = new VBox(5);
+        vbox.getChildren().addAll(titleLbl, linesVbox);
+        vbox.setVisible(false);
+        vbox.setManaged(false);
+        return vbox;
+    }
+
+    /**
+     * Shows the update. The cached entry is shown until the requested one replaces it.
+     * @param update update of the search pipeline
+     */
+    public void show(SearchUpdate update) {
+        List<String> lines;
+        if (update.getRetrieveEntry() != null) {
+            lines = getDefinitions(update.getRetrieveEntry());
+            if (lines.isEmpty()) {
+                lines.add("No definitions were found.");
+            }
+        }
+        else {
+            lines = new ArrayList<>(update.getErrors());
+        }
+
+        String source = update.getSource().equals(SearchUpdate.networkSource) ? "latest" : "cached";
+        titleLbl.setText("Preview of " + update.getQueryKey().getWord() + " (" + source + ")");
+        linesVbox.getChildren().clear();
+        for (String line : lines) {
+            Label lineLbl = new Label(line);
+            lineLbl.setWrapText(true);
+            linesVbox.getChildren().add(lineLbl);
+        }
+        vbox.setVisible(true);
+        vbox.setManaged(true);
+    }
+
+    /**
+     * Hides the preview
+     */
+    public void clear() {
+        if (vbox == null) {
+            return;
+        }
+        linesVbox.getChildren().clear();
+        vbox.setVisible(false);
+        vbox.setManaged(false);
+    }
+
+    /**
+     * Gets the first definitions of the entry with their lexical categories
+     * @param retrieveEntry POJO
+     * @return definitions
+     */
+    public static List<String> getDefinitions(RetrieveEntry retrieveEntry) {
+        List<String> lines = new ArrayList<>();
+        if (retrieveEntry.getResults() == null) {
+            return lines;
+        }
+        for (HeadwordEntry headwordEntry : retrieveEntry.getResults()) {
+            if (headwordEntry.getLexicalEntries() == null) {
+                continue;
+            }
+            for (LexicalEntry lexicalEntry : headwordEntry.getLexicalEntries()) {
+                String category = lexicalEntry.getLexicalCategory() == null ? "" : lexicalEntry.getLexicalCategory().getText();
+                if (lexicalEntry.getEntries() == null) {
+                    continue;
+                }
+                for (Entry entry : lexicalEntry.getEntries()) {
+                    if (entry.getSenses() == null) {
+                        continue;
+                    }
+                    for (Sense sense : entry.getSenses()) {
+                        if (sense.getDefinitions() == null) {
+                            continue;
+                        }
+                        for (String definition : sense.getDefinitions()) {
+                            lines.add(category == null || category.isEmpty() ? definition : category + ": " + definition);
+                            if (lines.size() == maxDefinitions) {
+                                return lines;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return lines;
+    }
+}
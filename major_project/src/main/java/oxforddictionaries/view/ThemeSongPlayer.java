@@ -1,46 +1,69 @@
 package oxforddictionaries.view;
 
 import javafx.scene.media.Media;
+import javafx.scene.media.MediaException;
 import javafx.scene.media.MediaPlayer;
 import javafx.util.Duration;
 
-import java.io.File;
+import java.net.URL;
 
 /**
- * Plays the theme song in the background of the GUI
+ * Plays the theme song in the background of the GUI. The song is read from the classpath, so it is found however
+ * the application is started, and it starts playing once it has been loaded.
  */
 public class ThemeSongPlayer {
+    private static final String themeSongName = "/dreamy night - LilyPichu.wav";
     private boolean paused;
     private MediaPlayer player;
 
     /**
-     * Creates the player and starts the playing
+     * Creates the player and starts the playing when the song is loaded. It can be called from any thread.
+     * If the song can't be found or loaded, nothing is played.
      */
     public void start() {
-        String[] path = {"src", "main", "resources", "dreamy night - LilyPichu.wav"};
-        String filename = String.join(File.separator, path);
-        File file = new File(filename);
-        String fileUri = file.toURI().toString();
-        Media themeSong = new Media(fileUri);
-        this.player = new MediaPlayer(themeSong);
-        player.setOnEndOfMedia(() -> {
-            player.seek(Duration.ZERO);
+        URL url = ThemeSongPlayer.class.getResource(themeSongName);
+        if (url == null) {
+            System.out.println("Theme song not found");
+            return;
+        }
+
+        MediaPlayer mediaPlayer;
+        try {
+            mediaPlayer = new MediaPlayer(new Media(url.toExternalForm()));
+        } catch (MediaException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+        mediaPlayer.setOnEndOfMedia(() -> {
+            mediaPlayer.seek(Duration.ZERO);
         });
-        this.paused = false;
-        player.setVolume(0.3);
-        player.play();
+        mediaPlayer.setVolume(0.3);
+        mediaPlayer.setOnReady(() -> {
+            synchronized (this) {
+                if (!paused) {
+                    mediaPlayer.play();
+                }
+            }
+        });
+        synchronized (this) {
+            this.player = mediaPlayer;
+        }
     }
 
     /**
-     * Pauses and plays the theme song
+     * Pauses and plays the theme song. If the song hasn't been loaded, it is played or not when it is.
      */
-    public void changeState() {
+    public synchronized void changeState() {
         if (paused) {
-            player.play();
+            if (player != null) {
+                player.play();
+            }
             this.paused = false;
         }
         else {
-            player.pause();
+            if (player != null) {
+                player.pause();
+            }
             this.paused = true;
         }
     }
@@ -48,7 +71,7 @@ public class ThemeSongPlayer {
     /**
      * @return if paused
      */
-    public boolean getState() {
+    public synchronized boolean getState() {
         return paused;
     }
 }
@@ -30,6 +30,20 @@ public class MainTest {
         assertThat(inputEngine, instanceOf(OnlineInputEngine.class));
     }
 
+    @Test
+    public void GetInputEngineCached() {
+        InputEngine inputEngine = main.getInputEngine("cached");
+        assertNotNull(inputEngine);
+        assertThat(inputEngine, instanceOf(CachedInputEngine.class));
+    }
+
+    @Test
+    public void GetInputEngineRemote() {
+        InputEngine inputEngine = main.getInputEngine("remote");
+        assertNotNull(inputEngine);
+        assertThat(inputEngine, instanceOf(RemoteInputEngine.class));
+    }
+
     @Test
     public void GetInputEngineInvalid() {
         InputEngine inputEngine = main.getInputEngine("test");
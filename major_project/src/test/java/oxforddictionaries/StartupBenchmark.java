@@ -0,0 +1,92 @@
+package oxforddictionaries;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmark of the time from the start of the JVM to the first frame of the application. Each run starts the
+ * application with the offline engines in a new JVM, which prints the time of its first frame and exits.
+ * The runs are repeated without and with the class data sharing archive if it exists.
+ * Run with the startupBenchmark gradle task, which creates the archive first.
+ */
+public class StartupBenchmark {
+    private static final String firstFramePrefix = "Time to first frame: ";
+
+    /**
+     * Runs the benchmark. oxforddictionaries.startup.classpath is the classpath of the application,
+     * oxforddictionaries.startup.archive the archive and oxforddictionaries.startup.runs the runs of each mode.
+     * @param args unused
+     * @throws Exception if the application can't be started
+     */
+    public static void main(String[] args) throws Exception {
+        String classpath = System.getProperty("oxforddictionaries.startup.classpath", System.getProperty("java.class.path"));
+        String archive = System.getProperty("oxforddictionaries.startup.archive");
+        int runs = Integer.getInteger("oxforddictionaries.startup.runs", 5);
+
+        System.out.printf("%-10s %8s %8s %8s%n", "mode", "min ms", "median", "max ms");
+        report("default", measure(classpath, List.of(), runs));
+        if (archive != null && Files.exists(Paths.get(archive))) {
+            report("appcds", measure(classpath, List.of("-XX:SharedArchiveFile=" + archive), runs));
+        }
+        else {
+            System.out.println("No class data sharing archive, run the cdsArchive gradle task to create it");
+        }
+    }
+
+    private static void report(String mode, List<Long> times) {
+        Collections.sort(times);
+        System.out.printf("%-10s %8d %8d %8d%n", mode, times.get(0), times.get(times.size() / 2), times.get(times.size() - 1));
+    }
+
+    /**
+     * Starts the application the number of runs
+     * @param classpath classpath of the application
+     * @param jvmArgs extra JVM arguments
+     * @param runs number of runs
+     * @return times to the first frame in ms
+     */
+    private static List<Long> measure(String classpath, List<String> jvmArgs, int runs) throws IOException, InterruptedException {
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            times.add(run(classpath, jvmArgs));
+        }
+        return times;
+    }
+
+    private static long run(String classpath, List<String> jvmArgs) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-Doxforddictionaries.startup.exit=true");
+        command.add("-cp");
+        command.add(classpath);
+        command.add(Launcher.class.getName());
+        command.add("offline");
+        command.add("offline");
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .directory(new File(System.getProperty("user.dir"))).start();
+        long millis = -1;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(firstFramePrefix)) {
+                    millis = Long.parseLong(line.substring(firstFramePrefix.length()).replace(" ms", "").trim());
+                }
+            }
+        }
+        int code = process.waitFor();
+        if (millis < 0) {
+            throw new IOException("The application exited with " + code + " before its first frame");
+        }
+        return millis;
+    }
+}
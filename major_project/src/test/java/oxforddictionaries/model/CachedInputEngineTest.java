@@ -0,0 +1,300 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.AudioCache;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.SnapshotExporter;
+import oxforddictionaries.model.request.SnapshotReader;
+import oxforddictionaries.model.request.SqlDatabase;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class CachedInputEngineTest {
+    private CachedInputEngine cachedInputEngine;
+    private SqlDatabase sqlDatabaseMock;
+    private LemmaProcessor lemmaProcessorMock;
+    private AboutData aboutDataMock;
+    private AudioCache audioCacheMock;
+
+    @BeforeEach
+    public void setup() {
+        this.sqlDatabaseMock = mock(SqlDatabase.class);
+        this.lemmaProcessorMock = mock(LemmaProcessor.class);
+        this.aboutDataMock = mock(AboutData.class);
+        this.audioCacheMock = mock(AudioCache.class);
+        this.cachedInputEngine = new CachedInputEngine(sqlDatabaseMock, lemmaProcessorMock, aboutDataMock, audioCacheMock,
+                new EntryFilter());
+    }
+
+    private List<String> createResponse(String code, String json) {
+        List<String> response = new ArrayList<>();
+        response.add(code);
+        response.add(json);
+        return response;
+    }
+
+    @Test
+    public void constructorDoesNotSetupDatabase() {
+        verify(sqlDatabaseMock, times(0)).setupDB();
+    }
+
+    @Test
+    public void warmUpOnlyReads() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+        cachedInputEngine.warmUp();
+
+        verify(sqlDatabaseMock, times(1)).getEntry("");
+        verify(sqlDatabaseMock, times(0)).setupDB();
+    }
+
+    @Test
+    public void entrySearchValid() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(createResponse("200",
+                "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}"));
+
+        List<String> actual = cachedInputEngine.entrySearch("en-gb", "noun", "", "", "",
+                "", "", "", true, false, false, false, false);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(cachedInputEngine.getHistory().size(), equalTo(1));
+        assertThat(cachedInputEngine.getHistory().get(0).get(1), equalTo("noun"));
+
+        RetrieveEntry retrieveEntry = cachedInputEngine.getRetrieveEntry();
+        assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
+
+        verify(sqlDatabaseMock, times(0)).addEntry(anyString(), anyString(), anyInt());
+        verify(sqlDatabaseMock, times(0)).updateEntry(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    public void entrySearchHistoryEntry() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(createResponse("200", "{\"id\": \"noun\"}"));
+
+        List<String> actual = cachedInputEngine.entrySearch("en-gb", "noun", "", "", "",
+                "", "", "", true, true, false, false, false);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(cachedInputEngine.getHistory().size(), equalTo(0));
+    }
+
+    @Test
+    public void entrySearchSynonymMovesCurrentEntry() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(createResponse("200", "{\"id\": \"noun\"}"));
+        when(sqlDatabaseMock.getEntry("entries/en-gb/word")).thenReturn(createResponse("200", "{\"id\": \"word\"}"));
+        when(sqlDatabaseMock.getEntry("entries/en-gb/name")).thenReturn(createResponse("200", "{\"id\": \"name\"}"));
+
+        cachedInputEngine.entrySearch("en-gb", "noun", "", "", "", "", "", "", true, false, false, false, false);
+        cachedInputEngine.entrySearch("en-gb", "word", "", "", "", "", "", "", true, false, false, false, false);
+        cachedInputEngine.setCurrentPageInd(0);
+        cachedInputEngine.entrySearch("en-gb", "name", "", "", "", "", "", "", false, false, false, false, false);
+
+        List<List<String>> history = cachedInputEngine.getHistory();
+        assertThat(history.size(), equalTo(3));
+        assertThat(history.get(0).get(1), equalTo("word"));
+        assertThat(history.get(1).get(1), equalTo("noun"));
+        assertThat(history.get(2).get(1), equalTo("name"));
+        assertThat(history.get(2).get(8), equalTo("Synonym/Antonym of noun"));
+        assertThat(cachedInputEngine.getCurrentPageInd(), equalTo(2));
+    }
+
+    @Test
+    public void entrySearchMissing() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+
+        List<String> actual = cachedInputEngine.entrySearch("en-gb", "noun", "", "", "",
+                "", "", "", true, false, false, false, false);
+        assertThat(actual, nullValue());
+
+        actual = cachedInputEngine.entrySearch("en-gb", "noun", "", "", "",
+                "", "", "", true, false, true, false, false);
+        assertThat(actual.size(), equalTo(2));
+        assertThat(actual.get(0), equalTo("404"));
+        assertThat(actual.get(1), equalTo("noun is not in the offline dictionary"));
+    }
+
+    @Test
+    public void entrySearchResponseError() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(createResponse("400", "{\"error\": \"Invalid\"}"));
+
+        List<String> actual = cachedInputEngine.entrySearch("en-gb", "noun", "", "", "",
+                "", "", "", true, false, false, false, false);
+        assertThat(actual.size(), equalTo(2));
+        assertThat(actual.get(0), equalTo("400"));
+        assertThat(actual.get(1), equalTo("Invalid"));
+    }
+
+    @Test
+    public void entrySearchDatabaseError() {
+        List<String> sqlResponse = new ArrayList<>();
+        sqlResponse.add("unable to open database");
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
+
+        List<String> actual = cachedInputEngine.entrySearch("en-gb", "noun", "", "", "",
+                "", "", "", true, false, false, false, false);
+        assertThat(actual.size(), equalTo(1));
+        assertThat(actual.get(0), equalTo("unable to open database"));
+    }
+
+    private List<String> createSupersetResponse() {
+        return createResponse("200", "{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [" +
+                "{\"lexicalCategory\": {\"id\": \"noun\",\"text\": \"Noun\"}}," +
+                "{\"lexicalCategory\": {\"id\": \"verb\",\"text\": \"Verb\"}}]}]}");
+    }
+
+    @Test
+    public void entrySearchDerivedFromSuperset() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace?lexicalCategory=verb")).thenReturn(new ArrayList<>());
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace")).thenReturn(createSupersetResponse());
+
+        List<String> actual = cachedInputEngine.entrySearch("en-gb", "ace", "", "", "Verb",
+                "", "", "", true, false, false, false, false);
+        assertThat(actual.size(), equalTo(0));
+
+        RetrieveEntry retrieveEntry = cachedInputEngine.getRetrieveEntry();
+        assertThat(retrieveEntry.getResults().get(0).getLexicalEntries().size(), equalTo(1));
+        assertThat(retrieveEntry.getResults().get(0).getLexicalEntries().get(0).getLexicalCategory().getId(), equalTo("verb"));
+        assertThat(cachedInputEngine.getHistory().size(), equalTo(1));
+    }
+
+    @Test
+    public void entrySearchDerivedNoMatch() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace?lexicalCategory=adjective")).thenReturn(new ArrayList<>());
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace")).thenReturn(createSupersetResponse());
+
+        List<String> actual = cachedInputEngine.entrySearch("en-gb", "ace", "", "", "adjective",
+                "", "", "", true, false, true, false, false);
+        assertThat(actual.get(0), equalTo("404"));
+        assertThat(actual.get(1), equalTo("No entry found matching supplied source_lang, word and provided filters"));
+    }
+
+    @Test
+    public void lemmaSearchValid() {
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(createResponse("200",
+                "{\"metadata\": {\"provider\": \"Oxford University Press\"}}"));
+
+        List<String> actual = cachedInputEngine.lemmaSearch("en", "forehead", "", "", false, false);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(cachedInputEngine.getRetrieveEntry().getMetadata().getProvider(), equalTo("Oxford University Press"));
+        verify(sqlDatabaseMock, times(0)).addLemma(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    public void lemmaSearchMissing() {
+        when(sqlDatabaseMock.getLemma(anyString())).thenReturn(new ArrayList<>());
+
+        List<String> actual = cachedInputEngine.lemmaSearch("en", "forehead", "", "", false, false);
+        assertThat(actual, nullValue());
+    }
+
+    @Test
+    public void lemmaSearchResponseError() {
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(createResponse("403", "{\"error\": \"Forbidden\"}"));
+
+        List<String> actual = cachedInputEngine.lemmaSearch("en", "forehead", "", "", false, false);
+        assertThat(actual.get(0), equalTo("403"));
+        assertThat(actual.get(1), equalTo("Forbidden"));
+    }
+
+    @Test
+    public void clearCacheReadOnly() {
+        assertThat(cachedInputEngine.clearCache(), equalTo("The offline dictionary is read only and can't be cleared."));
+        verify(sqlDatabaseMock, times(0)).clearDatabase();
+        verify(audioCacheMock, times(0)).clear();
+    }
+
+    @Test
+    public void getAudioUriDoesNotDownload() {
+        when(audioCacheMock.getCachedUri("https://audio/ace.mp3")).thenReturn("https://audio/ace.mp3");
+
+        assertThat(cachedInputEngine.getAudioUri("https://audio/ace.mp3"), equalTo("https://audio/ace.mp3"));
+        verify(audioCacheMock, times(0)).getUri(anyString());
+        verify(audioCacheMock, times(0)).prefetch(anyList());
+    }
+
+    @Test
+    public void addRemovePronunciation() {
+        assertThat(cachedInputEngine.addPronunciation(null, "https://audio/ace.mp3"), equalTo(true));
+        assertThat(cachedInputEngine.addPronunciation("ace", "https://audio/ace.mp3"), equalTo(false));
+        assertThat(cachedInputEngine.getPronunciations().get(0).get(0), equalTo("-"));
+
+        assertThat(cachedInputEngine.removePronunciation("https://audio/ace.mp3"), equalTo(true));
+        assertThat(cachedInputEngine.removePronunciation("https://audio/ace.mp3"), equalTo(false));
+        assertThat(cachedInputEngine.getPronunciations().size(), equalTo(0));
+    }
+
+    @Test
+    public void entrySearchSnapshot(@TempDir Path dir) throws IOException {
+        Path path = dir.resolve("test.snapshot");
+        SnapshotExporter exporter = new SnapshotExporter(path);
+        exporter.addEntry("entries/en-gb/noun", "{\"id\": \"noun\"}", 200);
+        exporter.finish();
+        this.cachedInputEngine = new CachedInputEngine(sqlDatabaseMock, lemmaProcessorMock, aboutDataMock, audioCacheMock,
+                new EntryFilter(), SnapshotReader.open(path));
+
+        List<String> actual = cachedInputEngine.entrySearch("en-gb", "noun", "", "", "",
+                "", "", "", true, false, false, false, false);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(cachedInputEngine.getRetrieveEntry().getId(), equalTo("noun"));
+        verify(sqlDatabaseMock, never()).getEntry(anyString());
+    }
+
+    @Test
+    public void detailSearchValid() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace?fields=definitions,pronunciations")).thenReturn(createResponse("200",
+                "{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{\"entries\": [{\"senses\": [{\"id\": \"s1\",\"definitions\": [\"an expert\"]}]}]}]}]}"));
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace")).thenReturn(createResponse("200",
+                "{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{\"entries\": [{\"etymologies\": [\"from Latin\"],\"senses\": [{\"id\": \"s1\",\"examples\": [{\"text\": \"a flying ace\"}]}]}]}]}]}"));
+
+        cachedInputEngine.entrySearch("en-gb", "ace", "definitions,pronunciations", "", "",
+                "", "", "", true, false, false, false, false);
+        List<String> actual = cachedInputEngine.detailSearch(cachedInputEngine.getRetrieveEntry(), "en-gb", "ace", "", "",
+                "", "", "");
+        assertThat(actual.size(), equalTo(0));
+
+        RetrieveEntry retrieveEntry = cachedInputEngine.getRetrieveEntry();
+        assertThat(retrieveEntry.getResults().get(0).getLexicalEntries().get(0).getEntries().get(0).getEtymologies().get(0),
+                equalTo("from Latin"));
+        assertThat(retrieveEntry.getResults().get(0).getLexicalEntries().get(0).getEntries().get(0).getSenses().get(0)
+                .getDefinitions().get(0), equalTo("an expert"));
+    }
+
+    @Test
+    public void detailSearchMissing() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+
+        List<String> actual = cachedInputEngine.detailSearch(null, "en-gb", "ace", "", "", "", "", "");
+        assertThat(actual.size(), equalTo(2));
+        assertThat(actual.get(0), equalTo("404"));
+        assertThat(actual.get(1), equalTo("ace is not in the offline dictionary"));
+    }
+
+    @Test
+    public void cachedSearchKeepsHistory() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(createResponse("200", "{\"id\": \"noun\"}"));
+
+        LookupResult result = cachedInputEngine.cachedSearch(QueryKey.entries("en-gb", "noun", "", "", "", "", "", ""));
+        assertThat(result.getResponse().size(), equalTo(0));
+        assertThat(result.getRetrieveEntry().getId(), equalTo("noun"));
+        assertThat(cachedInputEngine.getHistory().size(), equalTo(0));
+    }
+
+    @Test
+    public void cachedSearchMissing() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+
+        LookupResult result = cachedInputEngine.cachedSearch(QueryKey.entries("en-gb", "noun", "", "", "", "", "", ""));
+        assertThat(result.getResponse(), nullValue());
+        assertThat(result.getRetrieveEntry(), nullValue());
+    }
+}
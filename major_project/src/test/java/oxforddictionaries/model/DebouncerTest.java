@@ -0,0 +1,105 @@
+package oxforddictionaries.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+public class DebouncerTest {
+    private ScheduledExecutorService scheduler;
+    private SubmissionPublisher<String> publisher;
+    private Debouncer<String> debouncer;
+    private List<String> received;
+    private CountDownLatch completed;
+
+    @BeforeEach
+    public void setup() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.publisher = new SubmissionPublisher<>();
+        this.debouncer = new Debouncer<>(100, scheduler);
+        this.received = new CopyOnWriteArrayList<>();
+        this.completed = new CountDownLatch(1);
+        publisher.subscribe(debouncer);
+        debouncer.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(String item) {
+                received.add(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void publishesNewestOnly() throws InterruptedException {
+        publisher.submit("n");
+        publisher.submit("no");
+        publisher.submit("noun");
+        Thread.sleep(400);
+
+        assertThat(received, contains("noun"));
+    }
+
+    @Test
+    public void publishesAfterEachPause() throws InterruptedException {
+        publisher.submit("no");
+        Thread.sleep(400);
+        publisher.submit("noun");
+        Thread.sleep(400);
+
+        assertThat(received, contains("no", "noun"));
+    }
+
+    @Test
+    public void cancelPendingDrops() throws InterruptedException {
+        publisher.submit("noun");
+        Thread.sleep(40);
+        debouncer.cancelPending();
+        Thread.sleep(300);
+
+        assertThat(received.size(), equalTo(0));
+    }
+
+    @Test
+    public void completeFlushesPending() throws InterruptedException {
+        publisher.submit("noun");
+        publisher.close();
+
+        assertThat(completed.await(2, TimeUnit.SECONDS), equalTo(true));
+        assertThat(received, contains("noun"));
+    }
+}
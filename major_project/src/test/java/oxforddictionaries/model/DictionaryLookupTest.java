@@ -0,0 +1,244 @@
+package oxforddictionaries.model;
+
+import com.google.gson.Gson;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import oxforddictionaries.model.request.responseclasses.Entry;
+import oxforddictionaries.model.request.AudioCache;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.Request;
+import oxforddictionaries.model.request.SqlDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DictionaryLookupTest {
+    private DictionaryLookup lookup;
+    private Request requestMock;
+    private SqlDatabase sqlDatabaseMock;
+
+    @BeforeEach
+    public void setup() {
+        this.requestMock = mock(Request.class);
+        this.sqlDatabaseMock = mock(SqlDatabase.class);
+        this.lookup = new DictionaryLookup(requestMock, sqlDatabaseMock, mock(AudioCache.class), new PronunciationProcessor(),
+                new EntryFilter(), null);
+    }
+
+    private List<String> createResponse(String code, String json) {
+        List<String> response = new ArrayList<>();
+        response.add(code);
+        response.add(json);
+        return response;
+    }
+
+    @Test
+    public void entrySearchReturnsEntry() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200", "{\"id\": \"noun\"}"));
+
+        LookupResult result = lookup.entrySearch(QueryKey.entries("en-gb", "noun", null, null, null, null, null, null),
+                false, false, false);
+        assertThat(result.getResponse().size(), equalTo(0));
+        assertThat(result.getRetrieveEntry().getId(), equalTo("noun"));
+        verify(sqlDatabaseMock, times(1)).setupDB();
+        verify(sqlDatabaseMock, times(1)).addEntry("entries/en-gb/noun", "{\"id\": \"noun\"}", 200);
+    }
+
+    @Test
+    public void setupOnFirstLookupOnly() {
+        verify(sqlDatabaseMock, never()).setupDB();
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(createResponse("200", "{\"id\": \"noun\"}"));
+
+        lookup.entrySearch(QueryKey.entries("en-gb", "noun", null, null, null, null, null, null), false, false, false);
+        lookup.entrySearch(QueryKey.entries("en-gb", "noun", null, null, null, null, null, null), false, false, false);
+        lookup.warmUp();
+        verify(sqlDatabaseMock, times(1)).setupDB();
+    }
+
+    @Test
+    public void warmUpSetsUp() {
+        when(sqlDatabaseMock.setupDB()).thenReturn("error");
+        lookup.warmUp();
+
+        verify(sqlDatabaseMock, times(1)).setupDB();
+        assertThat(lookup.setup(), nullValue());
+        verify(sqlDatabaseMock, times(1)).setupDB();
+    }
+
+    @Test
+    public void entrySearchCachedNotDecided() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(createResponse("200", "{\"id\": \"noun\"}"));
+
+        LookupResult result = lookup.entrySearch(QueryKey.entries("en-gb", "noun", null, null, null, null, null, null),
+                false, false, false);
+        assertThat(result.getResponse().size(), equalTo(1));
+        assertThat(result.getResponse().get(0), nullValue());
+        assertThat(result.getRetrieveEntry(), nullValue());
+    }
+
+    @Test
+    public void entrySearchNotFound() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("404", "{\"error\": \"not found\"}"));
+
+        LookupResult result = lookup.entrySearch(QueryKey.entries("en-gb", "noun", null, null, null, null, null, null),
+                false, false, false);
+        assertThat(result.getResponse(), nullValue());
+        assertThat(result.getRetrieveEntry(), nullValue());
+    }
+
+    @Test
+    public void entrySearchMissingNotKept() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("404", "{\"error\": \"not found\"}"));
+
+        LookupResult result = lookup.entrySearch(QueryKey.entries("en-gb", "nou", null, null, null, null, null, null),
+                false, true, true, false);
+        assertThat(result.getResponse(), nullValue());
+        verify(sqlDatabaseMock, never()).addEntry(anyString(), anyString(), anyInt());
+        verify(sqlDatabaseMock, never()).updateEntry(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    public void lemmaSearchReturnsEntry() {
+        when(sqlDatabaseMock.getLemma(anyString())).thenReturn(new ArrayList<>());
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200", "{\"id\": \"nouns\"}"));
+
+        LookupResult result = lookup.lemmaSearch(QueryKey.lemmas("en-gb", "nouns", null, null), false, false);
+        assertThat(result.getResponse().size(), equalTo(0));
+        assertThat(result.getRetrieveEntry().getId(), equalTo("nouns"));
+    }
+
+    @Test
+    public void deriveEntryNotCached() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+
+        LookupResult result = lookup.deriveEntry(QueryKey.entries("en-gb", "noun", null, null, "noun", null, null, null));
+        assertThat(result.getResponse().size(), equalTo(0));
+        assertThat(result.getRetrieveEntry(), nullValue());
+    }
+
+    @Test
+    public void sessionsShareLookup() throws Exception {
+        when(sqlDatabaseMock.getEntry(anyString())).thenAnswer((invocation) -> new ArrayList<>());
+        when(requestMock.getRequest(anyString())).thenAnswer((invocation) -> {
+            String uri = invocation.getArgument(0);
+            String word = uri.substring(uri.lastIndexOf('/') + 1);
+            return createResponse("200", "{\"id\": \"" + word + "\"}");
+        });
+
+        int sessions = 8;
+        int searches = 50;
+        List<OnlineInputEngine> engines = new ArrayList<>();
+        for (int i = 0; i < sessions; i++) {
+            engines.add(new OnlineInputEngine(lookup, mock(LemmaProcessor.class), mock(AboutData.class)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < sessions; i++) {
+                OnlineInputEngine engine = engines.get(i);
+                String prefix = "session" + i + "word";
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < searches; j++) {
+                        engine.entrySearch("en-gb", prefix + j, null, null, null, null, null, null, true, false, false,
+                                false, false);
+                        assertThat(engine.getRetrieveEntry().getId(), equalTo(prefix + j));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int i = 0; i < sessions; i++) {
+            List<List<String>> history = engines.get(i).getHistory();
+            assertThat(history.size(), equalTo(searches));
+            for (int j = 0; j < searches; j++) {
+                assertThat(history.get(j).get(1), equalTo("session" + i + "word" + j));
+            }
+        }
+        verify(sqlDatabaseMock, times(sessions * searches)).addEntry(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    public void detailSearchMergesPreview() {
+        RetrieveEntry preview = new Gson().fromJson("{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{\"entries\": [{\"senses\": [{\"id\": \"s1\",\"definitions\": [\"an expert\"]}]}]}]}]}", RetrieveEntry.class);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace")).thenReturn(createResponse("200", "{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{\"entries\": [{\"etymologies\": [\"from Latin\"],\"senses\": [{\"id\": \"s1\",\"examples\": [{\"text\": \"a flying ace\"}]}]}]}]}]}"));
+
+        LookupResult result = lookup.detailSearch(QueryKey.entries("en-gb", "ace", null, null, null, null, null, null), preview);
+        assertThat(result.getResponse().size(), equalTo(0));
+        Entry entry = result.getRetrieveEntry().getResults().get(0).getLexicalEntries().get(0).getEntries().get(0);
+        assertThat(entry.getEtymologies().get(0), equalTo("from Latin"));
+        assertThat(entry.getSenses().get(0).getDefinitions().get(0), equalTo("an expert"));
+        assertThat(entry.getSenses().get(0).getExamples().get(0).getText(), equalTo("a flying ace"));
+        verifyNoInteractions(requestMock);
+    }
+
+    @Test
+    public void detailSearchRequestsDetails() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200", "{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{\"entries\": [{\"etymologies\": [\"from Latin\"],\"senses\": [{\"id\": \"s1\",\"examples\": [{\"text\": \"a flying ace\"}]}]}]}]}]}"));
+
+        LookupResult result = lookup.detailSearch(QueryKey.entries("en-gb", "ace", null, null, null, null, null, null), null);
+        assertThat(result.getResponse().size(), equalTo(0));
+        assertThat(result.getRetrieveEntry().getId(), equalTo("ace"));
+        verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/ace");
+        verify(sqlDatabaseMock, times(1)).addEntry(eq("entries/en-gb/ace"), anyString(), eq(200));
+    }
+
+    @Test
+    public void detailSearchNotFound() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("404", "{\"error\": \"not found\"}"));
+
+        LookupResult result = lookup.detailSearch(QueryKey.entries("en-gb", "ace", null, null, null, null, null, null), null);
+        assertThat(result.getResponse(), equalTo(List.of("No details were found for the entry.")));
+        assertThat(result.getRetrieveEntry(), nullValue());
+    }
+
+    @Test
+    public void cachedSearchFound() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(createResponse("200", "{\"id\": \"noun\"}"));
+
+        LookupResult result = lookup.cachedSearch(QueryKey.entries("en-gb", "noun", null, null, null, null, null, null));
+        assertThat(result.getResponse().size(), equalTo(0));
+        assertThat(result.getRetrieveEntry().getId(), equalTo("noun"));
+        verify(requestMock, never()).getRequest(anyString());
+    }
+
+    @Test
+    public void cachedSearchMissing() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+
+        LookupResult result = lookup.cachedSearch(QueryKey.entries("en-gb", "noun", null, null, null, null, null, null));
+        assertThat(result.getResponse().size(), equalTo(0));
+        assertThat(result.getRetrieveEntry(), nullValue());
+        verify(requestMock, never()).getRequest(anyString());
+    }
+
+    @Test
+    public void clearCacheOfLanguage() {
+        lookup.clearCache("es");
+
+        verify(sqlDatabaseMock, times(1)).clearLanguage("es");
+        verify(sqlDatabaseMock, never()).clearDatabase();
+    }
+}
@@ -0,0 +1,122 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.responseclasses.LexicalEntry;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import oxforddictionaries.model.request.responseclasses.Sense;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class EntryFilterTest {
+    private static final String json = "{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [" +
+            "{\"lexicalCategory\": {\"id\": \"noun\",\"text\": \"Noun\"},\"grammaticalFeatures\": [{\"id\": \"singular\",\"type\": \"Number\"}]," +
+            "\"entries\": [{\"senses\": [" +
+            "{\"id\": \"s1\",\"domains\": [{\"id\": \"cards\"}],\"registers\": [{\"id\": \"informal\"}]}," +
+            "{\"id\": \"s2\",\"domains\": [{\"id\": \"tennis\"}],\"subsenses\": [{\"id\": \"s2a\",\"domains\": [{\"id\": \"cards\"}]},{\"id\": \"s2b\"}]}," +
+            "{\"id\": \"s3\"}]}]}," +
+            "{\"lexicalCategory\": {\"id\": \"verb\",\"text\": \"Verb\"}," +
+            "\"entries\": [{\"grammaticalFeatures\": [{\"id\": \"transitive\",\"type\": \"Subcategorization\"}]," +
+            "\"senses\": [{\"id\": \"s4\",\"domains\": [{\"id\": \"tennis\"}]}]}]}]}]}";
+    private EntryFilter entryFilter;
+    private RetrieveEntry retrieveEntry;
+
+    @BeforeEach
+    public void setup() {
+        this.entryFilter = new EntryFilter();
+        this.retrieveEntry = new Gson().fromJson(json, RetrieveEntry.class);
+    }
+
+    private QueryKey createKey(String gramFeat, String lexiCate, String domains, String registers) {
+        return QueryKey.entries("en-gb", "ace", null, gramFeat, lexiCate, domains, registers, null);
+    }
+
+    private List<LexicalEntry> getLexicalEntries(RetrieveEntry entry) {
+        return entry.getResults().get(0).getLexicalEntries();
+    }
+
+    @Test
+    public void applyLexicalCategory() {
+        RetrieveEntry actual = entryFilter.apply(retrieveEntry, createKey(null, "Verb", null, null));
+
+        assertThat(getLexicalEntries(actual).size(), equalTo(1));
+        assertThat(getLexicalEntries(actual).get(0).getLexicalCategory().getId(), equalTo("verb"));
+        assertThat(actual.getId(), equalTo("ace"));
+    }
+
+    @Test
+    public void applyGrammaticalFeatureOnLexicalEntry() {
+        RetrieveEntry actual = entryFilter.apply(retrieveEntry, createKey("singular", null, null, null));
+
+        assertThat(getLexicalEntries(actual).size(), equalTo(1));
+        assertThat(getLexicalEntries(actual).get(0).getLexicalCategory().getId(), equalTo("noun"));
+    }
+
+    @Test
+    public void applyGrammaticalFeatureOnEntry() {
+        RetrieveEntry actual = entryFilter.apply(retrieveEntry, createKey("transitive", null, null, null));
+
+        assertThat(getLexicalEntries(actual).size(), equalTo(1));
+        assertThat(getLexicalEntries(actual).get(0).getLexicalCategory().getId(), equalTo("verb"));
+    }
+
+    @Test
+    public void applyDomainKeepsMatchingSubsenses() {
+        RetrieveEntry actual = entryFilter.apply(retrieveEntry, createKey(null, null, "cards", null));
+
+        List<LexicalEntry> lexicalEntries = getLexicalEntries(actual);
+        assertThat(lexicalEntries.size(), equalTo(1));
+        List<Sense> senses = lexicalEntries.get(0).getEntries().get(0).getSenses();
+        assertThat(senses.size(), equalTo(2));
+        assertThat(senses.get(0).getId(), equalTo("s1"));
+        assertThat(senses.get(1).getId(), equalTo("s2"));
+        assertThat(senses.get(1).getSubsenses().size(), equalTo(1));
+        assertThat(senses.get(1).getSubsenses().get(0).getId(), equalTo("s2a"));
+    }
+
+    @Test
+    public void applyDomainAndRegister() {
+        RetrieveEntry actual = entryFilter.apply(retrieveEntry, createKey(null, null, "cards,tennis", "informal"));
+
+        List<Sense> senses = getLexicalEntries(actual).get(0).getEntries().get(0).getSenses();
+        assertThat(getLexicalEntries(actual).size(), equalTo(1));
+        assertThat(senses.size(), equalTo(1));
+        assertThat(senses.get(0).getId(), equalTo("s1"));
+    }
+
+    @Test
+    public void applyCombinedFilters() {
+        RetrieveEntry actual = entryFilter.apply(retrieveEntry, createKey(null, "verb", "tennis", null));
+
+        List<Sense> senses = getLexicalEntries(actual).get(0).getEntries().get(0).getSenses();
+        assertThat(senses.size(), equalTo(1));
+        assertThat(senses.get(0).getId(), equalTo("s4"));
+    }
+
+    @Test
+    public void applyNoMatch() {
+        assertThat(entryFilter.apply(retrieveEntry, createKey(null, "adjective", null, null)), nullValue());
+        assertThat(entryFilter.apply(retrieveEntry, createKey(null, "verb", "cards", null)), nullValue());
+    }
+
+    @Test
+    public void applyDoesNotChangeOriginal() {
+        entryFilter.apply(retrieveEntry, createKey(null, "noun", "cards", null));
+
+        assertThat(getLexicalEntries(retrieveEntry).size(), equalTo(2));
+        assertThat(getLexicalEntries(retrieveEntry).get(0).getEntries().get(0).getSenses().size(), equalTo(3));
+        assertThat(getLexicalEntries(retrieveEntry).get(0).getEntries().get(0).getSenses().get(1).getSubsenses().size(), equalTo(2));
+    }
+
+    @Test
+    public void applyNullEntry() {
+        assertThat(entryFilter.apply(null, createKey(null, "noun", null, null)), nullValue());
+        assertThat(entryFilter.apply(new RetrieveEntry(), createKey(null, "noun", null, null)), nullValue());
+    }
+}
@@ -0,0 +1,85 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.VocabularyInterner;
+import oxforddictionaries.model.request.responseclasses.Entry;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import oxforddictionaries.model.request.responseclasses.Sense;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class EntryMergerTest {
+    private static final String previewJson = "{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{\"entries\": [{" +
+            "\"pronunciations\": [{\"audioFile\": \"a.mp3\"}],\"senses\": [{\"id\": \"s1\",\"definitions\": [\"a playing card\"]}," +
+            "{\"id\": \"s2\",\"definitions\": [\"an expert\"]}]}]}]}]}";
+    private static final String detailsJson = "{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{\"entries\": [{" +
+            "\"etymologies\": [\"from Latin\"],\"pronunciations\": [{\"audioFile\": \"a.mp3\",\"dialects\": [\"British English\"]}]," +
+            "\"senses\": [{\"id\": \"s2\",\"definitions\": [\"an expert\"],\"examples\": [{\"text\": \"a flying ace\"}]}," +
+            "{\"id\": \"s3\",\"definitions\": [\"a serve\"]}]}]}]}]}";
+    private EntryMerger entryMerger;
+    private Gson gson;
+
+    @BeforeEach
+    public void setup() {
+        this.gson = new VocabularyInterner().createGson();
+        this.entryMerger = new EntryMerger(gson);
+    }
+
+    @Test
+    public void mergeEntries() {
+        RetrieveEntry preview = gson.fromJson(previewJson, RetrieveEntry.class);
+        RetrieveEntry details = gson.fromJson(detailsJson, RetrieveEntry.class);
+        RetrieveEntry merged = entryMerger.merge(preview, details);
+
+        Entry entry = merged.getResults().get(0).getLexicalEntries().get(0).getEntries().get(0);
+        assertThat(entry.getEtymologies(), equalTo(List.of("from Latin")));
+        assertThat(entry.getPronunciations().size(), equalTo(1));
+        assertThat(entry.getPronunciations().get(0).getDialects(), equalTo(List.of("British English")));
+
+        List<Sense> senses = entry.getSenses();
+        assertThat(senses.size(), equalTo(3));
+        assertThat(senses.get(0).getId(), equalTo("s1"));
+        assertThat(senses.get(0).getExamples(), nullValue());
+        assertThat(senses.get(1).getId(), equalTo("s2"));
+        assertThat(senses.get(1).getDefinitions(), equalTo(List.of("an expert")));
+        assertThat(senses.get(1).getExamples().get(0).getText(), equalTo("a flying ace"));
+        assertThat(senses.get(2).getId(), equalTo("s3"));
+
+        Sense previewSense = preview.getResults().get(0).getLexicalEntries().get(0).getEntries().get(0).getSenses().get(1);
+        assertThat(previewSense.getExamples(), nullValue());
+    }
+
+    @Test
+    public void mergeNull() {
+        RetrieveEntry preview = gson.fromJson(previewJson, RetrieveEntry.class);
+        assertThat(entryMerger.merge(preview, null), sameInstance(preview));
+        assertThat(entryMerger.merge(null, preview), sameInstance(preview));
+    }
+
+    @Test
+    public void mergeArrays() {
+        JsonElement preview = JsonParser.parseString("[\"a\", {\"text\": \"b\"}, {\"id\": \"c\"}]");
+        JsonElement details = JsonParser.parseString("[{\"id\": \"c\", \"text\": \"c\"}, \"a\", \"d\", {\"type\": \"b\"}, {\"text\": \"e\"}]");
+        JsonElement merged = entryMerger.merge(preview, details);
+
+        assertThat(merged, equalTo(JsonParser.parseString(
+                "[\"a\", {\"text\": \"b\", \"type\": \"b\"}, {\"id\": \"c\", \"text\": \"c\"}, \"d\", {\"text\": \"e\"}]")));
+    }
+
+    @Test
+    public void mergeValues() {
+        JsonElement preview = JsonParser.parseString("{\"word\": \"ace\", \"type\": \"headword\"}");
+        JsonElement details = JsonParser.parseString("{\"word\": \"Ace\"}");
+
+        assertThat(entryMerger.merge(preview, details), equalTo(JsonParser.parseString("{\"word\": \"Ace\", \"type\": \"headword\"}")));
+    }
+}
@@ -0,0 +1,129 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.SqlDatabase;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class GraphCrawlerTest {
+    private static final Map<String, List<String>> synonyms = Map.of(
+            "ace", List.of("expert", "star"),
+            "expert", List.of("master"),
+            "star", List.of("ace"),
+            "master", List.of("maestro"));
+    private DictionaryLookup lookupMock;
+    private SqlDatabase sqlDatabaseMock;
+
+    @BeforeEach
+    public void setup() {
+        this.lookupMock = mock(DictionaryLookup.class);
+        this.sqlDatabaseMock = mock(SqlDatabase.class);
+        when(lookupMock.entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean())).thenAnswer((invocation) -> {
+            QueryKey queryKey = invocation.getArgument(0);
+            return new LookupResult(new ArrayList<>(), createEntry(queryKey.getWord()));
+        });
+    }
+
+    private RetrieveEntry createEntry(String word) {
+        StringBuilder json = new StringBuilder("{\"id\": \"" + word + "\",\"results\": [{\"lexicalEntries\": [{\"entries\": [{\"senses\": [{\"synonyms\": [");
+        List<String> words = synonyms.getOrDefault(word, List.of());
+        for (int i = 0; i < words.size(); i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\": \"").append(words.get(i)).append("\"}");
+        }
+        json.append("]}]}]}]}]}");
+        return new Gson().fromJson(json.toString(), RetrieveEntry.class);
+    }
+
+    private void verifyLookedUp(String word) {
+        verify(lookupMock, times(1)).entrySearch(QueryKey.entries("en-gb", word, null, null, null, null, null, null),
+                false, true, true);
+    }
+
+    @Test
+    public void crawlToDepth() {
+        GraphCrawler crawler = new GraphCrawler(lookupMock, sqlDatabaseMock, new RelatedWordProcessor(), 4);
+        GraphCrawler.Result result = crawler.crawl("en-gb", "ace", 1, 100);
+
+        assertThat(result.getWords(), equalTo(3));
+        assertThat(result.getRelations(), equalTo(4));
+        assertThat(result.getErrors().size(), equalTo(0));
+        verifyLookedUp("ace");
+        verifyLookedUp("expert");
+        verifyLookedUp("star");
+        verify(lookupMock, times(3)).entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean());
+        verify(sqlDatabaseMock, times(1)).setRelated("en-gb", "ace",
+                List.of(List.of("synonym", "expert"), List.of("synonym", "star")));
+        verify(sqlDatabaseMock, times(1)).setRelated("en-gb", "star", List.of(List.of("synonym", "ace")));
+    }
+
+    @Test
+    public void crawlWordsOnlyOnce() {
+        GraphCrawler crawler = new GraphCrawler(lookupMock, sqlDatabaseMock, new RelatedWordProcessor(), 4);
+        GraphCrawler.Result result = crawler.crawl("en-gb", "ace", 10, 100);
+
+        assertThat(result.getWords(), equalTo(5));
+        verifyLookedUp("ace");
+        verifyLookedUp("maestro");
+        verify(sqlDatabaseMock, times(5)).setRelated(eq("en-gb"), anyString(), anyList());
+    }
+
+    @Test
+    public void crawlToBudget() {
+        GraphCrawler crawler = new GraphCrawler(lookupMock, sqlDatabaseMock, new RelatedWordProcessor(), 4);
+        GraphCrawler.Result result = crawler.crawl("en-gb", "ace", 10, 2);
+
+        assertThat(result.getWords(), equalTo(2));
+        verifyLookedUp("ace");
+        verifyLookedUp("expert");
+        verify(lookupMock, times(2)).entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void crawlNotFoundAndErrors() {
+        List<String> error = new ArrayList<>();
+        error.add("500");
+        error.add("Internal error");
+        when(lookupMock.entrySearch(eq(QueryKey.entries("en-gb", "expert", null, null, null, null, null, null)),
+                anyBoolean(), anyBoolean(), anyBoolean())).thenReturn(new LookupResult(error, null));
+        when(lookupMock.entrySearch(eq(QueryKey.entries("en-gb", "star", null, null, null, null, null, null)),
+                anyBoolean(), anyBoolean(), anyBoolean())).thenReturn(new LookupResult(null, null));
+
+        GraphCrawler crawler = new GraphCrawler(lookupMock, sqlDatabaseMock, new RelatedWordProcessor(), 4);
+        GraphCrawler.Result result = crawler.crawl("en-gb", "ace", 2, 100);
+
+        assertThat(result.getWords(), equalTo(3));
+        assertThat(result.getErrors(), equalTo(List.of("expert: 500 Internal error")));
+        verify(sqlDatabaseMock, never()).setRelated(eq("en-gb"), eq("expert"), anyList());
+        verify(sqlDatabaseMock, times(1)).setRelated("en-gb", "star", List.of());
+    }
+
+    @Test
+    public void crawlStoredInDatabase(@TempDir Path dir) {
+        SqlDatabase db = new SqlDatabase(dir.resolve("test.db").toString());
+        db.setupDB();
+        GraphCrawler crawler = new GraphCrawler(lookupMock, db, new RelatedWordProcessor(), 4);
+        crawler.crawl("en-gb", "ace", 1, 100);
+
+        assertThat(db.getRelated("en-gb", "ace"), equalTo(List.of(List.of("synonym", "expert"), List.of("synonym", "star"))));
+        assertThat(db.getRelated("en-gb", "master").size(), equalTo(0));
+
+        db.setRelated("en-gb", "ace", List.of(List.of("antonym", "amateur")));
+        assertThat(db.getRelated("en-gb", "ace"), equalTo(List.of(List.of("antonym", "amateur"))));
+    }
+}
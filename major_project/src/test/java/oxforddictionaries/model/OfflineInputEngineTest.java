@@ -1,6 +1,7 @@
 package oxforddictionaries.model;
 
 import oxforddictionaries.model.request.DummyAPI;
+import oxforddictionaries.model.request.QueryKey;
 import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -103,6 +104,9 @@ public class OfflineInputEngineTest {
         assertThat(offlineInputEngine.getHistory().size(), equalTo(2));
         assertThat(offlineInputEngine.getHistory().get(0).get(1), equalTo("ace"));
         assertThat(offlineInputEngine.getHistory().get(1).get(1), equalTo("cool"));
+        assertThat(offlineInputEngine.getHistoryStore().size(""), equalTo(2));
+        assertThat(offlineInputEngine.getHistoryStore().getPage("co", 0, 10).get(0).getEntry(),
+                equalTo(offlineInputEngine.getHistory().get(1)));
     }
 
     @Test
@@ -154,4 +158,34 @@ public class OfflineInputEngineTest {
         assertThat(pronunciations.get(0).get(0), equalTo("noun"));
         assertThat(pronunciations.get(0).get(1), equalTo("https://audio.oxforddictionaries.com/en/mp3/noun_gb_1.mp3"));
     }
+
+    @Test
+    public void detailSearchValid() {
+        List<String> actual = offlineInputEngine.detailSearch(null, "en-gb", "noun", "", "", "", "", "");
+        assertThat(actual.size(), equalTo(0));
+
+        verifyNoInteractions(dummyAPIMock);
+    }
+
+    @Test
+    public void setRetrieveEntryWithoutSearch() {
+        RetrieveEntry retrieveEntry = mock(RetrieveEntry.class);
+        offlineInputEngine.setRetrieveEntry(retrieveEntry);
+
+        assertThat(offlineInputEngine.getRetrieveEntry(), equalTo(retrieveEntry));
+        verifyNoInteractions(dummyAPIMock);
+    }
+
+    @Test
+    public void freshSearchKeepsHistory() {
+        when(dummyAPIMock.getEntrySearchJSON()).thenReturn("{\"id\": \"noun\"}");
+        int historySize = offlineInputEngine.getHistory().size();
+
+        LookupResult result = offlineInputEngine.freshSearch(QueryKey.entries("en-gb", "noun", "", "", "", "", "", ""), false);
+        assertThat(result.getResponse().size(), equalTo(0));
+        assertThat(result.getRetrieveEntry().getId(), equalTo("noun"));
+        assertThat(offlineInputEngine.getHistory().size(), equalTo(historySize));
+        assertThat(offlineInputEngine.cachedSearch(QueryKey.entries("en-gb", "noun", "", "", "", "", "", ""))
+                .getRetrieveEntry(), nullValue());
+    }
 }
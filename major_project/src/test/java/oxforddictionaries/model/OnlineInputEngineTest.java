@@ -1,6 +1,8 @@
 package oxforddictionaries.model;
 
+import oxforddictionaries.model.request.AudioCache;
 import oxforddictionaries.model.request.Request;
+import oxforddictionaries.model.request.SnapshotReader;
 import oxforddictionaries.model.request.SqlDatabase;
 import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +13,7 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -32,69 +35,6 @@ public class OnlineInputEngineTest {
         this.onlineInputEngine = new OnlineInputEngine(requestMock, lemmaProcessorMock, sqlDatabaseMock, aboutDataMock);
     }
 
-    @Test
-    public void createUriFieldsValidFields() {
-        String uri = "uri.test/";
-        String newUri = onlineInputEngine.createUriFields(uri, "a", "b", "c,c", "d", "e", "f");
-        String expected = "uri.test/?fields=a&grammaticalFeatures=b&lexicalCategory=c,c&domains=d&registers=e&strictMatch=f";
-        assertThat(newUri, equalTo(expected));
-    }
-
-    @Test
-    public void createUriFieldsNullFields() {
-        String uri = "uri.test/";
-        String newUri = onlineInputEngine.createUriFields(uri, null, null, null, null, null, null);
-        assertThat(newUri, equalTo(uri));
-    }
-
-    @Test
-    public void createUriFieldsEmptyFields() {
-        String uri = "uri.test/";
-        String newUri = onlineInputEngine.createUriFields(uri, "a", "", "   ", " ", "", "b");
-        String expected = "uri.test/?fields=a&strictMatch=b";
-        assertThat(newUri, equalTo(expected));
-    }
-
-    @Test
-    public void createUriFieldsLeadingSpaces() {
-        String uri = "uri.test/";
-        String newUri = onlineInputEngine.createUriFields(uri, " a ", "", "", "", "", "");
-        String expected = "uri.test/?fields= a ";
-        assertThat(newUri, equalTo(expected));
-    }
-
-    @Test
-    public void uriEscapePercentageSymbol() {
-        String uri = "uri.test/%new";
-        String newUri = onlineInputEngine.uriEscape(uri);
-        String expected = "uri.test/%25new";
-        assertThat(newUri, equalTo(expected));
-    }
-
-    @Test
-    public void uriEscapeDollarSymbol() {
-        String uri = "uri.test/$new";
-        String newUri = onlineInputEngine.uriEscape(uri);
-        String expected = "uri.test/%24new";
-        assertThat(newUri, equalTo(expected));
-    }
-
-    @Test
-    public void uriEscapeSpace() {
-        String uri = "uri.test/ new";
-        String newUri = onlineInputEngine.uriEscape(uri);
-        String expected = "uri.test/%20new";
-        assertThat(newUri, equalTo(expected));
-    }
-
-    @Test
-    public void uriEscapeCombination() {
-        String uri = "uri.test/% $ new";
-        String newUri = onlineInputEngine.uriEscape(uri);
-        String expected = "uri.test/%25%20%24%20new";
-        assertThat(newUri, equalTo(expected));
-    }
-
     @Test
     public void createHistoryEntryValid() {
         List<String> entry = onlineInputEngine.createHistoryEntry("en-gb", "noun", "", "", "",
@@ -133,7 +73,7 @@ public class OnlineInputEngineTest {
     public void createHistoryEntryNewSearchFalse() {
         List<String> entryTrue = onlineInputEngine.createHistoryEntry("en-gb", "noun", "", "", null,
                 "", "", "", true);
-        onlineInputEngine.getHistory().add(entryTrue);
+        onlineInputEngine.getSession().addHistoryEntry(entryTrue, true);
 
         List<String> entryFalse = onlineInputEngine.createHistoryEntry("en-gb", "yo", "", "", null,
                 "", "", "", false);
@@ -144,14 +84,15 @@ public class OnlineInputEngineTest {
     public void createHistoryEntrySynonymOfFirstEntry() {
         List<String> entry1 = onlineInputEngine.createHistoryEntry("en-gb", "first", "", "", null,
                 "", "", "", true);
-        onlineInputEngine.getHistory().add(entry1);
+        onlineInputEngine.getSession().addHistoryEntry(entry1, true);
 
         List<String> entry2 = onlineInputEngine.createHistoryEntry("en-gb", "second", "", "", null,
                 "", "", "", true);
-        onlineInputEngine.getHistory().add(entry2);
+        onlineInputEngine.getSession().addHistoryEntry(entry2, true);
 
         assertThat(onlineInputEngine.getHistory().get(0), equalTo(entry1));
         assertThat(onlineInputEngine.getHistory().get(1), equalTo(entry2));
+        onlineInputEngine.setCurrentPageInd(0);
 
         List<String> entry3 = onlineInputEngine.createHistoryEntry("en-gb", "yo", "", "", null,
                 "", "", "", false);
@@ -182,7 +123,7 @@ public class OnlineInputEngineTest {
     @Test
     public void entrySearchValid() {
         List<String> sqlResponse = new ArrayList<>();
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -199,8 +140,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).addEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).addEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -210,7 +151,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, false, false, true, true);
@@ -222,7 +163,7 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -230,7 +171,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -247,8 +188,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).updateEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).updateEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -258,7 +199,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, false, false, false, false);
@@ -266,13 +207,192 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+    }
+
+    private List<String> createSupersetResponse() {
+        List<String> sqlResponse = new ArrayList<>();
+        sqlResponse.add("200");
+        sqlResponse.add("{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [" +
+                "{\"lexicalCategory\": {\"id\": \"noun\",\"text\": \"Noun\"}}," +
+                "{\"lexicalCategory\": {\"id\": \"verb\",\"text\": \"Verb\"}}]}]}");
+        return sqlResponse;
+    }
+
+    @Test
+    public void entrySearchDerivedFromSuperset() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace?lexicalCategory=verb")).thenReturn(new ArrayList<>());
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace")).thenReturn(createSupersetResponse());
+
+        List<String> actual = onlineInputEngine.entrySearch("en-gb", "ace", "", "", " Verb ",
+                "", "", "", true, false, false, true, true);
+        assertThat(actual.size(), equalTo(0));
+
+        RetrieveEntry retrieveEntry = onlineInputEngine.getRetrieveEntry();
+        assertThat(retrieveEntry.getResults().get(0).getLexicalEntries().size(), equalTo(1));
+        assertThat(retrieveEntry.getResults().get(0).getLexicalEntries().get(0).getLexicalCategory().getId(), equalTo("verb"));
+        assertThat(onlineInputEngine.getHistory().size(), equalTo(1));
+
+        verify(requestMock, times(0)).getRequest(anyString());
+        verify(sqlDatabaseMock, times(0)).addEntry(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    public void entrySearchDerivedNotDecided() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace?lexicalCategory=verb")).thenReturn(new ArrayList<>());
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace")).thenReturn(createSupersetResponse());
+
+        List<String> actual = onlineInputEngine.entrySearch("en-gb", "ace", "", "", "verb",
+                "", "", "", true, false, false, false, false);
+        assertThat(actual.size(), equalTo(1));
+        assertThat(actual.get(0), nullValue());
+        verify(requestMock, times(0)).getRequest(anyString());
+    }
+
+    @Test
+    public void entrySearchDerivedNoMatch() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace?lexicalCategory=adjective")).thenReturn(new ArrayList<>());
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace")).thenReturn(createSupersetResponse());
+
+        List<String> actual = onlineInputEngine.entrySearch("en-gb", "ace", "", "", "adjective",
+                "", "", "", true, false, false, true, true);
+        assertThat(actual, nullValue());
+
+        actual = onlineInputEngine.entrySearch("en-gb", "ace", "", "", "adjective",
+                "", "", "", true, false, true, true, true);
+        assertThat(actual.get(0), equalTo("404"));
+        verify(requestMock, times(0)).getRequest(anyString());
+    }
+
+    @Test
+    public void entrySearchDerivedNoUseCache() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace?lexicalCategory=verb")).thenReturn(new ArrayList<>());
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace")).thenReturn(createSupersetResponse());
+
+        List<String> response = new ArrayList<>();
+        response.add("200");
+        response.add("{\"id\": \"ace\"}");
+        when(requestMock.getRequest(anyString())).thenReturn(response);
+
+        List<String> actual = onlineInputEngine.entrySearch("en-gb", "ace", "", "", "verb",
+                "", "", "", true, false, false, true, false);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(onlineInputEngine.getRetrieveEntry().getResults(), nullValue());
+
+        verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/ace?lexicalCategory=verb");
+        verify(sqlDatabaseMock, times(1)).addEntry("entries/en-gb/ace?lexicalCategory=verb", "{\"id\": \"ace\"}", 200);
+        verify(sqlDatabaseMock, times(0)).updateEntry(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    public void entrySearchNoSupersetRequests() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+
+        List<String> response = new ArrayList<>();
+        response.add("200");
+        response.add("{\"id\": \"ace\"}");
+        when(requestMock.getRequest(anyString())).thenReturn(response);
+
+        List<String> actual = onlineInputEngine.entrySearch("en-gb", "ace", "", "", "verb",
+                "", "", "", true, false, false, false, false);
+        assertThat(actual.size(), equalTo(0));
+
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/ace");
+        verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/ace?lexicalCategory=verb");
+    }
+
+    private OnlineInputEngine createSnapshotEngine(SnapshotReader snapshotMock) {
+        return new OnlineInputEngine(requestMock, lemmaProcessorMock, sqlDatabaseMock, aboutDataMock,
+                mock(AudioCache.class), new PronunciationProcessor(), new EntryFilter(), snapshotMock);
+    }
+
+    @Test
+    public void entrySearchSnapshot() {
+        SnapshotReader snapshotMock = mock(SnapshotReader.class);
+        when(snapshotMock.getEntry("entries/en-gb/noun")).thenReturn(createResponse("200", "{\"id\": \"noun\"}"));
+        OnlineInputEngine engine = createSnapshotEngine(snapshotMock);
+
+        List<String> actual = engine.entrySearch("en-gb", "noun", "", "", "",
+                "", "", "", true, false, false, true, true);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(engine.getRetrieveEntry().getId(), equalTo("noun"));
+
+        verify(sqlDatabaseMock, times(0)).getEntry(anyString());
+        verify(requestMock, times(0)).getRequest(anyString());
+    }
+
+    @Test
+    public void entrySearchSnapshotMissingUsesDatabase() {
+        SnapshotReader snapshotMock = mock(SnapshotReader.class);
+        when(snapshotMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(createResponse("200", "{\"id\": \"noun\"}"));
+        OnlineInputEngine engine = createSnapshotEngine(snapshotMock);
+
+        List<String> actual = engine.entrySearch("en-gb", "noun", "", "", "",
+                "", "", "", true, false, false, true, true);
+        assertThat(actual.size(), equalTo(0));
+        verify(snapshotMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+    }
+
+    @Test
+    public void entrySearchSnapshotNoUseCache() {
+        SnapshotReader snapshotMock = mock(SnapshotReader.class);
+        when(snapshotMock.getEntry("entries/en-gb/noun")).thenReturn(createResponse("200", "{\"id\": \"noun\"}"));
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200", "{\"id\": \"new\"}"));
+        OnlineInputEngine engine = createSnapshotEngine(snapshotMock);
+
+        List<String> actual = engine.entrySearch("en-gb", "noun", "", "", "",
+                "", "", "", true, false, false, true, false);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(engine.getRetrieveEntry().getId(), equalTo("new"));
+
+        verify(sqlDatabaseMock, times(0)).addEntry(anyString(), anyString(), anyInt());
+        verify(sqlDatabaseMock, times(0)).updateEntry(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    public void entrySearchDerivedFromSnapshot() {
+        SnapshotReader snapshotMock = mock(SnapshotReader.class);
+        when(snapshotMock.getEntry("entries/en-gb/ace?lexicalCategory=verb")).thenReturn(new ArrayList<>());
+        when(snapshotMock.getEntry("entries/en-gb/ace")).thenReturn(createSupersetResponse());
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+        OnlineInputEngine engine = createSnapshotEngine(snapshotMock);
+
+        List<String> actual = engine.entrySearch("en-gb", "ace", "", "", "verb",
+                "", "", "", true, false, false, true, true);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(engine.getRetrieveEntry().getResults().get(0).getLexicalEntries().size(), equalTo(1));
+        verify(sqlDatabaseMock, times(0)).getEntry("entries/en-gb/ace");
+        verify(requestMock, times(0)).getRequest(anyString());
+    }
+
+    @Test
+    public void lemmaSearchSnapshotNoUseCache() {
+        SnapshotReader snapshotMock = mock(SnapshotReader.class);
+        when(snapshotMock.getLemma("lemmas/en/forehead")).thenReturn(createResponse("200", "{\"id\": \"forehead\"}"));
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200", "{\"id\": \"forehead\"}"));
+        OnlineInputEngine engine = createSnapshotEngine(snapshotMock);
+
+        List<String> actual = engine.lemmaSearch("en", "forehead", "", "", true, false);
+        assertThat(actual.size(), equalTo(0));
+
+        verify(sqlDatabaseMock, times(0)).getLemma(anyString());
+        verify(sqlDatabaseMock, times(0)).addLemma(anyString(), anyString(), anyInt());
+        verify(sqlDatabaseMock, times(0)).updateLemma(anyString(), anyString(), anyInt());
+    }
+
+    private List<String> createResponse(String code, String json) {
+        List<String> response = new ArrayList<>();
+        response.add(code);
+        response.add(json);
+        return response;
     }
 
     @Test
     public void entrySearchNull() {
         List<String> sqlResponse = new ArrayList<>();
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -289,8 +409,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).addEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).addEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -300,7 +420,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", null, "", null,
                 "", "", "", true, false, false, true, true);
@@ -312,7 +432,7 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -320,7 +440,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -337,8 +457,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).updateEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).updateEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -348,7 +468,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", null, "", null,
                 "", "", "", true, false, false, false, false);
@@ -356,13 +476,13 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
     public void entrySearchSpaces() {
         List<String> sqlResponse = new ArrayList<>();
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -379,8 +499,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).addEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).addEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -390,7 +510,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "  ", "  ", "",
                 " ", "", "", true, false, false, true, true);
@@ -402,7 +522,7 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -410,7 +530,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -427,8 +547,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).updateEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).updateEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -438,7 +558,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "  ", "  ", "",
                 " ", "", "", true, false, false, false, false);
@@ -446,13 +566,13 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
     public void entrySearchExceptionCaused() {
         List<String> sqlResponse = new ArrayList<>();
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("Caught some exception here");
@@ -465,14 +585,14 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
     public void entrySearchExceptionCausedCachedUseCache() {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("Caught some exception here");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, false, false, true, true);
@@ -481,14 +601,14 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
     public void entrySearchExceptionCausedCachedNoUseCache() {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("Caught some exception here");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -505,8 +625,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getMetadata().getSchema(), equalTo("entry"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).updateEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).updateEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -515,7 +635,7 @@ public class OnlineInputEngineTest {
     public void entrySearchExceptionCausedNotDecided() {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("Caught some exception here");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, false, false, false, false);
@@ -523,13 +643,13 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
     public void entrySearchResponseError() {
         List<String> sqlResponse = new ArrayList<>();
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("400");
@@ -544,8 +664,8 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).addEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).addEntry("entries/en-gb/noun",
                 "{\"error\": \"error body\"}",
                 400);
     }
@@ -555,7 +675,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("400");
         sqlResponse.add("{\"error\": \"error body\"}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, false, false, true, true);
@@ -565,7 +685,7 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -573,7 +693,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("400");
         sqlResponse.add("{\"error\": \"error body\"}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("400");
@@ -588,8 +708,8 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).updateEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).updateEntry("entries/en-gb/noun",
                 "{\"error\": \"error body\"}",
                 400);
     }
@@ -599,7 +719,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("400");
         sqlResponse.add("{\"error\": \"error body\"}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, false, false, false, false);
@@ -607,7 +727,7 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -623,8 +743,8 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).addEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).addEntry("entries/en-gb/noun",
                 "{\"error\": \"no entry found\"}",
                 404);
     }
@@ -634,7 +754,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("404");
         sqlResponse.add("{\"error\": \"no entry found\"}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, false, false, true, true);
@@ -642,7 +762,7 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -650,7 +770,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("404");
         sqlResponse.add("{\"error\": \"no entry found\"}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("404");
@@ -663,8 +783,8 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).updateEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).updateEntry("entries/en-gb/noun",
                 "{\"error\": \"no entry found\"}",
                 404);
     }
@@ -674,7 +794,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("404");
         sqlResponse.add("{\"error\": \"no entry found\"}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, false, false, false, false);
@@ -682,7 +802,7 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -699,8 +819,8 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(1), equalTo("no entry found"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).addEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).addEntry("entries/en-gb/noun",
                 "{\"error\": \"no entry found\"}",
                 404);
     }
@@ -710,7 +830,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("404");
         sqlResponse.add("{\"error\": \"no entry found\"}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, false, true, true, true);
@@ -719,7 +839,7 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(1), equalTo("no entry found"));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -727,7 +847,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("404");
         sqlResponse.add("{\"error\": \"no entry found\"}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("404");
@@ -741,8 +861,8 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(1), equalTo("no entry found"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).updateEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).updateEntry("entries/en-gb/noun",
                 "{\"error\": \"no entry found\"}",
                 404);
     }
@@ -752,7 +872,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("404");
         sqlResponse.add("{\"error\": \"no entry found\"}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, false, true, false, false);
@@ -760,7 +880,7 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -873,8 +993,8 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).addEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).addEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -884,7 +1004,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, true, false, true, true);
@@ -892,7 +1012,7 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -900,7 +1020,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -913,8 +1033,8 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).updateEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).updateEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -924,7 +1044,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", true, true, false, false, false);
@@ -932,7 +1052,7 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -949,8 +1069,8 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).addEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).addEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -960,7 +1080,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", false, true, false, true, true);
@@ -969,7 +1089,7 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -977,7 +1097,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -991,8 +1111,8 @@ public class OnlineInputEngineTest {
         assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).updateEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun",
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).updateEntry("entries/en-gb/noun",
                 "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}",
                 200);
     }
@@ -1002,7 +1122,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}");
-        when(sqlDatabaseMock.getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getEntry("entries/en-gb/noun")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.entrySearch("en-gb", "noun", "", "", "",
                 "", "", "", false, true, false, false, false);
@@ -1010,7 +1130,7 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
-        verify(sqlDatabaseMock, times(1)).getEntry("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun");
+        verify(sqlDatabaseMock, times(1)).getEntry("entries/en-gb/noun");
     }
 
     @Test
@@ -1175,7 +1295,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", "", "", true, true);
         assertThat(actual.size(), equalTo(0));
@@ -1184,7 +1304,7 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getResults().get(0).getId(), equalTo("forehead"));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1192,7 +1312,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -1206,8 +1326,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getResults().get(0).getId(), equalTo("forehead"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).updateLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead",
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).updateLemma("lemmas/en/forehead",
                 "{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}",
                 200);
     }
@@ -1217,14 +1337,14 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", "", "", false, false);
         assertThat(actual.size(), equalTo(1));
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1248,7 +1368,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", null, null, true, true);
         assertThat(actual.size(), equalTo(0));
@@ -1257,7 +1377,7 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getResults().get(0).getId(), equalTo("forehead"));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1265,7 +1385,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -1279,8 +1399,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getResults().get(0).getId(), equalTo("forehead"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).updateLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead",
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).updateLemma("lemmas/en/forehead",
                 "{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}",
                 200);
     }
@@ -1290,14 +1410,14 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", null, null, false, false);
         assertThat(actual.size(), equalTo(1));
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1321,7 +1441,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", "  ", " ", true, true);
         assertThat(actual.size(), equalTo(0));
@@ -1330,7 +1450,7 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getResults().get(0).getId(), equalTo("forehead"));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1338,7 +1458,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -1352,8 +1472,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getResults().get(0).getId(), equalTo("forehead"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).updateLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead",
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).updateLemma("lemmas/en/forehead",
                 "{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}",
                 200);
     }
@@ -1363,14 +1483,14 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("200");
         sqlResponse.add("{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", "  ", " ", false, false);
         assertThat(actual.size(), equalTo(1));
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1390,21 +1510,21 @@ public class OnlineInputEngineTest {
     public void lemmaSearchExceptionCausedCachedUseCache() {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("Exception caught somewhere here");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", "", "", true, true);
         assertThat(actual.size(), equalTo(1));
         assertThat(actual.get(0), equalTo("Exception caught somewhere here"));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
     public void lemmaSearchExceptionCausedCachedNoUseCache() {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("Exception caught somewhere here");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("200");
@@ -1418,8 +1538,8 @@ public class OnlineInputEngineTest {
         assertThat(retrieveEntry.getResults().get(0).getId(), equalTo("forehead"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).updateLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead",
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).updateLemma("lemmas/en/forehead",
                 "{\"metadata\": {\"provider\": \"Oxford\"},\"results\": [{\"id\": \"forehead\",\"language\": \"en\"}]}",
                 200);
     }
@@ -1428,14 +1548,14 @@ public class OnlineInputEngineTest {
     public void lemmaSearchExceptionCausedCachedNotDecided() {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("Exception caught somewhere here");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", "", "", false, false);
         assertThat(actual.size(), equalTo(1));
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1458,7 +1578,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("400");
         sqlResponse.add("{\"error\": \"no lemmas found\"}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", "", "", true, true);
         assertThat(actual.size(), equalTo(2));
@@ -1466,7 +1586,7 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(1), equalTo("no lemmas found"));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1474,7 +1594,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("400");
         sqlResponse.add("{\"error\": \"no lemmas found\"}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("400");
@@ -1487,8 +1607,8 @@ public class OnlineInputEngineTest {
         assertThat(actual.get(1), equalTo("no lemmas found"));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).updateLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead",
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).updateLemma("lemmas/en/forehead",
                 "{\"error\": \"no lemmas found\"}",
                 400);
     }
@@ -1498,14 +1618,14 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("400");
         sqlResponse.add("{\"error\": \"no lemmas found\"}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", "", "", false, false);
         assertThat(actual.size(), equalTo(1));
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1526,13 +1646,13 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("404");
         sqlResponse.add("{\"error\": \"no lemmas found\"}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", "", "", true, true);
         assertThat(actual, is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1540,7 +1660,7 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("404");
         sqlResponse.add("{\"error\": \"no lemmas found\"}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> response = new ArrayList<>();
         response.add("404");
@@ -1551,8 +1671,8 @@ public class OnlineInputEngineTest {
         assertThat(actual, is(nullValue()));
 
         verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).updateLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead",
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).updateLemma("lemmas/en/forehead",
                 "{\"error\": \"no lemmas found\"}",
                 404);
     }
@@ -1562,14 +1682,14 @@ public class OnlineInputEngineTest {
         List<String> sqlResponse = new ArrayList<>();
         sqlResponse.add("404");
         sqlResponse.add("{\"error\": \"no lemmas found\"}");
-        when(sqlDatabaseMock.getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead")).thenReturn(sqlResponse);
+        when(sqlDatabaseMock.getLemma("lemmas/en/forehead")).thenReturn(sqlResponse);
 
         List<String> actual = onlineInputEngine.lemmaSearch("en", "forehead", "", "", false, false);
         assertThat(actual.size(), equalTo(1));
         assertThat(actual.get(0), is(nullValue()));
 
         verify(requestMock, times(0)).getRequest("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
-        verify(sqlDatabaseMock, times(1)).getLemma("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead");
+        verify(sqlDatabaseMock, times(1)).getLemma("lemmas/en/forehead");
     }
 
     @Test
@@ -1689,5 +1809,56 @@ public class OnlineInputEngineTest {
         assertThat(pronunciations.get(0).get(1), equalTo("https://audio.oxforddictionaries.com/en/mp3/noun_gb_1.mp3"));
     }
 
+    @Test
+    public void detailSearchValid() {
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace?fields=definitions,pronunciations")).thenReturn(new ArrayList<>());
+        when(sqlDatabaseMock.getEntry("entries/en-gb/ace")).thenReturn(new ArrayList<>());
+        List<String> previewResponse = new ArrayList<>();
+        previewResponse.add("200");
+        previewResponse.add("{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{\"entries\": [{\"senses\": [{\"id\": \"s1\",\"definitions\": [\"an expert\"]}]}]}]}]}");
+        List<String> detailsResponse = new ArrayList<>();
+        detailsResponse.add("200");
+        detailsResponse.add("{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{\"entries\": [{\"etymologies\": [\"from Latin\"],\"senses\": [{\"id\": \"s1\",\"examples\": [{\"text\": \"a flying ace\"}]}]}]}]}]}");
+        when(requestMock.getRequest(anyString())).thenReturn(previewResponse).thenReturn(detailsResponse);
 
+        List<String> actual = onlineInputEngine.entrySearch("en-gb", "ace", "definitions,pronunciations", "", "",
+                "", "", "", true, false, false, false, false);
+        assertThat(actual.size(), equalTo(0));
+        actual = onlineInputEngine.detailSearch(onlineInputEngine.getRetrieveEntry(), "en-gb", "ace", "", "", "", "", "");
+        assertThat(actual.size(), equalTo(0));
+
+        RetrieveEntry retrieveEntry = onlineInputEngine.getRetrieveEntry();
+        assertThat(retrieveEntry.getResults().get(0).getLexicalEntries().get(0).getEntries().get(0).getEtymologies().get(0),
+                equalTo("from Latin"));
+        assertThat(onlineInputEngine.getHistory().size(), equalTo(1));
+        assertThat(onlineInputEngine.getHistory().get(0).get(2), equalTo("definitions,pronunciations"));
+        verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/ace?fields=definitions,pronunciations");
+        verify(requestMock, times(1)).getRequest("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/ace");
+    }
+
+    @Test
+    public void detailSearchAfterAnotherEntry() {
+        when(sqlDatabaseMock.getEntry(anyString())).thenReturn(new ArrayList<>());
+        List<String> detailsResponse = new ArrayList<>();
+        detailsResponse.add("200");
+        detailsResponse.add("{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{\"entries\": [{\"etymologies\": [\"from Latin\"]}]}]}]}");
+        when(requestMock.getRequest(anyString())).thenReturn(detailsResponse);
+        RetrieveEntry preview = mock(RetrieveEntry.class);
+        RetrieveEntry other = mock(RetrieveEntry.class);
+        onlineInputEngine.setRetrieveEntry(other);
+
+        List<String> actual = onlineInputEngine.detailSearch(preview, "en-gb", "ace", "", "", "", "", "");
+        assertThat(actual.size(), equalTo(0));
+        assertThat(onlineInputEngine.getRetrieveEntry(), is(other));
+    }
+
+    @Test
+    public void setRetrieveEntryWithoutSearch() {
+        RetrieveEntry retrieveEntry = mock(RetrieveEntry.class);
+        onlineInputEngine.setRetrieveEntry(retrieveEntry);
+
+        assertThat(onlineInputEngine.getRetrieveEntry(), is(retrieveEntry));
+        assertThat(onlineInputEngine.getHistory().size(), equalTo(0));
+        verifyNoInteractions(requestMock);
+    }
 }
@@ -0,0 +1,56 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.DummyAPI;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class PronunciationProcessorTest {
+    private PronunciationProcessor pronunciationProcessor;
+
+    @BeforeEach
+    public void setup() {
+        this.pronunciationProcessor = new PronunciationProcessor();
+    }
+
+    @Test
+    public void createDataEntryPronunciation() {
+        Gson gson = new Gson();
+        RetrieveEntry retrieveEntry = gson.fromJson(new DummyAPI().getEntrySearchJSON(), RetrieveEntry.class);
+        List<String> actual = pronunciationProcessor.createData(retrieveEntry);
+
+        assertThat(actual.size(), equalTo(1));
+        assertThat(actual.get(0), equalTo("https://audio.oxforddictionaries.com/en/mp3/noun_gb_1.mp3"));
+    }
+
+    @Test
+    public void createDataDuplicatePronunciations() {
+        String json = "{\"results\": [{\"id\": \"ace\",\"pronunciations\": [{\"audioFile\": \"a.mp3\"}],\"lexicalEntries\": [" +
+                "{\"pronunciations\": [{\"audioFile\": \"a.mp3\"},{\"audioFile\": \"b.mp3\"}],\"entries\": [{\"senses\": [" +
+                "{\"subsenses\": [{\"pronunciations\": [{\"audioFile\": \"c.mp3\"},{\"phoneticSpelling\": \"eɪs\"}]}]}]}]}]}]}";
+        Gson gson = new Gson();
+        RetrieveEntry retrieveEntry = gson.fromJson(json, RetrieveEntry.class);
+        List<String> actual = pronunciationProcessor.createData(retrieveEntry);
+
+        assertThat(actual.size(), equalTo(3));
+        assertThat(actual.get(0), equalTo("a.mp3"));
+        assertThat(actual.get(1), equalTo("b.mp3"));
+        assertThat(actual.get(2), equalTo("c.mp3"));
+    }
+
+    @Test
+    public void createDataNoResults() {
+        String json = "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}";
+        Gson gson = new Gson();
+        RetrieveEntry retrieveEntry = gson.fromJson(json, RetrieveEntry.class);
+        List<String> actual = pronunciationProcessor.createData(retrieveEntry);
+
+        assertThat(actual.size(), equalTo(0));
+    }
+}
@@ -0,0 +1,54 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class RelatedWordProcessorTest {
+    private RelatedWordProcessor relatedWordProcessor;
+
+    @BeforeEach
+    public void setup() {
+        this.relatedWordProcessor = new RelatedWordProcessor();
+    }
+
+    @Test
+    public void createData() {
+        String json = "{\"id\": \"ace\",\"results\": [{\"id\": \"ace\",\"lexicalEntries\": [{" +
+                "\"derivatives\": [{\"id\": \"aceness\",\"text\": \"aceness\"}]," +
+                "\"phrases\": [{\"id\": \"ace in the hole\",\"text\": \"ace in the hole\"}]," +
+                "\"entries\": [{\"crossReferences\": [{\"id\": \"ace of spades\",\"text\": \"ace of spades\"}]," +
+                "\"senses\": [{\"synonyms\": [{\"id\": \"expert\",\"text\": \"expert\"},{\"text\": \"master\"}]," +
+                "\"antonyms\": [{\"id\": \"amateur\",\"text\": \"amateur\"}]," +
+                "\"thesaurusLinks\": [{\"entry_id\": \"ace\",\"sense_id\": \"t1\"},{\"entry_id\": \"champion\",\"sense_id\": \"t2\"}]," +
+                "\"subsenses\": [{\"synonyms\": [{\"id\": \"expert\",\"text\": \"expert\"},{\"id\": \"star\",\"text\": \"star\"}]}]" +
+                "}]}]}]}]}";
+        RetrieveEntry retrieveEntry = new Gson().fromJson(json, RetrieveEntry.class);
+        List<List<String>> actual = relatedWordProcessor.createData(retrieveEntry);
+
+        assertThat(actual, equalTo(List.of(
+                List.of("derivative", "aceness"),
+                List.of("phrase", "ace in the hole"),
+                List.of("crossReference", "ace of spades"),
+                List.of("synonym", "expert"),
+                List.of("synonym", "master"),
+                List.of("antonym", "amateur"),
+                List.of("thesaurus", "champion"),
+                List.of("synonym", "star"))));
+    }
+
+    @Test
+    public void createDataNoResults() {
+        String json = "{\"id\": \"noun\",\"metadata\": {\"operation\": \"retrieve\",\"provider\": \"Oxford University Press\",\"schema\": \"entry\"}}";
+        RetrieveEntry retrieveEntry = new Gson().fromJson(json, RetrieveEntry.class);
+
+        assertThat(relatedWordProcessor.createData(retrieveEntry).size(), equalTo(0));
+        assertThat(relatedWordProcessor.createData(null).size(), equalTo(0));
+    }
+}
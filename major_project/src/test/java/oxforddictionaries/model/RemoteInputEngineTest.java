@@ -0,0 +1,154 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class RemoteInputEngineTest {
+    private RemoteInputEngine remoteInputEngine;
+    private Request requestMock;
+
+    @BeforeEach
+    public void setup() {
+        this.requestMock = mock(Request.class);
+        this.remoteInputEngine = new RemoteInputEngine(requestMock, "http://localhost:8765/", mock(LemmaProcessor.class),
+                mock(AboutData.class));
+    }
+
+    private List<String> createResponse(String code, String json) {
+        List<String> response = new ArrayList<>();
+        response.add(code);
+        response.add(json);
+        return response;
+    }
+
+    @Test
+    public void entrySearchValid() {
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200",
+                "{\"response\": [], \"retrieveEntry\": {\"id\": \"noun\"}}"));
+
+        List<String> actual = remoteInputEngine.entrySearch("en-gb", "noun", null, "", null,
+                null, null, null, true, false, false, true, false);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(remoteInputEngine.getRetrieveEntry().getId(), equalTo("noun"));
+        assertThat(remoteInputEngine.getHistory().size(), equalTo(1));
+        assertThat(remoteInputEngine.getHistory().get(0).get(1), equalTo("noun"));
+
+        verify(requestMock, times(1)).getRequest("http://localhost:8765/entries?lang=en-gb&word=noun&gramFeat="
+                + "&lemma=false&cacheDecided=true&useCache=false");
+    }
+
+    @Test
+    public void entrySearchCacheNotDecided() {
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200", "{\"response\": [null]}"));
+
+        List<String> actual = remoteInputEngine.entrySearch("en-gb", "noun", null, null, null,
+                null, null, null, true, false, false, false, false);
+        assertThat(actual.size(), equalTo(1));
+        assertThat(actual.get(0), nullValue());
+        assertThat(remoteInputEngine.getHistory().size(), equalTo(0));
+    }
+
+    @Test
+    public void entrySearchNotFound() {
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200", "{}"));
+
+        List<String> actual = remoteInputEngine.entrySearch("en-gb", "noun", null, null, null,
+                null, null, null, true, false, false, true, true);
+        assertThat(actual, nullValue());
+        assertThat(remoteInputEngine.getRetrieveEntry(), nullValue());
+    }
+
+    @Test
+    public void entrySearchServerError() {
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("400", "{\"error\": \"lang and word are required\"}"));
+
+        List<String> actual = remoteInputEngine.entrySearch("en-gb", "noun", null, null, null,
+                null, null, null, true, false, false, true, true);
+        assertThat(actual, equalTo(List.of("400", "lang and word are required")));
+    }
+
+    @Test
+    public void entrySearchServerUnreachable() {
+        List<String> response = new ArrayList<>();
+        response.add("Connection refused");
+        when(requestMock.getRequest(anyString())).thenReturn(response);
+
+        List<String> actual = remoteInputEngine.entrySearch("en-gb", "noun", null, null, null,
+                null, null, null, true, false, false, true, true);
+        assertThat(actual, equalTo(List.of("Connection refused")));
+    }
+
+    @Test
+    public void entrySearchInvalidResponse() {
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200", "not json"));
+
+        List<String> actual = remoteInputEngine.entrySearch("en-gb", "noun", null, null, null,
+                null, null, null, true, false, false, true, true);
+        assertThat(actual, equalTo(List.of("Invalid response from the dictionary server")));
+    }
+
+    @Test
+    public void lemmaSearchValid() {
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200",
+                "{\"response\": [], \"retrieveEntry\": {\"id\": \"nouns\"}}"));
+
+        List<String> actual = remoteInputEngine.lemmaSearch("en-gb", "nouns", null, null, true, true);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(remoteInputEngine.getRetrieveEntry().getId(), equalTo("nouns"));
+        assertThat(remoteInputEngine.getHistory().size(), equalTo(0));
+        verify(requestMock, times(1)).getRequest("http://localhost:8765/lemmas?lang=en-gb&word=nouns"
+                + "&cacheDecided=true&useCache=true");
+    }
+
+    @Test
+    public void createQueryEncoded() {
+        assertThat(RemoteInputEngine.createQuery("word", "ice cream", "field", null, "match", "a&b=c"),
+                equalTo("word=ice+cream&match=a%26b%3Dc"));
+    }
+
+    @Test
+    public void clearCacheNotAllowed() {
+        assertThat(remoteInputEngine.clearCache(), equalTo("The dictionary cache is shared by the server and can't be cleared."));
+    }
+
+    @Test
+    public void getAudioUriStreamed() {
+        assertThat(remoteInputEngine.getAudioUri("https://audio/ace.mp3"), equalTo("https://audio/ace.mp3"));
+    }
+
+    @Test
+    public void detailSearchValid() {
+        when(requestMock.getRequest(anyString()))
+                .thenReturn(createResponse("200", "{\"response\": [], \"retrieveEntry\": {\"id\": \"ace\", \"word\": \"ace\"}}"))
+                .thenReturn(createResponse("200", "{\"response\": [], \"retrieveEntry\": {\"id\": \"ace\", \"metadata\": {\"schema\": \"entry\"}}}"));
+
+        remoteInputEngine.entrySearch("en-gb", "ace", "definitions,pronunciations", null, null,
+                null, null, null, true, false, false, true, true);
+        List<String> actual = remoteInputEngine.detailSearch(remoteInputEngine.getRetrieveEntry(), "en-gb", "ace", null,
+                null, null, null, null);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(remoteInputEngine.getRetrieveEntry().getWord(), equalTo("ace"));
+        assertThat(remoteInputEngine.getRetrieveEntry().getMetadata().getSchema(), equalTo("entry"));
+
+        verify(requestMock, times(1)).getRequest("http://localhost:8765/entries?lang=en-gb&word=ace"
+                + "&cacheDecided=true&useCache=true");
+    }
+
+    @Test
+    public void detailSearchNotFound() {
+        when(requestMock.getRequest(anyString())).thenReturn(createResponse("200", "{}"));
+
+        List<String> actual = remoteInputEngine.detailSearch(null, "en-gb", "ace", null, null, null, null, null);
+        assertThat(actual, equalTo(List.of("No details were found for the entry.")));
+    }
+}
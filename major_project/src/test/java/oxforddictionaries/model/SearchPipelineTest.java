@@ -0,0 +1,231 @@
+package oxforddictionaries.model;
+
+import com.google.gson.Gson;
+import oxforddictionaries.model.request.DummyAPI;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+public class SearchPipelineTest {
+    private InputEngine inputEngineMock;
+    private SearchPipeline pipeline;
+    private BlockingQueue<SearchUpdate> updates;
+
+    @BeforeEach
+    public void setup() {
+        this.inputEngineMock = mock(InputEngine.class);
+        this.updates = new LinkedBlockingQueue<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (pipeline != null) {
+            pipeline.close();
+        }
+    }
+
+    private void createPipeline(InputEngine inputEngine) {
+        this.pipeline = new SearchPipeline(inputEngine, 200);
+        pipeline.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(SearchUpdate update) {
+                updates.add(update);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+    }
+
+    private SearchPipeline.SearchInput createInput(String word) {
+        return new SearchPipeline.SearchInput("en-gb", word, "", "", "", "", "", "");
+    }
+
+    private RetrieveEntry createEntry(String id) {
+        return new Gson().fromJson("{\"id\": \"" + id + "\"}", RetrieveEntry.class);
+    }
+
+    @Test
+    public void cachedNotRequested() throws InterruptedException {
+        when(inputEngineMock.cachedSearch(any())).thenReturn(new LookupResult(new ArrayList<>(), createEntry("cached")));
+        when(inputEngineMock.freshSearch(any(), anyBoolean())).thenReturn(new LookupResult(new ArrayList<>(), createEntry("fresh")));
+        createPipeline(inputEngineMock);
+
+        pipeline.submit(createInput("noun"));
+        SearchUpdate update = updates.poll(2, TimeUnit.SECONDS);
+
+        assertThat(update.getSource(), equalTo(SearchUpdate.cacheSource));
+        assertThat(update.getRetrieveEntry().getId(), equalTo("cached"));
+        assertThat(updates.poll(300, TimeUnit.MILLISECONDS), nullValue());
+        verify(inputEngineMock, never()).freshSearch(any(), anyBoolean());
+    }
+
+    @Test
+    public void cachedNotFoundNotRequested() throws InterruptedException {
+        when(inputEngineMock.cachedSearch(any())).thenReturn(new LookupResult(null, null));
+        createPipeline(inputEngineMock);
+
+        pipeline.submit(createInput("nouns"));
+        SearchUpdate update = updates.poll(2, TimeUnit.SECONDS);
+
+        assertThat(update.getSource(), equalTo(SearchUpdate.cacheSource));
+        assertThat(update.getErrors().get(0), equalTo("No entry was found for nouns"));
+        verify(inputEngineMock, never()).freshSearch(any(), anyBoolean());
+    }
+
+    @Test
+    public void shortWordNotRequested() throws InterruptedException {
+        when(inputEngineMock.cachedSearch(any())).thenReturn(new LookupResult(new ArrayList<>(), null));
+        createPipeline(inputEngineMock);
+
+        pipeline.submit(createInput("no"));
+
+        assertThat(updates.poll(500, TimeUnit.MILLISECONDS), nullValue());
+        verify(inputEngineMock, times(1)).cachedSearch(any());
+        verify(inputEngineMock, never()).freshSearch(any(), anyBoolean());
+    }
+
+    @Test
+    public void debouncedToLastInput() throws InterruptedException {
+        when(inputEngineMock.cachedSearch(any())).thenReturn(new LookupResult(new ArrayList<>(), null));
+        when(inputEngineMock.freshSearch(any(), anyBoolean())).thenReturn(new LookupResult(new ArrayList<>(), createEntry("noun")));
+        createPipeline(inputEngineMock);
+
+        pipeline.submit(createInput("n"));
+        pipeline.submit(createInput("no"));
+        pipeline.submit(createInput("noun "));
+        SearchUpdate update = updates.poll(2, TimeUnit.SECONDS);
+
+        assertThat(update.getQueryKey().getWord(), equalTo("noun"));
+        assertThat(update.getSource(), equalTo(SearchUpdate.networkSource));
+        assertThat(updates.poll(300, TimeUnit.MILLISECONDS), nullValue());
+        verify(inputEngineMock, times(1)).cachedSearch(any());
+        verify(inputEngineMock, times(1)).freshSearch(QueryKey.entries("en-gb", "noun", "", "", "", "", "", ""), false);
+    }
+
+    @Test
+    public void memoryAfterFirstSearch() throws InterruptedException {
+        when(inputEngineMock.cachedSearch(any())).thenReturn(new LookupResult(new ArrayList<>(), null));
+        when(inputEngineMock.freshSearch(any(), anyBoolean())).thenReturn(new LookupResult(new ArrayList<>(), createEntry("noun")));
+        createPipeline(inputEngineMock);
+
+        pipeline.submit(createInput("noun"));
+        updates.poll(2, TimeUnit.SECONDS);
+        pipeline.submit(createInput("word"));
+        updates.poll(2, TimeUnit.SECONDS);
+        pipeline.submit(createInput("noun"));
+        SearchUpdate update = updates.poll(2, TimeUnit.SECONDS);
+
+        assertThat(update.getSource(), equalTo(SearchUpdate.memorySource));
+        assertThat(update.getRetrieveEntry().getId(), equalTo("noun"));
+        verify(inputEngineMock, times(2)).cachedSearch(any());
+    }
+
+    @Test
+    public void clearMemory() throws InterruptedException {
+        when(inputEngineMock.cachedSearch(any())).thenReturn(new LookupResult(new ArrayList<>(), createEntry("noun")));
+        createPipeline(inputEngineMock);
+
+        pipeline.submit(createInput("noun"));
+        updates.poll(2, TimeUnit.SECONDS);
+        pipeline.clearMemory();
+        pipeline.submit(createInput("noun"));
+        SearchUpdate update = updates.poll(2, TimeUnit.SECONDS);
+
+        assertThat(update.getSource(), equalTo(SearchUpdate.cacheSource));
+        verify(inputEngineMock, times(2)).cachedSearch(any());
+    }
+
+    @Test
+    public void notFound() throws InterruptedException {
+        when(inputEngineMock.cachedSearch(any())).thenReturn(new LookupResult(new ArrayList<>(), null));
+        when(inputEngineMock.freshSearch(any(), anyBoolean())).thenReturn(new LookupResult(null, null));
+        createPipeline(inputEngineMock);
+
+        pipeline.submit(createInput("nouns"));
+        SearchUpdate update = updates.poll(2, TimeUnit.SECONDS);
+
+        assertThat(update.getRetrieveEntry(), nullValue());
+        assertThat(update.getErrors().get(0), equalTo("No entry was found for nouns"));
+    }
+
+    @Test
+    public void newSearchCancels() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        when(inputEngineMock.cachedSearch(any())).thenReturn(new LookupResult(new ArrayList<>(), null));
+        when(inputEngineMock.freshSearch(any(), anyBoolean())).thenAnswer((invocation) -> {
+            QueryKey queryKey = invocation.getArgument(0);
+            if (queryKey.getWord().equals("nou")) {
+                started.countDown();
+                Thread.sleep(500);
+            }
+            return new LookupResult(new ArrayList<>(), createEntry(queryKey.getWord()));
+        });
+        createPipeline(inputEngineMock);
+
+        pipeline.submit(createInput("nou"));
+        assertThat(started.await(2, TimeUnit.SECONDS), equalTo(true));
+        pipeline.submit(createInput("noun"));
+        SearchUpdate update = updates.poll(2, TimeUnit.SECONDS);
+
+        assertThat(update.getRetrieveEntry().getId(), equalTo("noun"));
+        assertThat(updates.poll(700, TimeUnit.MILLISECONDS), nullValue());
+    }
+
+    @Test
+    public void blankWordCancels() throws InterruptedException {
+        when(inputEngineMock.cachedSearch(any())).thenReturn(new LookupResult(new ArrayList<>(), null));
+        when(inputEngineMock.freshSearch(any(), anyBoolean())).thenReturn(new LookupResult(new ArrayList<>(), createEntry("noun")));
+        createPipeline(inputEngineMock);
+
+        pipeline.submit(createInput("noun"));
+        pipeline.submit(createInput(" "));
+
+        assertThat(updates.poll(300, TimeUnit.MILLISECONDS), nullValue());
+        verify(inputEngineMock, never()).cachedSearch(any());
+    }
+
+    @Test
+    public void offlineEngine() throws InterruptedException {
+        DummyAPI dummyAPIMock = mock(DummyAPI.class);
+        when(dummyAPIMock.getEntrySearchJSON()).thenReturn("{\"id\": \"noun\"}");
+        createPipeline(new OfflineInputEngine(dummyAPIMock, mock(LemmaProcessor.class), mock(AboutData.class)));
+
+        pipeline.submit(createInput("noun"));
+        SearchUpdate update = updates.poll(3, TimeUnit.SECONDS);
+
+        assertThat(update.getSource(), equalTo(SearchUpdate.networkSource));
+        assertThat(update.getRetrieveEntry().getId(), equalTo("noun"));
+    }
+}
@@ -0,0 +1,152 @@
+package oxforddictionaries.model;
+
+import oxforddictionaries.model.request.HistoryStore;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SearchSessionTest {
+    private SearchSession session;
+
+    @BeforeEach
+    public void setup() {
+        this.session = new SearchSession();
+    }
+
+    @Test
+    public void showEntryAddsHistory() {
+        RetrieveEntry entry = mock(RetrieveEntry.class);
+        session.showEntry(entry, false, "en-gb", "noun", null, null, null, null, null, null, true);
+
+        assertThat(session.getRetrieveEntry(), sameInstance(entry));
+        assertThat(session.getHistory().size(), equalTo(1));
+        assertThat(session.getHistory().get(0).get(1), equalTo("noun"));
+        assertThat(session.getHistory().get(0).get(8), equalTo("Searched"));
+        assertThat(session.getCurrentPageInd(), equalTo(0));
+    }
+
+    @Test
+    public void showEntryHistorySearch() {
+        RetrieveEntry entry = mock(RetrieveEntry.class);
+        session.showEntry(entry, true, "en-gb", "noun", null, null, null, null, null, null, true);
+
+        assertThat(session.getRetrieveEntry(), sameInstance(entry));
+        assertThat(session.getHistory().size(), equalTo(0));
+    }
+
+    @Test
+    public void showEntryNotNewSearchMovesCurrent() {
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "first", null, null, null, null, null, null, true);
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "second", null, null, null, null, null, null, true);
+        session.setCurrentPageInd(0);
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "synonym", null, null, null, null, null, null, false);
+
+        List<List<String>> history = session.getHistory();
+        assertThat(history.size(), equalTo(3));
+        assertThat(history.get(0).get(1), equalTo("second"));
+        assertThat(history.get(1).get(1), equalTo("first"));
+        assertThat(history.get(2).get(1), equalTo("synonym"));
+        assertThat(history.get(2).get(8), equalTo("Synonym/Antonym of first"));
+        assertThat(session.getCurrentPageInd(), equalTo(2));
+    }
+
+    @Test
+    public void historyStoreSameOrder() {
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "first", null, null, null, null, null, null, true);
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "second", null, null, null, null, null, null, true);
+        session.setCurrentPageInd(0);
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "synonym", null, null, null, null, null, null, false);
+
+        List<HistoryStore.Row> rows = session.getHistoryStore().getPage("", 0, 10);
+        assertThat(rows.size(), equalTo(3));
+        for (int i = 0; i < rows.size(); i++) {
+            assertThat(rows.get(i).getEntry(), equalTo(session.getHistory().get(i)));
+            assertThat(session.getHistoryStore().indexOf(rows.get(i).getSeq()), equalTo(i));
+        }
+    }
+
+    @Test
+    public void historyStoreErrorThenNotNewSearch() {
+        HistoryStore storeMock = mock(HistoryStore.class);
+        when(storeMock.add(any())).thenReturn("database is locked");
+        when(storeMock.moveToEnd(anyLong())).thenReturn("database is locked");
+        when(storeMock.get(anyLong())).thenReturn(null);
+        this.session = new SearchSession(storeMock);
+
+        assertThat(session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "first", null, null, null, null, null,
+                null, true), equalTo("database is locked"));
+        assertThat(session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "synonym", null, null, null, null, null,
+                null, false), equalTo("database is locked"));
+        verify(storeMock, times(2)).add(any());
+        verify(storeMock, never()).replace(any());
+    }
+
+    @Test
+    public void lastEntryFromStore() {
+        assertThat(session.getLastEntry(), nullValue());
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "first", null, null, null, null, null, null, true);
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "second", null, null, null, null, null, null, true);
+        session.setCurrentSeq(session.getHistoryStore().getPage("", 0, 1).get(0).getSeq());
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "synonym", null, null, null, null, null, null, false);
+
+        assertThat(session.getLastEntry().get(1), equalTo("synonym"));
+        assertThat(session.getLastEntry().get(8), equalTo("Synonym/Antonym of first"));
+        assertThat(session.getCurrentPageInd(), equalTo(2));
+    }
+
+    @Test
+    public void historySnapshotUnchanged() {
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "first", null, null, null, null, null, null, true);
+        List<List<String>> history = session.getHistory();
+
+        session.showEntry(mock(RetrieveEntry.class), false, "en-gb", "second", null, null, null, null, null, null, true);
+        assertThat(history.size(), equalTo(1));
+        assertThat(session.getHistory().size(), equalTo(2));
+        assertThrows(UnsupportedOperationException.class, () -> history.add(List.of()));
+        assertThrows(UnsupportedOperationException.class, () -> history.get(0).set(1, "changed"));
+    }
+
+    @Test
+    public void replaceRetrieveEntryOnlyIfExpected() {
+        RetrieveEntry preview = mock(RetrieveEntry.class);
+        RetrieveEntry other = mock(RetrieveEntry.class);
+        RetrieveEntry merged = mock(RetrieveEntry.class);
+        session.setRetrieveEntry(preview);
+
+        assertThat(session.replaceRetrieveEntry(preview, merged), is(true));
+        assertThat(session.getRetrieveEntry(), sameInstance(merged));
+
+        session.setRetrieveEntry(other);
+        assertThat(session.replaceRetrieveEntry(preview, merged), is(false));
+        assertThat(session.getRetrieveEntry(), sameInstance(other));
+    }
+
+    @Test
+    public void pronunciations() {
+        assertThat(session.addPronunciation(null, "uri"), is(true));
+        assertThat(session.addPronunciation("id", "uri"), is(false));
+        List<List<String>> pronunciations = session.getPronunciations();
+        assertThat(pronunciations.get(0), equalTo(List.of("-", "uri")));
+
+        assertThat(session.removePronunciation("uri"), is(true));
+        assertThat(session.removePronunciation("uri"), is(false));
+        assertThat(session.getPronunciations().size(), equalTo(0));
+        assertThat(pronunciations.size(), equalTo(1));
+    }
+}
@@ -0,0 +1,76 @@
+package oxforddictionaries.model.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class HistogramTest {
+    private Histogram histogram;
+
+    @BeforeEach
+    public void setup() {
+        this.histogram = new Histogram();
+    }
+
+    @Test
+    public void emptyHistogram() {
+        assertThat(histogram.getCount(), equalTo(0L));
+        assertThat(histogram.getMean(), equalTo(0.0));
+        assertThat(histogram.getPercentile(0.99), equalTo(0L));
+    }
+
+    @Test
+    public void recordCountSumMax() {
+        histogram.record(10);
+        histogram.record(30);
+        histogram.record(-5);
+
+        assertThat(histogram.getCount(), equalTo(3L));
+        assertThat(histogram.getSum(), equalTo(40L));
+        assertThat(histogram.getMax(), equalTo(30L));
+        assertThat(histogram.getMean(), closeTo(40.0 / 3, 0.0001));
+    }
+
+    @Test
+    public void percentileWithinBucketError() {
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+
+        assertThat((double) histogram.getPercentile(0.5), closeTo(500_000, 500_000 * 0.125));
+        assertThat((double) histogram.getPercentile(0.99), closeTo(990_000, 990_000 * 0.125));
+        assertThat(histogram.getPercentile(1.0), equalTo(1_000_000L));
+    }
+
+    @Test
+    public void percentileSmallValuesExact() {
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(7);
+
+        assertThat(histogram.getPercentile(0.5), equalTo(2L));
+        assertThat(histogram.getPercentile(1.0), equalTo(7L));
+    }
+
+    @Test
+    public void bucketBounds() {
+        long[] values = {0, 7, 8, 9, 15, 16, 17, 1000, 123456789, Long.MAX_VALUE};
+        for (long value : values) {
+            int bucket = Histogram.getBucket(value);
+            assertThat(Histogram.getLowerBound(bucket), lessThanOrEqualTo(value));
+            assertThat(Histogram.getUpperBound(bucket), greaterThanOrEqualTo(value));
+        }
+    }
+
+    @Test
+    public void reset() {
+        histogram.record(100);
+        histogram.reset();
+
+        assertThat(histogram.getCount(), equalTo(0L));
+        assertThat(histogram.getMax(), equalTo(0L));
+        assertThat(histogram.getPercentile(0.5), equalTo(0L));
+    }
+}
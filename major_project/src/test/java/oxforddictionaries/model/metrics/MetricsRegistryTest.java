@@ -0,0 +1,65 @@
+package oxforddictionaries.model.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class MetricsRegistryTest {
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    public void setup() {
+        this.registry = new MetricsRegistry();
+    }
+
+    @Test
+    public void counterCreatedOnce() {
+        registry.counter("http.status.200").add(1);
+        registry.counter("http.status.200").add(2);
+
+        assertThat(registry.getCounters().get("http.status.200"), equalTo(3L));
+    }
+
+    @Test
+    public void cacheHitRatios() {
+        registry.counter("cache.entries.hit").add(3);
+        registry.counter("cache.entries.miss").add(1);
+        registry.counter("cache.lemmas.hit").add(2);
+
+        Map<String, Double> ratios = registry.getCacheHitRatios();
+        assertThat(ratios.get("cache.entries"), equalTo(0.75));
+        assertThat(ratios.get("cache.lemmas"), equalTo(1.0));
+        assertThat(registry.getCounters().containsKey("cache.lemmas.miss"), equalTo(false));
+    }
+
+    @Test
+    public void cacheHitRatioNoLookups() {
+        registry.counter("cache.entries.hit");
+
+        assertThat(registry.getCacheHitRatios().size(), equalTo(0));
+    }
+
+    @Test
+    public void timerMillis() {
+        registry.timer("entrySearch.total").record(2_000_000);
+        registry.timer("entrySearch.total").record(4_000_000);
+
+        assertThat(registry.getTimerCounts().get("entrySearch.total"), equalTo(2L));
+        assertThat(registry.getTimerMeanMillis().get("entrySearch.total"), equalTo(3.0));
+        assertThat(registry.getTimerMaxMillis().get("entrySearch.total"), equalTo(4.0));
+    }
+
+    @Test
+    public void reset() {
+        registry.counter("http.errors").add(1);
+        registry.timer("sendReport.total").record(10);
+        registry.reset();
+
+        assertThat(registry.getCounters().get("http.errors"), equalTo(0L));
+        assertThat(registry.getTimerCounts().get("sendReport.total"), equalTo(0L));
+    }
+}
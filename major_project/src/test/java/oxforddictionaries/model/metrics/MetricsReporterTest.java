@@ -0,0 +1,54 @@
+package oxforddictionaries.model.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class MetricsReporterTest {
+    private MetricsRegistry registry;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setup() {
+        this.registry = new MetricsRegistry();
+        registry.counter("cache.entries.hit").add(1);
+        registry.counter("cache.entries.miss").add(1);
+        registry.timer("entrySearch.db").record(1_500_000);
+    }
+
+    @Test
+    public void createRows() {
+        MetricsReporter reporter = new MetricsReporter(registry, null);
+        List<String> rows = reporter.createRows("t");
+
+        assertThat(rows, contains(
+                "t,counter,cache.entries.hit,1,,,,,,",
+                "t,counter,cache.entries.miss,1,,,,,,",
+                "t,ratio,cache.entries,,0.500,,,,,",
+                "t,timer,entrySearch.db,1,,1.500,1.500,1.500,1.500,1.500"));
+    }
+
+    @Test
+    public void reportAppendsWithOneHeader() throws IOException {
+        Path csv = tempDir.resolve("metrics.csv");
+        MetricsReporter reporter = new MetricsReporter(registry, csv);
+
+        assertThat(reporter.report(), nullValue());
+        assertThat(reporter.report(), nullValue());
+
+        List<String> lines = Files.readAllLines(csv);
+        assertThat(lines.size(), equalTo(9));
+        assertThat(lines.get(0), startsWith("time,type,name"));
+        assertThat(lines.get(5), endsWith("cache.entries.hit,1,,,,,,"));
+    }
+}
@@ -0,0 +1,173 @@
+package oxforddictionaries.model.request;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class AudioCacheTest {
+    private AudioCache audioCache;
+    private Request requestMock;
+
+    @TempDir
+    Path cacheDir;
+
+    @BeforeEach
+    public void setup() {
+        this.requestMock = mock(Request.class);
+        this.audioCache = new AudioCache(requestMock, cacheDir, 10);
+    }
+
+    private void mockDownload(String code, int size) {
+        when(requestMock.downloadFile(anyString(), any(Path.class))).thenAnswer((invocation) -> {
+            Path path = invocation.getArgument(1);
+            Files.write(path, new byte[size]);
+            List<String> response = new ArrayList<>();
+            response.add(code);
+            return response;
+        });
+    }
+
+    @Test
+    public void getPathSameUrl() {
+        Path first = audioCache.getPath("https://audio.oxforddictionaries.com/en/mp3/noun_gb_1.mp3");
+        Path second = audioCache.getPath("https://audio.oxforddictionaries.com/en/mp3/noun_gb_1.mp3");
+        Path other = audioCache.getPath("https://audio.oxforddictionaries.com/en/mp3/ace_gb_1.mp3");
+
+        assertThat(first, equalTo(second));
+        assertThat(first, not(equalTo(other)));
+        assertThat(first.getParent(), equalTo(cacheDir));
+    }
+
+    @Test
+    public void downloadValid() {
+        mockDownload("200", 4);
+        String error = audioCache.download("a.mp3");
+
+        assertThat(error, is(nullValue()));
+        assertThat(Files.exists(audioCache.getPath("a.mp3")), is(Boolean.TRUE));
+        assertThat(audioCache.getUri("a.mp3"), equalTo(audioCache.getPath("a.mp3").toUri().toString()));
+    }
+
+    @Test
+    public void downloadTwice() {
+        mockDownload("200", 4);
+        audioCache.download("a.mp3");
+        audioCache.download("a.mp3");
+
+        verify(requestMock, times(1)).downloadFile(eq("a.mp3"), any(Path.class));
+    }
+
+    @Test
+    public void downloadErrorCode() throws IOException {
+        mockDownload("404", 4);
+        String error = audioCache.download("a.mp3");
+
+        assertThat(error, equalTo("404"));
+        assertThat(Files.exists(audioCache.getPath("a.mp3")), is(Boolean.FALSE));
+        try (var files = Files.list(cacheDir)) {
+            assertThat(files.count(), equalTo(0L));
+        }
+    }
+
+    @Test
+    public void downloadWithoutMessage() throws IOException {
+        when(requestMock.downloadFile(anyString(), any(Path.class))).thenAnswer((invocation) -> {
+            List<String> response = new ArrayList<>();
+            response.add(null);
+            return response;
+        });
+        String error = audioCache.download("a.mp3");
+
+        assertThat(error, equalTo("Failed to download a.mp3"));
+        try (var files = Files.list(cacheDir)) {
+            assertThat(files.count(), equalTo(0L));
+        }
+    }
+
+    @Test
+    public void downloadMoveFails() throws IOException {
+        Path path = audioCache.getPath("a.mp3");
+        when(requestMock.downloadFile(anyString(), any(Path.class))).thenAnswer((invocation) -> {
+            Files.createDirectories(path);
+            Files.write(path.resolve("file"), new byte[1]);
+            List<String> response = new ArrayList<>();
+            response.add("200");
+            return response;
+        });
+        String error = audioCache.download("a.mp3");
+
+        assertThat(error, notNullValue());
+        try (var files = Files.list(cacheDir)) {
+            assertThat(files.toList(), equalTo(List.of(path)));
+        }
+    }
+
+    @Test
+    public void evictOldest() throws IOException {
+        mockDownload("200", 4);
+        audioCache.download("a.mp3");
+        audioCache.download("b.mp3");
+        Files.setLastModifiedTime(audioCache.getPath("a.mp3"), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(audioCache.getPath("b.mp3"), FileTime.fromMillis(2000));
+
+        audioCache.download("c.mp3");
+
+        assertThat(Files.exists(audioCache.getPath("a.mp3")), is(Boolean.FALSE));
+        assertThat(Files.exists(audioCache.getPath("b.mp3")), is(Boolean.TRUE));
+        assertThat(Files.exists(audioCache.getPath("c.mp3")), is(Boolean.TRUE));
+    }
+
+    @Test
+    public void evictKeepsPlayed() throws IOException {
+        mockDownload("200", 4);
+        audioCache.download("a.mp3");
+        audioCache.download("b.mp3");
+        Files.setLastModifiedTime(audioCache.getPath("a.mp3"), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(audioCache.getPath("b.mp3"), FileTime.fromMillis(2000));
+
+        audioCache.getCachedUri("a.mp3");
+        assertThat(Files.getLastModifiedTime(audioCache.getPath("a.mp3")), equalTo(FileTime.fromMillis(1000)));
+        audioCache.download("c.mp3");
+
+        assertThat(Files.exists(audioCache.getPath("a.mp3")), is(Boolean.TRUE));
+        assertThat(Files.exists(audioCache.getPath("b.mp3")), is(Boolean.FALSE));
+    }
+
+    @Test
+    public void getUriNotCached() {
+        String uri = audioCache.getUri("https://audio.oxforddictionaries.com/en/mp3/noun_gb_1.mp3");
+        assertThat(uri, equalTo("https://audio.oxforddictionaries.com/en/mp3/noun_gb_1.mp3"));
+    }
+
+    @Test
+    public void getCachedUriDoesNotDownload() throws InterruptedException {
+        String uri = audioCache.getCachedUri("https://audio.oxforddictionaries.com/en/mp3/noun_gb_1.mp3");
+        assertThat(uri, equalTo("https://audio.oxforddictionaries.com/en/mp3/noun_gb_1.mp3"));
+
+        Thread.sleep(100);
+        verify(requestMock, times(0)).downloadFile(anyString(), any(Path.class));
+    }
+
+    @Test
+    public void clear() {
+        mockDownload("200", 4);
+        audioCache.download("a.mp3");
+        String error = audioCache.clear();
+
+        assertThat(error, is(nullValue()));
+        assertThat(Files.exists(audioCache.getPath("a.mp3")), is(Boolean.FALSE));
+    }
+}
@@ -0,0 +1,139 @@
+package oxforddictionaries.model.request;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class HistoryStoreTest {
+    private HistoryStore historyStore;
+
+    @BeforeEach
+    public void setup() {
+        this.historyStore = new HistoryStore();
+    }
+
+    @AfterEach
+    public void close() {
+        historyStore.close();
+    }
+
+    private List<String> createEntry(String word) {
+        return List.of("en-gb", word, "", "", "", "", "", "", "Searched");
+    }
+
+    private List<String> getWords(List<HistoryStore.Row> rows) {
+        return rows.stream().map((row) -> row.getEntry().get(1)).toList();
+    }
+
+    @Test
+    public void addInOrder() {
+        assertThat(historyStore.add(createEntry("ace")), nullValue());
+        assertThat(historyStore.add(createEntry("cool")), nullValue());
+
+        List<HistoryStore.Row> rows = historyStore.getPage("", 0, 10);
+        assertThat(historyStore.size(""), equalTo(2));
+        assertThat(rows.get(0).getEntry(), equalTo(createEntry("ace")));
+        assertThat(rows.get(1).getEntry(), equalTo(createEntry("cool")));
+        assertThat(historyStore.indexOf(rows.get(1).getSeq()), equalTo(1));
+    }
+
+    @Test
+    public void emptyStore() {
+        assertThat(historyStore.size(""), equalTo(0));
+        assertThat(historyStore.getPage("", 0, 10).size(), equalTo(0));
+    }
+
+    @Test
+    public void pages() {
+        for (int i = 0; i < 25; i++) {
+            historyStore.add(createEntry("word" + i));
+        }
+
+        assertThat(getWords(historyStore.getPage("", 10, 3)), equalTo(List.of("word10", "word11", "word12")));
+        assertThat(historyStore.getPage("", 20, 10).size(), equalTo(5));
+        assertThat(historyStore.getPage("", 30, 10).size(), equalTo(0));
+    }
+
+    @Test
+    public void pagesAfterSeq() {
+        for (int i = 0; i < 25; i++) {
+            historyStore.add(createEntry("word" + i));
+        }
+
+        List<HistoryStore.Row> page = historyStore.getPage("", 0, 0, 10);
+        long last = page.get(page.size() - 1).getSeq();
+        assertThat(getWords(historyStore.getPage("", last, 0, 3)), equalTo(List.of("word10", "word11", "word12")));
+        assertThat(getWords(historyStore.getPage("", last, 10, 10)), equalTo(List.of("word20", "word21", "word22",
+                "word23", "word24")));
+        assertThat(getWords(historyStore.getPage("word1", last, 0, 10)), equalTo(List.of("word10", "word11", "word12",
+                "word13", "word14", "word15", "word16", "word17", "word18", "word19")));
+    }
+
+    @Test
+    public void replace() {
+        historyStore.add(createEntry("ace"));
+        historyStore.add(createEntry("cool"));
+
+        assertThat(historyStore.replace(List.of(createEntry("noun"))), nullValue());
+        assertThat(getWords(historyStore.getPage("", 0, 10)), equalTo(List.of("noun")));
+        assertThat(historyStore.size(""), equalTo(1));
+        assertThat(historyStore.getLastSeq(), equalTo(1L));
+    }
+
+    @Test
+    public void filterByPrefixIgnoringCase() {
+        historyStore.add(createEntry("ace"));
+        historyStore.add(createEntry("cool"));
+        historyStore.add(createEntry("Acid"));
+        historyStore.add(createEntry("bace"));
+
+        assertThat(historyStore.size("ac"), equalTo(2));
+        assertThat(getWords(historyStore.getPage("AC", 0, 10)), equalTo(List.of("ace", "Acid")));
+        assertThat(getWords(historyStore.getPage("ac", 1, 10)), equalTo(List.of("Acid")));
+        assertThat(historyStore.size("z"), equalTo(0));
+
+        HistoryStore.Row acid = historyStore.getPage("acid", 0, 1).get(0);
+        assertThat(historyStore.indexOf(acid.getSeq()), equalTo(2));
+    }
+
+    @Test
+    public void moveToEnd() {
+        historyStore.add(createEntry("first"));
+        historyStore.add(createEntry("second"));
+        historyStore.add(createEntry("third"));
+
+        long first = historyStore.getPage("", 0, 1).get(0).getSeq();
+        assertThat(historyStore.moveToEnd(first), nullValue());
+        assertThat(getWords(historyStore.getPage("", 0, 10)), equalTo(List.of("second", "third", "first")));
+        assertThat(historyStore.getLastSeq(), equalTo(4L));
+
+        historyStore.moveToEnd(historyStore.getLastSeq());
+        historyStore.add(createEntry("fourth"));
+        assertThat(getWords(historyStore.getPage("", 0, 10)), equalTo(List.of("second", "third", "first", "fourth")));
+        assertThat(historyStore.size(""), equalTo(4));
+        assertThat(historyStore.moveToEnd(first), equalTo("History entry " + first + " was not found"));
+    }
+
+    @Test
+    public void storedInFile(@TempDir Path dir) {
+        String dbName = dir.resolve("history.db").toString();
+        HistoryStore fileStore = new HistoryStore(dbName);
+        fileStore.add(createEntry("ace"));
+        fileStore.close();
+
+        HistoryStore reopened = new HistoryStore(dbName);
+        assertThat(getWords(reopened.getPage("", 0, 10)), equalTo(List.of("ace")));
+        assertThat(reopened.size(""), equalTo(1));
+        reopened.add(createEntry("cool"));
+        assertThat(getWords(reopened.getPage("", 0, 10)), equalTo(List.of("ace", "cool")));
+        reopened.close();
+    }
+}
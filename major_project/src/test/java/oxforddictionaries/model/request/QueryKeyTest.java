@@ -0,0 +1,132 @@
+package oxforddictionaries.model.request;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class QueryKeyTest {
+
+    @Test
+    public void keyValidFields() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "ace", "a", "b", "c,c", "d", "e", "f");
+        String expected = "entries/en-gb/ace?fields=a&grammaticalFeatures=b&lexicalCategory=c&domains=d&registers=e&strictMatch=f";
+        assertThat(queryKey.getKey(), equalTo(expected));
+    }
+
+    @Test
+    public void keyNullFields() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "ace", null, null, null, null, null, null);
+        assertThat(queryKey.getKey(), equalTo("entries/en-gb/ace"));
+    }
+
+    @Test
+    public void keyEmptyFields() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "ace", "a", "", "   ", " ", "", "b");
+        assertThat(queryKey.getKey(), equalTo("entries/en-gb/ace?fields=a&strictMatch=b"));
+    }
+
+    @Test
+    public void keyLeadingSpaces() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "ace", " a ", "", "", "", "", "");
+        assertThat(queryKey.getKey(), equalTo("entries/en-gb/ace?fields=a"));
+    }
+
+    @Test
+    public void keyEquivalentFiltersMatch() {
+        QueryKey first = QueryKey.entries("en-gb", "ace", null, null, "noun,verb", null, null, null);
+        QueryKey second = QueryKey.entries("en-gb", "ace", null, null, " Verb, noun,,verb ", null, null, null);
+        assertThat(first.getKey(), equalTo("entries/en-gb/ace?lexicalCategory=noun,verb"));
+        assertThat(second.getKey(), equalTo(first.getKey()));
+        assertThat(second, equalTo(first));
+    }
+
+    @Test
+    public void keyDifferentEndpoints() {
+        QueryKey entries = QueryKey.entries("en", "aces", null, "plural", null, null, null, null);
+        QueryKey lemmas = QueryKey.lemmas("en", "aces", "plural", null);
+        assertThat(lemmas.getKey(), equalTo("lemmas/en/aces?grammaticalFeatures=plural"));
+        assertThat(lemmas, not(equalTo(entries)));
+    }
+
+    @Test
+    public void normaliseSortsAndDedupes() {
+        assertThat(QueryKey.normalise("b, a,B ,,c"), equalTo(List.of("a", "b", "c")));
+        assertThat(QueryKey.normalise(" , "), equalTo(List.of()));
+        assertThat(QueryKey.normalise(null), equalTo(List.of()));
+    }
+
+    @Test
+    public void toUriNoFilters() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "noun", "", "", "", "", "", "");
+        assertThat(queryKey.toUri(), equalTo("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/noun"));
+    }
+
+    @Test
+    public void toUriFilters() {
+        QueryKey queryKey = QueryKey.lemmas("en", "forehead", null, "verb,noun");
+        assertThat(queryKey.toUri(), equalTo("https://od-api.oxforddictionaries.com/api/v2/lemmas/en/forehead?lexicalCategory=noun,verb"));
+    }
+
+    @Test
+    public void toUriEscapePercentageSymbol() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "%new", null, null, null, null, null, null);
+        assertThat(queryKey.toUri(), equalTo("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/%25new"));
+    }
+
+    @Test
+    public void toUriEscapeDollarSymbol() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "$new", null, null, null, null, null, null);
+        assertThat(queryKey.toUri(), equalTo("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/%24new"));
+    }
+
+    @Test
+    public void toUriEscapeSpace() {
+        QueryKey queryKey = QueryKey.entries("en-gb", " new", null, null, null, null, null, null);
+        assertThat(queryKey.toUri(), equalTo("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/%20new"));
+    }
+
+    @Test
+    public void toUriEscapeCombination() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "% $ new", null, "a b$", null, null, null, null);
+        assertThat(queryKey.toUri(),
+                equalTo("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/%25%20%24%20new?grammaticalFeatures=a%20b%24"));
+    }
+
+    @Test
+    public void toUriEscapeUnicode() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "café", null, null, null, null, null, null);
+        assertThat(queryKey.toUri(), equalTo("https://od-api.oxforddictionaries.com/api/v2/entries/en-gb/caf%C3%A9"));
+    }
+
+    @Test
+    public void keyIsNotEscaped() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "ace of spades", null, null, null, null, null, null);
+        assertThat(queryKey.getKey(), equalTo("entries/en-gb/ace of spades"));
+    }
+
+    @Test
+    public void hasLocalFilters() {
+        assertThat(QueryKey.entries("en-gb", "ace", "definitions", null, null, null, null, "true").hasLocalFilters(), equalTo(false));
+        assertThat(QueryKey.entries("en-gb", "ace", null, null, null, null, "informal", null).hasLocalFilters(), equalTo(true));
+    }
+
+    @Test
+    public void supersetKeepsFieldsAndMatch() {
+        QueryKey queryKey = QueryKey.entries("en-gb", "ace", "definitions", "plural", "noun", "cards", "informal", "true");
+        assertThat(queryKey.getSuperset().getKey(), equalTo("entries/en-gb/ace?fields=definitions&strictMatch=true"));
+        assertThat(queryKey.getSuperset().hasLocalFilters(), equalTo(false));
+    }
+
+    @Test
+    public void isPreview() {
+        assertThat(QueryKey.isPreview("pronunciations, definitions"), equalTo(true));
+        assertThat(QueryKey.isPreview(QueryKey.previewFields), equalTo(true));
+        assertThat(QueryKey.isPreview("definitions"), equalTo(false));
+        assertThat(QueryKey.isPreview(""), equalTo(false));
+        assertThat(QueryKey.isPreview(null), equalTo(false));
+    }
+}
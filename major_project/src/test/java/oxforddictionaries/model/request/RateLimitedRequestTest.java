@@ -0,0 +1,48 @@
+package oxforddictionaries.model.request;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.*;
+
+public class RateLimitedRequestTest {
+    private Request requestMock;
+    private RateLimiter rateLimiterMock;
+    private RateLimitedRequest rateLimitedRequest;
+
+    @BeforeEach
+    public void setup() {
+        this.requestMock = mock(Request.class);
+        this.rateLimiterMock = mock(RateLimiter.class);
+        this.rateLimitedRequest = new RateLimitedRequest(requestMock, rateLimiterMock);
+    }
+
+    @Test
+    public void getRequestLimited() throws InterruptedException {
+        when(requestMock.getRequest("uri")).thenReturn(List.of("200", "{}"));
+        assertThat(rateLimitedRequest.getRequest("uri"), equalTo(List.of("200", "{}")));
+        verify(rateLimiterMock, times(1)).acquire();
+    }
+
+    @Test
+    public void getRequestInterrupted() throws InterruptedException {
+        doThrow(new InterruptedException()).when(rateLimiterMock).acquire();
+        List<String> response = rateLimitedRequest.getRequest("uri");
+        assertThat(response.size(), equalTo(1));
+        assertThat(response.get(0), equalTo("Interrupted while waiting for the rate limit"));
+        assertThat(Thread.interrupted(), equalTo(true));
+        verify(requestMock, times(0)).getRequest(anyString());
+    }
+
+    @Test
+    public void downloadFileNotLimited() throws InterruptedException {
+        rateLimitedRequest.downloadFile("uri", Paths.get("file"));
+        verify(requestMock, times(1)).downloadFile("uri", Paths.get("file"));
+        verify(rateLimiterMock, times(0)).acquire();
+    }
+}
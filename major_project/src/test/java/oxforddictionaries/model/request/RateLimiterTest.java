@@ -0,0 +1,47 @@
+package oxforddictionaries.model.request;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class RateLimiterTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    public void burstNotDelayed() {
+        RateLimiter rateLimiter = new RateLimiter(60, 3, clock::get);
+        assertThat(rateLimiter.reserve(), equalTo(0L));
+        assertThat(rateLimiter.reserve(), equalTo(0L));
+        assertThat(rateLimiter.reserve(), equalTo(0L));
+    }
+
+    @Test
+    public void afterBurstSpacedOut() {
+        RateLimiter rateLimiter = new RateLimiter(60, 1, clock::get);
+        assertThat(rateLimiter.reserve(), equalTo(0L));
+        assertThat(rateLimiter.reserve(), equalTo(1000000000L));
+        assertThat(rateLimiter.reserve(), equalTo(2000000000L));
+    }
+
+    @Test
+    public void refillsOverTime() {
+        RateLimiter rateLimiter = new RateLimiter(60, 2, clock::get);
+        rateLimiter.reserve();
+        rateLimiter.reserve();
+
+        clock.set(1500000000L);
+        assertThat(rateLimiter.reserve(), equalTo(0L));
+        assertThat(rateLimiter.reserve(), equalTo(500000000L));
+    }
+
+    @Test
+    public void refillLimitedToBurst() {
+        RateLimiter rateLimiter = new RateLimiter(60, 1, clock::get);
+        clock.set(60000000000L);
+        assertThat(rateLimiter.reserve(), equalTo(0L));
+        assertThat(rateLimiter.reserve(), equalTo(1000000000L));
+    }
+}
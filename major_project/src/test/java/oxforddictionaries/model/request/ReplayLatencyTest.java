@@ -0,0 +1,40 @@
+package oxforddictionaries.model.request;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ReplayLatencyTest {
+    @Test
+    public void parse() {
+        assertThat(ReplayLatency.parse("recorded").getDelay(12.5), equalTo(12.5));
+        assertThat(ReplayLatency.parse("none").getDelay(12.5), equalTo(0.0));
+        assertThat(ReplayLatency.parse("fixed:30").getDelay(12.5), equalTo(30.0));
+        assertThat(ReplayLatency.parse("fixed"), nullValue());
+        assertThat(ReplayLatency.parse("fixed:-1"), nullValue());
+        assertThat(ReplayLatency.parse("uniform:5:1"), nullValue());
+        assertThat(ReplayLatency.parse("uniform:a:b"), nullValue());
+        assertThat(ReplayLatency.parse("gaussian:1:2"), nullValue());
+    }
+
+    @Test
+    public void uniformInRange() {
+        ReplayLatency latency = ReplayLatency.parse("uniform:50:250");
+        for (int i = 0; i < 1000; i++) {
+            double delay = latency.getDelay(0);
+            assertThat(delay >= 50 && delay <= 250, is(true));
+        }
+    }
+
+    @Test
+    public void seeded() {
+        ReplayLatency first = ReplayLatency.parse("lognormal:200:0.5");
+        ReplayLatency second = ReplayLatency.parse("lognormal:200:0.5");
+        for (int i = 0; i < 100; i++) {
+            assertThat(first.getDelay(0), equalTo(second.getDelay(0)));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package oxforddictionaries.model.request;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReplayRequestTest {
+    @TempDir
+    Path dir;
+
+    private Path createRecording() {
+        Path recording = dir.resolve("test.recording");
+        RecordingRequest recordingRequest = new RecordingRequest(null, null, recording);
+        recordingRequest.record("https://api/entries/en-gb/ace", List.of("200", "{\"id\": \"ace\"}"), 120.5);
+        recordingRequest.record("https://api/entries/en-gb/noun", List.of("404", "{\"error\": \"No entry\"}"), 80);
+        recordingRequest.record("https://api/entries/en-gb/ace", List.of("200", "{\"id\": \"ace2\"}"), 90);
+        recordingRequest.record("https://api/entries/en-gb/fail", List.of("Connection refused"), 5);
+        return recording;
+    }
+
+    @Test
+    public void recordAppendsLines() throws IOException {
+        Path recording = createRecording();
+        List<String> lines = Files.readAllLines(recording);
+        assertThat(lines.size(), equalTo(4));
+        assertThat(lines.get(0), equalTo("{\"uri\":\"https://api/entries/en-gb/ace\",\"response\":[\"200\",\"{\\\"id\\\": \\\"ace\\\"}\"],\"millis\":120.5}"));
+    }
+
+    @Test
+    public void recordInvalidFile() {
+        RecordingRequest recordingRequest = new RecordingRequest(null, null, dir.resolve("missing").resolve("test.recording"));
+        String error = recordingRequest.record("https://api/entries/en-gb/ace", List.of("200", "{}"), 1);
+        assertThat(error == null, is(false));
+    }
+
+    @Test
+    public void getRequestRecorded() throws IOException {
+        ReplayRequest replayRequest = new ReplayRequest(createRecording(), ReplayLatency.parse("none"));
+        assertThat(replayRequest.size(), equalTo(3));
+
+        List<String> response = replayRequest.getRequest("https://api/entries/en-gb/noun");
+        assertThat(response, equalTo(List.of("404", "{\"error\": \"No entry\"}")));
+
+        response = replayRequest.getRequest("https://api/entries/en-gb/fail");
+        assertThat(response, equalTo(List.of("Connection refused")));
+    }
+
+    @Test
+    public void getRequestInRecordedOrder() throws IOException {
+        ReplayRequest replayRequest = new ReplayRequest(createRecording(), ReplayLatency.parse("none"));
+        assertThat(replayRequest.getRequest("https://api/entries/en-gb/ace").get(1), equalTo("{\"id\": \"ace\"}"));
+        assertThat(replayRequest.getRequest("https://api/entries/en-gb/ace").get(1), equalTo("{\"id\": \"ace2\"}"));
+        assertThat(replayRequest.getRequest("https://api/entries/en-gb/ace").get(1), equalTo("{\"id\": \"ace\"}"));
+    }
+
+    @Test
+    public void getRequestResponseCanBeChanged() throws IOException {
+        ReplayRequest replayRequest = new ReplayRequest(createRecording(), ReplayLatency.parse("none"));
+        replayRequest.getRequest("https://api/entries/en-gb/noun").clear();
+        assertThat(replayRequest.getRequest("https://api/entries/en-gb/noun").size(), equalTo(2));
+    }
+
+    @Test
+    public void getRequestNotRecorded() throws IOException {
+        ReplayRequest replayRequest = new ReplayRequest(createRecording(), ReplayLatency.parse("none"));
+        List<String> response = replayRequest.getRequest("https://api/entries/en-gb/word");
+        assertThat(response, equalTo(List.of("Not recorded: https://api/entries/en-gb/word")));
+    }
+
+    @Test
+    public void getRequestFixedLatency() throws IOException {
+        ReplayRequest replayRequest = new ReplayRequest(createRecording(), ReplayLatency.parse("fixed:50"));
+        long start = System.nanoTime();
+        replayRequest.getRequest("https://api/entries/en-gb/noun");
+        assertThat((System.nanoTime() - start) >= 50_000_000L, is(true));
+    }
+
+    @Test
+    public void downloadFileNotRecorded() throws IOException {
+        ReplayRequest replayRequest = new ReplayRequest(createRecording(), ReplayLatency.parse("none"));
+        List<String> response = replayRequest.downloadFile("https://audio/ace.mp3", dir.resolve("ace.mp3"));
+        assertThat(response.size(), equalTo(1));
+        assertThat(Files.exists(dir.resolve("ace.mp3")), is(false));
+    }
+
+    @Test
+    public void loadInvalidRecording() throws IOException {
+        Path recording = dir.resolve("invalid.recording");
+        Files.writeString(recording, "not json");
+        assertThrows(IOException.class, () -> new ReplayRequest(recording, ReplayLatency.parse("none")));
+    }
+
+    @Test
+    public void loadMissingRecording() {
+        assertThrows(IOException.class, () -> new ReplayRequest(dir.resolve("missing.recording"), ReplayLatency.parse("none")));
+    }
+}
@@ -0,0 +1,176 @@
+package oxforddictionaries.model.request;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ShardedDatabaseTest {
+    @TempDir
+    Path directory;
+    private String dbName;
+    private ShardedDatabase db;
+
+    @BeforeEach
+    public void setup() {
+        this.dbName = directory.resolve("OxfordDictionary.db").toString();
+        this.db = new ShardedDatabase(dbName, false);
+        assertThat(db.setupDB(), nullValue());
+    }
+
+    private String createJson(int size) {
+        return "{\"id\": \"" + "a".repeat(size) + "\"}";
+    }
+
+    @Test
+    public void languagesInOwnFiles() {
+        assertThat(db.addEntry("entries/en-gb/noun", "{\"id\": \"noun\"}", 200), nullValue());
+        assertThat(db.addEntry("entries/es/nombre", "{\"id\": \"nombre\"}", 200), nullValue());
+
+        assertThat(Files.exists(Paths.get(db.getShardName("en-gb"))), equalTo(true));
+        assertThat(Files.exists(Paths.get(db.getShardName("es"))), equalTo(true));
+        assertThat(Files.exists(Paths.get(dbName)), equalTo(false));
+        assertThat(new SqlDatabase(db.getShardName("en-gb")).getEntry("entries/es/nombre").size(), equalTo(0));
+        assertThat(db.getEntry("entries/es/nombre").get(1), equalTo("{\"id\": \"nombre\"}"));
+        assertThat(db.getEntry("entries/fr/nom").size(), equalTo(0));
+    }
+
+    @Test
+    public void evictsWithinLanguage() {
+        db.setShard("en-gb", 300, ShardedDatabase.leastRecentlyUsed);
+        db.addEntry("entries/en-gb/ace", createJson(100), 200);
+        db.addEntry("entries/en-gb/cool", createJson(100), 200);
+        db.addEntry("entries/es/nombre", createJson(100), 200);
+        db.getEntry("entries/en-gb/ace");
+        db.addEntry("entries/en-gb/noun", createJson(100), 200);
+
+        assertThat(db.getEntry("entries/en-gb/cool").size(), equalTo(0));
+        assertThat(db.getEntry("entries/en-gb/ace").size(), equalTo(2));
+        assertThat(db.getEntry("entries/en-gb/noun").size(), equalTo(2));
+        assertThat(db.getEntry("entries/es/nombre").size(), equalTo(2));
+        assertThat(db.getUsedSize("en-gb") <= 300, equalTo(true));
+    }
+
+    @Test
+    public void replacedRowCountedOnce() {
+        db.addEntry("entries/en-gb/ace", createJson(100), 200);
+        long size = db.getUsedSize("en-gb");
+        db.updateEntry("entries/en-gb/ace", createJson(100), 200);
+        db.addEntry("entries/en-gb/ace", createJson(100), 200);
+
+        assertThat(db.getUsedSize("en-gb"), equalTo(size));
+        assertThat(new SqlDatabase(db.getShardName("en-gb")).getUsedSize(), equalTo(size));
+    }
+
+    @Test
+    public void searchesWrittenWithNextAdd() {
+        db.setShard("en-gb", 300, ShardedDatabase.leastRecentlyUsed);
+        db.addEntry("entries/en-gb/ace", createJson(100), 200);
+        db.addEntry("entries/en-gb/cool", createJson(100), 200);
+        db.getEntry("entries/en-gb/ace");
+        db.addEntry("entries/es/nombre", createJson(100), 200);
+        db.addEntry("entries/en-gb/noun", createJson(100), 200);
+
+        assertThat(db.getEntry("entries/en-gb/cool").size(), equalTo(0));
+        assertThat(db.getEntry("entries/en-gb/ace").size(), equalTo(2));
+    }
+
+    @Test
+    public void fifoIgnoresSearches() {
+        db.setShard("en-gb", 300, ShardedDatabase.firstInFirstOut);
+        db.addEntry("entries/en-gb/ace", createJson(100), 200);
+        db.addEntry("entries/en-gb/cool", createJson(100), 200);
+        db.getEntry("entries/en-gb/ace");
+        db.addEntry("entries/en-gb/noun", createJson(100), 200);
+
+        assertThat(db.getEntry("entries/en-gb/ace").size(), equalTo(0));
+        assertThat(db.getEntry("entries/en-gb/cool").size(), equalTo(2));
+    }
+
+    @Test
+    public void clearLanguageKeepsOthers() {
+        db.addEntry("entries/en-gb/noun", "{\"id\": \"noun\"}", 200);
+        db.addLemma("lemmas/en-gb/nouns", "{\"id\": \"nouns\"}", 200);
+        db.addEntry("entries/es/nombre", "{\"id\": \"nombre\"}", 200);
+
+        assertThat(db.clearLanguage("en-gb"), nullValue());
+        assertThat(db.getEntry("entries/en-gb/noun").size(), equalTo(0));
+        assertThat(db.getLemma("lemmas/en-gb/nouns").size(), equalTo(0));
+        assertThat(db.getUsedSize("en-gb"), equalTo(0L));
+        assertThat(db.getEntry("entries/es/nombre").size(), equalTo(2));
+
+        assertThat(db.clearDatabase(), nullValue());
+        assertThat(db.getEntry("entries/es/nombre").size(), equalTo(0));
+    }
+
+    @Test
+    public void oldDatabaseRead() {
+        SqlDatabase old = new SqlDatabase(dbName);
+        old.setupDB();
+        old.addEntry("entries/en-gb/noun", "{\"id\": \"noun\"}", 200);
+        old.addEntry("entries/es/nombre", "{\"id\": \"nombre\"}", 200);
+        this.db = new ShardedDatabase(dbName, false);
+
+        assertThat(db.getEntry("entries/en-gb/noun").get(1), equalTo("{\"id\": \"noun\"}"));
+        assertThat(db.clearLanguage("en-gb"), nullValue());
+        assertThat(db.getEntry("entries/en-gb/noun").size(), equalTo(0));
+        assertThat(db.getEntry("entries/es/nombre").size(), equalTo(2));
+    }
+
+    @Test
+    public void readOnlyDoesNotCreate() {
+        ShardedDatabase readOnly = new ShardedDatabase(dbName, true);
+        assertThat(readOnly.getEntry("entries/en-gb/noun").size(), equalTo(0));
+        assertThat(Files.exists(Paths.get(db.getShardName("en-gb"))), equalTo(false));
+
+        db.addEntry("entries/en-gb/noun", "{\"id\": \"noun\"}", 200);
+        assertThat(readOnly.getEntry("entries/en-gb/noun").size(), equalTo(2));
+    }
+
+    @Test
+    public void forEachEntryByLanguage() {
+        db.addEntry("entries/es/nombre", "{}", 200);
+        db.addEntry("entries/en-gb/noun", "{}", 200);
+        db.addEntry("entries/en-gb/ace", "{}", 200);
+
+        List<String> uris = new ArrayList<>();
+        assertThat(db.forEachEntry((uri, json, code) -> uris.add(uri)), nullValue());
+        assertThat(uris, contains("entries/en-gb/ace", "entries/en-gb/noun", "entries/es/nombre"));
+    }
+
+    @Test
+    public void relatedByLanguage() {
+        db.setRelated("en-gb", "noun", List.of(List.of("synonyms", "name")));
+
+        assertThat(db.getRelated("en-gb", "noun"), contains(List.of("synonyms", "name")));
+        assertThat(db.getRelated("es", "noun").size(), equalTo(0));
+    }
+
+    @Test
+    public void setShardsParses() {
+        assertThat(db.setShards("*=1, en-gb=2:fifo"), nullValue());
+        assertThat(db.getBudget("es"), equalTo(1024L * 1024));
+        assertThat(db.getBudget("en-gb"), equalTo(2L * 1024 * 1024));
+        assertThat(db.getPolicy("en-gb"), equalTo(ShardedDatabase.firstInFirstOut));
+        assertThat(db.getPolicy("es"), equalTo(ShardedDatabase.leastRecentlyUsed));
+
+        assertThat(db.setShards("en-gb=lots"), equalTo("Invalid cache budget lots"));
+        assertThat(db.setShards("en-gb=1:random"), equalTo("Invalid cache shard en-gb=1:random"));
+    }
+
+    @Test
+    public void languageOfUri() {
+        assertThat(ShardedDatabase.getLanguage("entries/en-gb/noun?fields=definitions"), equalTo("en-gb"));
+        assertThat(ShardedDatabase.getLanguage(""), nullValue());
+    }
+}
@@ -0,0 +1,105 @@
+package oxforddictionaries.model.request;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SnapshotExporterTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    public void exportDatabase() throws IOException {
+        SqlDatabase db = new SqlDatabase(dir.resolve("test.db").toString());
+        db.setupDB();
+        db.addEntry("entries/en-gb/noun", "{\"id\": \"noun\"}", 200);
+        db.addEntry("entries/en-gb/ace", "{\"id\": \"ace\"}", 200);
+        db.addLemma("lemmas/en/forehead", "{\"id\": \"forehead\"}", 200);
+
+        Path path = dir.resolve("test.snapshot");
+        String error = SnapshotExporter.export(new SqlDatabase(dir.resolve("test.db").toString(), true), path);
+        assertThat(error, is(nullValue()));
+
+        SnapshotReader reader = SnapshotReader.open(path);
+        assertThat(reader.getEntryCount(), equalTo(2));
+        assertThat(reader.getLemmaCount(), equalTo(1));
+        assertThat(reader.getEntry("entries/en-gb/ace").get(1), equalTo("{\"id\": \"ace\"}"));
+        assertThat(reader.getLemma("lemmas/en/forehead").get(1), equalTo("{\"id\": \"forehead\"}"));
+    }
+
+    @Test
+    public void exportShardedDatabase() throws IOException {
+        String dbName = dir.resolve("test.db").toString();
+        SqlDatabase legacy = new SqlDatabase(dbName);
+        legacy.setupDB();
+        legacy.addEntry("entries/en-gb/noun", "{\"id\": \"old\"}", 200);
+        legacy.addEntry("entries/en-gb/ace", "{\"id\": \"ace\"}", 200);
+        legacy.addLemma("lemmas/en/forehead", "{\"id\": \"old\"}", 200);
+        ShardedDatabase db = new ShardedDatabase(dbName, false);
+        db.addEntry("entries/en-gb/noun", "{\"id\": \"new\"}", 200);
+        db.addEntry("entries/es/hola", "{\"id\": \"hola\"}", 200);
+        db.addLemma("lemmas/en/forehead", "{\"id\": \"new\"}", 200);
+
+        Path path = dir.resolve("test.snapshot");
+        String error = SnapshotExporter.export(new ShardedDatabase(dbName, true), path);
+        assertThat(error, is(nullValue()));
+
+        SnapshotReader reader = SnapshotReader.open(path);
+        assertThat(reader.getEntryCount(), equalTo(3));
+        assertThat(reader.getLemmaCount(), equalTo(1));
+        assertThat(reader.getEntry("entries/en-gb/noun").get(1), equalTo("{\"id\": \"new\"}"));
+        assertThat(reader.getEntry("entries/en-gb/ace").get(1), equalTo("{\"id\": \"ace\"}"));
+        assertThat(reader.getEntry("entries/es/hola").get(1), equalTo("{\"id\": \"hola\"}"));
+        assertThat(reader.getLemma("lemmas/en/forehead").get(1), equalTo("{\"id\": \"new\"}"));
+    }
+
+    @Test
+    public void exportMissingDatabase() throws IOException {
+        Path path = dir.resolve("test.snapshot");
+        String error = SnapshotExporter.export(new SqlDatabase(dir.resolve("missing.db").toString(), true), path);
+        assertThat(error == null, is(false));
+        assertThat(Files.exists(path), is(false));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.count(), equalTo(0L));
+        }
+    }
+
+    @Test
+    public void finishDuplicateKey() throws IOException {
+        Path path = dir.resolve("test.snapshot");
+        SnapshotExporter exporter = new SnapshotExporter(path);
+        exporter.addEntry("entries/en-gb/ace", "{}", 200);
+        exporter.addEntry("entries/en-gb/ace", "{}", 200);
+
+        IOException e = assertThrows(IOException.class, exporter::finish);
+        assertThat(e.getMessage(), equalTo("Duplicate key entries/en-gb/ace"));
+        exporter.discard();
+        assertThat(Files.exists(path), is(false));
+    }
+
+    @Test
+    public void finishReplacesSnapshot() throws IOException {
+        Path path = dir.resolve("test.snapshot");
+        SnapshotExporter exporter = new SnapshotExporter(path);
+        exporter.addEntry("entries/en-gb/ace", "{\"id\": \"old\"}", 200);
+        exporter.finish();
+        SnapshotReader old = SnapshotReader.open(path);
+
+        exporter = new SnapshotExporter(path);
+        exporter.addEntry("entries/en-gb/ace", "{\"id\": \"new\"}", 200);
+        exporter.finish();
+
+        assertThat(SnapshotReader.open(path).getEntry("entries/en-gb/ace").get(1), equalTo("{\"id\": \"new\"}"));
+        assertThat(old.getEntry("entries/en-gb/ace").get(1), equalTo("{\"id\": \"old\"}"));
+    }
+}
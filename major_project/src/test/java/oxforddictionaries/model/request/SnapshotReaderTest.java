@@ -0,0 +1,103 @@
+package oxforddictionaries.model.request;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SnapshotReaderTest {
+    @TempDir
+    Path dir;
+
+    private SnapshotReader createSnapshot(int count) throws IOException {
+        Path path = dir.resolve("test.snapshot");
+        SnapshotExporter exporter = new SnapshotExporter(path);
+        for (int i = count - 1; i >= 0; i--) {
+            exporter.addEntry("entries/en-gb/word" + i, "{\"id\": \"word" + i + "\"}", 200);
+        }
+        exporter.addLemma("lemmas/en/forehead", "{\"error\": \"No lemma\"}", 404);
+        exporter.finish();
+        return SnapshotReader.open(path);
+    }
+
+    @Test
+    public void getEntryValid() throws IOException {
+        SnapshotReader reader = createSnapshot(1000);
+        assertThat(reader.getEntryCount(), equalTo(1000));
+        assertThat(reader.getLemmaCount(), equalTo(1));
+
+        for (int i = 0; i < 1000; i += 37) {
+            List<String> entry = reader.getEntry("entries/en-gb/word" + i);
+            assertThat(entry.size(), equalTo(2));
+            assertThat(entry.get(0), equalTo("200"));
+            assertThat(entry.get(1), equalTo("{\"id\": \"word" + i + "\"}"));
+        }
+    }
+
+    @Test
+    public void getEntryMissing() throws IOException {
+        SnapshotReader reader = createSnapshot(10);
+        assertThat(reader.getEntry("entries/en-gb/word").size(), equalTo(0));
+        assertThat(reader.getEntry("entries/en-gb/word99").size(), equalTo(0));
+        assertThat(reader.getEntry("lemmas/en/forehead").size(), equalTo(0));
+    }
+
+    @Test
+    public void getLemmaValid() throws IOException {
+        SnapshotReader reader = createSnapshot(1);
+        List<String> lemma = reader.getLemma("lemmas/en/forehead");
+        assertThat(lemma.get(0), equalTo("404"));
+        assertThat(lemma.get(1), equalTo("{\"error\": \"No lemma\"}"));
+        assertThat(reader.getLemma("entries/en-gb/word0").size(), equalTo(0));
+    }
+
+    @Test
+    public void getEntryUnicode() throws IOException {
+        Path path = dir.resolve("unicode.snapshot");
+        SnapshotExporter exporter = new SnapshotExporter(path);
+        exporter.addEntry("entries/es/ñandú", "{\"id\": \"ñandú\"}", 200);
+        exporter.addEntry("entries/es/nube", "{\"id\": \"nube\"}", 200);
+        exporter.addEntry("entries/es/zorro", "{\"id\": \"zorro\"}", 200);
+        exporter.finish();
+
+        SnapshotReader reader = SnapshotReader.open(path);
+        assertThat(reader.getEntry("entries/es/ñandú").get(1), equalTo("{\"id\": \"ñandú\"}"));
+        assertThat(reader.getEntry("entries/es/zorro").get(1), equalTo("{\"id\": \"zorro\"}"));
+    }
+
+    @Test
+    public void openEmpty() throws IOException {
+        SnapshotReader reader = createSnapshot(0);
+        assertThat(reader.getEntryCount(), equalTo(0));
+        assertThat(reader.getEntry("entries/en-gb/word0").size(), equalTo(0));
+    }
+
+    @Test
+    public void openInvalid() throws IOException {
+        Path path = dir.resolve("invalid.snapshot");
+        Files.writeString(path, "not a snapshot at all, just some text");
+
+        IOException e = assertThrows(IOException.class, () -> SnapshotReader.open(path));
+        assertThat(e.getMessage(), equalTo("Not a dictionary snapshot"));
+    }
+
+    @Test
+    public void getEntryCorrupt() throws IOException {
+        createSnapshot(1);
+        byte[] bytes = Files.readAllBytes(dir.resolve("test.snapshot"));
+        int payload = SnapshotReader.headerBytes + 4 + "entries/en-gb/word0".length() + 12;
+        bytes[payload] = 0;
+        bytes[payload + 1] = 0;
+
+        List<String> entry = new SnapshotReader(ByteBuffer.wrap(bytes)).getEntry("entries/en-gb/word0");
+        assertThat(entry.size(), equalTo(1));
+    }
+}
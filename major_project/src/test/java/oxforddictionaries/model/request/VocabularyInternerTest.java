@@ -0,0 +1,83 @@
+package oxforddictionaries.model.request;
+
+import com.google.gson.Gson;
+import oxforddictionaries.model.request.responseclasses.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class VocabularyInternerTest {
+    private VocabularyInterner interner;
+    private Gson gson;
+
+    @BeforeEach
+    public void setup() {
+        this.interner = new VocabularyInterner();
+        this.gson = interner.createGson();
+    }
+
+    private LexicalEntry parseLexicalEntry(String json) {
+        return gson.fromJson(json, LexicalEntry.class);
+    }
+
+    @Test
+    public void sameVocabularyShared() {
+        LexicalEntry first = parseLexicalEntry("{\"lexicalCategory\": {\"id\": \"noun\", \"text\": \"Noun\"}}");
+        LexicalEntry second = parseLexicalEntry("{\"lexicalCategory\": {\"id\": \"noun\", \"text\": \"Noun\"}}");
+
+        assertThat(first.getLexicalCategory(), sameInstance(second.getLexicalCategory()));
+        assertThat(first.getLexicalCategory().getText(), equalTo("Noun"));
+        assertThat(interner.size(), equalTo(1));
+    }
+
+    @Test
+    public void differentVocabularyNotShared() {
+        LexicalEntry noun = parseLexicalEntry("{\"lexicalCategory\": {\"id\": \"noun\", \"text\": \"Noun\"}}");
+        LexicalEntry verb = parseLexicalEntry("{\"lexicalCategory\": {\"id\": \"verb\", \"text\": \"Verb\"}}");
+
+        assertThat(noun.getLexicalCategory(), not(sameInstance(verb.getLexicalCategory())));
+        assertThat(verb.getLexicalCategory().getId(), equalTo("verb"));
+        assertThat(interner.size(), equalTo(2));
+    }
+
+    @Test
+    public void grammaticalFeatureTypeCompared() {
+        LexicalEntry first = parseLexicalEntry("{\"grammaticalFeatures\": [" +
+                "{\"id\": \"mass\", \"text\": \"Mass\", \"type\": \"Countability\"}," +
+                "{\"id\": \"mass\", \"text\": \"Mass\", \"type\": \"Other\"}," +
+                "{\"id\": \"mass\", \"text\": \"Mass\", \"type\": \"Countability\"}]}");
+
+        assertThat(first.getGrammaticalFeatures().get(0), sameInstance(first.getGrammaticalFeatures().get(2)));
+        assertThat(first.getGrammaticalFeatures().get(0), not(sameInstance(first.getGrammaticalFeatures().get(1))));
+    }
+
+    @Test
+    public void nullVocabulary() {
+        LexicalEntry entry = parseLexicalEntry("{\"lexicalCategory\": null}");
+        assertThat(entry.getLexicalCategory(), nullValue());
+        assertThat(interner.size(), equalTo(0));
+    }
+
+    @Test
+    public void otherClassesNotShared() {
+        RetrieveEntry first = gson.fromJson(new DummyAPI().getEntrySearchJSON(), RetrieveEntry.class);
+        RetrieveEntry second = gson.fromJson(new DummyAPI().getEntrySearchJSON(), RetrieveEntry.class);
+
+        HeadwordEntry firstResult = first.getResults().get(0);
+        HeadwordEntry secondResult = second.getResults().get(0);
+        assertThat(firstResult, not(sameInstance(secondResult)));
+        assertThat(firstResult.getLexicalEntries().get(0).getLexicalCategory(),
+                sameInstance(secondResult.getLexicalEntries().get(0).getLexicalCategory()));
+    }
+
+    @Test
+    public void writeVocabulary() {
+        LexicalEntry entry = parseLexicalEntry("{\"lexicalCategory\": {\"id\": \"noun\", \"text\": \"Noun\"}}");
+        assertThat(gson.toJson(entry.getLexicalCategory()), equalTo("{\"id\":\"noun\",\"text\":\"Noun\"}"));
+    }
+}
@@ -0,0 +1,190 @@
+package oxforddictionaries.server;
+
+import oxforddictionaries.model.AboutData;
+import oxforddictionaries.model.DictionaryLookup;
+import oxforddictionaries.model.LemmaProcessor;
+import oxforddictionaries.model.LookupResult;
+import oxforddictionaries.model.RemoteInputEngine;
+import oxforddictionaries.model.request.QueryKey;
+import oxforddictionaries.model.request.Request;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+public class DictionaryServerTest {
+    private DictionaryLookup lookupMock;
+    private DictionaryServer server;
+    private Request request;
+    private String url;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        this.lookupMock = mock(DictionaryLookup.class);
+        this.server = new DictionaryServer(lookupMock, new InetSocketAddress("localhost", 0), 4, 10);
+        server.start();
+        this.request = new Request(null, null);
+        this.url = "http://localhost:" + server.getPort();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    private RetrieveEntry createEntry(String id) {
+        return new Gson().fromJson("{\"id\": \"" + id + "\"}", RetrieveEntry.class);
+    }
+
+    @Test
+    public void entrySearch() {
+        when(lookupMock.entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .thenReturn(new LookupResult(new ArrayList<>(), createEntry("ice cream")));
+
+        List<String> response = request.getRequest(url + "/entries?lang=en-gb&word=ice+cream&lexiCate=noun&cacheDecided=true");
+        assertThat(response.get(0), equalTo("200"));
+        LookupResult result = new Gson().fromJson(response.get(1), LookupResult.class);
+        assertThat(result.getResponse().size(), equalTo(0));
+        assertThat(result.getRetrieveEntry().getId(), equalTo("ice cream"));
+
+        QueryKey queryKey = QueryKey.entries("en-gb", "ice cream", null, null, "noun", null, null, null);
+        verify(lookupMock, times(1)).entrySearch(queryKey, false, true, false, true);
+    }
+
+    @Test
+    public void entrySearchNotFound() {
+        when(lookupMock.entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .thenReturn(new LookupResult(null, null));
+
+        List<String> response = request.getRequest(url + "/entries?lang=en-gb&word=noun");
+        assertThat(response.get(0), equalTo("200"));
+        LookupResult result = new Gson().fromJson(response.get(1), LookupResult.class);
+        assertThat(result.getResponse(), nullValue());
+        assertThat(result.getRetrieveEntry(), nullValue());
+    }
+
+    @Test
+    public void lemmaSearch() {
+        when(lookupMock.lemmaSearch(any(QueryKey.class), anyBoolean(), anyBoolean()))
+                .thenReturn(new LookupResult(new ArrayList<>(), createEntry("nouns")));
+
+        List<String> response = request.getRequest(url + "/lemmas?lang=en-gb&word=nouns&useCache=true");
+        assertThat(response.get(0), equalTo("200"));
+        verify(lookupMock, times(1)).lemmaSearch(QueryKey.lemmas("en-gb", "nouns", null, null), false, true);
+    }
+
+    @Test
+    public void missingWord() {
+        List<String> response = request.getRequest(url + "/entries?lang=en-gb");
+        assertThat(response.get(0), equalTo("400"));
+        assertThat(response.get(1), equalTo("{\"error\":\"lang and word are required\"}"));
+        verifyNoInteractions(lookupMock);
+    }
+
+    @Test
+    public void unknownPath() {
+        List<String> response = request.getRequest(url + "/entriesx?lang=en-gb&word=noun");
+        assertThat(response.get(0), equalTo("404"));
+    }
+
+    @Test
+    public void lookupFails() {
+        when(lookupMock.entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .thenThrow(new IllegalStateException("broken"));
+
+        List<String> response = request.getRequest(url + "/entries?lang=en-gb&word=noun");
+        assertThat(response.get(0), equalTo("500"));
+        assertThat(response.get(1), equalTo("{\"error\":\"broken\"}"));
+    }
+
+    @Test
+    public void resultKeptInMemory() {
+        when(lookupMock.entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .thenReturn(new LookupResult(new ArrayList<>(), createEntry("noun")));
+
+        List<String> first = request.getRequest(url + "/entries?lang=en-gb&word=noun&cacheDecided=true&useCache=true");
+        List<String> second = request.getRequest(url + "/entries?lang=en-gb&word=noun&cacheDecided=true&useCache=true");
+        assertThat(second, equalTo(first));
+
+        List<String> undecided = request.getRequest(url + "/entries?lang=en-gb&word=noun");
+        assertThat(undecided.get(1), equalTo("{\"response\":[null]}"));
+        verify(lookupMock, times(1)).entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean());
+
+        request.getRequest(url + "/entries?lang=en-gb&word=noun&cacheDecided=true&useCache=false");
+        verify(lookupMock, times(2)).entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void errorNotKeptInMemory() {
+        List<String> error = new ArrayList<>();
+        error.add("500");
+        error.add("Internal error");
+        when(lookupMock.lemmaSearch(any(QueryKey.class), anyBoolean(), anyBoolean()))
+                .thenReturn(new LookupResult(error, null));
+
+        request.getRequest(url + "/lemmas?lang=en-gb&word=nouns&cacheDecided=true&useCache=true");
+        request.getRequest(url + "/lemmas?lang=en-gb&word=nouns&cacheDecided=true&useCache=true");
+        verify(lookupMock, times(2)).lemmaSearch(any(QueryKey.class), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void missingNotKeptInMemory() {
+        when(lookupMock.entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .thenReturn(new LookupResult(null, null));
+
+        request.getRequest(url + "/entries?lang=en-gb&word=nou&cacheDecided=true&useCache=true&keepMissing=false");
+        request.getRequest(url + "/entries?lang=en-gb&word=nou&cacheDecided=true&useCache=true&keepMissing=false");
+        QueryKey queryKey = QueryKey.entries("en-gb", "nou", null, null, null, null, null, null);
+        verify(lookupMock, times(2)).entrySearch(queryKey, false, true, true, false);
+    }
+
+    @Test
+    public void lemmaKeptSeparately() {
+        when(lookupMock.entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .thenReturn(new LookupResult(null, null));
+
+        request.getRequest(url + "/entries?lang=en-gb&word=noun&cacheDecided=true&useCache=true");
+        request.getRequest(url + "/entries?lang=en-gb&word=noun&lemma=true&cacheDecided=true&useCache=true");
+        verify(lookupMock, times(2)).entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void parseQuery() {
+        Map<String, String> params = DictionaryServer.parseQuery("word=ice+cream&field=&match=a%26b&lemma");
+        assertThat(params.get("word"), equalTo("ice cream"));
+        assertThat(params.get("field"), equalTo(""));
+        assertThat(params.get("match"), equalTo("a&b"));
+        assertThat(params.get("lemma"), equalTo(""));
+        assertThat(params.get("lang"), nullValue());
+        assertThat(DictionaryServer.parseQuery(null).size(), equalTo(0));
+    }
+
+    @Test
+    public void remoteInputEngine() {
+        when(lookupMock.entrySearch(any(QueryKey.class), anyBoolean(), anyBoolean(), anyBoolean(), anyBoolean()))
+                .thenReturn(new LookupResult(new ArrayList<>(), createEntry("noun")));
+
+        RemoteInputEngine engine = new RemoteInputEngine(request, url, mock(LemmaProcessor.class), mock(AboutData.class));
+        List<String> actual = engine.entrySearch("en-gb", "noun", "", "", "", "", "", "", true, false, false, true, true);
+        assertThat(actual.size(), equalTo(0));
+        assertThat(engine.getRetrieveEntry().getId(), equalTo("noun"));
+        assertThat(engine.getHistory().get(0).get(1), equalTo("noun"));
+
+        QueryKey queryKey = QueryKey.entries("en-gb", "noun", "", "", "", "", "", "");
+        verify(lookupMock, times(1)).entrySearch(queryKey, false, true, true, true);
+    }
+}
@@ -0,0 +1,248 @@
+package oxforddictionaries.view;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.control.TreeCell;
+import javafx.scene.control.TreeItem;
+import javafx.scene.control.TreeView;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import oxforddictionaries.model.AboutData;
+import oxforddictionaries.model.LemmaProcessor;
+import oxforddictionaries.model.OfflineInputEngine;
+import oxforddictionaries.model.request.DummyAPI;
+import oxforddictionaries.model.request.responseclasses.RetrieveEntry;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Headless benchmark of rendering the entry tree. Compares one JavaFX node per tree item with the reused cells.
+ * Reports the JavaFX nodes held per render, the time per render and the bytes allocated on the FX thread.
+ * Run with the renderBenchmark gradle task, which starts JavaFX with the Monocle headless platform.
+ * The cells are created and filled like the skin of the tree view does for the rows of the viewport, without css
+ * or layout, so it doesn't need the native text libraries. The times don't include css and layout.
+ */
+public class EntryRenderBenchmark {
+    private static final int[] senseCounts = {10, 100, 500};
+    private static final int warmupRenders = 5;
+    private static final int measuredRenders = 20;
+    // The tree view of the window is 640 pixels high with rows of 24 pixels, and the skin keeps a row for scrolling
+    private static final int viewportHeight = 640;
+    private static final int rowHeight = 24;
+    private static final int viewportRows = (viewportHeight + rowHeight - 1) / rowHeight + 1;
+
+    private EntryDisplayVbox entryDisplayVbox;
+
+    /**
+     * Result of one benchmark
+     */
+    private static class Result {
+        private long nodes;
+        private double millis;
+        private double bytes;
+    }
+
+    /**
+     * Starts JavaFX and runs the benchmarks
+     * @param args unused
+     * @throws Exception if JavaFX fails to start
+     */
+    public static void main(String[] args) throws Exception {
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        try {
+            EntryRenderBenchmark benchmark = new EntryRenderBenchmark();
+            onFxThread(() -> {
+                benchmark.setup();
+                return null;
+            });
+
+            System.out.printf("%-8s %-10s %12s %12s %14s %14s%n", "senses", "mode", "tree items", "fx nodes", "ms/render", "KB/render");
+            for (int senseCount : senseCounts) {
+                EntryNode model = new EntryTreeBuilder().build(createEntry(senseCount));
+                for (String mode : new String[] {"per-item", "pooled"}) {
+                    Result result = benchmark.measure(model, mode);
+                    System.out.printf("%-8d %-10s %12d %12d %14.3f %14.1f%n", senseCount, mode, model.getSize() - 1, result.nodes,
+                            result.millis, result.bytes / 1024);
+                }
+            }
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    private static <T> T onFxThread(java.util.concurrent.Callable<T> callable) throws Exception {
+        FutureTask<T> task = new FutureTask<>(callable);
+        Platform.runLater(task);
+        return task.get();
+    }
+
+    /**
+     * Scales the dummy api entry by repeating its sense
+     * @param senseCount number of senses
+     * @return POJO
+     */
+    public static RetrieveEntry createEntry(int senseCount) {
+        Gson gson = new Gson();
+        JsonObject json = gson.fromJson(new DummyAPI().getEntrySearchJSON(), JsonObject.class);
+        JsonObject entry = json.getAsJsonArray("results").get(0).getAsJsonObject()
+                .getAsJsonArray("lexicalEntries").get(0).getAsJsonObject()
+                .getAsJsonArray("entries").get(0).getAsJsonObject();
+        JsonObject sense = entry.getAsJsonArray("senses").get(0).getAsJsonObject();
+        JsonArray senses = new JsonArray();
+        for (int i = 0; i < senseCount; i++) {
+            JsonObject copy = sense.deepCopy();
+            copy.addProperty("id", "sense." + i);
+            senses.add(copy);
+        }
+        entry.add("senses", senses);
+        return gson.fromJson(json, RetrieveEntry.class);
+    }
+
+    private void setup() {
+        this.entryDisplayVbox = new EntryDisplayVbox(new OfflineInputEngine(new DummyAPI(), new LemmaProcessor(), new AboutData()));
+    }
+
+    /**
+     * Renders the entry in its own task on the FX thread each time, so a pulse can run between the renders like
+     * in the window
+     * @return average of the measured renders
+     */
+    private Result measure(EntryNode model, String mode) throws Exception {
+        for (int i = 0; i < warmupRenders; i++) {
+            onFxThread(() -> render(model, mode));
+        }
+
+        Result result = new Result();
+        for (int i = 0; i < measuredRenders; i++) {
+            Result render = onFxThread(() -> measureRender(model, mode));
+            result.nodes = render.nodes;
+            result.millis += render.millis / measuredRenders;
+            result.bytes += render.bytes / measuredRenders;
+        }
+        return result;
+    }
+
+    private Result measureRender(EntryNode model, String mode) {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        Result result = new Result();
+        long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        result.nodes = render(model, mode);
+        result.millis = (System.nanoTime() - start) / 1e6;
+        result.bytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+        return result;
+    }
+
+    /**
+     * Renders the entry fully expanded and fills the cells of the rows in the viewport
+     * @return number of JavaFX nodes held by the vbox, the cells and the tree items
+     */
+    @SuppressWarnings("unchecked")
+    private long render(EntryNode model, String mode) {
+        VBox vbox;
+        if (mode.equals("pooled")) {
+            vbox = entryDisplayVbox.create(model, "noun");
+            while (!entryDisplayVbox.isAttached()) {
+                entryDisplayVbox.attachPending();
+            }
+        }
+        else {
+            TreeItem<HBox> perItemRoot = new TreeItem<>();
+            for (EntryNode child : model.getChildren()) {
+                perItemRoot.getChildren().add(createPerItem(child));
+            }
+            TreeView<HBox> tree = new TreeView<>(perItemRoot);
+            tree.setShowRoot(false);
+            // The same as the default cell of the tree view, which shows the node of the tree item
+            tree.setCellFactory((view) -> new TreeCell<>() {
+                @Override
+                protected void updateItem(HBox item, boolean empty) {
+                    super.updateItem(item, empty);
+                    setGraphic(empty ? null : item);
+                }
+            });
+            vbox = new VBox(5, new Label(model.getText()), tree);
+        }
+        // Expanding the items of a shown tree has the selection model look up the row of each one
+        TreeView<Object> tree = (TreeView<Object>) vbox.getChildren().get(1);
+        TreeItem<Object> root = tree.getRoot();
+        tree.setRoot(null);
+        expand(root);
+        tree.setRoot(root);
+
+        Set<Node> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        collect(vbox, nodes);
+        int rows = Math.min(viewportRows, tree.getExpandedItemCount());
+        for (int i = 0; i < rows; i++) {
+            TreeCell<Object> cell = tree.getCellFactory().call(tree);
+            cell.updateTreeView(tree);
+            cell.updateIndex(i);
+            collect(cell, nodes);
+            if (cell.getGraphic() != null) {
+                collect(cell.getGraphic(), nodes);
+            }
+        }
+        collectValues(tree.getRoot(), nodes);
+        return nodes.size();
+    }
+
+    private TreeItem<HBox> createPerItem(EntryNode node) {
+        Label lbl = new Label(node.getText());
+        lbl.setWrapText(true);
+        TreeItem<HBox> item = new TreeItem<>(new HBox(lbl));
+        for (EntryNode child : node.getChildren()) {
+            item.getChildren().add(createPerItem(child));
+        }
+        return item;
+    }
+
+    private void expand(TreeItem<?> item) {
+        item.setExpanded(true);
+        for (TreeItem<?> child : item.getChildren()) {
+            expand(child);
+        }
+    }
+
+    private void collect(Node node, Set<Node> nodes) {
+        nodes.add(node);
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                collect(child, nodes);
+            }
+        }
+    }
+
+    private void collectValues(TreeItem<?> item, Set<Node> nodes) {
+        if (item.getValue() instanceof Node) {
+            collect((Node) item.getValue(), nodes);
+        }
+        for (TreeItem<?> child : item.getChildren()) {
+            collectValues(child, nodes);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package SpaceTraders.benchmark;
+
+import SpaceTraders.model.DummyAPI;
+import SpaceTraders.model.ErrorResponse;
+import SpaceTraders.model.Location;
+import SpaceTraders.model.LocationsResponse;
+import SpaceTraders.model.ResponseParser;
+import SpaceTraders.model.Ship;
+import SpaceTraders.model.ShipListingsResponse;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the DummyAPI responses with a new Gson and a Map that is written back to json for the field,
+ * as the engines used to, and once into the response classes with the shared Gson
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseParsingBenchmark {
+    private static final Type mapType = new TypeToken<Map<String, Object>>() {}.getType();
+    private static final Type errorMapType = new TypeToken<Map<String, Map<String, Object>>>() {}.getType();
+    private String shipsJson;
+    private String locationsJson;
+    private String errorJson;
+
+    @Setup
+    public void setup() {
+        DummyAPI dummyAPI = new DummyAPI();
+        this.shipsJson = dummyAPI.getAvailableShipsJson("");
+        this.locationsJson = dummyAPI.getFindNearbyLocationsJson("");
+        this.errorJson = "{\"error\": {\"message\": \"Invalid ship class.\",\"code\": 422,\"data\": " +
+                "{\"class\": [\"class must be one of MK-I, MK-II, MK-III\"]}}}";
+    }
+
+    @Benchmark
+    public List<Ship> shipsMap() {
+        Gson gson = new Gson();
+        Map<String, Object> map = gson.fromJson(shipsJson, mapType);
+        String json = gson.toJson(map.get("shipListings"));
+        Ship[] ships = gson.fromJson(json, Ship[].class);
+        return Arrays.asList(ships);
+    }
+
+    @Benchmark
+    public List<Ship> shipsTyped() {
+        return ResponseParser.parse(shipsJson, ShipListingsResponse.class).getShipListings();
+    }
+
+    @Benchmark
+    public List<Location> locationsMap() {
+        Gson gson = new Gson();
+        Map<String, Object> map = gson.fromJson(locationsJson, mapType);
+        String json = gson.toJson(map.get("locations"));
+        Location[] locations = gson.fromJson(json, Location[].class);
+        return Arrays.asList(locations);
+    }
+
+    @Benchmark
+    public List<Location> locationsTyped() {
+        return ResponseParser.parse(locationsJson, LocationsResponse.class).getLocations();
+    }
+
+    @Benchmark
+    public Object errorMap() {
+        Gson gson = new Gson();
+        Map<String, Map<String, Object>> errorMap = gson.fromJson(errorJson, errorMapType);
+        String data = gson.toJson(errorMap.get("error").get("data"));
+        Map<String, Object> map = gson.fromJson(data, mapType);
+        return map;
+    }
+
+    @Benchmark
+    public Object errorTyped() {
+        return ResponseParser.parse(errorJson, ErrorResponse.class).getError().getData();
+    }
+}
@@ -12,7 +12,7 @@ public class SpaceTraderApp extends Application {
     @Override
     public void start(Stage primaryStage) {
         List<String> args = getParameters().getUnnamed();
-        GameEngine gameEngine = getEngine(args);
+        AsyncGameEngine gameEngine = getEngine(args);
         if (gameEngine == null) {
             System.out.println("Incorrect arguments");
             System.exit(0);
@@ -32,13 +32,13 @@ public class SpaceTraderApp extends Application {
 
     }
 
-    public GameEngine getEngine(List<String> args) {
+    public AsyncGameEngine getEngine(List<String> args) {
         if (args.size() == 1) {
             if (args.get(0).equals("offline")) {
-                return new OfflineGameEngine(new DummyAPI());
+                return new BackgroundGameEngine(new OfflineGameEngine(new DummyAPI()));
             }
             else if (args.get(0).equals("online")) {
-                return new OnlineGameEngine(new Request());
+                return new BackgroundGameEngine(new OnlineGameEngine(new Request()));
             }
         }
         return null;
@@ -0,0 +1,44 @@
+package SpaceTraders.model;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncGameEngine {
+    String getStatus();
+
+    String getStatusIconColour();
+
+    CompletableFuture<Result<Token>> register(String username);
+
+    CompletableFuture<Result<Token>> getAccountDetails(String authToken);
+
+    CompletableFuture<Void> logout();
+
+    CompletableFuture<Result<List<Loan>>> getAvailableLoans();
+
+    CompletableFuture<Result<User>> takeLoan(String loanType);
+
+    CompletableFuture<Result<User>> activeLoans();
+
+    CompletableFuture<Result<List<Ship>>> availableShips(String shipClass);
+
+    CompletableFuture<Result<User>> purchaseShip(String location, String type);
+
+    CompletableFuture<Result<User>> getUserShips();
+
+    CompletableFuture<Result<List<Goods>>> viewMarketPlace(String location);
+
+    CompletableFuture<Result<User>> purchaseGoods(String shipId, String good, String quantity);
+
+    CompletableFuture<Result<User>> sellGoods(String shipId, String good, String quantity);
+
+    CompletableFuture<Result<User>> getShipInfo(String shipId);
+
+    CompletableFuture<Result<List<Location>>> findNearbyLocations(String type);
+
+    CompletableFuture<Result<FlightPlan>> createFlightPlan(String shipId, String destination);
+
+    CompletableFuture<Result<FlightPlan>> viewFlightPlan(String flightId);
+
+    CompletableFuture<Result<Status>> checkServerStatus();
+}
@@ -0,0 +1,120 @@
+package SpaceTraders.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+public class BackgroundGameEngine implements AsyncGameEngine {
+    private final GameEngine engine;
+    private final ExecutorService executor;
+    private final String status;
+    private final String statusIconColour;
+
+    public BackgroundGameEngine(GameEngine engine) {
+        this.engine = engine;
+        this.status = engine.getStatus();
+        this.statusIconColour = engine.getStatusIconColour();
+        // One thread, as the getters of the engine return the result of the last call
+        this.executor = Executors.newSingleThreadExecutor((runnable) -> {
+            Thread thread = new Thread(runnable, "game-engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // The value is read on the engine thread right after the call, before a later call replaces it
+    private <T> CompletableFuture<Result<T>> call(Supplier<List<String>> call, Supplier<T> value) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> msg = call.get();
+            return new Result<T>(msg, msg.size() > 0 ? null : value.get());
+        }, executor).exceptionally((e) -> {
+            List<String> msg = new ArrayList<String>();
+            msg.add("Something went wrong.");
+            msg.add(e.getMessage());
+            return new Result<T>(msg, null);
+        });
+    }
+
+    private User getUser() {
+        return engine.getCurrentToken().getUser();
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getStatusIconColour() {
+        return statusIconColour;
+    }
+
+    public CompletableFuture<Result<Token>> register(String username) {
+        return call(() -> engine.register(username), engine::getCurrentToken);
+    }
+
+    public CompletableFuture<Result<Token>> getAccountDetails(String authToken) {
+        return call(() -> engine.getAccountDetails(authToken), engine::getCurrentToken);
+    }
+
+    public CompletableFuture<Void> logout() {
+        return CompletableFuture.runAsync(engine::logout, executor);
+    }
+
+    public CompletableFuture<Result<List<Loan>>> getAvailableLoans() {
+        return call(engine::getAvailableLoans, engine::getAvailableLoansList);
+    }
+
+    public CompletableFuture<Result<User>> takeLoan(String loanType) {
+        return call(() -> engine.takeLoan(loanType), this::getUser);
+    }
+
+    public CompletableFuture<Result<User>> activeLoans() {
+        return call(engine::activeLoans, this::getUser);
+    }
+
+    public CompletableFuture<Result<List<Ship>>> availableShips(String shipClass) {
+        return call(() -> engine.availableShips(shipClass), engine::getAvailableShips);
+    }
+
+    public CompletableFuture<Result<User>> purchaseShip(String location, String type) {
+        return call(() -> engine.purchaseShip(location, type), this::getUser);
+    }
+
+    public CompletableFuture<Result<User>> getUserShips() {
+        return call(engine::getUserShips, this::getUser);
+    }
+
+    public CompletableFuture<Result<List<Goods>>> viewMarketPlace(String location) {
+        return call(() -> engine.viewMarketPlace(location), engine::getGoods);
+    }
+
+    public CompletableFuture<Result<User>> purchaseGoods(String shipId, String good, String quantity) {
+        return call(() -> engine.purchaseGoods(shipId, good, quantity), this::getUser);
+    }
+
+    public CompletableFuture<Result<User>> sellGoods(String shipId, String good, String quantity) {
+        return call(() -> engine.sellGoods(shipId, good, quantity), this::getUser);
+    }
+
+    public CompletableFuture<Result<User>> getShipInfo(String shipId) {
+        return call(() -> engine.getShipInfo(shipId), this::getUser);
+    }
+
+    public CompletableFuture<Result<List<Location>>> findNearbyLocations(String type) {
+        return call(() -> engine.findNearbyLocations(type), engine::getLocations);
+    }
+
+    public CompletableFuture<Result<FlightPlan>> createFlightPlan(String shipId, String destination) {
+        return call(() -> engine.createFlightPlan(shipId, destination), engine::getFlightPlan);
+    }
+
+    public CompletableFuture<Result<FlightPlan>> viewFlightPlan(String flightId) {
+        return call(() -> engine.viewFlightPlan(flightId), engine::getFlightPlan);
+    }
+
+    public CompletableFuture<Result<Status>> checkServerStatus() {
+        return call(engine::checkServerStatus, engine::getServerStatus);
+    }
+}
@@ -0,0 +1,70 @@
+package SpaceTraders.model;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+public class ErrorResponse {
+    private ApiError error;
+
+    public ApiError getError() {
+        return error;
+    }
+
+    public static class ApiError {
+        private int code;
+        private String message;
+        private ErrorData data;
+
+        public int getCode() {
+            return code;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public ErrorData getData() {
+            return data;
+        }
+    }
+
+    public static class ErrorData {
+        private List<String> type;
+        @SerializedName(value = "class")
+        private List<String> shipClass;
+        private List<String> location;
+        private List<String> shipId;
+        private Integer loadingSpeed;
+        private List<String> good;
+        private List<String> quantity;
+
+        public List<String> getType() {
+            return type;
+        }
+
+        public List<String> getShipClass() {
+            return shipClass;
+        }
+
+        public List<String> getLocation() {
+            return location;
+        }
+
+        public List<String> getShipId() {
+            return shipId;
+        }
+
+        public Integer getLoadingSpeed() {
+            return loadingSpeed;
+        }
+
+        public List<String> getGood() {
+            return good;
+        }
+
+        public List<String> getQuantity() {
+            return quantity;
+        }
+    }
+}
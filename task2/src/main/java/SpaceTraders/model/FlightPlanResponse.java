@@ -0,0 +1,9 @@
+package SpaceTraders.model;
+
+public class FlightPlanResponse {
+    private FlightPlan flightPlan;
+
+    public FlightPlan getFlightPlan() {
+        return flightPlan;
+    }
+}
@@ -0,0 +1,11 @@
+package SpaceTraders.model;
+
+import java.util.List;
+
+public class LoansResponse {
+    private List<Loan> loans;
+
+    public List<Loan> getLoans() {
+        return loans;
+    }
+}
@@ -0,0 +1,11 @@
+package SpaceTraders.model;
+
+import java.util.List;
+
+public class LocationsResponse {
+    private List<Location> locations;
+
+    public List<Location> getLocations() {
+        return locations;
+    }
+}
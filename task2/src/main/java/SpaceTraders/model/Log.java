@@ -0,0 +1,139 @@
+package SpaceTraders.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class Log {
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    public static final String levelProperty = "spacetraders.log.level";
+    // Every nth response body is logged, 0 logs none
+    public static final String bodySamplingProperty = "spacetraders.log.bodySampling";
+    public static final int capacity = 1024;
+
+    private static final BlockingQueue<String> buffer = new ArrayBlockingQueue<String>(capacity);
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final AtomicLong bodies = new AtomicLong();
+    private static volatile Level level = parseLevel(System.getProperty(levelProperty));
+    private static volatile int bodySampling = parseSampling(System.getProperty(bodySamplingProperty));
+
+    static {
+        Thread writer = new Thread(Log::write, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush));
+    }
+
+    private final String name;
+
+    private Log(String name) {
+        this.name = name;
+    }
+
+    public static Log get(Class<?> type) {
+        return new Log(type.getSimpleName());
+    }
+
+    public static void setLevel(Level newLevel) {
+        level = newLevel;
+    }
+
+    public static void setBodySampling(int everyNth) {
+        bodySampling = Math.max(0, everyNth);
+    }
+
+    public boolean isEnabled(Level messageLevel) {
+        return messageLevel != Level.OFF && messageLevel.compareTo(level) >= 0;
+    }
+
+    public void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    public void info(Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    public void warn(Supplier<String> message) {
+        log(Level.WARN, message);
+    }
+
+    public void error(Supplier<String> message) {
+        log(Level.ERROR, message);
+    }
+
+    public void responseBody(String body) {
+        int sampling = bodySampling;
+        if (!isEnabled(Level.INFO) || sampling == 0) {
+            return;
+        }
+        if (bodies.getAndIncrement() % sampling == 0) {
+            append(Level.INFO, "Response body was:\n" + body);
+        }
+    }
+
+    public void log(Level messageLevel, Supplier<String> message) {
+        if (isEnabled(messageLevel)) {
+            append(messageLevel, message.get());
+        }
+    }
+
+    // Never blocks the caller, a full buffer drops the message instead
+    private void append(Level messageLevel, String message) {
+        if (!buffer.offer(messageLevel + " " + name + ": " + message)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private static void write() {
+        while (true) {
+            try {
+                print(buffer.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static void flush() {
+        List<String> remaining = new ArrayList<String>();
+        buffer.drainTo(remaining);
+        for (String line : remaining) {
+            print(line);
+        }
+    }
+
+    private static void print(String line) {
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            System.out.println("WARN Log: " + lost + " messages were dropped");
+        }
+        System.out.println(line);
+    }
+
+    private static Level parseLevel(String value) {
+        if (value == null) {
+            return Level.INFO;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+
+    private static int parseSampling(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
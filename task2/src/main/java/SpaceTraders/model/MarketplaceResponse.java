@@ -0,0 +1,11 @@
+package SpaceTraders.model;
+
+import java.util.List;
+
+public class MarketplaceResponse {
+    private List<Goods> marketplace;
+
+    public List<Goods> getMarketplace() {
+        return marketplace;
+    }
+}
@@ -1,11 +1,7 @@
 package SpaceTraders.model;
 
-import com.google.gson.Gson;
-
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public class OfflineGameEngine implements GameEngine {
     private String status;
@@ -34,20 +30,16 @@ public class OfflineGameEngine implements GameEngine {
     }
 
     public List<String> register(String username) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getRegisterJson();
-        Token token = gson.fromJson(rawJson, Token.class);
+        Token token = ResponseParser.parse(rawJson, Token.class);
         this.currentToken = token;
 
         return new ArrayList<String>();
     }
 
     public List<String> getAccountDetails(String authToken) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getAccountDetailsJson();
-        Token token = gson.fromJson(rawJson, Token.class);
+        Token token = ResponseParser.parse(rawJson, Token.class);
         token.setToken(authToken);
         this.currentToken = token;
 
@@ -63,14 +55,10 @@ public class OfflineGameEngine implements GameEngine {
     }
 
     public List<String> getAvailableLoans() {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getAvailableLoanJson();
 
-        Map<String, Object> map = gson.fromJson(rawJson, Map.class);
-        String json = gson.toJson(map.get("loans"));
-        Loan[] loans = gson.fromJson(json, Loan[].class);
-        this.availableLoans = Arrays.asList(loans);
+        List<Loan> loans = ResponseParser.parse(rawJson, LoansResponse.class).getLoans();
+        this.availableLoans = loans;
 
         return new ArrayList<String>();
     }
@@ -80,33 +68,25 @@ public class OfflineGameEngine implements GameEngine {
     }
 
     public List<String> takeLoan(String loanType) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getTakeLoanJson();
-        User user = gson.fromJson(rawJson, User.class);
+        User user = ResponseParser.parse(rawJson, User.class);
         this.currentToken.setUser(user);
 
         return new ArrayList<String>();
     }
 
     public List<String> activeLoans() {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getActiveLoansJson();
-        User user = gson.fromJson(rawJson, User.class);
+        User user = ResponseParser.parse(rawJson, User.class);
         this.currentToken.setUser(user);
 
         return new ArrayList<String>();
     }
 
     public List<String> availableShips(String shipClass) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getAvailableShipsJson(shipClass);
-        Map<String, Object> map = gson.fromJson(rawJson, Map.class);
-        String json = gson.toJson(map.get("shipListings"));
-        Ship[] ships  = gson.fromJson(json, Ship[].class);
-        this.availableShips = Arrays.asList(ships);
+        List<Ship> ships = ResponseParser.parse(rawJson, ShipListingsResponse.class).getShipListings();
+        this.availableShips = ships;
 
         return new ArrayList<String>();
     }
@@ -116,33 +96,25 @@ public class OfflineGameEngine implements GameEngine {
     }
 
     public List<String> purchaseShip(String location, String type) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getPurchaseShip();
-        User user = gson.fromJson(rawJson, User.class);
+        User user = ResponseParser.parse(rawJson, User.class);
         this.currentToken.setUser(user);
 
         return new ArrayList<String>();
     }
 
     public List<String> getUserShips() {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getUserShipsJson();
-        User user = gson.fromJson(rawJson, User.class);
+        User user = ResponseParser.parse(rawJson, User.class);
         this.currentToken.setUser(user);
 
         return new ArrayList<String>();
     }
 
     public List<String> viewMarketPlace(String location) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getViewMarketPlaceJson(location);
-        Map<String, Object> map = gson.fromJson(rawJson, Map.class);
-        String json = gson.toJson(map.get("marketplace"));
-        Goods[] goods = gson.fromJson(json, Goods[].class);
-        this.goods = Arrays.asList(goods);
+        List<Goods> goods = ResponseParser.parse(rawJson, MarketplaceResponse.class).getMarketplace();
+        this.goods = goods;
 
         return new ArrayList<String>();
     }
@@ -152,43 +124,33 @@ public class OfflineGameEngine implements GameEngine {
     }
 
     public List<String> purchaseGoods(String shipId, String goods, String quantity) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getPurchaseGoodsJson();
-        User user = gson.fromJson(rawJson, User.class);
+        User user = ResponseParser.parse(rawJson, User.class);
         this.currentToken.setUser(user);
 
         return new ArrayList<String>();
     }
 
     public List<String> sellGoods(String shipId, String goods, String quantity) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getSellGoodsJson();
-        User user = gson.fromJson(rawJson, User.class);
+        User user = ResponseParser.parse(rawJson, User.class);
         this.currentToken.setUser(user);
 
         return new ArrayList<String>();
     }
 
     public List<String> getShipInfo(String shipId) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getShipInfoJson(shipId);
-        User user = gson.fromJson(rawJson, User.class);
+        User user = ResponseParser.parse(rawJson, User.class);
         this.currentToken.setUser(user);
 
         return new ArrayList<String>();
     }
 
     public List<String> findNearbyLocations(String type) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getFindNearbyLocationsJson(type);
-        Map<String, Object> map = gson.fromJson(rawJson, Map.class);
-        String json = gson.toJson(map.get("locations"));
-        Location[] locations = gson.fromJson(json, Location[].class);
-        this.locations = Arrays.asList(locations);
+        List<Location> locations = ResponseParser.parse(rawJson, LocationsResponse.class).getLocations();
+        this.locations = locations;
 
         return new ArrayList<String>();
     }
@@ -198,12 +160,8 @@ public class OfflineGameEngine implements GameEngine {
     }
 
     public List<String> createFlightPlan(String shipId, String destination) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getCreateFlightPlanJson();
-        Map<String, Object> map = gson.fromJson(rawJson, Map.class);
-        String json = gson.toJson(map.get("flightPlan"));
-        FlightPlan flightPlan = gson.fromJson(json, FlightPlan.class);
+        FlightPlan flightPlan = ResponseParser.parse(rawJson, FlightPlanResponse.class).getFlightPlan();
         this.flightPlan = flightPlan;
 
         return new ArrayList<String>();
@@ -214,22 +172,16 @@ public class OfflineGameEngine implements GameEngine {
     }
 
     public List<String> viewFlightPlan(String flightId) {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getViewFlightPlanJson();
-        Map<String, Object> map = gson.fromJson(rawJson, Map.class);
-        String json = gson.toJson(map.get("flightPlan"));
-        FlightPlan flightPlan = gson.fromJson(json, FlightPlan.class);
+        FlightPlan flightPlan = ResponseParser.parse(rawJson, FlightPlanResponse.class).getFlightPlan();
         this.flightPlan = flightPlan;
 
         return new ArrayList<String>();
     }
 
     public List<String> checkServerStatus() {
-        Gson gson = new Gson();
-
         String rawJson = this.dummyAPI.getCheckServerStatus();
-        Status status = gson.fromJson(rawJson, Status.class);
+        Status status = ResponseParser.parse(rawJson, Status.class);
         this.serverStatus = status;
 
         return new ArrayList<String>();
@@ -1,13 +1,12 @@
 package SpaceTraders.model;
 
-import com.google.gson.Gson;
-
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
 public class OnlineGameEngine implements GameEngine{
+    private static final Log log = Log.get(OnlineGameEngine.class);
+
     private String status;
     private String statusIconColour;
     private Token currentToken;
@@ -18,6 +17,10 @@ public class OnlineGameEngine implements GameEngine{
     private FlightPlan flightPlan;
     private Status serverStatus;
     private Request request;
+    // Locations and ship listings barely change, so filtering by type or class doesn't request them again
+    private final TtlCache<List<Location>> locationsCache;
+    private final TtlCache<List<Ship>> shipListingsCache;
+    private final TtlCache<Status> serverStatusCache;
 
     public OnlineGameEngine(Request request) {
         this.status = "Online";
@@ -25,6 +28,9 @@ public class OnlineGameEngine implements GameEngine{
         this.availableLoans = new ArrayList<Loan>();
         this.availableShips = new ArrayList<Ship>();
         this.request = request;
+        this.locationsCache = new TtlCache<List<Location>>(Duration.ofMinutes(10));
+        this.shipListingsCache = new TtlCache<List<Ship>>(Duration.ofMinutes(1));
+        this.serverStatusCache = new TtlCache<Status>(Duration.ofSeconds(30));
     }
 
     public String getStatus() {
@@ -41,12 +47,11 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                Token token = gson.fromJson(msg.get(2), Token.class);
+                Token token = ResponseParser.parse(msg.get(2), Token.class);
                 this.currentToken = token;
                 msg.clear();
             }
@@ -63,12 +68,11 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                Token token = gson.fromJson(msg.get(2), Token.class);
+                Token token = ResponseParser.parse(msg.get(2), Token.class);
                 token.setToken(authToken);
                 this.currentToken = token;
                 msg.clear();
@@ -86,6 +90,12 @@ public class OnlineGameEngine implements GameEngine{
 
     public void logout() {
         this.currentToken = null;
+        invalidateCaches();
+    }
+
+    public void invalidateCaches() {
+        locationsCache.invalidate();
+        shipListingsCache.invalidate();
     }
 
     public List<String> getAvailableLoans() {
@@ -95,15 +105,12 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                Map<String, Object> map = gson.fromJson(msg.get(2), Map.class);
-                String json = gson.toJson(map.get("loans"));
-                Loan[] loans = gson.fromJson(json, Loan[].class);
-                this.availableLoans = Arrays.asList(loans);
+                List<Loan> loans = ResponseParser.parse(msg.get(2), LoansResponse.class).getLoans();
+                this.availableLoans = loans;
                 msg.clear();
             }
             else if (statusCode >= 400 && statusCode < 500) {
@@ -124,13 +131,13 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                User user = gson.fromJson(msg.get(2), User.class);
+                User user = ResponseParser.parse(msg.get(2), User.class);
                 this.currentToken.setUser(user);
+                invalidateCaches();
                 msg.clear();
             }
             else if (statusCode >= 400 && statusCode < 500) {
@@ -147,12 +154,11 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                User user = gson.fromJson(msg.get(2), User.class);
+                User user = ResponseParser.parse(msg.get(2), User.class);
                 this.currentToken.setUser(user);
                 msg.clear();
             }
@@ -164,58 +170,52 @@ public class OnlineGameEngine implements GameEngine{
     }
 
     public List<String> handleErrorReq(String body) {
-        Gson gson = new Gson();
         List<String> msg = new ArrayList<String>();
-        Map<String, Map<String, Object>> errorMap = gson.fromJson(body, Map.class);
-
-        String code = String.valueOf(errorMap.get("error").get("code"));
-        String[] codeClean = code.split("\\.");
-        msg.add("Error code: " + codeClean[0]);
-
-        msg.add(String.valueOf(errorMap.get("error").get("message")));
-//        System.out.println(errorMap.get("error"));
-        if (errorMap.get("error").get("data") != null) {
-            String data = gson.toJson(errorMap.get("error").get("data"));
-            Map<String, List<String>> map = gson.fromJson(data, Map.class);
-            if (map.get("type") != null) {
-                System.out.println(map.get("type").size());
-                for (String type : map.get("type")) {
-                    System.out.println(type);
+        ErrorResponse.ApiError error = ResponseParser.parse(body, ErrorResponse.class).getError();
+
+        msg.add("Error code: " + error.getCode());
+
+        msg.add(error.getMessage());
+//        log.debug(() -> error);
+        ErrorResponse.ErrorData data = error.getData();
+        if (data != null) {
+            if (data.getType() != null) {
+                log.debug(() -> String.valueOf(data.getType().size()));
+                for (String type : data.getType()) {
+                    log.debug(() -> type);
                     msg.add(type);
                 }
             }
-            if (map.get("class") != null) {
-                for (String cl : map.get("class")) {
-                    System.out.println(cl);
+            if (data.getShipClass() != null) {
+                for (String cl : data.getShipClass()) {
+                    log.debug(() -> cl);
                     msg.add(cl);
                 }
             }
-            if (map.get("location") != null) {
-                for (String location : map.get("location")) {
-                    System.out.println(location);
+            if (data.getLocation() != null) {
+                for (String location : data.getLocation()) {
+                    log.debug(() -> location);
                     msg.add(location);
                 }
             }
-            if (map.get("shipId") != null) {
-                for (String shipId : map.get("shipId")) {
-                    System.out.println(shipId);
+            if (data.getShipId() != null) {
+                for (String shipId : data.getShipId()) {
+                    log.debug(() -> shipId);
                     msg.add(shipId);
                 }
             }
-            if (map.get("loadingSpeed") != null) {
-                String loadingSpeed = String.valueOf(map.get("loadingSpeed"));
-                String[] loadingSpeedClean = loadingSpeed.split("\\.");
-                msg.add("loadingSpeed: " + loadingSpeedClean[0]);
+            if (data.getLoadingSpeed() != null) {
+                msg.add("loadingSpeed: " + data.getLoadingSpeed());
             }
-            if (map.get("good") != null) {
-                for (String good : map.get("good")) {
-                    System.out.println(good);
+            if (data.getGood() != null) {
+                for (String good : data.getGood()) {
+                    log.debug(() -> good);
                     msg.add(good);
                 }
             }
-            if (map.get("quantity") != null) {
-                for (String quantity : map.get("quantity")) {
-                    System.out.println(quantity);
+            if (data.getQuantity() != null) {
+                for (String quantity : data.getQuantity()) {
+                    log.debug(() -> quantity);
                     msg.add(quantity);
                 }
             }
@@ -225,28 +225,35 @@ public class OnlineGameEngine implements GameEngine{
 
     public List<String> availableShips(String shipClass) {
         String authToken = this.currentToken.getToken();
-        String uri = "https://api.spacetraders.io/systems/OE/ship-listings?token=" + authToken;
-        if (shipClass.length() != 0) {
-            uri += "&class=" + shipClass;
-        }
-        List<String> msg = request.getRequest(uri);
-
-        if (msg.size() == 3) {
-            int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
-//            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
-            if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                Map<String, Object> map = gson.fromJson(msg.get(2), Map.class);
-                String json = gson.toJson(map.get("shipListings"));
-                Ship[] ships  = gson.fromJson(json, Ship[].class);
-                this.availableShips = Arrays.asList(ships);
-                msg.clear();
+        List<Ship> ships = shipListingsCache.get(authToken);
+        List<String> msg = new ArrayList<String>();
+        if (ships == null) {
+            String uri = "https://api.spacetraders.io/systems/OE/ship-listings?token=" + authToken;
+            msg = request.getRequest(uri);
+
+            if (msg.size() == 3) {
+                int statusCode = Integer.parseInt(msg.get(0));
+                log.debug(() -> "Response status code was: " + statusCode);
+//                System.out.println("Response headers were: " + response.headers());
+                log.responseBody(msg.get(2));
+                if (statusCode >= 200 && statusCode < 300) {
+                    ships = ResponseParser.parse(msg.get(2), ShipListingsResponse.class).getShipListings();
+                    shipListingsCache.put(authToken, ships);
+                    msg.clear();
+                }
+                else if (statusCode >= 400 && statusCode < 500) {
+                    msg = handleErrorReq(msg.get(2));
+                }
             }
-            else if (statusCode >= 400 && statusCode < 500) {
-                msg = handleErrorReq(msg.get(2));
+        }
+        if (ships != null) {
+            List<Ship> filtered = new ArrayList<Ship>();
+            for (Ship ship : ships) {
+                if (shipClass.length() == 0 || shipClass.equals(ship.getShipClass())) {
+                    filtered.add(ship);
+                }
             }
+            this.availableShips = filtered;
         }
         return msg;
     }
@@ -262,13 +269,13 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                User user = gson.fromJson(msg.get(2), User.class);
+                User user = ResponseParser.parse(msg.get(2), User.class);
                 this.currentToken.setUser(user);
+                invalidateCaches();
                 msg.clear();
             }
             else if (statusCode >= 400 && statusCode < 500) {
@@ -285,12 +292,11 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                User user = gson.fromJson(msg.get(2), User.class);
+                User user = ResponseParser.parse(msg.get(2), User.class);
                 this.currentToken.setUser(user);
                 msg.clear();
             }
@@ -308,15 +314,12 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                Map<String, Object> map = gson.fromJson(msg.get(2), Map.class);
-                String json = gson.toJson(map.get("marketplace"));
-                Goods[] goods = gson.fromJson(json, Goods[].class);
-                this.goods = Arrays.asList(goods);
+                List<Goods> goods = ResponseParser.parse(msg.get(2), MarketplaceResponse.class).getMarketplace();
+                this.goods = goods;
                 msg.clear();
             }
             else if (statusCode >= 400 && statusCode < 500) {
@@ -338,13 +341,13 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                User user = gson.fromJson(msg.get(2), User.class);
+                User user = ResponseParser.parse(msg.get(2), User.class);
                 this.currentToken.setUser(user);
+                invalidateCaches();
                 msg.clear();
             }
             else if (statusCode >= 400 && statusCode < 500) {
@@ -362,13 +365,13 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                User user = gson.fromJson(msg.get(2), User.class);
+                User user = ResponseParser.parse(msg.get(2), User.class);
                 this.currentToken.setUser(user);
+                invalidateCaches();
                 msg.clear();
             }
             else if (statusCode >= 400 && statusCode < 500) {
@@ -385,12 +388,11 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                User user = gson.fromJson(msg.get(2), User.class);
+                User user = ResponseParser.parse(msg.get(2), User.class);
                 this.currentToken.setUser(user);
                 msg.clear();
             }
@@ -403,28 +405,35 @@ public class OnlineGameEngine implements GameEngine{
 
     public List<String> findNearbyLocations(String type) {
         String authToken = this.currentToken.getToken();
-        String uri = "https://api.spacetraders.io/systems/OE/locations?token=" + authToken;
-        if (type.length() != 0) {
-            uri += "&type=" + type;
-        }
-        List<String> msg = request.getRequest(uri);
-
-        if (msg.size() == 3) {
-            int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
-//            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
-            if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                Map<String, Object> map = gson.fromJson(msg.get(2), Map.class);
-                String json = gson.toJson(map.get("locations"));
-                Location[] locations = gson.fromJson(json, Location[].class);
-                this.locations = Arrays.asList(locations);
-                msg.clear();
+        List<Location> allLocations = locationsCache.get(authToken);
+        List<String> msg = new ArrayList<String>();
+        if (allLocations == null) {
+            String uri = "https://api.spacetraders.io/systems/OE/locations?token=" + authToken;
+            msg = request.getRequest(uri);
+
+            if (msg.size() == 3) {
+                int statusCode = Integer.parseInt(msg.get(0));
+                log.debug(() -> "Response status code was: " + statusCode);
+//                System.out.println("Response headers were: " + response.headers());
+                log.responseBody(msg.get(2));
+                if (statusCode >= 200 && statusCode < 300) {
+                    allLocations = ResponseParser.parse(msg.get(2), LocationsResponse.class).getLocations();
+                    locationsCache.put(authToken, allLocations);
+                    msg.clear();
+                }
+                else if (statusCode >= 400 && statusCode < 500) {
+                    msg = handleErrorReq(msg.get(2));
+                }
             }
-            else if (statusCode >= 400 && statusCode < 500) {
-                msg = handleErrorReq(msg.get(2));
+        }
+        if (allLocations != null) {
+            List<Location> locations = new ArrayList<Location>();
+            for (Location location : allLocations) {
+                if (type.length() == 0 || type.equals(location.getType())) {
+                    locations.add(location);
+                }
             }
+            this.locations = locations;
         }
         return msg;
     }
@@ -441,15 +450,13 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                Map<String, Object> map = gson.fromJson(msg.get(2), Map.class);
-                String json = gson.toJson(map.get("flightPlan"));
-                FlightPlan flightPlan = gson.fromJson(json, FlightPlan.class);
+                FlightPlan flightPlan = ResponseParser.parse(msg.get(2), FlightPlanResponse.class).getFlightPlan();
                 this.flightPlan = flightPlan;
+                invalidateCaches();
                 msg.clear();
             }
             else if (statusCode >= 400 && statusCode < 500) {
@@ -470,14 +477,11 @@ public class OnlineGameEngine implements GameEngine{
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                Map<String, Object> map = gson.fromJson(msg.get(2), Map.class);
-                String json = gson.toJson(map.get("flightPlan"));
-                FlightPlan flightPlan = gson.fromJson(json, FlightPlan.class);
+                FlightPlan flightPlan = ResponseParser.parse(msg.get(2), FlightPlanResponse.class).getFlightPlan();
                 this.flightPlan = flightPlan;
                 msg.clear();
             }
@@ -489,18 +493,23 @@ public class OnlineGameEngine implements GameEngine{
     }
 
     public List<String> checkServerStatus() {
+        Status cachedStatus = serverStatusCache.get("status");
+        if (cachedStatus != null) {
+            this.serverStatus = cachedStatus;
+            return new ArrayList<String>();
+        }
         String uri = "https://api.spacetraders.io/game/status";
         List<String> msg = request.getRequest(uri);
 
         if (msg.size() == 3) {
             int statusCode = Integer.parseInt(msg.get(0));
-            System.out.println("Response status code was: " + statusCode);
+            log.debug(() -> "Response status code was: " + statusCode);
 //            System.out.println("Response headers were: " + response.headers());
-            System.out.println("Response body was:\n" + msg.get(2));
+            log.responseBody(msg.get(2));
             if (statusCode >= 200 && statusCode < 300) {
-                Gson gson = new Gson();
-                Status status = gson.fromJson(msg.get(2), Status.class);
+                Status status = ResponseParser.parse(msg.get(2), Status.class);
                 this.serverStatus = status;
+                serverStatusCache.put("status", status);
                 msg.clear();
             }
             else if (statusCode >= 400 && statusCode < 500) {
@@ -0,0 +1,63 @@
+package SpaceTraders.model;
+
+import java.util.function.LongSupplier;
+
+public class RateLimiter {
+    private final double permitsPerSecond;
+    private final double burst;
+    private final LongSupplier nanoTime;
+    private double tokens;
+    private long lastRefill;
+    private long pausedUntil;
+
+    public RateLimiter(double permitsPerSecond, double burst) {
+        this(permitsPerSecond, burst, System::nanoTime);
+    }
+
+    public RateLimiter(double permitsPerSecond, double burst, LongSupplier nanoTime) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.nanoTime = nanoTime;
+        this.tokens = burst;
+        this.lastRefill = nanoTime.getAsLong();
+        this.pausedUntil = lastRefill;
+    }
+
+    // Waits for a token, and until the pause after a rate limited response is over
+    public synchronized void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryAcquire()) > 0) {
+            // Rounded up, so it doesn't wake before the token is there
+            wait(waitNanos / 1000000 + 1);
+        }
+    }
+
+    // Takes a token and returns 0, or returns the nanos until one can be taken
+    public synchronized long tryAcquire() {
+        refill();
+        long now = nanoTime.getAsLong();
+        if (now < pausedUntil) {
+            return pausedUntil - now;
+        }
+        if (tokens >= 1) {
+            this.tokens--;
+            return 0;
+        }
+        // At least 1, as 0 means the token was taken
+        return Math.max(1, (long) ((1 - tokens) * 1e9 / permitsPerSecond));
+    }
+
+    public synchronized void pause(long millis) {
+        long until = nanoTime.getAsLong() + millis * 1000000;
+        if (until > pausedUntil) {
+            this.pausedUntil = until;
+            this.tokens = 0;
+        }
+    }
+
+    private void refill() {
+        long now = nanoTime.getAsLong();
+        this.tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerSecond / 1e9);
+        this.lastRefill = now;
+    }
+}
@@ -4,12 +4,37 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 public class Request {
+    private static final Log log = Log.get(Request.class);
+    // The api allows 2 requests a second, with bursts of up to 10
+    public static final double permitsPerSecond = 2;
+    public static final double burst = 10;
+    public static final int maxRetries = 3;
+    private static final long backoffMillis = 500;
+    private static final long maxBackoffMillis = 10000;
+    private static final List<String> keptHeaders = List.of("retry-after", "x-ratelimit-limit",
+            "x-ratelimit-remaining", "x-ratelimit-reset");
+    private static final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final RateLimiter rateLimiter;
+
+    public Request() {
+        this(new RateLimiter(permitsPerSecond, burst));
+    }
+
+    public Request(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
 
     public List<String> getRequest(String uri) {
         List<String> msg = new ArrayList<String>();
@@ -18,15 +43,13 @@ public class Request {
                     .GET()
                     .build();
 
-            HttpClient client = HttpClient.newBuilder().build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            msg.add(String.valueOf(response.statusCode()));
-            msg.add(String.valueOf(response.headers()));
-            msg.add(response.body());
+            msg = send(request);
 
         } catch (IOException | InterruptedException e) {
-            System.out.println("Something went wrong with our request!");
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn(() -> "Something went wrong with our request! " + e.getMessage());
 //            System.out.println(e.getMessage());
             msg.add("Something went wrong with our request!");
             msg.add(e.getMessage());
@@ -46,15 +69,13 @@ public class Request {
                     .POST(HttpRequest.BodyPublishers.noBody())
                     .build();
 
-            HttpClient client = HttpClient.newBuilder().build();
-
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            msg.add(String.valueOf(response.statusCode()));
-            msg.add(String.valueOf(response.headers()));
-            msg.add(response.body());
+            msg = send(request);
 
         } catch (IOException | InterruptedException e) {
-            System.out.println("Something went wrong with our request!");
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn(() -> "Something went wrong with our request! " + e.getMessage());
 //            System.out.println(e.getMessage());
             msg.add("Something went wrong with our request!");
             msg.add(e.getMessage());
@@ -67,4 +88,38 @@ public class Request {
         return msg;
 
     }
+
+    private List<String> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = null;
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            rateLimiter.acquire();
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 429 || attempt == maxRetries) {
+                break;
+            }
+            // A request that was rate limited wasn't carried out, so a purchase or flight plan isn't made twice
+            long delay = getRetryDelay(response, attempt);
+            rateLimiter.pause(delay);
+        }
+
+        List<String> msg = new ArrayList<String>();
+        msg.add(String.valueOf(response.statusCode()));
+        msg.add(String.valueOf(HttpHeaders.of(response.headers().map(),
+                (name, value) -> keptHeaders.contains(name.toLowerCase())).map()));
+        msg.add(response.body());
+        return msg;
+    }
+
+    private long getRetryDelay(HttpResponse<String> response, int attempt) {
+        long backoff = Math.min(maxBackoffMillis, backoffMillis << attempt);
+        String retryAfter = response.headers().firstValue("retry-after").orElse(null);
+        if (retryAfter != null) {
+            try {
+                return Math.min(maxBackoffMillis, (long) (Double.parseDouble(retryAfter) * 1000));
+            } catch (NumberFormatException ignored) {
+                // Retry-After can also be a date, which the api doesn't send
+            }
+        }
+        return backoff;
+    }
 }
@@ -0,0 +1,65 @@
+package SpaceTraders.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ResponseParser {
+    // Gson is thread safe, so every engine shares one instead of building its reflection cache per response
+    public static final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(new TypeToken<List<String>>() {}.getType(), new StringListAdapter())
+            .create();
+
+    public static <T> T parse(String json, Class<T> type) {
+        return gson.fromJson(json, type);
+    }
+
+    // Reads a single message where the error data has a list, so it doesn't fail the whole response
+    private static class StringListAdapter extends TypeAdapter<List<String>> {
+        @Override
+        public void write(JsonWriter out, List<String> list) throws IOException {
+            if (list == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (String value : list) {
+                out.value(value);
+            }
+            out.endArray();
+        }
+
+        @Override
+        public List<String> read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            List<String> list = new ArrayList<String>();
+            if (in.peek() != JsonToken.BEGIN_ARRAY) {
+                list.add(in.nextString());
+                return list;
+            }
+            in.beginArray();
+            while (in.hasNext()) {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    list.add(null);
+                }
+                else {
+                    list.add(in.nextString());
+                }
+            }
+            in.endArray();
+            return list;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package SpaceTraders.model;
+
+import java.util.List;
+
+public class Result<T> {
+    private final List<String> errors;
+    private final T value;
+
+    public Result(List<String> errors, T value) {
+        this.errors = errors;
+        this.value = value;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public boolean hasErrors() {
+        return errors.size() > 0;
+    }
+}
@@ -0,0 +1,11 @@
+package SpaceTraders.model;
+
+import java.util.List;
+
+public class ShipListingsResponse {
+    private List<Ship> shipListings;
+
+    public List<Ship> getShipListings() {
+        return shipListings;
+    }
+}
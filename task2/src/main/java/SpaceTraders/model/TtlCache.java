@@ -0,0 +1,52 @@
+package SpaceTraders.model;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+public class TtlCache<V> {
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Map<String, Entry<V>> entries;
+
+    public TtlCache(Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    public TtlCache(Duration ttl, LongSupplier nanoTime) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+        this.entries = new HashMap<String, Entry<V>>();
+    }
+
+    public synchronized V get(String key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (nanoTime.getAsLong() - entry.created >= ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(String key, V value) {
+        entries.put(key, new Entry<V>(value, nanoTime.getAsLong()));
+    }
+
+    public synchronized void invalidate() {
+        entries.clear();
+    }
+
+    private static class Entry<V> {
+        private final V value;
+        private final long created;
+
+        private Entry(V value, long created) {
+            this.value = value;
+            this.created = created;
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package SpaceTraders.view;
 
 import SpaceTraders.model.FlightPlan;
-import SpaceTraders.model.GameEngine;
+import SpaceTraders.model.AsyncGameEngine;
 import SpaceTraders.model.Location;
 import SpaceTraders.model.Ship;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
@@ -18,187 +19,213 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class FlightView {
+    private final PageRequests requests;
 
-    public void createFlightPlan(GameEngine model, VBox centerVbox) {
+    public FlightView(PageRequests requests) {
+        this.requests = requests;
+    }
+
+    public void createFlightPlan(AsyncGameEngine model, VBox centerVbox) {
         centerVbox.getChildren().clear();
+        long request = requests.next();
 
         setCenterVboxTitle("Create a flight plan", centerVbox);
 
-        List<String> msg = model.getUserShips();
-        if (msg.size() > 0) {
-            handleError(msg);
-        }
-        else {
-            List<Ship> ships = model.getCurrentToken().getUser().getShips();
-            List<String> shipIds = new ArrayList<String>();
-            for (Ship ship : ships) {
-                shipIds.add(ship.getId());
+        model.getUserShips().thenAcceptAsync((result) -> {
+            if (!requests.isCurrent(request)) {
+                return;
             }
-
-            Label shipIdLbl = new Label("Select ship: ");
-            shipIdLbl.setWrapText(true);
-
-            ComboBox<String> shipIdMenu = new ComboBox<String>();
-            shipIdMenu.getItems().addAll(shipIds);
-
-            HBox shipIdsHbox = new HBox(shipIdLbl, shipIdMenu);
-
-            msg = model.findNearbyLocations("");
-            if (msg.size() > 0) {
-                handleError(msg);
+            if (result.hasErrors()) {
+                handleError(result.getErrors());
             }
             else {
-                List<String> locations = new ArrayList<String>();
-                for (Location location : model.getLocations()) {
-                    String symbol = location.getSymbol();
-                    if (!locations.contains(symbol)) {
-                        locations.add(symbol);
-                    }
+                List<Ship> ships = result.getValue().getShips();
+                List<String> shipIds = new ArrayList<String>();
+                for (Ship ship : ships) {
+                    shipIds.add(ship.getId());
                 }
 
-                Label destinationLbl = new Label("Enter destination symbol: ");
-                destinationLbl.setWrapText(true);
+                Label shipIdLbl = new Label("Select ship: ");
+                shipIdLbl.setWrapText(true);
 
-                ComboBox<String> destinationMenu = new ComboBox<String>();
-                destinationMenu.getItems().addAll(locations);
+                ComboBox<String> shipIdMenu = new ComboBox<String>();
+                shipIdMenu.getItems().addAll(shipIds);
 
-                HBox destinationsHbox = new HBox(destinationLbl, destinationMenu);
+                HBox shipIdsHbox = new HBox(shipIdLbl, shipIdMenu);
 
-                Button submitBtn = new Button("Submit");
-                submitBtn.setOnAction((event) -> {
-                    if (shipIdMenu.getValue() == null || destinationMenu.getValue() == null) {
-                        List<String> errorMsg = new ArrayList<String>();
-                        if (shipIdMenu.getValue() == null) {
-                            errorMsg.add("Ship was not selected for the flight plan.");
-                        }
-                        if (destinationMenu.getValue() == null) {
-                            errorMsg.add("Destination was not selected for the flight plan");
-                        }
-                        handleError(errorMsg);
+                model.findNearbyLocations("").thenAcceptAsync((locationsResult) -> {
+                    if (!requests.isCurrent(request)) {
+                        return;
+                    }
+                    if (locationsResult.hasErrors()) {
+                        handleError(locationsResult.getErrors());
                     }
                     else {
-                        List<String> errorMsg = model.createFlightPlan(shipIdMenu.getValue(), destinationMenu.getValue());
-                        if (errorMsg.size() > 0) {
-                            handleError(errorMsg);
-                        }
-                        else {
-                            FlightPlan flightPlan = model.getFlightPlan();
-                            String content = "Flight plan";
-                            content += "\n\tID: " + flightPlan.getId();
-                            content += "\n\tShip ID: " + flightPlan.getShipId();
-                            content += "\n\tCreated at: " + flightPlan.getCreatedAt();
-                            content += "\n\tArrives at: " + flightPlan.getArrivesAt();
-                            content += "\n\tDestination: " + flightPlan.getDestination();
-                            content += "\n\tDeparture: " + flightPlan.getDeparture();
-                            content += "\n\tDistance: " + flightPlan.getDistance();
-                            content += "\n\tFuel consumed: " + flightPlan.getFuelConsumed();
-                            content += "\n\tFuel remaining: " + flightPlan.getFuelRemaining();
-                            content += "\n\tTerminated at: " + flightPlan.getTerminatedAt();
-                            content += "\n\tTime remaining in seconds: " + flightPlan.getTimeRemainingInSeconds();
-
-                            Alert alert = new Alert(Alert.AlertType.INFORMATION);
-                            alert.setTitle("Flight plan");
-                            alert.setHeaderText("Created flight plan!");
-                            alert.setContentText(content);
-
-                            alert.showAndWait();
+                        List<String> locations = new ArrayList<String>();
+                        for (Location location : locationsResult.getValue()) {
+                            String symbol = location.getSymbol();
+                            if (!locations.contains(symbol)) {
+                                locations.add(symbol);
+                            }
                         }
-                    }
-                });
-
-                Pane menuSpacer = new Pane();
-                menuSpacer.setPrefHeight(5);
 
-                Pane btnSpacer = new Pane();
-                btnSpacer.setPrefHeight(10);
+                        Label destinationLbl = new Label("Enter destination symbol: ");
+                        destinationLbl.setWrapText(true);
 
-                VBox purchaseMenuVbox = new VBox(shipIdsHbox, menuSpacer, destinationsHbox, btnSpacer, submitBtn);
-                purchaseMenuVbox.setPadding(new Insets(0, 0, 0, 10));
+                        ComboBox<String> destinationMenu = new ComboBox<String>();
+                        destinationMenu.getItems().addAll(locations);
+
+                        HBox destinationsHbox = new HBox(destinationLbl, destinationMenu);
+
+                        Button submitBtn = new Button("Submit");
+                        submitBtn.setOnAction((event) -> {
+                            if (shipIdMenu.getValue() == null || destinationMenu.getValue() == null) {
+                                List<String> errorMsg = new ArrayList<String>();
+                                if (shipIdMenu.getValue() == null) {
+                                    errorMsg.add("Ship was not selected for the flight plan.");
+                                }
+                                if (destinationMenu.getValue() == null) {
+                                    errorMsg.add("Destination was not selected for the flight plan");
+                                }
+                                handleError(errorMsg);
+                            }
+                            else {
+                                submitBtn.setDisable(true);
+                                model.createFlightPlan(shipIdMenu.getValue(), destinationMenu.getValue()).thenAcceptAsync((flightResult) -> {
+                                    submitBtn.setDisable(false);
+                                    if (flightResult.hasErrors()) {
+                                        handleError(flightResult.getErrors());
+                                    }
+                                    else {
+                                        FlightPlan flightPlan = flightResult.getValue();
+                                        String content = "Flight plan";
+                                        content += "\n\tID: " + flightPlan.getId();
+                                        content += "\n\tShip ID: " + flightPlan.getShipId();
+                                        content += "\n\tCreated at: " + flightPlan.getCreatedAt();
+                                        content += "\n\tArrives at: " + flightPlan.getArrivesAt();
+                                        content += "\n\tDestination: " + flightPlan.getDestination();
+                                        content += "\n\tDeparture: " + flightPlan.getDeparture();
+                                        content += "\n\tDistance: " + flightPlan.getDistance();
+                                        content += "\n\tFuel consumed: " + flightPlan.getFuelConsumed();
+                                        content += "\n\tFuel remaining: " + flightPlan.getFuelRemaining();
+                                        content += "\n\tTerminated at: " + flightPlan.getTerminatedAt();
+                                        content += "\n\tTime remaining in seconds: " + flightPlan.getTimeRemainingInSeconds();
+
+                                        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                                        alert.setTitle("Flight plan");
+                                        alert.setHeaderText("Created flight plan!");
+                                        alert.setContentText(content);
+
+                                        alert.showAndWait();
+                                    }
+                                }, Platform::runLater);
+                            }
+                        });
+
+                        Pane menuSpacer = new Pane();
+                        menuSpacer.setPrefHeight(5);
+
+                        Pane btnSpacer = new Pane();
+                        btnSpacer.setPrefHeight(10);
+
+                        VBox purchaseMenuVbox = new VBox(shipIdsHbox, menuSpacer, destinationsHbox, btnSpacer, submitBtn);
+                        purchaseMenuVbox.setPadding(new Insets(0, 0, 0, 10));
+
+                        centerVbox.getChildren().addAll(purchaseMenuVbox);
+                    }
+                }, Platform::runLater);
 
-                centerVbox.getChildren().addAll(purchaseMenuVbox);
             }
-
-        }
+        }, Platform::runLater);
     }
 
-    public void viewFlightPlan(GameEngine model, VBox centerVbox) {
+    public void viewFlightPlan(AsyncGameEngine model, VBox centerVbox) {
         centerVbox.getChildren().clear();
+        long request = requests.next();
 
         setCenterVboxTitle("View flight plan", centerVbox);
 
-        List<String> msg = model.getUserShips();
-        if (msg.size() > 0) {
-            handleError(msg);
-        }
-        else {
-            List<Ship> ships = model.getCurrentToken().getUser().getShips();
-            List<String> flightPlanIds = new ArrayList<String>();
-            for (Ship ship : ships) {
-                if (ship.getFlightPlanId() != null) {
-                    flightPlanIds.add(ship.getFlightPlanId());
-                }
+        model.getUserShips().thenAcceptAsync((result) -> {
+            if (!requests.isCurrent(request)) {
+                return;
             }
+            if (result.hasErrors()) {
+                handleError(result.getErrors());
+            }
+            else {
+                List<Ship> ships = result.getValue().getShips();
+                List<String> flightPlanIds = new ArrayList<String>();
+                for (Ship ship : ships) {
+                    if (ship.getFlightPlanId() != null) {
+                        flightPlanIds.add(ship.getFlightPlanId());
+                    }
+                }
 
-            Label flightPlanLbl = new Label("Select flight plan");
-            flightPlanLbl.setWrapText(true);
+                Label flightPlanLbl = new Label("Select flight plan");
+                flightPlanLbl.setWrapText(true);
 
-            ComboBox<String> flightPlanIdMenu = new ComboBox<String>();
-            flightPlanIdMenu.getItems().addAll(flightPlanIds);
+                ComboBox<String> flightPlanIdMenu = new ComboBox<String>();
+                flightPlanIdMenu.getItems().addAll(flightPlanIds);
 
-            Button viewBtn = new Button("View");
+                Button viewBtn = new Button("View");
 
-            HBox viewFlightHbox = new HBox(flightPlanIdMenu, viewBtn);
-            VBox flightPlanVbox = new VBox();
+                HBox viewFlightHbox = new HBox(flightPlanIdMenu, viewBtn);
+                VBox flightPlanVbox = new VBox();
 
-            Pane spacer = new Pane();
-            spacer.setPrefHeight(20);
+                Pane spacer = new Pane();
+                spacer.setPrefHeight(20);
 
-            centerVbox.getChildren().addAll(flightPlanLbl, viewFlightHbox, spacer, flightPlanVbox);
+                centerVbox.getChildren().addAll(flightPlanLbl, viewFlightHbox, spacer, flightPlanVbox);
 
-            viewBtn.setOnAction((event -> {
-                if (flightPlanIdMenu.getValue() == null) {
-                    List<String> errorMsg = new ArrayList<String>();
-                    errorMsg.add("Flight plan was not selected to view");
-                    handleError(errorMsg);
-                }
-                else {
-                    List<String> errorMsg = model.viewFlightPlan(flightPlanIdMenu.getValue());
-                    if (errorMsg.size() > 0) {
+                viewBtn.setOnAction((event -> {
+                    if (flightPlanIdMenu.getValue() == null) {
+                        List<String> errorMsg = new ArrayList<String>();
+                        errorMsg.add("Flight plan was not selected to view");
                         handleError(errorMsg);
                     }
                     else {
-                        flightPlanVbox.getChildren().clear();
-                        FlightPlan flightPlan = model.getFlightPlan();
-
-                        Label idLbl = new Label("ID: " + flightPlan.getId());
-                        idLbl.setWrapText(true);
-                        Label shipIdLbl = new Label("Ship ID: " + flightPlan.getShipId());
-                        shipIdLbl.setWrapText(true);
-                        Label createdAtLbl = new Label("Created at: " + flightPlan.getCreatedAt());
-                        createdAtLbl.setWrapText(true);
-                        Label arrivesAtLbl = new Label("Arrives at: " + flightPlan.getArrivesAt());
-                        arrivesAtLbl.setWrapText(true);
-                        Label destinationLbl = new Label("Destination: " + flightPlan.getDestination());
-                        destinationLbl.setWrapText(true);
-                        Label departureLbl = new Label("Departure: " + flightPlan.getDeparture());
-                        departureLbl.setWrapText(true);
-                        Label distanceLbl = new Label("Distance: " + flightPlan.getDistance());
-                        distanceLbl.setWrapText(true);
-                        Label fuelConsumedLbl = new Label("Fuel consumed: " + flightPlan.getFuelConsumed());
-                        fuelConsumedLbl.setWrapText(true);
-                        Label fuelRemainingLbl = new Label("Fuel remaining: " + flightPlan.getFuelRemaining());
-                        fuelRemainingLbl.setWrapText(true);
-                        Label terminatedAtLbl = new Label("Terminated at: " + flightPlan.getTerminatedAt());
-                        terminatedAtLbl.setWrapText(true);
-                        Label timeRemainingInSecondsLbl = new Label("Time remaining in seconds: " + flightPlan.getTimeRemainingInSeconds());
-                        timeRemainingInSecondsLbl.setWrapText(true);
-
-                        flightPlanVbox.getChildren().addAll(idLbl, shipIdLbl, createdAtLbl, arrivesAtLbl, destinationLbl,
-                                departureLbl, distanceLbl, fuelConsumedLbl, fuelRemainingLbl, terminatedAtLbl, timeRemainingInSecondsLbl);
+                        model.viewFlightPlan(flightPlanIdMenu.getValue()).thenAcceptAsync((flightResult) -> {
+                            if (!requests.isCurrent(request)) {
+                                return;
+                            }
+                            if (flightResult.hasErrors()) {
+                                handleError(flightResult.getErrors());
+                            }
+                            else {
+                                flightPlanVbox.getChildren().clear();
+                                FlightPlan flightPlan = flightResult.getValue();
+
+                                Label idLbl = new Label("ID: " + flightPlan.getId());
+                                idLbl.setWrapText(true);
+                                Label shipIdLbl = new Label("Ship ID: " + flightPlan.getShipId());
+                                shipIdLbl.setWrapText(true);
+                                Label createdAtLbl = new Label("Created at: " + flightPlan.getCreatedAt());
+                                createdAtLbl.setWrapText(true);
+                                Label arrivesAtLbl = new Label("Arrives at: " + flightPlan.getArrivesAt());
+                                arrivesAtLbl.setWrapText(true);
+                                Label destinationLbl = new Label("Destination: " + flightPlan.getDestination());
+                                destinationLbl.setWrapText(true);
+                                Label departureLbl = new Label("Departure: " + flightPlan.getDeparture());
+                                departureLbl.setWrapText(true);
+                                Label distanceLbl = new Label("Distance: " + flightPlan.getDistance());
+                                distanceLbl.setWrapText(true);
+                                Label fuelConsumedLbl = new Label("Fuel consumed: " + flightPlan.getFuelConsumed());
+                                fuelConsumedLbl.setWrapText(true);
+                                Label fuelRemainingLbl = new Label("Fuel remaining: " + flightPlan.getFuelRemaining());
+                                fuelRemainingLbl.setWrapText(true);
+                                Label terminatedAtLbl = new Label("Terminated at: " + flightPlan.getTerminatedAt());
+                                terminatedAtLbl.setWrapText(true);
+                                Label timeRemainingInSecondsLbl = new Label("Time remaining in seconds: " + flightPlan.getTimeRemainingInSeconds());
+                                timeRemainingInSecondsLbl.setWrapText(true);
+
+                                flightPlanVbox.getChildren().addAll(idLbl, shipIdLbl, createdAtLbl, arrivesAtLbl, destinationLbl,
+                                        departureLbl, distanceLbl, fuelConsumedLbl, fuelRemainingLbl, terminatedAtLbl, timeRemainingInSecondsLbl);
+                            }
+                        }, Platform::runLater);
                     }
-                }
-            }));
-        }
+                }));
+            }
+        }, Platform::runLater);
     }
 
     public void setCenterVboxTitle(String title, VBox centerVbox) {
@@ -1,6 +1,7 @@
 package SpaceTraders.view;
 
 import SpaceTraders.model.*;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -20,7 +21,7 @@ import java.util.Optional;
 public class GameWindow {
     private final int width;
     private final int height;
-    private GameEngine model;
+    private AsyncGameEngine model;
     private Scene scene;
     private BorderPane borderPane;
     private HBox bottomHbox;
@@ -35,9 +36,11 @@ public class GameWindow {
     private MarketPlaceView marketPlaceView;
     private LocationView locationView;
     private FlightView flightView;
+    private final PageRequests requests = new PageRequests();
+    private String authToken;
 
 
-    public GameWindow(int width, int height, GameEngine model) {
+    public GameWindow(int width, int height, AsyncGameEngine model) {
         this.width = width;
         this.height = height;
         this.model = model;
@@ -104,11 +107,11 @@ public class GameWindow {
     }
 
     public void setupViews() {
-        this.loanView = new LoanView();
-        this.shipView = new ShipView();
-        this.marketPlaceView = new MarketPlaceView();
-        this.locationView = new LocationView();
-        this.flightView = new FlightView();
+        this.loanView = new LoanView(requests);
+        this.shipView = new ShipView(requests);
+        this.marketPlaceView = new MarketPlaceView(requests);
+        this.locationView = new LocationView(requests);
+        this.flightView = new FlightView(requests);
     }
 
     public void status() {
@@ -125,20 +128,21 @@ public class GameWindow {
 
         Button serverStatusBtn = new Button("Check server status");
         serverStatusBtn.setOnAction((event -> {
-            List<String> msg = this.model.checkServerStatus();
-            if (msg.size() > 0) {
-                handleError(msg);
-            }
-            else {
-                Status serverStatus = this.model.getServerStatus();
+            this.model.checkServerStatus().thenAcceptAsync((result) -> {
+                if (result.hasErrors()) {
+                    handleError(result.getErrors());
+                }
+                else {
+                    Status serverStatus = result.getValue();
 
-                Alert alert = new Alert(AlertType.INFORMATION);
-                alert.setTitle("Server status");
-                alert.setHeaderText("Server status");
-                alert.setContentText(serverStatus.getStatus());
+                    Alert alert = new Alert(AlertType.INFORMATION);
+                    alert.setTitle("Server status");
+                    alert.setHeaderText("Server status");
+                    alert.setContentText(serverStatus.getStatus());
 
-                alert.showAndWait();
-            }
+                    alert.showAndWait();
+                }
+            }, Platform::runLater);
         }));
 
         this.bottomHbox.getChildren().addAll(statusIcon, statusLbl, spacer, serverStatusBtn);
@@ -157,6 +161,7 @@ public class GameWindow {
 
     public void createAuthRegister() {
         this.centerVbox.getChildren().clear();
+        this.requests.next();
 
         setCenterVboxTitle("Register");
 
@@ -169,39 +174,41 @@ public class GameWindow {
         Button register = new Button("Register");
         register.setOnAction((event -> {
             String username = usernameInput.getText();
-            List<String> msg = this.model.register(username);
-
             ButtonType copy = new ButtonType("Copy token");
 
-            if (msg.size() > 0) {
-                handleError(msg);
-            }
-            else {
-                Token token = this.model.getCurrentToken();
-                User user = token.getUser();
-                String content = "Token: " + token.getToken();
-                content += "\nUser: ";
-                content += "\n\tUsername: " + user.getUsername();
-                content += "\n\tCredits: " + user.getCredits();
-                content += "\n\tShips: ";
-                content += "\n\tLoans: ";
-
-                Alert alert = new Alert(AlertType.INFORMATION);
-                alert.getButtonTypes().add(copy);
-                alert.setTitle("Registration");
-                alert.setHeaderText("Success!");
-                alert.setContentText(content);
-
-                Optional<ButtonType> result = alert.showAndWait();
-
-                if (result.orElse(ButtonType.OK) == copy) {
-//                System.out.println("copy");
-                    Clipboard clipboard = Clipboard.getSystemClipboard();
-                    ClipboardContent clipboardContent = new ClipboardContent();
-                    clipboardContent.putString(this.model.getCurrentToken().getToken());
-                    clipboard.setContent(clipboardContent);
+            register.setDisable(true);
+            this.model.register(username).thenAcceptAsync((registered) -> {
+                register.setDisable(false);
+                if (registered.hasErrors()) {
+                    handleError(registered.getErrors());
                 }
-            }
+                else {
+                    Token token = registered.getValue();
+                    User user = token.getUser();
+                    String content = "Token: " + token.getToken();
+                    content += "\nUser: ";
+                    content += "\n\tUsername: " + user.getUsername();
+                    content += "\n\tCredits: " + user.getCredits();
+                    content += "\n\tShips: ";
+                    content += "\n\tLoans: ";
+
+                    Alert alert = new Alert(AlertType.INFORMATION);
+                    alert.getButtonTypes().add(copy);
+                    alert.setTitle("Registration");
+                    alert.setHeaderText("Success!");
+                    alert.setContentText(content);
+
+                    Optional<ButtonType> result = alert.showAndWait();
+
+                    if (result.orElse(ButtonType.OK) == copy) {
+//                    System.out.println("copy");
+                        Clipboard clipboard = Clipboard.getSystemClipboard();
+                        ClipboardContent clipboardContent = new ClipboardContent();
+                        clipboardContent.putString(token.getToken());
+                        clipboard.setContent(clipboardContent);
+                    }
+                }
+            }, Platform::runLater);
         }));
         register.setPrefWidth(60);
 
@@ -228,6 +235,7 @@ public class GameWindow {
 
     public void createAuthLogin() {
         this.centerVbox.getChildren().clear();
+        long request = this.requests.next();
 
         setCenterVboxTitle("Login");
 
@@ -240,16 +248,23 @@ public class GameWindow {
         Button login = new Button("Login");
         login.setOnAction((event -> {
             String authToken = authInput.getText();
-            List<String> msg = this.model.getAccountDetails(authToken);
-            if (msg.size() > 0) {
-                handleError(msg);
-            }
-            else {
-                createSideButtons();
-                System.out.println();
-                accountInfo();
-                this.borderPane.setRight(null);
-            }
+            login.setDisable(true);
+            this.model.getAccountDetails(authToken).thenAcceptAsync((result) -> {
+                login.setDisable(false);
+                if (!this.requests.isCurrent(request)) {
+                    return;
+                }
+                if (result.hasErrors()) {
+                    handleError(result.getErrors());
+                }
+                else {
+                    this.authToken = result.getValue().getToken();
+                    createSideButtons();
+                    System.out.println();
+                    accountInfo();
+                    this.borderPane.setRight(null);
+                }
+            }, Platform::runLater);
         }));
         login.setPrefWidth(50);
 
@@ -276,76 +291,81 @@ public class GameWindow {
 
     public void accountInfo() {
         this.centerVbox.getChildren().clear();
+        long request = this.requests.next();
 
         setCenterVboxTitle("Account details");
 
-        List<String> msg = this.model.getAccountDetails(this.model.getCurrentToken().getToken());
-        if (msg.size() > 0) {
-            handleError(msg);
-        }
-        else {
-            String token = this.model.getCurrentToken().getToken();
-            User user = this.model.getCurrentToken().getUser();
-            String username = user.getUsername();
-            int credits = user.getCredits();
-            String joinedAt = user.getJoinedAt();
-            int shipCount = user.getShipCount();
-            int structureCount = user.getStructureCount();
-
-            Clipboard clipboard = Clipboard.getSystemClipboard();
-            ClipboardContent clipboardContent = new ClipboardContent();
-
-            Label tokenLbl = new Label("Authentication token: " + token);
-            tokenLbl.setOnMouseClicked((event -> {
-                clipboardContent.putString(token);
-                clipboard.setContent(clipboardContent);
-            }));
-            tokenLbl.setWrapText(true);
-
-            Label usernameLbl = new Label("Username: " + username);
-            usernameLbl.setOnMouseClicked((event -> {
-                clipboardContent.putString(username);
-                clipboard.setContent(clipboardContent);
-            }));
-            usernameLbl.setWrapText(true);
-
-            Label creditsLbl = new Label("Credits: " + credits);
-            creditsLbl.setOnMouseClicked((event -> {
-                clipboardContent.putString(String.valueOf(credits));
-                clipboard.setContent(clipboardContent);
-            }));
-            creditsLbl.setWrapText(true);
-
-            Label joinedLbl = new Label("Joined at: " + joinedAt);
-            joinedLbl.setOnMouseClicked((event -> {
-                clipboardContent.putString(joinedAt);
-                clipboard.setContent(clipboardContent);
-            }));
-            joinedLbl.setWrapText(true);
-
-            Label shipLbl = new Label("Ship count: " + shipCount);
-            shipLbl.setOnMouseClicked((event -> {
-                clipboardContent.putString(String.valueOf(shipCount));
-                clipboard.setContent(clipboardContent);
-            }));
-            shipLbl.setWrapText(true);
-
-            Label structureLbl = new Label("Structure count: " + structureCount);
-            structureLbl.setOnMouseClicked((event -> {
-                clipboardContent.putString(String.valueOf(structureCount));
-                clipboard.setContent(clipboardContent);
-            }));
-            structureLbl.setWrapText(true);
-
-            Pane spacer = new Pane();
-            spacer.setPrefHeight(20);
-            Label infoLbl = new Label("Click on the text to copy the values.");
-            infoLbl.setWrapText(true);
-
-
-            this.centerVbox.getChildren().addAll(tokenLbl, usernameLbl, creditsLbl, joinedLbl, shipLbl, structureLbl,
-                    spacer, infoLbl);
-        }
+        this.model.getAccountDetails(this.authToken).thenAcceptAsync((result) -> {
+            if (!this.requests.isCurrent(request)) {
+                return;
+            }
+            if (result.hasErrors()) {
+                handleError(result.getErrors());
+            }
+            else {
+                String token = result.getValue().getToken();
+                User user = result.getValue().getUser();
+                String username = user.getUsername();
+                int credits = user.getCredits();
+                String joinedAt = user.getJoinedAt();
+                int shipCount = user.getShipCount();
+                int structureCount = user.getStructureCount();
+
+                Clipboard clipboard = Clipboard.getSystemClipboard();
+                ClipboardContent clipboardContent = new ClipboardContent();
+
+                Label tokenLbl = new Label("Authentication token: " + token);
+                tokenLbl.setOnMouseClicked((event -> {
+                    clipboardContent.putString(token);
+                    clipboard.setContent(clipboardContent);
+                }));
+                tokenLbl.setWrapText(true);
+
+                Label usernameLbl = new Label("Username: " + username);
+                usernameLbl.setOnMouseClicked((event -> {
+                    clipboardContent.putString(username);
+                    clipboard.setContent(clipboardContent);
+                }));
+                usernameLbl.setWrapText(true);
+
+                Label creditsLbl = new Label("Credits: " + credits);
+                creditsLbl.setOnMouseClicked((event -> {
+                    clipboardContent.putString(String.valueOf(credits));
+                    clipboard.setContent(clipboardContent);
+                }));
+                creditsLbl.setWrapText(true);
+
+                Label joinedLbl = new Label("Joined at: " + joinedAt);
+                joinedLbl.setOnMouseClicked((event -> {
+                    clipboardContent.putString(joinedAt);
+                    clipboard.setContent(clipboardContent);
+                }));
+                joinedLbl.setWrapText(true);
+
+                Label shipLbl = new Label("Ship count: " + shipCount);
+                shipLbl.setOnMouseClicked((event -> {
+                    clipboardContent.putString(String.valueOf(shipCount));
+                    clipboard.setContent(clipboardContent);
+                }));
+                shipLbl.setWrapText(true);
+
+                Label structureLbl = new Label("Structure count: " + structureCount);
+                structureLbl.setOnMouseClicked((event -> {
+                    clipboardContent.putString(String.valueOf(structureCount));
+                    clipboard.setContent(clipboardContent);
+                }));
+                structureLbl.setWrapText(true);
+
+                Pane spacer = new Pane();
+                spacer.setPrefHeight(20);
+                Label infoLbl = new Label("Click on the text to copy the values.");
+                infoLbl.setWrapText(true);
+
+
+                this.centerVbox.getChildren().addAll(tokenLbl, usernameLbl, creditsLbl, joinedLbl, shipLbl, structureLbl,
+                        spacer, infoLbl);
+            }
+        }, Platform::runLater);
     }
 
     public void createSideButtons() {
@@ -490,8 +510,7 @@ public class GameWindow {
 
         Button logoutBtn = new Button("Logout");
         logoutBtn.setOnAction((event) -> {
-            this.model.logout();
-            logout();
+            this.model.logout().thenRunAsync(this::logout, Platform::runLater);
         });
         logoutBtn.setPrefWidth(btnWidth);
 
@@ -507,6 +526,7 @@ public class GameWindow {
     }
 
     public void logout() {
+        this.authToken = null;
         this.leftVbox.getChildren().clear();
         this.borderPane.setRight(this.rightVbox);
         createAuthLogin();
@@ -1,8 +1,9 @@
 package SpaceTraders.view;
 
-import SpaceTraders.model.GameEngine;
+import SpaceTraders.model.AsyncGameEngine;
 import SpaceTraders.model.Loan;
 import SpaceTraders.model.User;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.Pane;
@@ -13,49 +14,59 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class LoanView {
+    private final PageRequests requests;
 
-    public void getAvailableLoans(GameEngine model, VBox centerVbox) {
+    public LoanView(PageRequests requests) {
+        this.requests = requests;
+    }
+
+    public void getAvailableLoans(AsyncGameEngine model, VBox centerVbox) {
         centerVbox.getChildren().clear();
+        long request = requests.next();
 
         setCenterVboxTitle("Available Loans", centerVbox);
 
-        List<String> msg = model.getAvailableLoans();
-        if (msg.size() > 0) {
-            handleError(msg);
-        }
-        else {
-            List<Loan> loans = model.getAvailableLoansList();
-            List<String> loanTypes = new ArrayList<String>();
-            for (int i = 0; i < loans.size(); i++) {
-                Loan loan = loans.get(i);
-                String type = loan.getType();
-
-                Label loanLbl = new Label("Loan " + (i+1));
-                loanLbl.setWrapText(true);
-                Label typeLbl = new Label("Type: " + type);
-                typeLbl.setWrapText(true);
-                Label amountLbl = new Label("Amount: " + loan.getAmount());
-                amountLbl.setWrapText(true);
-                Label rateLbl = new Label("Rate: " + loan.getRate());
-                rateLbl.setWrapText(true);
-                Label termInDaysLbl = new Label("Term in Days: " + loan.getTermInDays());
-                termInDaysLbl.setWrapText(true);
-                Label collReqLbl = new Label("Collateral Required: " + loan.isCollateralRequired());
-                collReqLbl.setWrapText(true);
-
-                VBox loanContentVbox = new VBox(typeLbl, amountLbl, rateLbl, termInDaysLbl, collReqLbl);
-                loanContentVbox.setPadding(new Insets(5, 0, 15, 10));
-
-                centerVbox.getChildren().addAll(loanLbl, loanContentVbox);
-
-                loanTypes.add(type);
+        model.getAvailableLoans().thenAcceptAsync((result) -> {
+            if (!requests.isCurrent(request)) {
+                return;
+            }
+            if (result.hasErrors()) {
+                handleError(result.getErrors());
             }
+            else {
+                List<Loan> loans = result.getValue();
+                List<String> loanTypes = new ArrayList<String>();
+                for (int i = 0; i < loans.size(); i++) {
+                    Loan loan = loans.get(i);
+                    String type = loan.getType();
 
-            takeLoan(loanTypes, model, centerVbox);
-        }
+                    Label loanLbl = new Label("Loan " + (i+1));
+                    loanLbl.setWrapText(true);
+                    Label typeLbl = new Label("Type: " + type);
+                    typeLbl.setWrapText(true);
+                    Label amountLbl = new Label("Amount: " + loan.getAmount());
+                    amountLbl.setWrapText(true);
+                    Label rateLbl = new Label("Rate: " + loan.getRate());
+                    rateLbl.setWrapText(true);
+                    Label termInDaysLbl = new Label("Term in Days: " + loan.getTermInDays());
+                    termInDaysLbl.setWrapText(true);
+                    Label collReqLbl = new Label("Collateral Required: " + loan.isCollateralRequired());
+                    collReqLbl.setWrapText(true);
+
+                    VBox loanContentVbox = new VBox(typeLbl, amountLbl, rateLbl, termInDaysLbl, collReqLbl);
+                    loanContentVbox.setPadding(new Insets(5, 0, 15, 10));
+
+                    centerVbox.getChildren().addAll(loanLbl, loanContentVbox);
+
+                    loanTypes.add(type);
+                }
+
+                takeLoan(loanTypes, model, centerVbox);
+            }
+        }, Platform::runLater);
     }
 
-    public void takeLoan(List<String> loanTypes, GameEngine model, VBox centerVbox) {
+    public void takeLoan(List<String> loanTypes, AsyncGameEngine model, VBox centerVbox) {
         Label loanTypeLbl = new Label("Select a loan to obtain: ");
         loanTypeLbl.setWrapText(true);
 
@@ -81,71 +92,78 @@ public class LoanView {
             }
             else {
                 String loanType = selRadio.getText();
-                List<String> msg = model.takeLoan(loanType);
-
-                if (msg.size() > 0) {
-                    handleError(msg);
-                }
-                else {
-                    User user = model.getCurrentToken().getUser();
-                    String content = "Credits: " + user.getCredits();
-
-                    Loan loan = model.getCurrentToken().getUser().getLoan();
-                    content += "\nLoan";
-                    content += "\n\tDue: " + loan.getDue();
-                    content += "\n\tID: " + loan.getId();
-                    content += "\n\tRepayment amount: " + loan.getAmount();
-                    content += "\n\tStatus: " + loan.getStatus();
-                    content += "\n\tType: " + loan.getType();
-
-                    Alert alert = new Alert(Alert.AlertType.INFORMATION);
-                    alert.setTitle("Take Loan");
-                    alert.setHeaderText("Loan obtained!");
-                    alert.setContentText(content);
-
-                    alert.showAndWait();
-                }
+                obtainBtn.setDisable(true);
+                model.takeLoan(loanType).thenAcceptAsync((result) -> {
+                    obtainBtn.setDisable(false);
+                    if (result.hasErrors()) {
+                        handleError(result.getErrors());
+                    }
+                    else {
+                        User user = result.getValue();
+                        String content = "Credits: " + user.getCredits();
+
+                        Loan loan = user.getLoan();
+                        content += "\nLoan";
+                        content += "\n\tDue: " + loan.getDue();
+                        content += "\n\tID: " + loan.getId();
+                        content += "\n\tRepayment amount: " + loan.getAmount();
+                        content += "\n\tStatus: " + loan.getStatus();
+                        content += "\n\tType: " + loan.getType();
+
+                        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                        alert.setTitle("Take Loan");
+                        alert.setHeaderText("Loan obtained!");
+                        alert.setContentText(content);
+
+                        alert.showAndWait();
+                    }
+                }, Platform::runLater);
             }
         }));
 
         centerVbox.getChildren().addAll(loanTypeLbl, radioBtnsVbox, obtainBtn);
     }
 
-    public void getActiveLoans(GameEngine model, VBox centerVbox) {
+    public void getActiveLoans(AsyncGameEngine model, VBox centerVbox) {
         centerVbox.getChildren().clear();
+        long request = requests.next();
 
         setCenterVboxTitle("Active Loans", centerVbox);
 
-        List<String> msg = model.activeLoans();
-        if (msg.size() > 0) {
-            handleError(msg);
-        }
-        else {
-            List<Loan> loans = model.getCurrentToken().getUser().getLoans();
-            for (int i = 0; i < loans.size(); i++) {
-                Loan loan = loans.get(i);
-
-                if (loan.getStatus().equals("CURRENT")) {
-                    Label loanLbl = new Label("Loan ");
-                    loanLbl.setWrapText(true);
-                    Label idLbl = new Label("ID: " + loan.getId());
-                    idLbl.setWrapText(true);
-                    Label dueLbl = new Label("Due: " + loan.getDue());
-                    dueLbl.setWrapText(true);
-                    Label amountLbl = new Label("Repayment amount: " + loan.getAmount());
-                    amountLbl.setWrapText(true);
-                    Label statusLbl = new Label("Status: " + loan.getStatus());
-                    statusLbl.setWrapText(true);
-                    Label typeLbl = new Label("Type: " + loan.getType());
-                    typeLbl.setWrapText(true);
-
-                    VBox loanContentVbox = new VBox(idLbl, dueLbl, amountLbl, statusLbl, typeLbl);
-                    loanContentVbox.setPadding(new Insets(5, 0, 15, 10));
-
-                    centerVbox.getChildren().addAll(loanLbl, loanContentVbox);
+        model.activeLoans().thenAcceptAsync((result) -> {
+            if (!requests.isCurrent(request)) {
+                return;
+            }
+            if (result.hasErrors()) {
+                handleError(result.getErrors());
+            }
+            else {
+                List<Loan> loans = result.getValue().getLoans();
+                for (int i = 0; i < loans.size(); i++) {
+                    Loan loan = loans.get(i);
+
+                    if (loan.getStatus().equals("CURRENT")) {
+                        Label loanLbl = new Label("Loan ");
+                        loanLbl.setWrapText(true);
+                        Label idLbl = new Label("ID: " + loan.getId());
+                        idLbl.setWrapText(true);
+                        Label dueLbl = new Label("Due: " + loan.getDue());
+                        dueLbl.setWrapText(true);
+                        Label amountLbl = new Label("Repayment amount: " + loan.getAmount());
+                        amountLbl.setWrapText(true);
+                        Label statusLbl = new Label("Status: " + loan.getStatus());
+                        statusLbl.setWrapText(true);
+                        Label typeLbl = new Label("Type: " + loan.getType());
+                        typeLbl.setWrapText(true);
+
+                        VBox loanContentVbox = new VBox(idLbl, dueLbl, amountLbl, statusLbl, typeLbl);
+                        loanContentVbox.setPadding(new Insets(5, 0, 15, 10));
+
+                        centerVbox.getChildren().addAll(loanLbl, loanContentVbox);
+                    }
                 }
             }
-        }
+        }, Platform::runLater);
     }
 
     public void setCenterVboxTitle(String title, VBox centerVbox) {
@@ -1,7 +1,8 @@
 package SpaceTraders.view;
 
-import SpaceTraders.model.GameEngine;
+import SpaceTraders.model.AsyncGameEngine;
 import SpaceTraders.model.Location;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
@@ -16,81 +17,91 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class LocationView {
+    private final PageRequests requests;
 
-    public void findNearbyLocations(String type, GameEngine model, VBox centerVbox) {
+    public LocationView(PageRequests requests) {
+        this.requests = requests;
+    }
+
+    public void findNearbyLocations(String type, AsyncGameEngine model, VBox centerVbox) {
         centerVbox.getChildren().clear();
+        long request = requests.next();
 
         setCenterVboxTitle("Nearby locations", centerVbox);
 
-        List<String> msg = model.findNearbyLocations(type);
-        if (msg.size() > 0) {
-            handleError(msg);
-        }
-        else {
-            List<Location> locations = model.getLocations();
-            List<String> types = new ArrayList<String>();
-
-            for (int i = 0; i < locations.size(); i++) {
-                Location location = locations.get(i);
-                String locationType = location.getType();
-
-                Label locationCountLbl = new Label("Location " + (i+1));
-                locationCountLbl.setWrapText(true);
-                Label symbolLbl = new Label("Symbol: " + location.getSymbol());
-                symbolLbl.setWrapText(true);
-                Label typeLbl = new Label("Type: " + locationType);
-                typeLbl.setWrapText(true);
-                Label nameLbl = new Label("Name: " + location.getName());
-                nameLbl.setWrapText(true);
-                Label xLbl = new Label("X: " + location.getX());
-                xLbl.setWrapText(true);
-                Label yLbl = new Label("Y: " + location.getY());
-                yLbl.setWrapText(true);
-                Label allowsConstructionLbl = new Label("Allows construction: " + location.getAllowsConstruction());
-                allowsConstructionLbl.setWrapText(true);
-                Label traitsLbl = new Label("Traits: ");
-                traitsLbl.setWrapText(true);
-
-                VBox locationsVbox = new VBox(symbolLbl, typeLbl, nameLbl, xLbl, yLbl, allowsConstructionLbl, traitsLbl);
-                locationsVbox.setPadding(new Insets(5, 0, 15, 10));
-
-                for (String trait : location.getTraits()) {
-                    Label traitLbl = new Label(trait);
-                    traitLbl.setWrapText(true);
-
-                    VBox traitVbox = new VBox(traitLbl);
-                    traitVbox.setPadding(new Insets(0, 0, 5, 10));
-
-                    locationsVbox.getChildren().add(traitVbox);
-                }
+        model.findNearbyLocations(type).thenAcceptAsync((result) -> {
+            if (!requests.isCurrent(request)) {
+                return;
+            }
+            if (result.hasErrors()) {
+                handleError(result.getErrors());
+            }
+            else {
+                List<Location> locations = result.getValue();
+                List<String> types = new ArrayList<String>();
+
+                for (int i = 0; i < locations.size(); i++) {
+                    Location location = locations.get(i);
+                    String locationType = location.getType();
+
+                    Label locationCountLbl = new Label("Location " + (i+1));
+                    locationCountLbl.setWrapText(true);
+                    Label symbolLbl = new Label("Symbol: " + location.getSymbol());
+                    symbolLbl.setWrapText(true);
+                    Label typeLbl = new Label("Type: " + locationType);
+                    typeLbl.setWrapText(true);
+                    Label nameLbl = new Label("Name: " + location.getName());
+                    nameLbl.setWrapText(true);
+                    Label xLbl = new Label("X: " + location.getX());
+                    xLbl.setWrapText(true);
+                    Label yLbl = new Label("Y: " + location.getY());
+                    yLbl.setWrapText(true);
+                    Label allowsConstructionLbl = new Label("Allows construction: " + location.getAllowsConstruction());
+                    allowsConstructionLbl.setWrapText(true);
+                    Label traitsLbl = new Label("Traits: ");
+                    traitsLbl.setWrapText(true);
+
+                    VBox locationsVbox = new VBox(symbolLbl, typeLbl, nameLbl, xLbl, yLbl, allowsConstructionLbl, traitsLbl);
+                    locationsVbox.setPadding(new Insets(5, 0, 15, 10));
+
+                    for (String trait : location.getTraits()) {
+                        Label traitLbl = new Label(trait);
+                        traitLbl.setWrapText(true);
+
+                        VBox traitVbox = new VBox(traitLbl);
+                        traitVbox.setPadding(new Insets(0, 0, 5, 10));
+
+                        locationsVbox.getChildren().add(traitVbox);
+                    }
 
-                if (location.getMessages() != null) {
-                    Label messagesLbl = new Label("Messages: ");
-                    messagesLbl.setWrapText(true);
+                    if (location.getMessages() != null) {
+                        Label messagesLbl = new Label("Messages: ");
+                        messagesLbl.setWrapText(true);
 
-                    locationsVbox.getChildren().add(messagesLbl);
-                    for (String message : location.getMessages()) {
-                        Label messageLbl = new Label(message);
-                        messageLbl.setWrapText(true);
+                        locationsVbox.getChildren().add(messagesLbl);
+                        for (String message : location.getMessages()) {
+                            Label messageLbl = new Label(message);
+                            messageLbl.setWrapText(true);
 
-                        VBox messagesVbox = new VBox(messageLbl);
-                        messagesVbox.setPadding(new Insets(0, 0, 5, 10));
+                            VBox messagesVbox = new VBox(messageLbl);
+                            messagesVbox.setPadding(new Insets(0, 0, 5, 10));
 
-                        locationsVbox.getChildren().add(messagesVbox);
+                            locationsVbox.getChildren().add(messagesVbox);
+                        }
                     }
-                }
 
-                centerVbox.getChildren().addAll(locationCountLbl, locationsVbox);
+                    centerVbox.getChildren().addAll(locationCountLbl, locationsVbox);
 
-                if (!types.contains(locationType)) {
-                    types.add(locationType);
+                    if (!types.contains(locationType)) {
+                        types.add(locationType);
+                    }
                 }
+                filterLocations(types, model, centerVbox);
             }
-            filterLocations(types, model, centerVbox);
-        }
+        }, Platform::runLater);
     }
 
-    public void filterLocations(List<String> types, GameEngine model, VBox centerVbox) {
+    public void filterLocations(List<String> types, AsyncGameEngine model, VBox centerVbox) {
         Label filterLbl = new Label("Filter locations: ");
         filterLbl.setWrapText(true);
 
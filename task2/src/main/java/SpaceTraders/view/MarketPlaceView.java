@@ -1,6 +1,7 @@
 package SpaceTraders.view;
 
 import SpaceTraders.model.*;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
@@ -12,9 +13,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class MarketPlaceView {
+    private final PageRequests requests;
 
-    public void viewMarketPlace(String location, GameEngine model, VBox centerVbox) {
+    public MarketPlaceView(PageRequests requests) {
+        this.requests = requests;
+    }
+
+    public void viewMarketPlace(String location, AsyncGameEngine model, VBox centerVbox) {
         centerVbox.getChildren().clear();
+        long request = requests.next();
 
         if (location.equals("")) {
             setCenterVboxTitle("Market Place", centerVbox);
@@ -23,95 +30,103 @@ public class MarketPlaceView {
             setCenterVboxTitle("Market Place - " + location, centerVbox);
         }
 
-        List<String> msg = model.getUserShips();
-        if (msg.size() > 0) {
-            handleError(msg);
-        }
-        else {
-            List<Ship> ships = model.getCurrentToken().getUser().getShips();
-            List<String> shipLocations = new ArrayList<String>();
-            List<String> shipIds = new ArrayList<String>();
-            for (Ship ship : ships) {
-                String shipLocation = ship.getLocation();
-                if (shipLocation != null) {
-                    if (!shipLocations.contains(shipLocation)) {
-                        shipLocations.add(shipLocation);
-                    }
-
-                    if (shipLocation.equals(location)) {
-                        shipIds.add(ship.getId());
-                    }
-                }
+        model.getUserShips().thenAcceptAsync((result) -> {
+            if (!requests.isCurrent(request)) {
+                return;
             }
-
-            Label shipLocationLbl = new Label("Select location: ");
-            shipLocationLbl.setWrapText(true);
-
-            ComboBox<String> shipLocationMenu = new ComboBox<String>();
-            shipLocationMenu.getItems().addAll(shipLocations);
-
-            Button shipLocationBtn = new Button("Search");
-            shipLocationBtn.setOnAction((event) -> {
-                if (shipLocationMenu.getValue() == null) {
-                    List<String> errorMsg = new ArrayList<String>();
-                    errorMsg.add("Location was not selected for locating market place.");
-                    handleError(errorMsg);
-                }
-                else {
-                    viewMarketPlace(shipLocationMenu.getValue(), model, centerVbox);
+            if (result.hasErrors()) {
+                handleError(result.getErrors());
+            }
+            else {
+                List<Ship> ships = result.getValue().getShips();
+                List<String> shipLocations = new ArrayList<String>();
+                List<String> shipIds = new ArrayList<String>();
+                for (Ship ship : ships) {
+                    String shipLocation = ship.getLocation();
+                    if (shipLocation != null) {
+                        if (!shipLocations.contains(shipLocation)) {
+                            shipLocations.add(shipLocation);
+                        }
+
+                        if (shipLocation.equals(location)) {
+                            shipIds.add(ship.getId());
+                        }
+                    }
                 }
-            });
 
-            HBox shipLocationsHbox = new HBox(shipLocationLbl, shipLocationMenu, shipLocationBtn);
+                Label shipLocationLbl = new Label("Select location: ");
+                shipLocationLbl.setWrapText(true);
 
-            centerVbox.getChildren().add(shipLocationsHbox);
+                ComboBox<String> shipLocationMenu = new ComboBox<String>();
+                shipLocationMenu.getItems().addAll(shipLocations);
 
-            if (!location.equals("")) {
-                msg = model.viewMarketPlace(location);
-                if (msg.size() > 0) {
-                    handleError(msg);
-                }
-                else {
-                    List<Goods> goods = model.getGoods();
-                    List<String> goodSymbols = new ArrayList<String>();
-
-                    for (int i = 0; i < goods.size(); i++) {
-                        Goods goodsItm = goods.get(i);
-                        String symbol = goodsItm.getSymbol();
-
-                        Label goodCountLbl = new Label("Good " + (i+1));
-                        goodCountLbl.setWrapText(true);
-                        Label pricePerUnitLbl = new Label("Price per unit: " + goodsItm.getPricePerUnit());
-                        pricePerUnitLbl.setWrapText(true);
-                        Label purchasePricePerUnitLbl = new Label("Purchase price per unit: " + goodsItm.getPurchasePricePerUnit());
-                        purchasePricePerUnitLbl.setWrapText(true);
-                        Label quantityAvailableLbl = new Label("Quantity available: " + goodsItm.getQuantityAvailable());
-                        quantityAvailableLbl.setWrapText(true);
-                        Label sellPricePerUnitLbl = new Label("Sell price per unit: " + goodsItm.getSellPricePerUnit());
-                        sellPricePerUnitLbl.setWrapText(true);
-                        Label spreadLbl = new Label("Spread: " + goodsItm.getSpread());
-                        spreadLbl.setWrapText(true);
-                        Label symbolLbl = new Label("Symbol: " + symbol);
-                        symbolLbl.setWrapText(true);
-                        Label volumePerUnitLbl = new Label("Volume per unit: " + goodsItm.getVolumePerUnit());
-                        volumePerUnitLbl.setWrapText(true);
-
-                        VBox goodsContentVbox = new VBox(pricePerUnitLbl, purchasePricePerUnitLbl, quantityAvailableLbl,
-                                sellPricePerUnitLbl, spreadLbl, symbolLbl, volumePerUnitLbl);
-                        goodsContentVbox.setPadding(new Insets(5, 0, 15, 10));
-
-                        centerVbox.getChildren().addAll(goodCountLbl, goodsContentVbox);
-
-                        goodSymbols.add(symbol);
+                Button shipLocationBtn = new Button("Search");
+                shipLocationBtn.setOnAction((event) -> {
+                    if (shipLocationMenu.getValue() == null) {
+                        List<String> errorMsg = new ArrayList<String>();
+                        errorMsg.add("Location was not selected for locating market place.");
+                        handleError(errorMsg);
                     }
-
-                    makePurchaseOrder(shipIds, goodSymbols, model, centerVbox);
+                    else {
+                        viewMarketPlace(shipLocationMenu.getValue(), model, centerVbox);
+                    }
+                });
+
+                HBox shipLocationsHbox = new HBox(shipLocationLbl, shipLocationMenu, shipLocationBtn);
+
+                centerVbox.getChildren().add(shipLocationsHbox);
+
+                if (!location.equals("")) {
+                    model.viewMarketPlace(location).thenAcceptAsync((marketResult) -> {
+                        if (!requests.isCurrent(request)) {
+                            return;
+                        }
+                        if (marketResult.hasErrors()) {
+                            handleError(marketResult.getErrors());
+                        }
+                        else {
+                            List<Goods> goods = marketResult.getValue();
+                            List<String> goodSymbols = new ArrayList<String>();
+
+                            for (int i = 0; i < goods.size(); i++) {
+                                Goods goodsItm = goods.get(i);
+                                String symbol = goodsItm.getSymbol();
+
+                                Label goodCountLbl = new Label("Good " + (i+1));
+                                goodCountLbl.setWrapText(true);
+                                Label pricePerUnitLbl = new Label("Price per unit: " + goodsItm.getPricePerUnit());
+                                pricePerUnitLbl.setWrapText(true);
+                                Label purchasePricePerUnitLbl = new Label("Purchase price per unit: " + goodsItm.getPurchasePricePerUnit());
+                                purchasePricePerUnitLbl.setWrapText(true);
+                                Label quantityAvailableLbl = new Label("Quantity available: " + goodsItm.getQuantityAvailable());
+                                quantityAvailableLbl.setWrapText(true);
+                                Label sellPricePerUnitLbl = new Label("Sell price per unit: " + goodsItm.getSellPricePerUnit());
+                                sellPricePerUnitLbl.setWrapText(true);
+                                Label spreadLbl = new Label("Spread: " + goodsItm.getSpread());
+                                spreadLbl.setWrapText(true);
+                                Label symbolLbl = new Label("Symbol: " + symbol);
+                                symbolLbl.setWrapText(true);
+                                Label volumePerUnitLbl = new Label("Volume per unit: " + goodsItm.getVolumePerUnit());
+                                volumePerUnitLbl.setWrapText(true);
+
+                                VBox goodsContentVbox = new VBox(pricePerUnitLbl, purchasePricePerUnitLbl, quantityAvailableLbl,
+                                        sellPricePerUnitLbl, spreadLbl, symbolLbl, volumePerUnitLbl);
+                                goodsContentVbox.setPadding(new Insets(5, 0, 15, 10));
+
+                                centerVbox.getChildren().addAll(goodCountLbl, goodsContentVbox);
+
+                                goodSymbols.add(symbol);
+                            }
+
+                            makePurchaseOrder(shipIds, goodSymbols, model, centerVbox);
+                        }
+                    }, Platform::runLater);
                 }
             }
-        }
+        }, Platform::runLater);
     }
 
-    public void makePurchaseOrder(List<String> shipIds, List<String> goods, GameEngine model, VBox centerVbox) {
+    public void makePurchaseOrder(List<String> shipIds, List<String> goods, AsyncGameEngine model, VBox centerVbox) {
         Label purchaseLabel = new Label("Purchase good");
         purchaseLabel.setWrapText(true);
 
@@ -151,13 +166,16 @@ public class MarketPlaceView {
                 handleError(msg);
             }
             else {
-                List<String> msg = model.purchaseGoods(shipIdsMenu.getValue(), goodsMenu.getValue(), quantityTxt.getText());
-                if (msg.size() > 0) {
-                    handleError(msg);
-                }
-                else {
-                    goodsAlertBox("Purchase market place goods", "Goods purchased!", model, centerVbox);
-                }
+                purchaseBtn.setDisable(true);
+                model.purchaseGoods(shipIdsMenu.getValue(), goodsMenu.getValue(), quantityTxt.getText()).thenAcceptAsync((result) -> {
+                    purchaseBtn.setDisable(false);
+                    if (result.hasErrors()) {
+                        handleError(result.getErrors());
+                    }
+                    else {
+                        goodsAlertBox("Purchase market place goods", "Goods purchased!", result.getValue());
+                    }
+                }, Platform::runLater);
             }
         }));
 
@@ -177,8 +195,9 @@ public class MarketPlaceView {
         centerVbox.getChildren().addAll(purchaseLabel, purchaseMenuVbox);
     }
 
-    public void getShipCargo(String shipId, GameEngine model, VBox centerVbox) {
+    public void getShipCargo(String shipId, AsyncGameEngine model, VBox centerVbox) {
         centerVbox.getChildren().clear();
+        long request = requests.next();
 
         if (shipId.equals("")) {
             setCenterVboxTitle("Sell goods", centerVbox);
@@ -187,79 +206,87 @@ public class MarketPlaceView {
             setCenterVboxTitle("Sell goods - Ship " + shipId, centerVbox);
         }
 
-        List<String> msg = model.getUserShips();
-        if (msg.size() > 0) {
-            handleError(msg);
-        }
-        else {
-            List<Ship> ships = model.getCurrentToken().getUser().getShips();
-            List<String> shipIds = new ArrayList<String>();
-            for (Ship ship : ships) {
-                if (ship.getCargo().size() > 0) {
-                    shipIds.add(ship.getId());
-                }
+        model.getUserShips().thenAcceptAsync((result) -> {
+            if (!requests.isCurrent(request)) {
+                return;
             }
-
-            Label shipIdLbl = new Label("Select ship: ");
-            shipIdLbl.setWrapText(true);
-
-            ComboBox<String> shipIdMenu = new ComboBox<String>();
-            shipIdMenu.getItems().addAll(shipIds);
-
-            Button shipIdBtn = new Button("Get goods");
-            shipIdBtn.setOnAction((event) -> {
-                if (shipIdMenu.getValue() == null) {
-                    List<String> errorMsg = new ArrayList<String>();
-                    errorMsg.add("Ship was not selected for selling goods.");
-                    handleError(errorMsg);
-                }
-                else {
-                    getShipCargo(shipIdMenu.getValue(), model, centerVbox);
-                }
-            });
-
-            HBox shipLocationsHbox = new HBox(shipIdLbl, shipIdMenu, shipIdBtn);
-
-            centerVbox.getChildren().add(shipLocationsHbox);
-
-            if (!shipId.equals("")) {
-                msg = model.getShipInfo(shipId);
-                if (msg.size() > 0) {
-                    handleError(msg);
+            if (result.hasErrors()) {
+                handleError(result.getErrors());
+            }
+            else {
+                List<Ship> ships = result.getValue().getShips();
+                List<String> shipIds = new ArrayList<String>();
+                for (Ship ship : ships) {
+                    if (ship.getCargo().size() > 0) {
+                        shipIds.add(ship.getId());
+                    }
                 }
-                else {
-                    User user = model.getCurrentToken().getUser();
-                    List<Cargo> cargo = user.getShip().getCargo();
-                    List<String> goodsSymbols = new ArrayList<String>();
-
-                    for (int i = 0; i < cargo.size(); i++) {
-                        Cargo cargoGood = cargo.get(i);
-                        String good = cargoGood.getGood();
-
-                        Label goodCountLbl = new Label("Item " + (i+1));
-                        goodCountLbl.setWrapText(true);
-                        Label goodLbl =  new Label("Good: " + good);
-                        goodLbl.setWrapText(true);
-                        Label quantityLbl = new Label("Quantity: " + cargoGood.getQuantity());
-                        quantityLbl.setWrapText(true);
-                        Label totalVolumeLbl = new Label("Total volume: " + cargoGood.getTotalVolume());
-                        totalVolumeLbl.setWrapText(true);
-
 
-                        VBox goodsContentVbox = new VBox(goodLbl, quantityLbl, totalVolumeLbl);
-                        goodsContentVbox.setPadding(new Insets(5, 0, 15, 10));
+                Label shipIdLbl = new Label("Select ship: ");
+                shipIdLbl.setWrapText(true);
 
-                        centerVbox.getChildren().addAll(goodCountLbl, goodsContentVbox);
+                ComboBox<String> shipIdMenu = new ComboBox<String>();
+                shipIdMenu.getItems().addAll(shipIds);
 
-                        goodsSymbols.add(good);
+                Button shipIdBtn = new Button("Get goods");
+                shipIdBtn.setOnAction((event) -> {
+                    if (shipIdMenu.getValue() == null) {
+                        List<String> errorMsg = new ArrayList<String>();
+                        errorMsg.add("Ship was not selected for selling goods.");
+                        handleError(errorMsg);
                     }
-                    sellGoods(shipId, goodsSymbols, model, centerVbox);
+                    else {
+                        getShipCargo(shipIdMenu.getValue(), model, centerVbox);
+                    }
+                });
+
+                HBox shipLocationsHbox = new HBox(shipIdLbl, shipIdMenu, shipIdBtn);
+
+                centerVbox.getChildren().add(shipLocationsHbox);
+
+                if (!shipId.equals("")) {
+                    model.getShipInfo(shipId).thenAcceptAsync((shipResult) -> {
+                        if (!requests.isCurrent(request)) {
+                            return;
+                        }
+                        if (shipResult.hasErrors()) {
+                            handleError(shipResult.getErrors());
+                        }
+                        else {
+                            User user = shipResult.getValue();
+                            List<Cargo> cargo = user.getShip().getCargo();
+                            List<String> goodsSymbols = new ArrayList<String>();
+
+                            for (int i = 0; i < cargo.size(); i++) {
+                                Cargo cargoGood = cargo.get(i);
+                                String good = cargoGood.getGood();
+
+                                Label goodCountLbl = new Label("Item " + (i+1));
+                                goodCountLbl.setWrapText(true);
+                                Label goodLbl =  new Label("Good: " + good);
+                                goodLbl.setWrapText(true);
+                                Label quantityLbl = new Label("Quantity: " + cargoGood.getQuantity());
+                                quantityLbl.setWrapText(true);
+                                Label totalVolumeLbl = new Label("Total volume: " + cargoGood.getTotalVolume());
+                                totalVolumeLbl.setWrapText(true);
+
+
+                                VBox goodsContentVbox = new VBox(goodLbl, quantityLbl, totalVolumeLbl);
+                                goodsContentVbox.setPadding(new Insets(5, 0, 15, 10));
+
+                                centerVbox.getChildren().addAll(goodCountLbl, goodsContentVbox);
+
+                                goodsSymbols.add(good);
+                            }
+                            sellGoods(shipId, goodsSymbols, model, centerVbox);
+                        }
+                    }, Platform::runLater);
                 }
             }
-        }
+        }, Platform::runLater);
     }
 
-    public void sellGoods(String shipId, List<String> goods, GameEngine model, VBox centerVbox) {
+    public void sellGoods(String shipId, List<String> goods, AsyncGameEngine model, VBox centerVbox) {
         Label goodsLbl = new Label("Select a good: ");
         goodsLbl.setWrapText(true);
 
@@ -283,13 +310,16 @@ public class MarketPlaceView {
                 handleError(msg);
             }
             else {
-                List<String> msg = model.sellGoods(shipId, goodsMenu.getValue(), quantityTxt.getText());
-                if (msg.size() > 0) {
-                    handleError(msg);
-                }
-                else {
-                    goodsAlertBox("Sell goods", "Goods sold!", model, centerVbox);
-                }
+                sellBtn.setDisable(true);
+                model.sellGoods(shipId, goodsMenu.getValue(), quantityTxt.getText()).thenAcceptAsync((result) -> {
+                    sellBtn.setDisable(false);
+                    if (result.hasErrors()) {
+                        handleError(result.getErrors());
+                    }
+                    else {
+                        goodsAlertBox("Sell goods", "Goods sold!", result.getValue());
+                    }
+                }, Platform::runLater);
             }
         }));
 
@@ -330,8 +360,7 @@ public class MarketPlaceView {
         alert.showAndWait();
     }
 
-    public void goodsAlertBox(String title, String header, GameEngine model, VBox centerVbox) {
-        User user = model.getCurrentToken().getUser();
+    public void goodsAlertBox(String title, String header, User user) {
         String content = "Credits: " + user.getCredits();
 
         Order order = user.getOrder();
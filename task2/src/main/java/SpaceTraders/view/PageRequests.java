@@ -0,0 +1,15 @@
+package SpaceTraders.view;
+
+// The views share the center of the window, so a result is only shown if no other page was opened since it was requested
+public class PageRequests {
+    private long current;
+
+    public long next() {
+        this.current++;
+        return current;
+    }
+
+    public boolean isCurrent(long request) {
+        return request == current;
+    }
+}
@@ -1,6 +1,7 @@
 package SpaceTraders.view;
 
 import SpaceTraders.model.*;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
@@ -12,106 +13,116 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class ShipView {
+    private final PageRequests requests;
 
-    public void availableShips(String shipClass, GameEngine model, VBox centerVbox) {
+    public ShipView(PageRequests requests) {
+        this.requests = requests;
+    }
+
+    public void availableShips(String shipClass, AsyncGameEngine model, VBox centerVbox) {
         centerVbox.getChildren().clear();
+        long request = requests.next();
 
         setCenterVboxTitle("Available Ships", centerVbox);
 
-        List<String> msg = model.availableShips(shipClass);
-        if (msg.size() > 0) {
-            handleError(msg);
-        }
-        else {
-            List<Ship> ships = model.getAvailableShips();
-            List<String> shipClasses = new ArrayList<String>();
-            List<String> locations = new ArrayList<String>();
-            List<String> types = new ArrayList<String>();
-
-            for (int i = 0; i < ships.size(); i++) {
-                Ship ship = ships.get(i);
-                String type = ship.getType();
-                String shipCl = ship.getShipClass();
-                List<String> restrictedGoods = ships.get(i).getRestrictedGoods();
-
-                Label shipCountLbl = new Label("Ship " + (i+1));
-                shipCountLbl.setWrapText(true);
-                Label typeLbl = new Label("Type: " + type);
-                typeLbl.setWrapText(true);
-                Label shipClLbl = new Label("Class: " + shipCl);
-                shipClLbl.setWrapText(true);
-                Label maxCargoLbl = new Label("Max cargo: " + ship.getMaxCargo());
-                maxCargoLbl.setWrapText(true);
-                Label loadingSpeedLbl = new Label("Loading speed: " + ship.getLoadingSpeed());
-                loadingSpeedLbl.setWrapText(true);
-                Label speedLbl = new Label("Speed: " + ship.getSpeed());
-                speedLbl.setWrapText(true);
-                Label manufacturerLbl = new Label("Manufacturer: " + ship.getManufacturer());
-                manufacturerLbl.setWrapText(true);
-                Label platingLbl = new Label("Plating: " + ship.getPlating());
-                platingLbl.setWrapText(true);
-                Label weaponsLbl = new Label("Weapons: " + ship.getWeapons());
-                weaponsLbl.setWrapText(true);
-
-                Label purchaseLocationLbl = new Label("Purchase locations: ");
-                purchaseLocationLbl.setWrapText(true);
-
-                VBox shipContentVbox = new VBox(typeLbl, shipClLbl, maxCargoLbl, loadingSpeedLbl,
-                        speedLbl, manufacturerLbl, platingLbl, weaponsLbl, purchaseLocationLbl);
-                shipContentVbox.setPadding(new Insets(5, 0, 15, 10));
-
-                for (PurchaseLocation purchaseLocation : ship.getPurchaseLocations()) {
-                    String location = purchaseLocation.getLocation();
-
-                    Label systemLbl = new Label("System: " + purchaseLocation.getSystem());
-                    systemLbl.setWrapText(true);
-                    Label locationLbl = new Label("Location: " + location);
-                    locationLbl.setWrapText(true);
-                    Label priceLbl = new Label("Price: " + purchaseLocation.getPrice());
-                    priceLbl.setWrapText(true);
-
-                    VBox purLocationVbox = new VBox(systemLbl, locationLbl, priceLbl);
-                    purLocationVbox.setPadding(new Insets(0, 0, 5, 10));
-
-                    shipContentVbox.getChildren().add(purLocationVbox);
-
-                    if (!locations.contains(location)) {
-                        locations.add(location);
+        model.availableShips(shipClass).thenAcceptAsync((result) -> {
+            if (!requests.isCurrent(request)) {
+                return;
+            }
+            if (result.hasErrors()) {
+                handleError(result.getErrors());
+            }
+            else {
+                List<Ship> ships = result.getValue();
+                List<String> shipClasses = new ArrayList<String>();
+                List<String> locations = new ArrayList<String>();
+                List<String> types = new ArrayList<String>();
+
+                for (int i = 0; i < ships.size(); i++) {
+                    Ship ship = ships.get(i);
+                    String type = ship.getType();
+                    String shipCl = ship.getShipClass();
+                    List<String> restrictedGoods = ships.get(i).getRestrictedGoods();
+
+                    Label shipCountLbl = new Label("Ship " + (i+1));
+                    shipCountLbl.setWrapText(true);
+                    Label typeLbl = new Label("Type: " + type);
+                    typeLbl.setWrapText(true);
+                    Label shipClLbl = new Label("Class: " + shipCl);
+                    shipClLbl.setWrapText(true);
+                    Label maxCargoLbl = new Label("Max cargo: " + ship.getMaxCargo());
+                    maxCargoLbl.setWrapText(true);
+                    Label loadingSpeedLbl = new Label("Loading speed: " + ship.getLoadingSpeed());
+                    loadingSpeedLbl.setWrapText(true);
+                    Label speedLbl = new Label("Speed: " + ship.getSpeed());
+                    speedLbl.setWrapText(true);
+                    Label manufacturerLbl = new Label("Manufacturer: " + ship.getManufacturer());
+                    manufacturerLbl.setWrapText(true);
+                    Label platingLbl = new Label("Plating: " + ship.getPlating());
+                    platingLbl.setWrapText(true);
+                    Label weaponsLbl = new Label("Weapons: " + ship.getWeapons());
+                    weaponsLbl.setWrapText(true);
+
+                    Label purchaseLocationLbl = new Label("Purchase locations: ");
+                    purchaseLocationLbl.setWrapText(true);
+
+                    VBox shipContentVbox = new VBox(typeLbl, shipClLbl, maxCargoLbl, loadingSpeedLbl,
+                            speedLbl, manufacturerLbl, platingLbl, weaponsLbl, purchaseLocationLbl);
+                    shipContentVbox.setPadding(new Insets(5, 0, 15, 10));
+
+                    for (PurchaseLocation purchaseLocation : ship.getPurchaseLocations()) {
+                        String location = purchaseLocation.getLocation();
+
+                        Label systemLbl = new Label("System: " + purchaseLocation.getSystem());
+                        systemLbl.setWrapText(true);
+                        Label locationLbl = new Label("Location: " + location);
+                        locationLbl.setWrapText(true);
+                        Label priceLbl = new Label("Price: " + purchaseLocation.getPrice());
+                        priceLbl.setWrapText(true);
+
+                        VBox purLocationVbox = new VBox(systemLbl, locationLbl, priceLbl);
+                        purLocationVbox.setPadding(new Insets(0, 0, 5, 10));
+
+                        shipContentVbox.getChildren().add(purLocationVbox);
+
+                        if (!locations.contains(location)) {
+                            locations.add(location);
+                        }
                     }
-                }
 
-                if (restrictedGoods != null) {
-                    Label restrictedGoodsLbl = new Label("Restricted goods: ");
-                    restrictedGoodsLbl.setWrapText(true);
+                    if (restrictedGoods != null) {
+                        Label restrictedGoodsLbl = new Label("Restricted goods: ");
+                        restrictedGoodsLbl.setWrapText(true);
 
-                    shipContentVbox.getChildren().add(restrictedGoodsLbl);
+                        shipContentVbox.getChildren().add(restrictedGoodsLbl);
 
-                    for (String good : restrictedGoods) {
-                        Label goodLbl = new Label(good);
-                        goodLbl.setWrapText(true);
+                        for (String good : restrictedGoods) {
+                            Label goodLbl = new Label(good);
+                            goodLbl.setWrapText(true);
 
-                        VBox restrictedGoodsVbox = new VBox(goodLbl);
-                        restrictedGoodsVbox.setPadding(new Insets(0, 0, 5, 10));
+                            VBox restrictedGoodsVbox = new VBox(goodLbl);
+                            restrictedGoodsVbox.setPadding(new Insets(0, 0, 5, 10));
 
-                        shipContentVbox.getChildren().add(restrictedGoodsVbox);
+                            shipContentVbox.getChildren().add(restrictedGoodsVbox);
+                        }
                     }
-                }
 
-                centerVbox.getChildren().addAll(shipCountLbl, shipContentVbox);
+                    centerVbox.getChildren().addAll(shipCountLbl, shipContentVbox);
 
-                if (!shipClasses.contains(shipCl)) {
-                    shipClasses.add(shipCl);
-                }
-                if (!types.contains(type)) {
-                    types.add(type);
+                    if (!shipClasses.contains(shipCl)) {
+                        shipClasses.add(shipCl);
+                    }
+                    if (!types.contains(type)) {
+                        types.add(type);
+                    }
                 }
+                filterAvailableShips(shipClasses, model, centerVbox);
+                purchaseShip(locations, types, model, centerVbox);
             }
-            filterAvailableShips(shipClasses, model, centerVbox);
-            purchaseShip(locations, types, model, centerVbox);
-        }
+        }, Platform::runLater);
     }
 
-    public void filterAvailableShips(List<String> shipClasses, GameEngine model, VBox centerVbox) {
+    public void filterAvailableShips(List<String> shipClasses, AsyncGameEngine model, VBox centerVbox) {
         Label filterLbl = new Label("Filter ship classes: ");
         filterLbl.setWrapText(true);
 
@@ -137,7 +148,7 @@ public class ShipView {
         centerVbox.getChildren().addAll(filterLbl, filterHbox);
     }
 
-    public void purchaseShip(List<String> locations, List<String> types, GameEngine model, VBox centerVbox) {
+    public void purchaseShip(List<String> locations, List<String> types, AsyncGameEngine model, VBox centerVbox) {
         Label purchaseLbl = new Label("Purchase a ship: ");
         purchaseLbl.setWrapText(true);
 
@@ -170,43 +181,46 @@ public class ShipView {
                 handleError(msg);
             }
             else {
-                List<String> msg = model.purchaseShip(locationsMenu.getValue(), typesMenu.getValue());
-                if (msg.size() > 0) {
-                    handleError(msg);
-                }
-                else {
-                    User user = model.getCurrentToken().getUser();
-                    String content = "Credits: " + user.getCredits();
-
-                    Ship ship = user.getShip();
-                    content += "\nShip:";
-                    content += "\n\tID: " + ship.getId();
-                    content += "\n\tLocation: " + ship.getLocation();
-                    content += "\n\tX: " + ship.getX();
-                    content += "\n\tY: " + ship.getY();
-                    content += "\n\tCargo: ";
-                    for (Cargo item : ship.getCargo()) {
-                        content += "\n\t\tGood: " + item.getGood();
-                        content += "\n\t\tQuantity: " + item.getQuantity();
-                        content += "\n\t\tTotal volume: " + item.getTotalVolume();
+                purchaseBtn.setDisable(true);
+                model.purchaseShip(locationsMenu.getValue(), typesMenu.getValue()).thenAcceptAsync((result) -> {
+                    purchaseBtn.setDisable(false);
+                    if (result.hasErrors()) {
+                        handleError(result.getErrors());
                     }
-                    content += "\n\tSpace available: " + ship.getSpaceAvailable();
-                    content += "\n\tType: " + ship.getType();
-                    content += "\n\tClass: " + ship.getShipClass();
-                    content += "\n\tMax cargo: " + ship.getMaxCargo();
-                    content += "\n\tLoading speed: " + ship.getLoadingSpeed();
-                    content += "\n\tSpeed: " + ship.getSpeed();
-                    content += "\n\tManufacturer: " + ship.getManufacturer();
-                    content += "\n\tPlating: " + ship.getPlating();
-                    content += "\n\tWeapons: " + ship.getWeapons();
-
-                    Alert alert = new Alert(Alert.AlertType.INFORMATION);
-                    alert.setTitle("Purchase ship");
-                    alert.setHeaderText("Success!");
-                    alert.setContentText(content);
-
-                    alert.showAndWait();
-                }
+                    else {
+                        User user = result.getValue();
+                        String content = "Credits: " + user.getCredits();
+
+                        Ship ship = user.getShip();
+                        content += "\nShip:";
+                        content += "\n\tID: " + ship.getId();
+                        content += "\n\tLocation: " + ship.getLocation();
+                        content += "\n\tX: " + ship.getX();
+                        content += "\n\tY: " + ship.getY();
+                        content += "\n\tCargo: ";
+                        for (Cargo item : ship.getCargo()) {
+                            content += "\n\t\tGood: " + item.getGood();
+                            content += "\n\t\tQuantity: " + item.getQuantity();
+                            content += "\n\t\tTotal volume: " + item.getTotalVolume();
+                        }
+                        content += "\n\tSpace available: " + ship.getSpaceAvailable();
+                        content += "\n\tType: " + ship.getType();
+                        content += "\n\tClass: " + ship.getShipClass();
+                        content += "\n\tMax cargo: " + ship.getMaxCargo();
+                        content += "\n\tLoading speed: " + ship.getLoadingSpeed();
+                        content += "\n\tSpeed: " + ship.getSpeed();
+                        content += "\n\tManufacturer: " + ship.getManufacturer();
+                        content += "\n\tPlating: " + ship.getPlating();
+                        content += "\n\tWeapons: " + ship.getWeapons();
+
+                        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+                        alert.setTitle("Purchase ship");
+                        alert.setHeaderText("Success!");
+                        alert.setContentText(content);
+
+                        alert.showAndWait();
+                    }
+                }, Platform::runLater);
             }
         });
 
@@ -222,93 +236,98 @@ public class ShipView {
         centerVbox.getChildren().addAll(purchaseLbl, purchaseMenuVbox);
     }
 
-    public void getUserShips(GameEngine model, VBox centerVbox) {
+    public void getUserShips(AsyncGameEngine model, VBox centerVbox) {
         centerVbox.getChildren().clear();
+        long request = requests.next();
 
         setCenterVboxTitle("My ships", centerVbox);
 
-        List<String> msg = model.getUserShips();
-        if (msg.size() > 0) {
-            handleError(msg);
-        }
-        else {
-            List<Ship> ships = model.getCurrentToken().getUser().getShips();
-            List<String> shipIds = new ArrayList<String>();
-
-            for (int i = 0; i < ships.size(); i++) {
-                Ship ship = ships.get(i);
-                String id = ship.getId();
-
-                Label shipCountLbl = new Label("Ship " + (i+1));
-                shipCountLbl.setWrapText(true);
-                Label idLbl = new Label("ID: " + id);
-                idLbl.setWrapText(true);
-
-
-                Label xLbl = new Label("X: " + ship.getX());
-                xLbl.setWrapText(true);
-                Label yLbl = new Label("Y: " + ship.getY());
-                yLbl.setWrapText(true);
-                Label spaceAvailableLbl = new Label("Space available: " + ship.getSpaceAvailable());
-                spaceAvailableLbl.setWrapText(true);
-                Label typeLbl = new Label("Type: " + ship.getType());
-                typeLbl.setWrapText(true);
-                Label shipClassLbl = new Label("Class: " + ship.getShipClass());
-                shipClassLbl.setWrapText(true);
-                Label maxCargoLbl = new Label("Max cargo: " + ship.getMaxCargo());
-                maxCargoLbl.setWrapText(true);
-                Label loadingSpeedLbl = new Label("Loading speed: " + ship.getLoadingSpeed());
-                loadingSpeedLbl.setWrapText(true);
-                Label speedLbl = new Label("Speed: " + ship.getSpeed());
-                speedLbl.setWrapText(true);
-                Label manufacturerLbl = new Label("Manufacturer: " + ship.getManufacturer());
-                manufacturerLbl.setWrapText(true);
-                Label platingLbl = new Label("Plating: " + ship.getPlating());
-                platingLbl.setWrapText(true);
-                Label weaponsLbl = new Label("Weapons: " + ship.getWeapons());
-                weaponsLbl.setWrapText(true);
-                Label cargoLbl = new Label ("Cargo: ");
-                cargoLbl.setWrapText(true);
-
-                VBox shipContentVbox = new VBox(idLbl, xLbl, yLbl, spaceAvailableLbl, typeLbl, shipClassLbl,
-                        maxCargoLbl, loadingSpeedLbl, speedLbl, manufacturerLbl, platingLbl, weaponsLbl, cargoLbl);
-                shipContentVbox.setPadding(new Insets(5, 0, 15, 10));
-
-                for (Cargo goodCargo : ship.getCargo()) {
-                    Label goodLbl = new Label("Good: " + goodCargo.getGood());
-                    goodLbl.setWrapText(true);
-                    Label quantityLbl = new Label("Quantity: " + goodCargo.getQuantity());
-                    quantityLbl.setWrapText(true);
-                    Label totalVolumeLbl = new Label("Total volume: " + goodCargo.getTotalVolume());
-                    totalVolumeLbl.setWrapText(true);
-
-                    VBox cargoVbox = new VBox(goodLbl, quantityLbl, totalVolumeLbl);
-                    cargoVbox.setPadding(new Insets(0, 0, 5, 10));
-
-                    shipContentVbox.getChildren().addAll(cargoVbox);
-                }
+        model.getUserShips().thenAcceptAsync((result) -> {
+            if (!requests.isCurrent(request)) {
+                return;
+            }
+            if (result.hasErrors()) {
+                handleError(result.getErrors());
+            }
+            else {
+                List<Ship> ships = result.getValue().getShips();
+                List<String> shipIds = new ArrayList<String>();
+
+                for (int i = 0; i < ships.size(); i++) {
+                    Ship ship = ships.get(i);
+                    String id = ship.getId();
+
+                    Label shipCountLbl = new Label("Ship " + (i+1));
+                    shipCountLbl.setWrapText(true);
+                    Label idLbl = new Label("ID: " + id);
+                    idLbl.setWrapText(true);
+
+
+                    Label xLbl = new Label("X: " + ship.getX());
+                    xLbl.setWrapText(true);
+                    Label yLbl = new Label("Y: " + ship.getY());
+                    yLbl.setWrapText(true);
+                    Label spaceAvailableLbl = new Label("Space available: " + ship.getSpaceAvailable());
+                    spaceAvailableLbl.setWrapText(true);
+                    Label typeLbl = new Label("Type: " + ship.getType());
+                    typeLbl.setWrapText(true);
+                    Label shipClassLbl = new Label("Class: " + ship.getShipClass());
+                    shipClassLbl.setWrapText(true);
+                    Label maxCargoLbl = new Label("Max cargo: " + ship.getMaxCargo());
+                    maxCargoLbl.setWrapText(true);
+                    Label loadingSpeedLbl = new Label("Loading speed: " + ship.getLoadingSpeed());
+                    loadingSpeedLbl.setWrapText(true);
+                    Label speedLbl = new Label("Speed: " + ship.getSpeed());
+                    speedLbl.setWrapText(true);
+                    Label manufacturerLbl = new Label("Manufacturer: " + ship.getManufacturer());
+                    manufacturerLbl.setWrapText(true);
+                    Label platingLbl = new Label("Plating: " + ship.getPlating());
+                    platingLbl.setWrapText(true);
+                    Label weaponsLbl = new Label("Weapons: " + ship.getWeapons());
+                    weaponsLbl.setWrapText(true);
+                    Label cargoLbl = new Label ("Cargo: ");
+                    cargoLbl.setWrapText(true);
+
+                    VBox shipContentVbox = new VBox(idLbl, xLbl, yLbl, spaceAvailableLbl, typeLbl, shipClassLbl,
+                            maxCargoLbl, loadingSpeedLbl, speedLbl, manufacturerLbl, platingLbl, weaponsLbl, cargoLbl);
+                    shipContentVbox.setPadding(new Insets(5, 0, 15, 10));
+
+                    for (Cargo goodCargo : ship.getCargo()) {
+                        Label goodLbl = new Label("Good: " + goodCargo.getGood());
+                        goodLbl.setWrapText(true);
+                        Label quantityLbl = new Label("Quantity: " + goodCargo.getQuantity());
+                        quantityLbl.setWrapText(true);
+                        Label totalVolumeLbl = new Label("Total volume: " + goodCargo.getTotalVolume());
+                        totalVolumeLbl.setWrapText(true);
 
-                if (ship.getFlightPlanId() != null) {
-                    Label flightPlanIdLbl = new Label("Flight plan ID: " + ship.getFlightPlanId());
-                    flightPlanIdLbl.setWrapText(true);
-                    shipContentVbox.getChildren().add(flightPlanIdLbl);
-                }
-                else {
-                    Label locationLbl = new Label("Location: " + ship.getLocation());
-                    locationLbl.setWrapText(true);
-                    shipContentVbox.getChildren().add(locationLbl);
-                }
+                        VBox cargoVbox = new VBox(goodLbl, quantityLbl, totalVolumeLbl);
+                        cargoVbox.setPadding(new Insets(0, 0, 5, 10));
 
-                centerVbox.getChildren().addAll(shipCountLbl, shipContentVbox);
+                        shipContentVbox.getChildren().addAll(cargoVbox);
+                    }
 
-                shipIds.add(id);
-            }
+                    if (ship.getFlightPlanId() != null) {
+                        Label flightPlanIdLbl = new Label("Flight plan ID: " + ship.getFlightPlanId());
+                        flightPlanIdLbl.setWrapText(true);
+                        shipContentVbox.getChildren().add(flightPlanIdLbl);
+                    }
+                    else {
+                        Label locationLbl = new Label("Location: " + ship.getLocation());
+                        locationLbl.setWrapText(true);
+                        shipContentVbox.getChildren().add(locationLbl);
+                    }
 
-            purchaseShipFuel(shipIds, model, centerVbox);
-        }
+                    centerVbox.getChildren().addAll(shipCountLbl, shipContentVbox);
+
+                    shipIds.add(id);
+                }
+
+                purchaseShipFuel(shipIds, model, centerVbox);
+            }
+        }, Platform::runLater);
     }
 
-    public void purchaseShipFuel(List<String> shipIds, GameEngine model, VBox centerVbox) {
+    public void purchaseShipFuel(List<String> shipIds, AsyncGameEngine model, VBox centerVbox) {
         Label purchaseLbl = new Label("Purchase ship fuel: ");
         purchaseLbl.setWrapText(true);
 
@@ -335,13 +354,16 @@ public class ShipView {
                 handleError(msg);
             }
             else {
-                List<String> msg = model.purchaseGoods(shipIdsMenu.getValue(), "FUEL", quantityTxt.getText());
-                if (msg.size() > 0) {
-                    handleError(msg);
-                }
-                else {
-                    goodsAlertBox("Purchase ship fuel", "Fuel purchased!", model, centerVbox);
-                }
+                purchaseBtn.setDisable(true);
+                model.purchaseGoods(shipIdsMenu.getValue(), "FUEL", quantityTxt.getText()).thenAcceptAsync((result) -> {
+                    purchaseBtn.setDisable(false);
+                    if (result.hasErrors()) {
+                        handleError(result.getErrors());
+                    }
+                    else {
+                        goodsAlertBox("Purchase ship fuel", "Fuel purchased!", result.getValue());
+                    }
+                }, Platform::runLater);
             }
         }));
 
@@ -382,8 +404,7 @@ public class ShipView {
         alert.showAndWait();
     }
 
-    public void goodsAlertBox(String title, String header, GameEngine model, VBox centerVbox) {
-        User user = model.getCurrentToken().getUser();
+    public void goodsAlertBox(String title, String header, User user) {
         String content = "Credits: " + user.getCredits();
 
         Order order = user.getOrder();
@@ -0,0 +1,80 @@
+package SpaceTraders.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.*;
+
+public class BackgroundGameEngineTest {
+    private GameEngine engineMock;
+    private BackgroundGameEngine backgroundEngine;
+
+    @BeforeEach
+    public void setup() {
+        this.engineMock = mock(GameEngine.class);
+        when(engineMock.getStatus()).thenReturn("Online");
+        when(engineMock.getStatusIconColour()).thenReturn("green");
+        this.backgroundEngine = new BackgroundGameEngine(engineMock);
+    }
+
+    @Test
+    public void statusReadOnCreation() {
+        assertThat(backgroundEngine.getStatus(), equalTo("Online"));
+        assertThat(backgroundEngine.getStatusIconColour(), equalTo("green"));
+    }
+
+    @Test
+    public void valueOfSuccessfulCall() {
+        List<Loan> loans = new ArrayList<Loan>();
+        when(engineMock.getAvailableLoans()).thenReturn(new ArrayList<String>());
+        when(engineMock.getAvailableLoansList()).thenReturn(loans);
+
+        Result<List<Loan>> result = backgroundEngine.getAvailableLoans().join();
+        assertThat(result.hasErrors(), equalTo(false));
+        assertThat(result.getValue(), sameInstance(loans));
+    }
+
+    @Test
+    public void valueReadBeforeNextCall() {
+        List<Loan> first = new ArrayList<Loan>();
+        List<Loan> second = new ArrayList<Loan>();
+        when(engineMock.getAvailableLoans()).thenReturn(new ArrayList<String>());
+        when(engineMock.getAvailableLoansList()).thenReturn(first).thenReturn(second);
+
+        Result<List<Loan>> firstResult = backgroundEngine.getAvailableLoans().join();
+        Result<List<Loan>> secondResult = backgroundEngine.getAvailableLoans().join();
+        assertThat(firstResult.getValue(), sameInstance(first));
+        assertThat(secondResult.getValue(), sameInstance(second));
+    }
+
+    @Test
+    public void errorsWithoutValue() {
+        List<String> msg = new ArrayList<String>();
+        msg.add("Error code: 40101");
+        when(engineMock.getAvailableLoans()).thenReturn(msg);
+
+        Result<List<Loan>> result = backgroundEngine.getAvailableLoans().join();
+        assertThat(result.hasErrors(), equalTo(true));
+        assertThat(result.getErrors(), contains("Error code: 40101"));
+        assertThat(result.getValue(), nullValue());
+        verify(engineMock, never()).getAvailableLoansList();
+    }
+
+    @Test
+    public void exceptionBecomesError() {
+        when(engineMock.getAvailableLoans()).thenThrow(new IllegalStateException("no connection"));
+
+        Result<List<Loan>> result = backgroundEngine.getAvailableLoans().join();
+        assertThat(result.hasErrors(), equalTo(true));
+        assertThat(result.getErrors().get(0), equalTo("Something went wrong."));
+        assertThat(result.getValue(), nullValue());
+    }
+}
@@ -0,0 +1,89 @@
+package SpaceTraders.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class RateLimiterTest {
+    private AtomicLong now;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setup() {
+        this.now = new AtomicLong(1000);
+        this.rateLimiter = new RateLimiter(2, 3, now::get);
+    }
+
+    // Refilled tokens are fractional, so the wait may be off by a nanosecond
+    private void assertWait(long expectedNanos) {
+        long waitNanos = rateLimiter.tryAcquire();
+        assertThat(Math.abs(waitNanos - expectedNanos), lessThanOrEqualTo(1L));
+    }
+
+    @Test
+    public void burstIsAvailableAtOnce() {
+        assertThat(rateLimiter.tryAcquire(), equalTo(0L));
+        assertThat(rateLimiter.tryAcquire(), equalTo(0L));
+        assertThat(rateLimiter.tryAcquire(), equalTo(0L));
+        assertWait(500000000L);
+    }
+
+    @Test
+    public void tokensRefillAtPermitsPerSecond() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire();
+        }
+        now.addAndGet(200000000);
+        assertWait(300000000L);
+        now.addAndGet(300000000);
+        assertThat(rateLimiter.tryAcquire(), equalTo(0L));
+        assertWait(500000000L);
+    }
+
+    @Test
+    public void refillIsCappedAtBurst() {
+        now.addAndGet(60000000000L);
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(), equalTo(0L));
+        }
+        assertWait(500000000L);
+    }
+
+    @Test
+    public void pauseWaitsUntilOver() {
+        rateLimiter.pause(1500);
+        assertWait(1500000000L);
+        now.addAndGet(1000000000);
+        assertWait(500000000L);
+        now.addAndGet(500000000);
+        assertThat(rateLimiter.tryAcquire(), equalTo(0L));
+    }
+
+    @Test
+    public void pauseEmptiesBucket() {
+        rateLimiter.pause(100);
+        now.addAndGet(100000000);
+        // Only what refilled during the pause is left
+        assertWait(400000000L);
+    }
+
+    @Test
+    public void shorterPauseDoesNotShortenLongerOne() {
+        rateLimiter.pause(2000);
+        rateLimiter.pause(100);
+        assertWait(2000000000L);
+    }
+
+    @Test
+    public void acquireTakesTokenWithoutWaiting() throws InterruptedException {
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+        assertThat(rateLimiter.tryAcquire(), equalTo(0L));
+        assertWait(500000000L);
+    }
+}
@@ -0,0 +1,111 @@
+package SpaceTraders.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ResponseParserTest {
+    private DummyAPI dummyAPI;
+
+    @BeforeEach
+    public void setup() {
+        this.dummyAPI = new DummyAPI();
+    }
+
+    @Test
+    public void register() {
+        Token token = ResponseParser.parse(dummyAPI.getRegisterJson(), Token.class);
+        assertThat(token.getToken(), equalTo("d4d16c42-42c8-4a09-8f19-6ee13a015319"));
+        assertThat(token.getUser().getUsername(), equalTo("user298374"));
+        assertThat(token.getUser().getShips(), empty());
+    }
+
+    @Test
+    public void availableLoans() {
+        List<Loan> loans = ResponseParser.parse(dummyAPI.getAvailableLoanJson(), LoansResponse.class).getLoans();
+        assertThat(loans.size(), equalTo(2));
+        assertThat(loans.get(1).getType(), equalTo("COOL"));
+        assertThat(loans.get(1).getAmount(), equalTo(549700));
+        assertThat(loans.get(1).getTermInDays(), equalTo(1));
+    }
+
+    @Test
+    public void takeLoan() {
+        User user = ResponseParser.parse(dummyAPI.getTakeLoanJson(), User.class);
+        assertThat(user.getCredits(), equalTo(549700));
+        assertThat(user.getLoan().getId(), equalTo("cl1qekbvr42017615s6f9paautq"));
+        assertThat(user.getLoan().getStatus(), equalTo("CURRENT"));
+    }
+
+    @Test
+    public void shipListings() {
+        List<Ship> ships = ResponseParser.parse(dummyAPI.getAvailableShipsJson(""), ShipListingsResponse.class).getShipListings();
+        assertThat(ships.size(), equalTo(3));
+        assertThat(ships.get(2).getShipClass(), equalTo("MK-III"));
+        assertThat(ships.get(2).getRestrictedGoods(), contains("FUEL"));
+        assertThat(ships.get(2).getPurchaseLocations().size(), equalTo(2));
+    }
+
+    @Test
+    public void marketplace() {
+        List<Goods> goods = ResponseParser.parse(dummyAPI.getViewMarketPlaceJson("OE-UC-OB"), MarketplaceResponse.class).getMarketplace();
+        assertThat(goods.size(), equalTo(4));
+    }
+
+    @Test
+    public void nearbyLocations() {
+        List<Location> locations = ResponseParser.parse(dummyAPI.getFindNearbyLocationsJson("WORMHOLE"), LocationsResponse.class).getLocations();
+        assertThat(locations.size(), equalTo(1));
+        assertThat(locations.get(0).getSymbol(), equalTo("OE-W-XV"));
+        assertThat(locations.get(0).getTraits(), empty());
+        assertThat(locations.get(0).getMessages().size(), equalTo(3));
+    }
+
+    @Test
+    public void flightPlan() {
+        FlightPlan flightPlan = ResponseParser.parse(dummyAPI.getCreateFlightPlanJson(), FlightPlanResponse.class).getFlightPlan();
+        assertThat(flightPlan.getDestination(), equalTo("OE-KO"));
+        assertThat(flightPlan.getDistance(), equalTo(29));
+        assertThat(flightPlan.getTerminatedAt(), nullValue());
+    }
+
+    @Test
+    public void serverStatus() {
+        Status status = ResponseParser.parse(dummyAPI.getCheckServerStatus(), Status.class);
+        assertThat(status.getStatus(), equalTo("offline dummy api is working :)"));
+    }
+
+    @Test
+    public void errorWithoutData() {
+        String json = "{\"error\":{\"message\":\"Token was invalid or missing from the request.\",\"code\":40101}}";
+        ErrorResponse.ApiError error = ResponseParser.parse(json, ErrorResponse.class).getError();
+        assertThat(error.getCode(), equalTo(40101));
+        assertThat(error.getMessage(), equalTo("Token was invalid or missing from the request."));
+        assertThat(error.getData(), nullValue());
+    }
+
+    @Test
+    public void errorDataListsAndSingleStrings() {
+        String json = "{\"error\":{\"message\":\"Invalid payload.\",\"code\":422,\"data\":{\"shipId\":[\"shipId is required\"]," +
+                "\"good\":\"good is invalid\",\"loadingSpeed\":25}}}";
+        ErrorResponse.ErrorData data = ResponseParser.parse(json, ErrorResponse.class).getError().getData();
+        assertThat(data.getShipId(), contains("shipId is required"));
+        assertThat(data.getGood(), contains("good is invalid"));
+        assertThat(data.getLoadingSpeed(), equalTo(25));
+        assertThat(data.getQuantity(), nullValue());
+    }
+
+    @Test
+    public void errorDataClass() {
+        String json = "{\"error\":{\"message\":\"Invalid ship class.\",\"code\":422,\"data\":{\"class\":\"class must be valid\"}}}";
+        ErrorResponse.ErrorData data = ResponseParser.parse(json, ErrorResponse.class).getError().getData();
+        assertThat(data.getShipClass(), contains("class must be valid"));
+    }
+}
@@ -0,0 +1,67 @@
+package SpaceTraders.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TtlCacheTest {
+    private AtomicLong now;
+    private TtlCache<String> cache;
+
+    @BeforeEach
+    public void setup() {
+        this.now = new AtomicLong(0);
+        this.cache = new TtlCache<String>(Duration.ofSeconds(30), now::get);
+    }
+
+    @Test
+    public void missingKey() {
+        assertThat(cache.get("status"), nullValue());
+    }
+
+    @Test
+    public void entryBeforeTtl() {
+        cache.put("status", "online");
+        now.addAndGet(Duration.ofSeconds(30).toNanos() - 1);
+        assertThat(cache.get("status"), equalTo("online"));
+    }
+
+    @Test
+    public void entryExpiresAtTtl() {
+        cache.put("status", "online");
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(cache.get("status"), nullValue());
+    }
+
+    @Test
+    public void putRestartsTtl() {
+        cache.put("status", "online");
+        now.addAndGet(Duration.ofSeconds(20).toNanos());
+        cache.put("status", "offline");
+        now.addAndGet(Duration.ofSeconds(20).toNanos());
+        assertThat(cache.get("status"), equalTo("offline"));
+    }
+
+    @Test
+    public void invalidateRemovesAllEntries() {
+        cache.put("status", "online");
+        cache.put("ships", "MK-I");
+        cache.invalidate();
+        assertThat(cache.get("status"), nullValue());
+        assertThat(cache.get("ships"), nullValue());
+    }
+
+    @Test
+    public void putAfterInvalidate() {
+        cache.put("status", "online");
+        cache.invalidate();
+        cache.put("status", "offline");
+        assertThat(cache.get("status"), equalTo("offline"));
+    }
+}
@@ -0,0 +1,24 @@
+package SpaceTraders.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class PageRequestsTest {
+    @Test
+    public void latestRequestIsCurrent() {
+        PageRequests requests = new PageRequests();
+        long request = requests.next();
+        assertThat(requests.isCurrent(request), equalTo(true));
+    }
+
+    @Test
+    public void olderRequestIsStale() {
+        PageRequests requests = new PageRequests();
+        long loans = requests.next();
+        long ships = requests.next();
+        assertThat(requests.isCurrent(loans), equalTo(false));
+        assertThat(requests.isCurrent(ships), equalTo(true));
+    }
+}